@@ -4,10 +4,35 @@ CREATE TABLE IF NOT EXISTS recipe
     title                   text not null,
     preparation             text not null,
     image                   bytea not null,
+    image_hash              varchar(64),
+    image_thumbnail         bytea,
+    image_medium            bytea,
     "portions"              double precision not null,
-    favorite                boolean not null
+    favorite                boolean not null,
+    calories                double precision,
+    proteins                double precision,
+    carbohydrates           double precision,
+    fats                    double precision,
+    fingerprint             varchar(64)
     );
 
+-- Vorberechnete Gesamtnaehrwerte, falls die Tabelle bereits ohne diese Spalten existiert
+ALTER TABLE recipe ADD COLUMN IF NOT EXISTS calories double precision;
+ALTER TABLE recipe ADD COLUMN IF NOT EXISTS proteins double precision;
+ALTER TABLE recipe ADD COLUMN IF NOT EXISTS carbohydrates double precision;
+ALTER TABLE recipe ADD COLUMN IF NOT EXISTS fats double precision;
+ALTER TABLE recipe ADD COLUMN IF NOT EXISTS image_hash varchar(64);
+ALTER TABLE recipe ADD COLUMN IF NOT EXISTS image_thumbnail bytea;
+ALTER TABLE recipe ADD COLUMN IF NOT EXISTS image_medium bytea;
+ALTER TABLE recipe ADD COLUMN IF NOT EXISTS fingerprint varchar(64);
+
+-- Doppelte Rezepte werden ueber den Fingerabdruck erkannt, der Import ueberspringt vorhandene Rezepte mit ON CONFLICT DO NOTHING
+CREATE UNIQUE INDEX IF NOT EXISTS recipe_fingerprint_idx ON recipe (fingerprint);
+
+-- Hibernate und der Import ueber den Spaltendefault beziehen jede Rezept-ID einzeln aus der Sequenz (allocationSize = 1).
+-- Setzt eine fruehere Schrittweite von 50 zurueck, die bei jedem importierten Rezept 50 IDs verbraucht hat.
+ALTER SEQUENCE recipe_id_seq INCREMENT BY 1;
+
 CREATE TABLE IF NOT EXISTS ingredient
 (
     id              varchar(255) PRIMARY KEY,
@@ -37,4 +62,61 @@ CREATE TABLE IF NOT EXISTS recipe_ingredient
     PRIMARY KEY (recipe_id, ingredient_id),
     FOREIGN KEY (recipe_id) REFERENCES recipe (id),
     FOREIGN KEY (ingredient_id) REFERENCES ingredient (id)
-    );
\ No newline at end of file
+    );
+
+-- Zwischengespeicherte Antworten der Food-API pro Zutat, damit der Import bekannte Zutaten nicht erneut abfragt
+CREATE TABLE IF NOT EXISTS ingredient_lookup_cache
+(
+    food_id                 varchar(255) PRIMARY KEY,
+    response                text not null,
+    fetched_at              timestamp with time zone not null
+    );
+
+-- Fortschritt des Imports, damit ein abgebrochener Import nach einem Neustart bei der naechsten Seite fortgesetzt wird
+CREATE TABLE IF NOT EXISTS import_job
+(
+    id                      varchar(64) PRIMARY KEY,
+    status                  varchar(32) not null,
+    next_url                text,
+    pages_fetched           integer not null,
+    recipes_saved           integer not null,
+    started_at              timestamp with time zone,
+    updated_at              timestamp with time zone
+    );
+
+-- Bereits verarbeitete Seiten der Rezept-API, damit sie bei spaeteren Laeufen ohne erneute Anfrage uebersprungen werden
+CREATE TABLE IF NOT EXISTS import_page
+(
+    id                      varchar(64) PRIMARY KEY,
+    job_id                  varchar(64) not null,
+    page_number             integer not null,
+    next_url                text,
+    recipes_received        integer not null,
+    recipes_saved           integer not null,
+    processed_at            timestamp with time zone not null
+    );
+
+-- Partieller Index fuer die Liste der Favoriten, er enthaelt nur die favorisierten Rezepte
+CREATE INDEX IF NOT EXISTS recipe_favorite_idx ON recipe (id) WHERE favorite;
+
+-- Masseinheiten werden pro Zutat ueber die Fremdschluesselspalte gelesen
+CREATE INDEX IF NOT EXISTS ingredient_unit_ingredient_id_idx ON ingredient_unit (ingredient_id);
+
+-- Eine Masseinheit existiert pro Zutat nur einmal, der Import ueberspringt vorhandene Einheiten mit ON CONFLICT DO NOTHING
+CREATE UNIQUE INDEX IF NOT EXISTS ingredient_unit_ingredient_id_label_idx ON ingredient_unit (ingredient_id, label);
+
+-- Trigramm-Index fuer die Suche nach Zutaten mit LIKE '%...%' auf lower(name)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS ingredient_name_trgm_idx ON ingredient USING gin (lower(name) gin_trgm_ops);
+
+-- Gemeinsame Versionen des Rezept- und des Zutatenkatalogs fuer die ETags, sie werden nach jeder Aenderung mit einer kurzen Anweisung erhoeht.
+-- Die erste Version ist der aktuelle Zeitpunkt, damit nach dem Zuruecksetzen der Datenbank keine alten ETags wieder gueltig werden.
+CREATE TABLE IF NOT EXISTS catalog_version
+(
+    id                      varchar(32) PRIMARY KEY,
+    version                 bigint not null
+    );
+INSERT INTO catalog_version (id, version)
+VALUES ('recipes', (extract(epoch from now()) * 1000)::bigint),
+       ('ingredients', (extract(epoch from now()) * 1000)::bigint)
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,55 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.benchmark;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeNutrientTotals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ein RecipeRepository fuer die Benchmarks, das die Listeneintraege aus dem Speicher liefert, sodass keine Datenbank gemessen wird.
+ * Es bedient nur die Methoden, die der RecipeService in den Benchmarks aufruft, alle anderen Methoden werfen ueber den {@link RecipeRepositoryAdapter}
+ * eine UnsupportedOperationException.
+ */
+class InMemoryRecipeRepository implements RecipeRepositoryAdapter {
+
+    /**
+     * Die Listeneintraege aller Rezepte nach ihrer ID
+     */
+    private final Map<Long, RecipeListItem> listItemsById = new LinkedHashMap<>();
+
+    /**
+     * Konstruktor der Klasse InMemoryRecipeRepository.
+     *
+     * @param listItems Die Listeneintraege aller Rezepte
+     */
+    InMemoryRecipeRepository(Collection<RecipeListItem> listItems) {
+        for (RecipeListItem listItem : listItems) {
+            listItemsById.put(listItem.id(), listItem);
+        }
+    }
+
+    @Override
+    public List<RecipeListItem> findListItemsByIdIn(Collection<Long> ids) {
+        List<RecipeListItem> found = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            RecipeListItem listItem = listItemsById.get(id);
+            if (listItem != null) {
+                found.add(listItem);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<RecipeNutrientTotals> findAllNutrientTotals() {
+        List<RecipeNutrientTotals> nutrientTotals = new ArrayList<>(listItemsById.size());
+        for (RecipeListItem listItem : listItemsById.values()) {
+            nutrientTotals.add(new RecipeNutrientTotals(listItem.id(), listItem.calories(), listItem.proteins(), listItem.carbohydrates(), listItem.fats()));
+        }
+        return nutrientTotals;
+    }
+}
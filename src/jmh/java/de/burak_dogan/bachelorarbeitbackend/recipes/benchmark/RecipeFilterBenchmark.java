@@ -0,0 +1,75 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.benchmark;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeListItemDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.RecipeFilterDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst die Filterung der Rezepte nach Naehrwerten auf dem {@link SyntheticCatalog}.
+ * Gemessen werden die Suche im In-Memory-Index mit Abstandsberechnung und Sortierung allein und die gesamte Verarbeitung
+ * von {@code findRecipesByNutritionalValues} einschliesslich Laden der Listeneintraege und Mappen der Treffer.
+ * Ausfuehrung mit {@code mvn -Pjmh test-compile exec:exec -Djmh.args=RecipeFilter}, die Katalog-Groesse z.B. mit {@code -Djmh.args="RecipeFilter -p catalogSize=10000"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecipeFilterBenchmark {
+
+    /**
+     * Der Filter mit Zielwerten fuer Kalorien und Proteine in der Mitte des Katalogs, einer Abweichung von 20% und einer Seite mit 20 Treffern.
+     * Bei gleichverteilten Naehrwerten passen etwa 2% der Rezepte, sodass die Seite schon beim kleinsten Katalog voll ist.
+     */
+    private RecipeFilterDto recipeFilterDto;
+
+    /**
+     * Erzeugt den Filter.
+     */
+    @Setup
+    public void setUp() {
+        recipeFilterDto = new RecipeFilterDto();
+        recipeFilterDto.setCalories(800L);
+        recipeFilterDto.setProteins(50L);
+        recipeFilterDto.setEpsilon(20);
+        recipeFilterDto.setLimit(20);
+    }
+
+    /**
+     * Sucht die Treffer im In-Memory-Index, ohne sie zu laden und zu mappen.
+     *
+     * @param catalog Der Rezeptkatalog
+     * @return Die IDs der Treffer
+     */
+    @Benchmark
+    public List<Long> findMatchesInIndex(SyntheticCatalog catalog) {
+        return catalog.recipeNutrientIndex.findMatches(recipeFilterDto.getCalories(), recipeFilterDto.getProteins(), recipeFilterDto.getCarbohydrates(), recipeFilterDto.getFats(),
+                recipeFilterDto.getEpsilon() / 100.0, null, recipeFilterDto.getLimit());
+    }
+
+    /**
+     * Filtert die Rezepte ueber den RecipeService wie beim Aufruf des Endpunkts.
+     *
+     * @param catalog Der Rezeptkatalog
+     * @return Die gemappten Treffer
+     * @throws ServiceException Wenn die Treffer nicht geladen werden koennen
+     */
+    @Benchmark
+    public List<GetRecipeListItemDto> findRecipesByNutritionalValues(SyntheticCatalog catalog) throws ServiceException {
+        return catalog.recipeService.findRecipesByNutritionalValues(recipeFilterDto);
+    }
+}
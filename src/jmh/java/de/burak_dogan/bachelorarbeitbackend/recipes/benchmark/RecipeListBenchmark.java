@@ -0,0 +1,70 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.benchmark;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeListItemDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misst die Schritte der Listenansicht fuer den gesamten {@link SyntheticCatalog}: die Berechnung der gerundeten Gesamtnaehrwerte,
+ * das Mappen der Listeneintraege auf DTOs und die Serialisierung der DTOs mit Jackson.
+ * Ausfuehrung mit {@code mvn -Pjmh test-compile exec:exec -Djmh.args=RecipeList}, mit {@code -prof gc} wird zusaetzlich die Allokationsrate ausgegeben.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeListBenchmark {
+
+    /**
+     * Berechnet die gerundeten Gesamtnaehrwerte aller Rezepte.
+     *
+     * @param catalog   Der Rezeptkatalog
+     * @param blackhole Nimmt die Ergebnisse auf, damit die Berechnung nicht wegoptimiert wird
+     */
+    @Benchmark
+    public void totalNutrients(SyntheticCatalog catalog, Blackhole blackhole) {
+        for (RecipeListItem listItem : catalog.listItems) {
+            blackhole.consume(catalog.recipeService.totalNutrients(listItem));
+        }
+    }
+
+    /**
+     * Mappt alle Listeneintraege mit ihren Gesamtnaehrwerten auf DTOs.
+     *
+     * @param catalog Der Rezeptkatalog
+     * @return Die gemappten Listeneintraege
+     */
+    @Benchmark
+    public List<GetRecipeListItemDto> mapListItems(SyntheticCatalog catalog) {
+        List<GetRecipeListItemDto> listItemDtos = new ArrayList<>(catalog.listItems.size());
+        for (RecipeListItem listItem : catalog.listItems) {
+            listItemDtos.add(catalog.recipeMapper.mapListItemToDto(listItem, catalog.recipeService.totalNutrients(listItem)));
+        }
+        return listItemDtos;
+    }
+
+    /**
+     * Serialisiert die bereits gemappten Listeneintraege als JSON-Array, ohne die Ausgabe zu puffern.
+     *
+     * @param catalog Der Rezeptkatalog
+     * @throws IOException Wenn die Listeneintraege nicht serialisiert werden koennen
+     */
+    @Benchmark
+    public void serializeListItems(SyntheticCatalog catalog) throws IOException {
+        catalog.objectMapper.writeValue(OutputStream.nullOutputStream(), catalog.listItemDtos);
+    }
+}
@@ -0,0 +1,123 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.RecipePageParser;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeContainerDTO;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeMappingDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vergleicht das Einlesen einer Seite der Rezept-API von Edamam.
+ * Gemessen werden der fruehere Weg ueber JSON-Baum, String und erneutes Parsen, die direkte Umwandlung des Baums
+ * und das Mappen direkt aus dem Token-Strom durch den {@link RecipePageParser}.
+ * Ausfuehrung mit {@code mvn -Pjmh test-compile exec:exec -Djmh.args=RecipePageParsing}, mit {@code -prof gc} wird zusaetzlich die Allokationsrate ausgegeben.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecipePageParsingBenchmark {
+
+    /**
+     * Die Seite der Rezept-API mit 20 Treffern
+     */
+    private byte[] page;
+
+    /**
+     * Der ObjectMapper mit denselben Einstellungen wie in der Anwendung
+     */
+    private ObjectMapper objectMapper;
+
+    /**
+     * Der Parser, der die Rezepte direkt aus dem Token-Strom mappt
+     */
+    private RecipePageParser recipePageParser;
+
+    /**
+     * Laedt die Seite und erzeugt den ObjectMapper.
+     *
+     * @throws IOException Wenn die Seite nicht geladen werden kann
+     */
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("/edamam/recipes-page.json")) {
+            page = inputStream.readAllBytes();
+        }
+        objectMapper = new ObjectMapper()
+                .registerModule(new ParameterNamesModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES, true);
+        recipePageParser = new RecipePageParser(objectMapper);
+    }
+
+    /**
+     * Der fruehere Weg: die Seite wird als Baum gelesen, jedes Rezept wieder zu einem String serialisiert und erneut geparst.
+     *
+     * @return Die gemappten Rezepte
+     * @throws IOException Wenn die Seite nicht gelesen werden kann
+     */
+    @Benchmark
+    public List<RecipeMappingDTO> treeToStringToValue() throws IOException {
+        List<RecipeMappingDTO> recipes = new ArrayList<>();
+        for (JsonNode hit : objectMapper.readTree(page).get("hits")) {
+            try {
+                recipes.add(objectMapper.readValue(hit.get("recipe").toString(), RecipeMappingDTO.class));
+            } catch (JsonProcessingException e) {
+                // ungueltige Rezepte werden wie im Import uebersprungen
+            }
+        }
+        return recipes;
+    }
+
+    /**
+     * Die Seite wird als Baum gelesen und jedes Rezept direkt aus dem Baum umgewandelt.
+     *
+     * @return Die gemappten Rezepte
+     * @throws IOException Wenn die Seite nicht gelesen werden kann
+     */
+    @Benchmark
+    public List<RecipeMappingDTO> treeToValue() throws IOException {
+        List<RecipeMappingDTO> recipes = new ArrayList<>();
+        for (JsonNode hit : objectMapper.readTree(page).get("hits")) {
+            try {
+                recipes.add(objectMapper.treeToValue(hit.get("recipe"), RecipeMappingDTO.class));
+            } catch (JsonProcessingException e) {
+                // ungueltige Rezepte werden wie im Import uebersprungen
+            }
+        }
+        return recipes;
+    }
+
+    /**
+     * Die Rezepte werden durch den {@link RecipePageParser} direkt aus dem Token-Strom gemappt.
+     *
+     * @return Die gemappten Rezepte und der Link zur naechsten Seite
+     * @throws IOException Wenn die Seite nicht gelesen werden kann
+     */
+    @Benchmark
+    public RecipeContainerDTO streaming() throws IOException {
+        return recipePageParser.parse(new ByteArrayInputStream(page));
+    }
+}
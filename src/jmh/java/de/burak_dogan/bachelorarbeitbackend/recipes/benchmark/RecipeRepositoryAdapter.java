@@ -0,0 +1,293 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.benchmark;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.RecipeRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeNutrientTotals;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Ein Adapter fuer das {@link RecipeRepository}, der alle Methoden mit einer UnsupportedOperationException vorbelegt.
+ * Implementierungen fuer die Benchmarks ueberschreiben nur die Methoden, die sie tatsaechlich bedienen.
+ * Da jede Methode mit @Override deklariert ist, faellt eine geaenderte Signatur im RecipeRepository beim Kompilieren auf,
+ * eine neue Methode fehlt in der Implementierung und faellt ebenfalls auf.
+ */
+interface RecipeRepositoryAdapter extends RecipeRepository {
+
+    @Override
+    default List<String> findExistingFingerprints(Collection<String> fingerprints) {
+        throw unsupported("findExistingFingerprints");
+    }
+
+    @Override
+    default int backfillFingerprints() {
+        throw unsupported("backfillFingerprints");
+    }
+
+    @Override
+    default int backfillNutrientTotals() {
+        throw unsupported("backfillNutrientTotals");
+    }
+
+    @Override
+    default List<Long> findIdsByNutrientWindow(double calories, double caloriesEpsilon, double proteins, double proteinsEpsilon, double carbohydrates, double carbohydratesEpsilon, double fats, double fatsEpsilon, long cursorId, int limit) {
+        throw unsupported("findIdsByNutrientWindow");
+    }
+
+    @Override
+    default Optional<Recipe> findWithIngredientsById(Long id) {
+        throw unsupported("findWithIngredientsById");
+    }
+
+    @Override
+    default List<RecipeListItem> findAllListItems() {
+        throw unsupported("findAllListItems");
+    }
+
+    @Override
+    default List<RecipeListItem> findListItemsAfter(Long after, Pageable pageable) {
+        throw unsupported("findListItemsAfter");
+    }
+
+    @Override
+    default List<RecipeListItem> findFavoriteListItemsAfter(Long after, Pageable pageable) {
+        throw unsupported("findFavoriteListItemsAfter");
+    }
+
+    @Override
+    default int toggleFavorite(Long id) {
+        throw unsupported("toggleFavorite");
+    }
+
+    @Override
+    default int updateFavorite(Collection<Long> ids, boolean favorite) {
+        throw unsupported("updateFavorite");
+    }
+
+    @Override
+    default List<RecipeListItem> findListItemsByIdIn(Collection<Long> ids) {
+        throw unsupported("findListItemsByIdIn");
+    }
+
+    @Override
+    default Stream<RecipeListItem> streamAllListItems() {
+        throw unsupported("streamAllListItems");
+    }
+
+    @Override
+    default Optional<String> findImageHashById(Long id) {
+        throw unsupported("findImageHashById");
+    }
+
+    @Override
+    default Optional<byte[]> findImageById(Long id) {
+        throw unsupported("findImageById");
+    }
+
+    @Override
+    default Optional<byte[]> findImageThumbnailById(Long id) {
+        throw unsupported("findImageThumbnailById");
+    }
+
+    @Override
+    default Optional<byte[]> findImageMediumById(Long id) {
+        throw unsupported("findImageMediumById");
+    }
+
+    @Override
+    default int updateImageThumbnail(Long id, byte[] imageThumbnail) {
+        throw unsupported("updateImageThumbnail");
+    }
+
+    @Override
+    default int updateImageMedium(Long id, byte[] imageMedium) {
+        throw unsupported("updateImageMedium");
+    }
+
+    @Override
+    default int backfillImageHashes() {
+        throw unsupported("backfillImageHashes");
+    }
+
+    @Override
+    default List<RecipeNutrientTotals> findAllNutrientTotals() {
+        throw unsupported("findAllNutrientTotals");
+    }
+
+    @Override
+    default Optional<RecipeNutrientTotals> findNutrientTotalsById(Long id) {
+        throw unsupported("findNutrientTotalsById");
+    }
+
+    @Override
+    default void flush() {
+        throw unsupported("flush");
+    }
+
+    @Override
+    default <S extends Recipe> S saveAndFlush(S entity) {
+        throw unsupported("saveAndFlush");
+    }
+
+    @Override
+    default <S extends Recipe> List<S> saveAllAndFlush(Iterable<S> entities) {
+        throw unsupported("saveAllAndFlush");
+    }
+
+    @Override
+    default void deleteAllInBatch(Iterable<Recipe> entities) {
+        throw unsupported("deleteAllInBatch");
+    }
+
+    @Override
+    default void deleteAllByIdInBatch(Iterable<Long> ids) {
+        throw unsupported("deleteAllByIdInBatch");
+    }
+
+    @Override
+    default void deleteAllInBatch() {
+        throw unsupported("deleteAllInBatch");
+    }
+
+    @Override
+    @Deprecated
+    default Recipe getOne(Long id) {
+        throw unsupported("getOne");
+    }
+
+    @Override
+    @Deprecated
+    default Recipe getById(Long id) {
+        throw unsupported("getById");
+    }
+
+    @Override
+    default Recipe getReferenceById(Long id) {
+        throw unsupported("getReferenceById");
+    }
+
+    @Override
+    default <S extends Recipe> List<S> findAll(Example<S> example) {
+        throw unsupported("findAll");
+    }
+
+    @Override
+    default <S extends Recipe> List<S> findAll(Example<S> example, Sort sort) {
+        throw unsupported("findAll");
+    }
+
+    @Override
+    default <S extends Recipe> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw unsupported("findAll");
+    }
+
+    @Override
+    default <S extends Recipe> Optional<S> findOne(Example<S> example) {
+        throw unsupported("findOne");
+    }
+
+    @Override
+    default <S extends Recipe> long count(Example<S> example) {
+        throw unsupported("count");
+    }
+
+    @Override
+    default <S extends Recipe> boolean exists(Example<S> example) {
+        throw unsupported("exists");
+    }
+
+    @Override
+    default <S extends Recipe, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw unsupported("findBy");
+    }
+
+    @Override
+    default List<Recipe> findAll(Sort sort) {
+        throw unsupported("findAll");
+    }
+
+    @Override
+    default Page<Recipe> findAll(Pageable pageable) {
+        throw unsupported("findAll");
+    }
+
+    @Override
+    default <S extends Recipe> S save(S entity) {
+        throw unsupported("save");
+    }
+
+    @Override
+    default <S extends Recipe> List<S> saveAll(Iterable<S> entities) {
+        throw unsupported("saveAll");
+    }
+
+    @Override
+    default Optional<Recipe> findById(Long id) {
+        throw unsupported("findById");
+    }
+
+    @Override
+    default boolean existsById(Long id) {
+        throw unsupported("existsById");
+    }
+
+    @Override
+    default List<Recipe> findAll() {
+        throw unsupported("findAll");
+    }
+
+    @Override
+    default List<Recipe> findAllById(Iterable<Long> ids) {
+        throw unsupported("findAllById");
+    }
+
+    @Override
+    default long count() {
+        throw unsupported("count");
+    }
+
+    @Override
+    default void deleteById(Long id) {
+        throw unsupported("deleteById");
+    }
+
+    @Override
+    default void delete(Recipe entity) {
+        throw unsupported("delete");
+    }
+
+    @Override
+    default void deleteAllById(Iterable<? extends Long> ids) {
+        throw unsupported("deleteAllById");
+    }
+
+    @Override
+    default void deleteAll(Iterable<? extends Recipe> entities) {
+        throw unsupported("deleteAll");
+    }
+
+    @Override
+    default void deleteAll() {
+        throw unsupported("deleteAll");
+    }
+
+    /**
+     * Erzeugt die Ausnahme fuer eine Methode, die in den Benchmarks nicht zur Verfuegung steht.
+     *
+     * @param method Der Name der Methode
+     * @return Die Ausnahme
+     */
+    private static UnsupportedOperationException unsupported(String method) {
+        return new UnsupportedOperationException(method + " is not available in the benchmark");
+    }
+}
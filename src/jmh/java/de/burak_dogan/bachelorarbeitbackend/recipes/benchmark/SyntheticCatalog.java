@@ -0,0 +1,124 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.MetricsRegistry;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeListItemDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.NutrientsDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.RecipeRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.RecipeService;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.RecipeNutrientIndex;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.RecipeMapper;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Ein synthetischer Rezeptkatalog fuer die Benchmarks, der mit festem Seed erzeugt wird, damit die Messungen vergleichbar bleiben.
+ * Der {@link RecipeService} wird ohne Spring-Kontext erzeugt, das {@link InMemoryRecipeRepository} liefert die Listeneintraege aus dem Speicher,
+ * sodass nur die Verarbeitung in der Anwendung und keine Datenbank gemessen wird.
+ */
+@State(Scope.Benchmark)
+public class SyntheticCatalog {
+
+    /**
+     * Die Anzahl der Rezepte im Katalog
+     */
+    @Param({"1000", "10000", "100000"})
+    public int catalogSize;
+
+    /**
+     * Die Listeneintraege aller Rezepte, aufsteigend sortiert nach der ID
+     */
+    List<RecipeListItem> listItems;
+
+    /**
+     * Die bereits gemappten Listeneintraege aller Rezepte fuer die Serialisierung
+     */
+    List<GetRecipeListItemDto> listItemDtos;
+
+    /**
+     * Der In-Memory-Index ueber die Gesamtnaehrwerte des Katalogs
+     */
+    RecipeNutrientIndex recipeNutrientIndex;
+
+    /**
+     * Der Mapper fuer die Listeneintraege
+     */
+    RecipeMapper recipeMapper;
+
+    /**
+     * Der RecipeService, der auf dem Katalog arbeitet
+     */
+    MeasuredRecipeService recipeService;
+
+    /**
+     * Der ObjectMapper fuer die Serialisierung
+     */
+    ObjectMapper objectMapper;
+
+    /**
+     * Erzeugt den Katalog, den Index und den RecipeService.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        listItems = new ArrayList<>(catalogSize);
+        for (long id = 1; id <= catalogSize; id++) {
+            double calories = 100 + random.nextDouble() * 1400;
+            double proteins = 5 + random.nextDouble() * 95;
+            double carbohydrates = 5 + random.nextDouble() * 195;
+            double fats = 2 + random.nextDouble() * 78;
+            RecipeListItem listItem = new RecipeListItem(id, "Recipe " + id, Long.toHexString(random.nextLong()), 1.0 + random.nextInt(6), random.nextInt(10) == 0, calories, proteins, carbohydrates, fats);
+            listItems.add(listItem);
+        }
+
+        InMemoryRecipeRepository recipeRepository = new InMemoryRecipeRepository(listItems);
+        recipeNutrientIndex = new RecipeNutrientIndex();
+        recipeNutrientIndex.rebuild(recipeRepository.findAllNutrientTotals());
+        recipeMapper = new RecipeMapper();
+        objectMapper = new ObjectMapper();
+
+        recipeService = new MeasuredRecipeService(recipeRepository, recipeMapper, recipeNutrientIndex, objectMapper);
+
+        listItemDtos = new ArrayList<>(catalogSize);
+        for (RecipeListItem listItem : listItems) {
+            listItemDtos.add(recipeMapper.mapListItemToDto(listItem, recipeService.totalNutrients(listItem)));
+        }
+    }
+
+    /**
+     * Ein RecipeService, der die Berechnung der Gesamtnaehrwerte fuer die Benchmarks zugaenglich macht.
+     * Abhaengigkeiten, die beim Lesen nicht benoetigt werden, bleiben leer, die Metriken werden in einer eigenen Registry erfasst, da sie auch im Betrieb anfallen.
+     */
+    static class MeasuredRecipeService extends RecipeService {
+
+        /**
+         * Konstruktor der Klasse MeasuredRecipeService.
+         *
+         * @param recipeRepository    Das RecipeRepository, das die Listeneintraege aus dem Speicher liefert
+         * @param recipeMapper        Der Mapper fuer die Listeneintraege
+         * @param recipeNutrientIndex Der In-Memory-Index ueber die Gesamtnaehrwerte
+         * @param objectMapper        Der ObjectMapper fuer die Serialisierung
+         */
+        MeasuredRecipeService(RecipeRepository recipeRepository, RecipeMapper recipeMapper, RecipeNutrientIndex recipeNutrientIndex, ObjectMapper objectMapper) {
+            super(recipeRepository, null, null, recipeMapper, null, recipeNutrientIndex, objectMapper, null, null, null, null, new MetricsRegistry());
+        }
+
+        /**
+         * Berechnet die gerundeten Gesamtnaehrwerte eines Listeneintrags.
+         *
+         * @param recipe Der Listeneintrag
+         * @return Die gerundeten Gesamtnaehrwerte
+         */
+        NutrientsDto totalNutrients(RecipeListItem recipe) {
+            return getTotalNutrients(recipe);
+        }
+    }
+}
@@ -1,33 +1,59 @@
 package de.burak_dogan.bachelorarbeitbackend.recipes.config;
 
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.http.ApacheClientHttpRequestFactory;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.http.JdkClientHttpRequestFactory;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.http.PooledClientHttpRequestFactory;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.CatalogProperties;
 import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.CorsProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ImageProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ImportProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.MetricsProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ReadinessProperties;
 import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.RequestProperties;
 import org.modelmapper.ModelMapper;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * Konfigurationsklasse fuer die Anwendung.
  */
 @Configuration
-@EnableAspectJAutoProxy
 @EnableConfigurationProperties({
         RequestProperties.class,
-        CorsProperties.class
+        CorsProperties.class,
+        ImageProperties.class,
+        ImportProperties.class,
+        ReadinessProperties.class,
+        MetricsProperties.class,
+        CatalogProperties.class
 })
 public class AppConfig {
 
     /**
      * Erzeugt eine Instanz von RestTemplate, die fuer HTTP-Anfragen verwendet wird.
      *
+     * @param requestFactory Die Factory, ueber deren Verbindungen die Anfragen gesendet werden
      * @return die {@link RestTemplate}-Instanz
      */
     @Bean
-    RestTemplate restTemplate() {
-        return new RestTemplate();
+    RestTemplate restTemplate(PooledClientHttpRequestFactory requestFactory) {
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * Erzeugt die Factory fuer die HTTP-Anfragen des RestTemplates mit dem konfigurierten HTTP-Client.
+     *
+     * @param requestProperties Die RequestProperties mit den Einstellungen fuer den HTTP-Client
+     * @return die {@link PooledClientHttpRequestFactory}-Instanz
+     */
+    @Bean
+    PooledClientHttpRequestFactory clientHttpRequestFactory(RequestProperties requestProperties) {
+        return switch (requestProperties.getHttpClient()) {
+            case APACHE -> new ApacheClientHttpRequestFactory(requestProperties);
+            case JDK -> new JdkClientHttpRequestFactory(requestProperties);
+        };
     }
 
     /**
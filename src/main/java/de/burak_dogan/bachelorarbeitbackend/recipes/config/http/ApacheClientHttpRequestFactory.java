@@ -0,0 +1,238 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.http;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.RequestProperties;
+import jakarta.annotation.PreDestroy;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eine {@link PooledClientHttpRequestFactory} auf Basis von Apache HttpClient 4.5.
+ * Die Verbindungen werden in einem Pool gehalten und ueber Keep-Alive wiederverwendet, sodass nicht fuer jede Anfrage ein neuer TLS-Handshake noetig ist.
+ * Antworten werden komprimiert angefordert und automatisch entpackt. Fuer Verbindungsaufbau, Lesen und das Warten auf eine freie Verbindung gelten Timeouts.
+ */
+public class ApacheClientHttpRequestFactory implements PooledClientHttpRequestFactory {
+
+    /**
+     * Der Pool der Verbindungen
+     */
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    /**
+     * Der HttpClient, der die Anfragen ueber den Pool ausfuehrt
+     */
+    private final CloseableHttpClient httpClient;
+
+    /**
+     * Konstruktor der Klasse ApacheClientHttpRequestFactory.
+     *
+     * @param requestProperties Die RequestProperties mit den Einstellungen fuer Pool, Keep-Alive, Kompression und Timeouts
+     */
+    public ApacheClientHttpRequestFactory(RequestProperties requestProperties) {
+        this.connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(requestProperties.getHttpMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(requestProperties.getHttpMaxConnectionsPerRoute());
+
+        long keepAliveMillis = requestProperties.getHttpKeepAlive().toMillis();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) requestProperties.getHttpConnectTimeout().toMillis())
+                .setSocketTimeout((int) requestProperties.getHttpReadTimeout().toMillis())
+                .setConnectionRequestTimeout((int) requestProperties.getHttpConnectionRequestTimeout().toMillis())
+                .build();
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    // Eine kuerzere Vorgabe des Servers wird eingehalten, sonst gilt die konfigurierte Dauer
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveMillis, TimeUnit.MILLISECONDS);
+        if (!requestProperties.isHttpCompression()) {
+            builder.disableContentCompression();
+        }
+        this.httpClient = builder.build();
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new ApacheClientHttpRequest(uri, httpMethod);
+    }
+
+    @Override
+    public ConnectionPoolStats getPoolStats() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new ConnectionPoolStats(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax());
+    }
+
+    /**
+     * Schliesst den HttpClient und alle Verbindungen des Pools beim Herunterfahren der Anwendung.
+     *
+     * @throws IOException Wenn der HttpClient nicht geschlossen werden kann
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    /**
+     * Eine Anfrage, deren Inhalt gepuffert und anschliessend ueber den HttpClient gesendet wird.
+     */
+    private class ApacheClientHttpRequest extends AbstractClientHttpRequest {
+
+        /**
+         * Die URI der Anfrage
+         */
+        private final URI uri;
+
+        /**
+         * Die HTTP-Methode der Anfrage
+         */
+        private final HttpMethod method;
+
+        /**
+         * Der gepufferte Inhalt der Anfrage
+         */
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        /**
+         * Konstruktor der Klasse ApacheClientHttpRequest.
+         *
+         * @param uri    Die URI der Anfrage
+         * @param method Die HTTP-Methode der Anfrage
+         */
+        ApacheClientHttpRequest(URI uri, HttpMethod method) {
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return body;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+            RequestBuilder requestBuilder = RequestBuilder.create(method.name()).setUri(uri);
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                // Laenge und Kodierung des Inhalts setzt der HttpClient selbst
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey()) && !HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(header.getKey())) {
+                    for (String value : header.getValue()) {
+                        requestBuilder.addHeader(header.getKey(), value);
+                    }
+                }
+            }
+            if (body.size() > 0) {
+                requestBuilder.setEntity(new ByteArrayEntity(body.toByteArray()));
+            }
+            return new ApacheClientHttpResponse(httpClient.execute(requestBuilder.build()));
+        }
+    }
+
+    /**
+     * Eine Antwort des HttpClients. Beim Schliessen wird der restliche Inhalt gelesen, damit die Verbindung in den Pool zurueckkehrt.
+     */
+    private static class ApacheClientHttpResponse implements ClientHttpResponse {
+
+        /**
+         * Die Antwort des HttpClients
+         */
+        private final CloseableHttpResponse response;
+
+        /**
+         * Die Header der Antwort, die beim ersten Zugriff uebernommen werden
+         */
+        private HttpHeaders headers;
+
+        /**
+         * Konstruktor der Klasse ApacheClientHttpResponse.
+         *
+         * @param response Die Antwort des HttpClients
+         */
+        ApacheClientHttpResponse(CloseableHttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatusCode.valueOf(response.getStatusLine().getStatusCode());
+        }
+
+        @Override
+        @Deprecated
+        public int getRawStatusCode() {
+            return response.getStatusLine().getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() {
+            return response.getStatusLine().getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            if (headers == null) {
+                headers = new HttpHeaders();
+                for (Header header : response.getAllHeaders()) {
+                    headers.add(header.getName(), header.getValue());
+                }
+            }
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            HttpEntity entity = response.getEntity();
+            return entity != null ? entity.getContent() : InputStream.nullInputStream();
+        }
+
+        @Override
+        public void close() {
+            try {
+                try {
+                    EntityUtils.consume(response.getEntity());
+                } finally {
+                    response.close();
+                }
+            } catch (IOException e) {
+                // Die Verbindung wird dann vom Pool verworfen
+            }
+        }
+    }
+}
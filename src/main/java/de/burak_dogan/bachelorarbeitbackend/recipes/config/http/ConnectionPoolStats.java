@@ -0,0 +1,13 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.http;
+
+/**
+ * Die Auslastung der Verbindungen eines HTTP-Clients zu einem Zeitpunkt.
+ * Werte, die der jeweilige Client nicht bereitstellt, sind null.
+ *
+ * @param leased    Die Anzahl der Verbindungen bzw. Anfragen, die gerade verwendet werden
+ * @param pending   Die Anzahl der Anfragen, die auf eine freie Verbindung warten
+ * @param available Die Anzahl der offenen Verbindungen, die zur Wiederverwendung bereitstehen
+ * @param max       Die maximale Anzahl an Verbindungen
+ */
+public record ConnectionPoolStats(Integer leased, Integer pending, Integer available, Integer max) {
+}
@@ -0,0 +1,17 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.http;
+
+/**
+ * Die HTTP-Clients, die fuer die Anfragen an die Edamam APIs verwendet werden koennen.
+ */
+public enum HttpClientType {
+
+    /**
+     * Apache HttpClient mit einem Pool von HTTP/1.1-Verbindungen, deren Groesse und Auslastung bekannt sind.
+     */
+    APACHE,
+
+    /**
+     * Der HttpClient des JDK, der HTTP/2 aushandelt und mehrere Anfragen ueber eine Verbindung multiplext.
+     */
+    JDK
+}
@@ -0,0 +1,259 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.http;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.RequestProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Eine {@link PooledClientHttpRequestFactory} auf Basis des HttpClients des JDK.
+ * Der Client handelt HTTP/2 aus, sodass mehrere Anfragen ueber eine Verbindung gemultiplext werden, und haelt die Verbindungen selbst offen.
+ * Da der Client seinen Pool nicht offenlegt, wird als Auslastung nur die Anzahl der laufenden Anfragen gezaehlt.
+ */
+public class JdkClientHttpRequestFactory implements PooledClientHttpRequestFactory {
+
+    /**
+     * Die Header, die der HttpClient des JDK selbst setzt und die nicht uebernommen werden duerfen
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade", "transfer-encoding");
+
+    /**
+     * Der HttpClient des JDK
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * Die maximale Dauer einer Anfrage bis zum Empfang der Antwort
+     */
+    private final Duration readTimeout;
+
+    /**
+     * Gibt an, ob Antworten komprimiert angefordert werden
+     */
+    private final boolean compression;
+
+    /**
+     * Die Anzahl der laufenden Anfragen, deren Antwort noch nicht geschlossen wurde
+     */
+    private final AtomicInteger activeRequests = new AtomicInteger();
+
+    /**
+     * Konstruktor der Klasse JdkClientHttpRequestFactory.
+     *
+     * @param requestProperties Die RequestProperties mit den Einstellungen fuer Kompression und Timeouts
+     */
+    public JdkClientHttpRequestFactory(RequestProperties requestProperties) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(requestProperties.getHttpConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.readTimeout = requestProperties.getHttpReadTimeout();
+        this.compression = requestProperties.isHttpCompression();
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) {
+        return new JdkClientHttpRequest(uri, httpMethod);
+    }
+
+    @Override
+    public ConnectionPoolStats getPoolStats() {
+        return new ConnectionPoolStats(activeRequests.get(), null, null, null);
+    }
+
+    /**
+     * Schliesst den HttpClient beim Herunterfahren der Anwendung.
+     */
+    @PreDestroy
+    public void close() {
+        httpClient.close();
+    }
+
+    /**
+     * Eine Anfrage, deren Inhalt gepuffert und anschliessend ueber den HttpClient gesendet wird.
+     */
+    private class JdkClientHttpRequest extends AbstractClientHttpRequest {
+
+        /**
+         * Die URI der Anfrage
+         */
+        private final URI uri;
+
+        /**
+         * Die HTTP-Methode der Anfrage
+         */
+        private final HttpMethod method;
+
+        /**
+         * Der gepufferte Inhalt der Anfrage
+         */
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        /**
+         * Konstruktor der Klasse JdkClientHttpRequest.
+         *
+         * @param uri    Die URI der Anfrage
+         * @param method Die HTTP-Methode der Anfrage
+         */
+        JdkClientHttpRequest(URI uri, HttpMethod method) {
+            this.uri = uri;
+            this.method = method;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        protected OutputStream getBodyInternal(HttpHeaders headers) {
+            return body;
+        }
+
+        @Override
+        protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri)
+                    .timeout(readTimeout)
+                    .method(method.name(), body.size() > 0 ? HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()) : HttpRequest.BodyPublishers.noBody());
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                if (!RESTRICTED_HEADERS.contains(header.getKey().toLowerCase())) {
+                    for (String value : header.getValue()) {
+                        requestBuilder.header(header.getKey(), value);
+                    }
+                }
+            }
+            if (compression && !headers.containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+                requestBuilder.header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+            }
+
+            activeRequests.incrementAndGet();
+            try {
+                return new JdkClientHttpResponse(httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream()));
+            } catch (InterruptedException e) {
+                activeRequests.decrementAndGet();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Request to " + uri + " was interrupted");
+            } catch (IOException | RuntimeException e) {
+                activeRequests.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Eine Antwort des HttpClients. Mit gzip komprimierte Antworten werden beim Lesen entpackt.
+     * Beim Schliessen wird der restliche Inhalt gelesen, damit die Verbindung wiederverwendet werden kann.
+     */
+    private class JdkClientHttpResponse implements ClientHttpResponse {
+
+        /**
+         * Die Antwort des HttpClients
+         */
+        private final HttpResponse<InputStream> response;
+
+        /**
+         * Die Header der Antwort
+         */
+        private final HttpHeaders headers = new HttpHeaders();
+
+        /**
+         * Gibt an, ob der Inhalt der Antwort mit gzip komprimiert ist
+         */
+        private final boolean gzip;
+
+        /**
+         * Der Inhalt der Antwort, der beim ersten Zugriff erzeugt wird
+         */
+        private InputStream body;
+
+        /**
+         * Gibt an, ob die Antwort bereits geschlossen wurde
+         */
+        private boolean closed;
+
+        /**
+         * Konstruktor der Klasse JdkClientHttpResponse.
+         *
+         * @param response Die Antwort des HttpClients
+         */
+        JdkClientHttpResponse(HttpResponse<InputStream> response) {
+            this.response = response;
+            response.headers().map().forEach(headers::addAll);
+            this.gzip = "gzip".equalsIgnoreCase(headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+            if (gzip) {
+                // Der Inhalt wird entpackt weitergegeben, Laenge und Kodierung gelten dann nicht mehr
+                headers.remove(HttpHeaders.CONTENT_ENCODING);
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+            }
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatusCode.valueOf(response.statusCode());
+        }
+
+        @Override
+        @Deprecated
+        public int getRawStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String getStatusText() {
+            return "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = gzip ? new GZIPInputStream(response.body()) : response.body();
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            activeRequests.decrementAndGet();
+            try (InputStream remaining = response.body()) {
+                remaining.transferTo(OutputStream.nullOutputStream()); // Nur vollstaendig gelesene Verbindungen werden wiederverwendet
+            } catch (IOException e) {
+                // Die Verbindung wird dann vom HttpClient verworfen
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.http;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+/**
+ * Eine {@link ClientHttpRequestFactory}, die ihre Verbindungen wiederverwendet und deren Auslastung abgefragt werden kann.
+ */
+public interface PooledClientHttpRequestFactory extends ClientHttpRequestFactory {
+
+    /**
+     * Gibt die aktuelle Auslastung der Verbindungen zurueck.
+     *
+     * @return Die Auslastung der Verbindungen
+     */
+    ConnectionPoolStats getPoolStats();
+}
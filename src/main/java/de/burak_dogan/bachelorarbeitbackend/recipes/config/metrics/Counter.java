@@ -0,0 +1,39 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ein monoton steigender Zaehler einer Metrik. Die Erhoehung ist ohne Sperren moeglich und kann von vielen Threads gleichzeitig erfolgen.
+ */
+public final class Counter {
+
+    /**
+     * Der aktuelle Wert des Zaehlers
+     */
+    private final LongAdder value = new LongAdder();
+
+    /**
+     * Erhoeht den Zaehler um 1.
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Erhoeht den Zaehler um den angegebenen Wert.
+     *
+     * @param amount Der Wert, um den erhoeht wird
+     */
+    public void increment(long amount) {
+        value.add(amount);
+    }
+
+    /**
+     * Gibt den aktuellen Wert des Zaehlers zurueck.
+     *
+     * @return Der aktuelle Wert
+     */
+    public long get() {
+        return value.sum();
+    }
+}
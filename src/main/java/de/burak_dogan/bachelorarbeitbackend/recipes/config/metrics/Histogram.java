@@ -0,0 +1,110 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ein Histogramm einer Metrik mit festen Bucket-Grenzen, z.B. fuer Antwortzeiten in Sekunden oder die Anzahl der SQL-Anweisungen pro Anfrage.
+ * Pro Beobachtung wird nur der passende Bucket, die Summe und die Anzahl erhoeht, kumuliert wird erst bei der Ausgabe.
+ */
+public final class Histogram {
+
+    /**
+     * Die oberen Grenzen der Buckets, aufsteigend sortiert
+     */
+    private final double[] upperBounds;
+
+    /**
+     * Die Anzahl der Beobachtungen pro Bucket, der letzte Bucket nimmt alle Werte ueber der groessten Grenze auf
+     */
+    private final LongAdder[] bucketCounts;
+
+    /**
+     * Die Summe aller beobachteten Werte
+     */
+    private final DoubleAdder sum = new DoubleAdder();
+
+    /**
+     * Die Anzahl aller Beobachtungen
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Konstruktor der Klasse Histogram.
+     *
+     * @param upperBounds Die oberen Grenzen der Buckets, aufsteigend sortiert
+     */
+    Histogram(double[] upperBounds) {
+        this.upperBounds = upperBounds;
+        this.bucketCounts = new LongAdder[upperBounds.length + 1];
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Nimmt einen Wert in das Histogramm auf.
+     *
+     * @param value Der beobachtete Wert
+     */
+    public void observe(double value) {
+        int bucket = 0;
+        while (bucket < upperBounds.length && value > upperBounds[bucket]) {
+            bucket++;
+        }
+        bucketCounts[bucket].increment();
+        sum.add(value);
+        count.increment();
+    }
+
+    /**
+     * Nimmt eine Dauer in Sekunden in das Histogramm auf.
+     *
+     * @param nanos Die Dauer in Nanosekunden
+     */
+    public void recordNanos(long nanos) {
+        observe(nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Gibt die oberen Grenzen der Buckets zurueck.
+     *
+     * @return Die oberen Grenzen, aufsteigend sortiert
+     */
+    double[] getUpperBounds() {
+        return upperBounds;
+    }
+
+    /**
+     * Gibt die kumulierte Anzahl der Beobachtungen bis einschliesslich des angegebenen Buckets zurueck.
+     *
+     * @param bucket Der Index des Buckets, {@code getUpperBounds().length} fuer alle Beobachtungen
+     * @return Die Anzahl der Beobachtungen, die hoechstens der Grenze des Buckets entsprechen
+     */
+    long getCumulativeCount(int bucket) {
+        long cumulativeCount = 0;
+        for (int i = 0; i <= bucket; i++) {
+            cumulativeCount += bucketCounts[i].sum();
+        }
+        return cumulativeCount;
+    }
+
+    /**
+     * Gibt die Summe aller beobachteten Werte zurueck.
+     *
+     * @return Die Summe
+     */
+    public double getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Gibt die Anzahl aller Beobachtungen zurueck.
+     *
+     * @return Die Anzahl
+     */
+    public long getCount() {
+        return count.sum();
+    }
+}
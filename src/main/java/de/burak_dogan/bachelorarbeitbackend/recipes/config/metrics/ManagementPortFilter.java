@@ -0,0 +1,54 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.MetricsProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.MetricsController;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Servlet-Filter, der die Metriken vom Port der API trennt. Die Metriken werden nur auf dem Management-Port beantwortet,
+ * auf dem Port der API sind sie nicht vorhanden. Umgekehrt wird auf dem Management-Port ausser den Metriken nichts beantwortet.
+ * Der Filter laeuft vor dem {@link de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness.ReadinessFilter}, die Metriken sind bewusst nicht an die
+ * Bereitschaft der Anwendung gebunden, damit der Fortschritt des Imports auch waehrend des Starts beobachtet werden kann.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ManagementPortFilter extends OncePerRequestFilter {
+
+    /**
+     * Die Eigenschaften der Bereitstellung der Metriken
+     */
+    private final MetricsProperties metricsProperties;
+
+    /**
+     * Konstruktor der Klasse ManagementPortFilter.
+     *
+     * @param metricsProperties Die Eigenschaften der Bereitstellung der Metriken
+     */
+    @Autowired
+    public ManagementPortFilter(MetricsProperties metricsProperties) {
+        this.metricsProperties = metricsProperties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean metricsRequest = MetricsController.METRICS.equals(path);
+        boolean managementPort = metricsProperties.getPort() > 0 && request.getLocalPort() == metricsProperties.getPort();
+        if (metricsRequest != managementPort) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,162 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.http.ConnectionPoolStats;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.http.PooledClientHttpRequestFactory;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.MetricsProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.IngredientCatalogCache;
+import org.apache.catalina.connector.Connector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Konfigurationsklasse fuer die Metriken. Registriert die Messung der Anfragen an die Controller, die Zaehlung der SQL-Anweisungen
+ * und die Gauges fuer die Verbindungspools der Datenbank und des HTTP-Clients sowie fuer den Zutatenkatalog.
+ * Die Metriken werden ueber einen eigenen Management-Port bereitgestellt, siehe {@link ManagementPortFilter}.
+ */
+@Configuration
+public class MetricsConfiguration implements WebMvcConfigurer {
+
+    /**
+     * Die Registry, in der die Metriken gefuehrt werden
+     */
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Misst die Anfragen an die Controller
+     */
+    private final RequestMetricsInterceptor requestMetricsInterceptor;
+
+    /**
+     * Konstruktor der Klasse MetricsConfiguration.
+     *
+     * @param metricsRegistry           Die Registry, in der die Metriken gefuehrt werden
+     * @param requestMetricsInterceptor Misst die Anfragen an die Controller
+     * @param dataSource                Die DataSource, deren Verbindungspool beobachtet wird
+     * @param requestFactory            Die Factory des RestTemplates, deren Verbindungspool beobachtet wird
+     * @param ingredientCatalogCache    Der Cache ueber den Zutatenkatalog, dessen Treffer gezaehlt werden
+     */
+    @Autowired
+    public MetricsConfiguration(MetricsRegistry metricsRegistry, RequestMetricsInterceptor requestMetricsInterceptor, DataSource dataSource,
+                                PooledClientHttpRequestFactory requestFactory, IngredientCatalogCache ingredientCatalogCache) {
+        this.metricsRegistry = metricsRegistry;
+        this.requestMetricsInterceptor = requestMetricsInterceptor;
+        registerDataSourceGauges(dataSource);
+        registerHttpClientGauges(requestFactory);
+        metricsRegistry.functionCounter("ingredient_catalog_cache_requests_total", "Lookups in the ingredient catalog cache", ingredientCatalogCache::getHitCount, "result", "hit");
+        metricsRegistry.functionCounter("ingredient_catalog_cache_requests_total", "Lookups in the ingredient catalog cache", ingredientCatalogCache::getMissCount, "result", "miss");
+        metricsRegistry.gauge("ingredient_catalog_cache_size", "Ingredients held in the ingredient catalog cache", ingredientCatalogCache::size);
+    }
+
+    /**
+     * Registriert den Interceptor fuer die Messung der Anfragen an die API.
+     *
+     * @param registry Die Registry der Interceptoren
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestMetricsInterceptor).addPathPatterns("/api/**");
+    }
+
+    /**
+     * Registriert den StatementCounter bei Hibernate, damit alle vorbereiteten SQL-Anweisungen gezaehlt werden.
+     * Die Methode ist statisch, damit die EntityManagerFactory nicht von den Abhaengigkeiten dieser Konfiguration abhaengt.
+     *
+     * @param statementCounter Zaehlt die SQL-Anweisungen
+     * @return Der Customizer fuer die Hibernate-Eigenschaften
+     */
+    @Bean
+    static HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    /**
+     * Oeffnet im eingebetteten Tomcat einen zusaetzlichen Connector auf dem Management-Port, ueber den die Metriken abgerufen werden.
+     *
+     * @param metricsProperties Die Eigenschaften der Bereitstellung der Metriken
+     * @return Der Customizer fuer den eingebetteten Tomcat
+     */
+    @Bean
+    static WebServerFactoryCustomizer<TomcatServletWebServerFactory> managementPortCustomizer(MetricsProperties metricsProperties) {
+        return factory -> {
+            int port = metricsProperties.getPort();
+            if (port <= 0) {
+                return;
+            }
+            if (port == factory.getPort()) {
+                throw new IllegalStateException("The metrics port " + port + " must differ from the server port");
+            }
+            Connector connector = new Connector(TomcatServletWebServerFactory.DEFAULT_PROTOCOL);
+            connector.setPort(port);
+            factory.addAdditionalTomcatConnectors(connector);
+        };
+    }
+
+    /**
+     * Registriert die Gauges fuer den Verbindungspool der Datenbank, falls es sich um einen Hikari-Pool handelt.
+     * Der Pool wird erst bei der ersten Verbindung gestartet, bis dahin sind die Werte NaN.
+     *
+     * @param dataSource Die DataSource der Anwendung
+     */
+    private void registerDataSourceGauges(DataSource dataSource) {
+        if (!(dataSource instanceof HikariDataSource hikariDataSource)) {
+            return;
+        }
+        registerHikariGauge(hikariDataSource, "hikaricp_connections_active", "Database connections currently in use", HikariPoolMXBean::getActiveConnections);
+        registerHikariGauge(hikariDataSource, "hikaricp_connections_idle", "Idle database connections", HikariPoolMXBean::getIdleConnections);
+        registerHikariGauge(hikariDataSource, "hikaricp_connections", "Open database connections", HikariPoolMXBean::getTotalConnections);
+        registerHikariGauge(hikariDataSource, "hikaricp_connections_pending", "Threads waiting for a database connection", HikariPoolMXBean::getThreadsAwaitingConnection);
+        metricsRegistry.gauge("hikaricp_connections_max", "Maximum number of database connections", hikariDataSource::getMaximumPoolSize);
+    }
+
+    /**
+     * Registriert einen Gauge, der einen Wert des Hikari-Pools abfragt.
+     *
+     * @param dataSource Die DataSource mit dem Pool
+     * @param name       Der Name der Metrik
+     * @param help       Die Beschreibung der Metrik
+     * @param value      Liest den Wert aus dem Pool
+     */
+    private void registerHikariGauge(HikariDataSource dataSource, String name, String help, ToIntFunction<HikariPoolMXBean> value) {
+        metricsRegistry.gauge(name, help, () -> {
+            HikariPoolMXBean poolMXBean = dataSource.getHikariPoolMXBean();
+            return poolMXBean != null ? value.applyAsInt(poolMXBean) : Double.NaN;
+        });
+    }
+
+    /**
+     * Registriert die Gauges fuer den Verbindungspool des HTTP-Clients der Edamam APIs. Werte, die der Client nicht bereitstellt, sind NaN.
+     *
+     * @param requestFactory Die Factory des RestTemplates
+     */
+    private void registerHttpClientGauges(PooledClientHttpRequestFactory requestFactory) {
+        registerHttpClientGauge(requestFactory, "http_client_connections_leased", "HTTP client connections currently in use", ConnectionPoolStats::leased);
+        registerHttpClientGauge(requestFactory, "http_client_connections_pending", "HTTP requests waiting for a connection", ConnectionPoolStats::pending);
+        registerHttpClientGauge(requestFactory, "http_client_connections_available", "Idle HTTP client connections", ConnectionPoolStats::available);
+        registerHttpClientGauge(requestFactory, "http_client_connections_max", "Maximum number of HTTP client connections", ConnectionPoolStats::max);
+    }
+
+    /**
+     * Registriert einen Gauge, der einen Wert des Verbindungspools des HTTP-Clients abfragt.
+     *
+     * @param requestFactory Die Factory des RestTemplates
+     * @param name           Der Name der Metrik
+     * @param help           Die Beschreibung der Metrik
+     * @param value          Liest den Wert aus der Auslastung des Pools
+     */
+    private void registerHttpClientGauge(PooledClientHttpRequestFactory requestFactory, String name, String help, Function<ConnectionPoolStats, Integer> value) {
+        metricsRegistry.gauge(name, help, () -> value.apply(requestFactory.getPoolStats()));
+    }
+}
@@ -0,0 +1,323 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Die zentrale Registry fuer die Metriken der Anwendung. Zaehler, Histogramme und Gauges werden ueber ihren Namen und ihre Labels
+ * identifiziert und koennen im Textformat von Prometheus ausgegeben werden.
+ * Metriken mit festen Labels sollten einmalig beim Erstellen der Komponenten abgerufen und gehalten werden, damit im Hot Path keine Suche noetig ist.
+ */
+@Component
+public class MetricsRegistry {
+
+    /**
+     * Die Bucket-Grenzen in Sekunden fuer Zeitmessungen
+     */
+    public static final double[] SECONDS_BUCKETS = {0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    /**
+     * Die Bucket-Grenzen fuer die Anzahl der SQL-Anweisungen pro Anfrage
+     */
+    public static final double[] STATEMENT_BUCKETS = {0, 1, 2, 3, 5, 10, 20, 50, 100};
+
+    /**
+     * Die erlaubten Namen von Metriken im Textformat von Prometheus
+     */
+    private static final Pattern METRIC_NAME = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+
+    /**
+     * Die erlaubten Namen von Labels im Textformat von Prometheus, Namen mit {@code __} am Anfang sind fuer Prometheus reserviert
+     */
+    private static final Pattern LABEL_NAME = Pattern.compile("(?!__)[a-zA-Z_][a-zA-Z0-9_]*");
+
+    /**
+     * Der Name des Labels, das bei Histogrammen die obere Grenze eines Buckets angibt
+     */
+    private static final String BUCKET_LABEL = "le";
+
+    /**
+     * Die registrierten Metriken nach ihrem Namen, sortiert fuer eine stabile Ausgabe
+     */
+    private final Map<String, MetricFamily> families = new ConcurrentSkipListMap<>();
+
+    /**
+     * Gibt den Zaehler mit dem angegebenen Namen und den angegebenen Labels zurueck und legt ihn bei Bedarf an.
+     *
+     * @param name   Der Name der Metrik, endet nach Konvention auf {@code _total}
+     * @param help   Die Beschreibung der Metrik
+     * @param labels Die Labels als abwechselnde Namen und Werte
+     * @return Der Zaehler
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return family(name, help, MetricType.COUNTER).get(labels, key -> new Counter());
+    }
+
+    /**
+     * Gibt das Histogramm mit dem angegebenen Namen und den angegebenen Labels zurueck und legt es bei Bedarf an.
+     *
+     * @param name        Der Name der Metrik
+     * @param help        Die Beschreibung der Metrik
+     * @param upperBounds Die oberen Grenzen der Buckets, endlich und streng aufsteigend sortiert
+     * @param labels      Die Labels als abwechselnde Namen und Werte, ohne das Label {@code le}
+     * @return Das Histogramm
+     */
+    public Histogram histogram(String name, String help, double[] upperBounds, String... labels) {
+        for (int i = 0; i < upperBounds.length; i++) {
+            if (!Double.isFinite(upperBounds[i]) || i > 0 && upperBounds[i] <= upperBounds[i - 1]) {
+                throw new IllegalArgumentException("Bucket bounds of " + name + " must be finite and strictly increasing");
+            }
+        }
+        for (int i = 0; i < labels.length; i += 2) {
+            if (BUCKET_LABEL.equals(labels[i])) {
+                throw new IllegalArgumentException("Histogram " + name + " must not use the label " + BUCKET_LABEL);
+            }
+        }
+        return family(name, help, MetricType.HISTOGRAM).get(labels, key -> new Histogram(upperBounds));
+    }
+
+    /**
+     * Gibt das Histogramm fuer Zeitmessungen in Sekunden mit dem angegebenen Namen und den angegebenen Labels zurueck und legt es bei Bedarf an.
+     *
+     * @param name   Der Name der Metrik, endet nach Konvention auf {@code _seconds}
+     * @param help   Die Beschreibung der Metrik
+     * @param labels Die Labels als abwechselnde Namen und Werte
+     * @return Das Histogramm
+     */
+    public Histogram timer(String name, String help, String... labels) {
+        return histogram(name, help, SECONDS_BUCKETS, labels);
+    }
+
+    /**
+     * Registriert einen Gauge, dessen Wert bei jeder Ausgabe neu abgefragt wird. Ein bereits registrierter Gauge wird ersetzt.
+     *
+     * @param name   Der Name der Metrik
+     * @param help   Die Beschreibung der Metrik
+     * @param value  Liefert den aktuellen Wert
+     * @param labels Die Labels als abwechselnde Namen und Werte
+     */
+    public void gauge(String name, String help, Supplier<? extends Number> value, String... labels) {
+        family(name, help, MetricType.GAUGE).put(labels, value);
+    }
+
+    /**
+     * Registriert einen Zaehler, der ausserhalb der Registry gefuehrt wird und bei jeder Ausgabe neu abgefragt wird, z.B. die Treffer eines Caches.
+     *
+     * @param name   Der Name der Metrik, endet nach Konvention auf {@code _total}
+     * @param help   Die Beschreibung der Metrik
+     * @param value  Liefert den aktuellen Wert
+     * @param labels Die Labels als abwechselnde Namen und Werte
+     */
+    public void functionCounter(String name, String help, Supplier<? extends Number> value, String... labels) {
+        family(name, help, MetricType.COUNTER).put(labels, value);
+    }
+
+    /**
+     * Schreibt alle Metriken im Textformat 0.0.4 von Prometheus.
+     *
+     * @param writer Der Writer, in den geschrieben wird
+     * @throws IOException Wenn nicht geschrieben werden kann
+     */
+    public void writePrometheus(Writer writer) throws IOException {
+        for (MetricFamily family : families.values()) {
+            family.write(writer);
+        }
+    }
+
+    /**
+     * Gibt die Metrik-Familie mit dem angegebenen Namen zurueck und legt sie bei Bedarf an.
+     *
+     * @param name Der Name der Metrik
+     * @param help Die Beschreibung der Metrik
+     * @param type Der Typ der Metrik
+     * @return Die Metrik-Familie
+     */
+    private MetricFamily family(String name, String help, MetricType type) {
+        if (!METRIC_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid metric name " + name);
+        }
+        MetricFamily family = families.computeIfAbsent(name, key -> new MetricFamily(name, help, type));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as " + family.type);
+        }
+        return family;
+    }
+
+    /**
+     * Formatiert die Labels fuer die Ausgabe, z.B. {@code method="GET",status="200"}.
+     *
+     * @param labels Die Labels als abwechselnde Namen und Werte
+     * @return Die formatierten Labels, leer falls keine Labels angegeben sind
+     */
+    static String formatLabels(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be given as name/value pairs");
+        }
+        StringBuilder formatted = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                formatted.append(',');
+            }
+            if (labels[i] == null || !LABEL_NAME.matcher(labels[i]).matches()) {
+                throw new IllegalArgumentException("Invalid label name " + labels[i]);
+            }
+            formatted.append(labels[i]).append("=\"");
+            String value = labels[i + 1] != null ? labels[i + 1] : "";
+            for (int j = 0; j < value.length(); j++) {
+                char c = value.charAt(j);
+                switch (c) {
+                    case '\\' -> formatted.append("\\\\");
+                    case '"' -> formatted.append("\\\"");
+                    case '\n' -> formatted.append("\\n");
+                    default -> formatted.append(c);
+                }
+            }
+            formatted.append('"');
+        }
+        return formatted.toString();
+    }
+
+    /**
+     * Formatiert einen Wert fuer die Ausgabe.
+     *
+     * @param value Der Wert
+     * @return Der formatierte Wert, {@code NaN} bzw. {@code +Inf} fuer nicht endliche Werte
+     */
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    /**
+     * Die Typen der Metriken im Textformat von Prometheus.
+     */
+    private enum MetricType {
+        COUNTER, GAUGE, HISTOGRAM
+    }
+
+    /**
+     * Alle Auspraegungen einer Metrik mit gleichem Namen, unterschieden durch ihre Labels.
+     */
+    private static final class MetricFamily {
+
+        /**
+         * Der Name der Metrik
+         */
+        private final String name;
+
+        /**
+         * Die Beschreibung der Metrik
+         */
+        private final String help;
+
+        /**
+         * Der Typ der Metrik
+         */
+        private final MetricType type;
+
+        /**
+         * Die Auspraegungen nach ihren formatierten Labels, entweder {@link Counter}, {@link Histogram} oder ein {@link Supplier} des Werts
+         */
+        private final Map<String, Object> children = new ConcurrentHashMap<>();
+
+        /**
+         * Konstruktor der Klasse MetricFamily.
+         *
+         * @param name Der Name der Metrik
+         * @param help Die Beschreibung der Metrik
+         * @param type Der Typ der Metrik
+         */
+        private MetricFamily(String name, String help, MetricType type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+
+        /**
+         * Gibt die Auspraegung mit den angegebenen Labels zurueck und legt sie bei Bedarf an.
+         *
+         * @param labels  Die Labels als abwechselnde Namen und Werte
+         * @param factory Erzeugt die Auspraegung, falls sie noch nicht existiert
+         * @param <T>     Der Typ der Auspraegung
+         * @return Die Auspraegung
+         */
+        @SuppressWarnings("unchecked")
+        private <T> T get(String[] labels, Function<String, T> factory) {
+            return (T) children.computeIfAbsent(formatLabels(labels), factory);
+        }
+
+        /**
+         * Setzt die Auspraegung mit den angegebenen Labels.
+         *
+         * @param labels Die Labels als abwechselnde Namen und Werte
+         * @param value  Liefert den aktuellen Wert
+         */
+        private void put(String[] labels, Supplier<? extends Number> value) {
+            children.put(formatLabels(labels), value);
+        }
+
+        /**
+         * Schreibt die Beschreibung, den Typ und alle Auspraegungen der Metrik.
+         *
+         * @param writer Der Writer, in den geschrieben wird
+         * @throws IOException Wenn nicht geschrieben werden kann
+         */
+        private void write(Writer writer) throws IOException {
+            writer.write("# HELP " + name + " " + help.replace("\\", "\\\\").replace("\n", "\\n") + "\n");
+            writer.write("# TYPE " + name + " " + type.name().toLowerCase() + "\n");
+            for (Map.Entry<String, Object> child : new TreeMap<>(children).entrySet()) {
+                String labels = child.getKey();
+                Object metric = child.getValue();
+                if (metric instanceof Counter counter) {
+                    writeSample(writer, name, labels, counter.get());
+                } else if (metric instanceof Histogram histogram) {
+                    double[] upperBounds = histogram.getUpperBounds();
+                    String separator = labels.isEmpty() ? "" : ",";
+                    for (int i = 0; i < upperBounds.length; i++) {
+                        writeSample(writer, name + "_bucket", labels + separator + "le=\"" + formatValue(upperBounds[i]) + "\"", histogram.getCumulativeCount(i));
+                    }
+                    writeSample(writer, name + "_bucket", labels + separator + "le=\"+Inf\"", histogram.getCumulativeCount(upperBounds.length));
+                    writeSample(writer, name + "_sum", labels, histogram.getSum());
+                    writeSample(writer, name + "_count", labels, histogram.getCount());
+                } else if (metric instanceof Supplier<?> supplier) {
+                    Object value = supplier.get();
+                    writeSample(writer, name, labels, value instanceof Number number ? number.doubleValue() : Double.NaN);
+                }
+            }
+        }
+
+        /**
+         * Schreibt einen einzelnen Messwert.
+         *
+         * @param writer Der Writer, in den geschrieben wird
+         * @param name   Der Name des Messwerts
+         * @param labels Die formatierten Labels
+         * @param value  Der Wert
+         * @throws IOException Wenn nicht geschrieben werden kann
+         */
+        private static void writeSample(Writer writer, String name, String labels, double value) throws IOException {
+            writer.write(name);
+            if (!labels.isEmpty()) {
+                writer.write("{" + labels + "}");
+            }
+            writer.write(" " + formatValue(value) + "\n");
+        }
+    }
+}
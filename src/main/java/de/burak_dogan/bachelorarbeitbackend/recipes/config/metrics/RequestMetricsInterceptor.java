@@ -0,0 +1,109 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Misst die Dauer und die Anzahl der SQL-Anweisungen jeder Anfrage an einen Controller, getrennt nach HTTP-Methode, Pfadmuster und Statuscode.
+ * Als Pfad wird das Muster des Mappings verwendet, z.B. {@code /api/v1/recipes/{recipeId}}, damit die Anzahl der Zeitreihen begrenzt bleibt.
+ * Bei gestreamten Antworten wird die Dauer bis zum Ende des Streams gemessen, die SQL-Anweisungen nur bis zum Start des Streams.
+ */
+@Component
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    /**
+     * Das Request-Attribut mit dem Startzeitpunkt der Anfrage in Nanosekunden
+     */
+    private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".start";
+
+    /**
+     * Das Request-Attribut mit der Anzahl der SQL-Anweisungen vor dem Start eines Streams
+     */
+    private static final String STATEMENTS_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".statements";
+
+    /**
+     * Die Registry, in der die Messwerte gefuehrt werden
+     */
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Zaehlt die SQL-Anweisungen der Anfrage
+     */
+    private final StatementCounter statementCounter;
+
+    /**
+     * Konstruktor der Klasse RequestMetricsInterceptor.
+     *
+     * @param metricsRegistry  Die Registry, in der die Messwerte gefuehrt werden
+     * @param statementCounter Zaehlt die SQL-Anweisungen der Anfrage
+     */
+    @Autowired
+    public RequestMetricsInterceptor(MetricsRegistry metricsRegistry, StatementCounter statementCounter) {
+        this.metricsRegistry = metricsRegistry;
+        this.statementCounter = statementCounter;
+    }
+
+    /**
+     * Merkt sich den Startzeitpunkt und startet die Zaehlung der SQL-Anweisungen.
+     * Bei der erneuten Verarbeitung nach einer asynchronen Antwort bleibt der urspruengliche Startzeitpunkt erhalten.
+     *
+     * @param request  Die Anfrage
+     * @param response Die Antwort
+     * @param handler  Der Handler der Anfrage
+     * @return Immer true
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.ASYNC || request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        statementCounter.start();
+        return true;
+    }
+
+    /**
+     * Merkt sich die bisherige Anzahl der SQL-Anweisungen, bevor die Antwort in einem anderen Thread geschrieben wird.
+     *
+     * @param request  Die Anfrage
+     * @param response Die Antwort
+     * @param handler  Der Handler der Anfrage
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(STATEMENTS_ATTRIBUTE, statementCounter.stop());
+    }
+
+    /**
+     * Erfasst die Dauer und die Anzahl der SQL-Anweisungen der abgeschlossenen Anfrage.
+     *
+     * @param request  Die Anfrage
+     * @param response Die Antwort
+     * @param handler  Der Handler der Anfrage
+     * @param ex       Eine nicht behandelte Exception, null falls keine aufgetreten ist
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int statements = statementCounter.stop();
+        Object earlierStatements = request.getAttribute(STATEMENTS_ATTRIBUTE);
+        if (earlierStatements instanceof Integer count) {
+            statements += count;
+        }
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (!(start instanceof Long startNanos)) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String status = Integer.toString(ex != null && response.getStatus() < 400 ? 500 : response.getStatus());
+        metricsRegistry.timer("http_server_requests_seconds", "Duration of HTTP requests handled by the controllers",
+                "method", request.getMethod(), "uri", uri, "status", status).recordNanos(System.nanoTime() - startNanos);
+        metricsRegistry.histogram("http_server_requests_jdbc_statements", "SQL statements prepared by Hibernate per HTTP request", MetricsRegistry.STATEMENT_BUCKETS,
+                "method", request.getMethod(), "uri", uri).observe(statements);
+    }
+}
@@ -0,0 +1,68 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Zaehlt die SQL-Anweisungen, die Hibernate vorbereitet, insgesamt und fuer die aktuell bearbeitete Anfrage.
+ * Die Zaehlung pro Anfrage wird vom {@link RequestMetricsInterceptor} gestartet und beendet und haengt am Thread der Anfrage.
+ * Anweisungen ueber das JdbcTemplate des Imports werden nicht erfasst.
+ */
+@Component
+public class StatementCounter implements StatementInspector {
+
+    /**
+     * Der Zaehler der Anweisungen der aktuellen Anfrage, null ausserhalb einer Anfrage
+     */
+    private static final ThreadLocal<int[]> CURRENT_REQUEST = new ThreadLocal<>();
+
+    /**
+     * Die Anzahl aller vorbereiteten Anweisungen
+     */
+    private final Counter statements;
+
+    /**
+     * Konstruktor der Klasse StatementCounter.
+     *
+     * @param metricsRegistry Die Registry, in der die Anzahl aller Anweisungen gefuehrt wird
+     */
+    @Autowired
+    public StatementCounter(MetricsRegistry metricsRegistry) {
+        this.statements = metricsRegistry.counter("jdbc_statements_total", "SQL statements prepared by Hibernate");
+    }
+
+    /**
+     * Zaehlt die Anweisung und gibt sie unveraendert zurueck.
+     *
+     * @param sql Die SQL-Anweisung
+     * @return Die unveraenderte SQL-Anweisung
+     */
+    @Override
+    public String inspect(String sql) {
+        statements.increment();
+        int[] current = CURRENT_REQUEST.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Startet die Zaehlung fuer die Anfrage des aktuellen Threads.
+     */
+    public void start() {
+        CURRENT_REQUEST.set(new int[1]);
+    }
+
+    /**
+     * Beendet die Zaehlung fuer die Anfrage des aktuellen Threads.
+     *
+     * @return Die Anzahl der Anweisungen seit dem Start, 0 falls keine Zaehlung gestartet wurde
+     */
+    public int stop() {
+        int[] current = CURRENT_REQUEST.get();
+        CURRENT_REQUEST.remove();
+        return current != null ? current[0] : 0;
+    }
+}
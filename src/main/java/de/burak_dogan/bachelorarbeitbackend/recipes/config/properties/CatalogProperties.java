@@ -0,0 +1,20 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Konfigurationsklasse fuer die Eigenschaften der Katalogversionen, aus denen die ETags der GET-Endpunkte abgeleitet werden.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.catalog")
+public class CatalogProperties {
+
+    /**
+     * Die Dauer, fuer die eine Instanz die Versionen im Speicher haelt, bevor sie sie erneut aus der Datenbank liest.
+     * Aenderungen anderer Instanzen werden hoechstens um diese Dauer verzoegert erkannt, eigene Aenderungen sofort. 0 liest bei jeder Anfrage.
+     */
+    private Duration versionRefreshInterval = Duration.ofSeconds(1);
+}
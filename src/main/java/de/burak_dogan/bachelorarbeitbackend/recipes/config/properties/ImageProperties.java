@@ -0,0 +1,19 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.properties;
+
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+
+/**
+ * Konfigurationsklasse fuer die Eigenschaften der Auslieferung der Rezeptbilder.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.image")
+public class ImageProperties {
+
+    /**
+     * Die maximale Gesamtgroesse der zwischengespeicherten Bilder in Bytes.
+     */
+    private long cacheMaxBytes = 32L * 1024 * 1024;
+}
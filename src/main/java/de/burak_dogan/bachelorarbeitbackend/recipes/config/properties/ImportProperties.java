@@ -0,0 +1,80 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.properties;
+
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+
+/**
+ * Konfigurationsklasse fuer die Eigenschaften des Imports der Rezepte.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.import")
+public class ImportProperties {
+
+    /**
+     * Die Anzahl der Zeilen, die beim Import in einem JDBC-Batch an die Datenbank gesendet werden.
+     */
+    private int batchSize = 50;
+
+    /**
+     * Die Anzahl der Rezepte, die insgesamt in der Datenbank gespeichert sein sollen. Der Import endet, sobald sie erreicht ist.
+     */
+    private int targetRecipes = 40;
+
+    /**
+     * Die maximale Anzahl an Seiten, die pro Lauf von der Rezept-API abgerufen werden. Der naechste Lauf setzt den Import an dieser Stelle fort.
+     */
+    private int maxPagesPerRun = 12;
+
+    /**
+     * Die Datei mit Rezepten im Format der Rezept-API, ein JSON-Wert pro Zeile. Ist sie gesetzt, werden die Rezepte
+     * vollstaendig aus dieser Datei statt von der Rezept-API importiert.
+     */
+    private Path recipeDumpFile;
+
+    /**
+     * Die optionale Datei mit Antworten der Food-API, ein JSON-Wert pro Zeile. Die Zutaten werden beim Import aus einer Datei
+     * nur aus dieser Datei und dem bestehenden Cache gelesen, die Food-API wird dabei nicht abgefragt.
+     */
+    private Path ingredientDumpFile;
+
+    /**
+     * Die Anzahl der Threads, die die Bilder der Rezepte parallel herunterladen.
+     */
+    private int imageWorkers = 4;
+
+    /**
+     * Die maximale Anzahl an Bildern, die auf einen freien Thread fuer den Download warten.
+     * Ist die Warteschlange voll, laedt der aufrufende Thread das Bild selbst herunter.
+     */
+    private int imageQueueCapacity = 32;
+
+    /**
+     * Die maximale Dauer fuer den Verbindungsaufbau beim Download eines Bildes.
+     */
+    private Duration imageConnectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Die maximale Dauer, die beim Download eines Bildes auf Daten gewartet wird.
+     */
+    private Duration imageReadTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Die maximale Groesse eines Bildes in Bytes. Groessere Bilder werden nicht heruntergeladen.
+     */
+    private long imageMaxBytes = 5L * 1024 * 1024;
+
+    /**
+     * Die Anzahl der Wiederholungen, wenn der Download eines Bildes fehlschlaegt.
+     */
+    private int imageRetries = 2;
+
+    /**
+     * Die Wartezeit vor der ersten Wiederholung. Sie verdoppelt sich mit jeder weiteren Wiederholung.
+     */
+    private Duration imageRetryBackoff = Duration.ofMillis(500);
+}
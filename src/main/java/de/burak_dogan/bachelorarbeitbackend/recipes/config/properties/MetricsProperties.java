@@ -0,0 +1,18 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Konfigurationsklasse fuer die Eigenschaften der Bereitstellung der Metriken.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.metrics")
+public class MetricsProperties {
+
+    /**
+     * Der Port, auf dem ausschliesslich die Metriken bereitgestellt werden. Er muss sich vom Port der API unterscheiden und sollte nur intern erreichbar sein.
+     * Bei einem Wert kleiner oder gleich 0 wird kein eigener Port geoeffnet und die Metriken sind nicht abrufbar.
+     */
+    private int port = 8082;
+}
@@ -0,0 +1,30 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Konfigurationsklasse fuer die Eigenschaften der Abweisung von Anfragen, solange die Anwendung nicht bereit ist.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.readiness")
+public class ReadinessProperties {
+
+    /**
+     * Die Dauer, nach der ein Client eine abgewiesene Anfrage wiederholen soll. Sie wird im Header "Retry-After" gesendet.
+     */
+    private Duration retryAfter = Duration.ofSeconds(10);
+
+    /**
+     * Der Pfad, unter dem alle Anfragen abgewiesen werden, solange die Anwendung nicht bereit ist.
+     */
+    private String gatedPath = "/api/";
+
+    /**
+     * Die Pfade, die auch vor der Bereitschaft der Anwendung beantwortet werden, z.B. der Fortschritt des Imports.
+     */
+    private List<String> openPaths = List.of("/api/v1/import/");
+}
@@ -1,9 +1,12 @@
 package de.burak_dogan.bachelorarbeitbackend.recipes.config.properties;
 
 
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.http.HttpClientType;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 
 /**
  * Konfigurationsklasse fuer die Eigenschaften der Anfragen an die Edamam APIs.
@@ -31,4 +34,74 @@ public class RequestProperties {
      * Der App-Schluessel fuer die Zutatenanfragen an die Edamam API.
      */
     private String ingredientAppKey;
+
+    /**
+     * Die Basis-URL der Rezept-API von Edamam.
+     */
+    private String recipeBaseUrl = "https://api.edamam.com/api/recipes/v2";
+
+    /**
+     * Die Basis-URL der Food-API von Edamam, ueber die die Zutaten abgefragt werden.
+     */
+    private String ingredientBaseUrl = "https://api.edamam.com/api/food-database/v2/parser";
+
+    /**
+     * Die maximale Anzahl gleichzeitiger Zutatenanfragen an die Edamam API.
+     */
+    private int maxConcurrentIngredientRequests = 8;
+
+    /**
+     * Die Anzahl der Zutatenanfragen, die pro Sekunde an die Edamam API gesendet werden duerfen.
+     */
+    private double ingredientRequestsPerSecond = 10.0;
+
+    /**
+     * Die Anzahl der Zutatenanfragen, die ohne Wartezeit direkt hintereinander gesendet werden duerfen.
+     */
+    private int ingredientRequestBurst = 10;
+
+    /**
+     * Die Gueltigkeitsdauer der zwischengespeicherten Antworten der Food-API. Danach wird die Zutat erneut abgefragt.
+     */
+    private Duration ingredientCacheTtl = Duration.ofDays(30);
+
+    /**
+     * Der HTTP-Client, der fuer die Anfragen an die Edamam APIs verwendet wird.
+     */
+    private HttpClientType httpClient = HttpClientType.APACHE;
+
+    /**
+     * Die maximale Anzahl offener Verbindungen im Pool des HTTP-Clients.
+     */
+    private int httpMaxConnections = 20;
+
+    /**
+     * Die maximale Anzahl offener Verbindungen zu einem Host im Pool des HTTP-Clients.
+     */
+    private int httpMaxConnectionsPerRoute = 10;
+
+    /**
+     * Die maximale Dauer fuer den Verbindungsaufbau einer Anfrage.
+     */
+    private Duration httpConnectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Die maximale Dauer, die auf Daten der Antwort gewartet wird.
+     */
+    private Duration httpReadTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Die maximale Dauer, die auf eine freie Verbindung aus dem Pool gewartet wird.
+     */
+    private Duration httpConnectionRequestTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Die Dauer, die eine unbenutzte Verbindung fuer weitere Anfragen offen gehalten wird.
+     */
+    private Duration httpKeepAlive = Duration.ofSeconds(30);
+
+    /**
+     * Gibt an, ob Antworten komprimiert angefordert werden.
+     */
+    private boolean httpCompression = true;
 }
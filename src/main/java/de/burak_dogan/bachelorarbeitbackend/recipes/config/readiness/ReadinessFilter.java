@@ -0,0 +1,100 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.CorsProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ReadinessProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ErrorObject;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Servlet-Filter, der Anfragen an die API abweist, solange die Anwendung laut {@link ReadinessGate} nicht bereit ist.
+ * Die Anfrage wird noch vor dem Dispatcher mit 503 und dem Header "Retry-After" beantwortet, sodass Clients und Load Balancer es spaeter erneut versuchen.
+ * Preflight-Anfragen und die konfigurierten offenen Pfade, z.B. der Fortschritt des Imports, werden immer durchgelassen.
+ * Der Filter laeuft direkt nach dem {@link de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.ManagementPortFilter}, sodass Anfragen an die API
+ * auf dem Management-Port auch waehrend des Starts mit 404 statt mit 503 beantwortet werden.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ReadinessFilter extends OncePerRequestFilter {
+
+    /**
+     * Der aktuelle Zustand der Anwendung
+     */
+    private final ReadinessGate readinessGate;
+
+    /**
+     * Die Eigenschaften der Abweisung von Anfragen
+     */
+    private final ReadinessProperties readinessProperties;
+
+    /**
+     * Die CORS-Eigenschaften, damit abgewiesene Anfragen auch im Browser gelesen werden koennen
+     */
+    private final CorsProperties corsProperties;
+
+    /**
+     * Der {@link ObjectMapper} fuer die Fehlermeldung
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Konstruktor der Klasse ReadinessFilter.
+     *
+     * @param readinessGate       Der aktuelle Zustand der Anwendung
+     * @param readinessProperties Die Eigenschaften der Abweisung von Anfragen
+     * @param corsProperties      Die CORS-Eigenschaften, damit abgewiesene Anfragen auch im Browser gelesen werden koennen
+     * @param objectMapper        Der ObjectMapper fuer die Fehlermeldung
+     */
+    @Autowired
+    public ReadinessFilter(ReadinessGate readinessGate, ReadinessProperties readinessProperties, CorsProperties corsProperties, ObjectMapper objectMapper) {
+        this.readinessGate = readinessGate;
+        this.readinessProperties = readinessProperties;
+        this.corsProperties = corsProperties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(readinessProperties.getGatedPath())) {
+            return true;
+        }
+        return readinessProperties.getOpenPaths().stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (readinessGate.isAcceptingRequests()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpStatus serviceUnavailable = HttpStatus.SERVICE_UNAVAILABLE;
+        response.setStatus(serviceUnavailable.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(readinessProperties.getRetryAfter().toSeconds()));
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        if (origin != null && ("*".equals(corsProperties.getAllowedOrigins()) || origin.equals(corsProperties.getAllowedOrigins()))) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, origin);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ORIGIN);
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorObject(serviceUnavailable, "The recipes and ingredients are still loading, please try again later!"));
+    }
+}
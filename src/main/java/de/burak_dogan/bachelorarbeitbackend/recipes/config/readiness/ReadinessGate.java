@@ -0,0 +1,72 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Haelt den aktuellen {@link ServiceState} der Anwendung.
+ * Der Zustand wird ohne Sperren gelesen, sodass die Pruefung bei jeder Anfrage im {@link ReadinessFilter} keine Kosten verursacht.
+ * Jeder Zustandswechsel wird als {@link AvailabilityChangeEvent} veroeffentlicht, sodass die Readiness-Probe von Spring Boot dem Zustand folgt.
+ */
+@Slf4j
+@Component
+public class ReadinessGate {
+
+    /**
+     * Der aktuelle Zustand der Anwendung. Bei Anwendungsstart werden die gespeicherten Daten vorbereitet.
+     */
+    private final AtomicReference<ServiceState> state = new AtomicReference<>(ServiceState.STARTING);
+
+    /**
+     * Der Publisher fuer die AvailabilityChangeEvents
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Konstruktor der Klasse ReadinessGate.
+     *
+     * @param eventPublisher Der Publisher fuer die AvailabilityChangeEvents
+     */
+    @Autowired
+    public ReadinessGate(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Gibt den aktuellen Zustand der Anwendung zurueck.
+     *
+     * @return Der aktuelle Zustand
+     */
+    public ServiceState getState() {
+        return state.get();
+    }
+
+    /**
+     * Gibt an, ob Anfragen im aktuellen Zustand beantwortet werden.
+     *
+     * @return true, wenn Anfragen beantwortet werden
+     */
+    public boolean isAcceptingRequests() {
+        return state.get().isAcceptingRequests();
+    }
+
+    /**
+     * Wechselt in den angegebenen Zustand und veroeffentlicht den Wechsel als {@link AvailabilityChangeEvent}.
+     *
+     * @param newState Der neue Zustand
+     */
+    public void transitionTo(ServiceState newState) {
+        ServiceState previousState = state.getAndSet(newState);
+        if (previousState == newState) {
+            return;
+        }
+        log.info("Service state changed from " + previousState + " to " + newState);
+        AvailabilityChangeEvent.publish(eventPublisher, this, newState.isAcceptingRequests() ? ReadinessState.ACCEPTING_TRAFFIC : ReadinessState.REFUSING_TRAFFIC);
+    }
+}
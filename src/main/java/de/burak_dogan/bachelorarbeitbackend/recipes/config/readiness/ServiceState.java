@@ -0,0 +1,50 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness;
+
+/**
+ * Die Zustaende der Anwendung in Bezug auf die Bereitschaft, Anfragen zu beantworten.
+ */
+public enum ServiceState {
+
+    /**
+     * Die gespeicherten Daten werden vorbereitet (Naehrwerte, Index, Caches). Anfragen werden abgewiesen.
+     */
+    STARTING(false),
+
+    /**
+     * Neue Rezepte werden im Hintergrund importiert. Anfragen werden mit den bereits gespeicherten Daten beantwortet.
+     */
+    IMPORTING(true),
+
+    /**
+     * Der Import ist abgeschlossen und alle Daten stehen zur Verfuegung.
+     */
+    READY(true),
+
+    /**
+     * Der Import ist fehlgeschlagen. Anfragen werden weiterhin mit den bereits gespeicherten Daten beantwortet.
+     */
+    DEGRADED(true);
+
+    /**
+     * Gibt an, ob in diesem Zustand Anfragen beantwortet werden
+     */
+    private final boolean acceptingRequests;
+
+    /**
+     * Konstruktor des Enums ServiceState.
+     *
+     * @param acceptingRequests Gibt an, ob in diesem Zustand Anfragen beantwortet werden
+     */
+    ServiceState(boolean acceptingRequests) {
+        this.acceptingRequests = acceptingRequests;
+    }
+
+    /**
+     * Gibt an, ob in diesem Zustand Anfragen beantwortet werden.
+     *
+     * @return true, wenn Anfragen beantwortet werden
+     */
+    public boolean isAcceptingRequests() {
+        return acceptingRequests;
+    }
+}
@@ -0,0 +1,57 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.controller;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetImportStatusDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.IImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Der ImportController behandelt Anfragen im Zusammenhang mit dem Import der Rezepte.
+ * Er bietet einen Endpunkt zum Abrufen des Fortschritts des im Hintergrund laufenden Imports.
+ */
+@Slf4j
+@RestController
+@RequestMapping(value = ImportController.BASE_URL, produces = MediaType.APPLICATION_JSON_VALUE)
+public class ImportController {
+    /**
+     * Die Basis-URL des ImportControllers.
+     */
+    protected final static String BASE_URL = "/api/v1/import";
+
+    /**
+     * Der Pfad fuer den Fortschritt des Imports.
+     */
+    private final static String STATUS = "/status";
+
+    /**
+     * Der Service, der die Geschaeftslogik fuer die Verarbeitung der Anfragen bereitstellt.
+     */
+    private final IImportService service;
+
+    /**
+     * Erzeugt einen neuen ImportController mit dem angegebenen IImportService.
+     *
+     * @param service der zu verwendende IImportService
+     */
+    @Autowired
+    public ImportController(IImportService service) {
+        this.service = service;
+    }
+
+    /**
+     * Ruft den Fortschritt des Imports ab: Zustand, abgerufene Seiten, gespeicherte Rezepte und die geschaetzte verbleibende Dauer.
+     *
+     * @return ResponseEntity mit dem GetImportStatusDto, dem Fortschritt des Imports
+     * @throws ServiceException bei einem Fehler in der Service-Schicht
+     */
+    @GetMapping(STATUS)
+    public ResponseEntity<GetImportStatusDto> getImportStatus() throws ServiceException {
+        return ResponseEntity.ok(service.getImportStatus());
+    }
+}
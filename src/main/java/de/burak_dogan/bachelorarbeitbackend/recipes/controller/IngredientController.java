@@ -1,22 +1,30 @@
 package de.burak_dogan.bachelorarbeitbackend.recipes.controller;
 
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetIngredientDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.IngredientPageDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.IngredientSearchDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
 import de.burak_dogan.bachelorarbeitbackend.recipes.service.IIngredientService;
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 
 /**
  * Der IngredientController behandelt Anfragen im Zusammenhang mit Zutaten.
- * Er bietet einen Endpunkt zum Abrufen aller Zutaten aus der Rezeptdatenbank.
+ * Er bietet Endpunkte zum Abrufen und Suchen der Zutaten aus der Rezeptdatenbank.
  */
 @Slf4j
 @RestController
@@ -27,6 +35,21 @@ public class IngredientController {
      */
     protected final static String BASE_URL = "/api/v1/ingredients";
 
+    /**
+     * Der Pfad fuer die Suche von Zutaten anhand ihres Namens.
+     */
+    private final static String SEARCH = "/search";
+
+    /**
+     * Die Seitengroesse, wenn beim seitenweisen Abrufen kein Limit angegeben wird.
+     */
+    private final static int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Die Anzahl der Treffer, wenn bei der Suche kein Limit angegeben wird.
+     */
+    private final static int DEFAULT_SEARCH_LIMIT = 20;
+
     /**
      * Der Service, der die Geschaeftslogik fuer die Verarbeitung der Anfragen bereitstellt.
      */
@@ -43,14 +66,65 @@ public class IngredientController {
     }
 
     /**
-     * Ruft alle Zutaten aus der Rezeptdatenbank ab.
+     * Ruft die Zutaten aus der Rezeptdatenbank ab.
+     * Ohne Parameter werden alle Zutaten zurueckgegeben. Mit 'after' oder 'limit' wird eine Seite zurueckgegeben,
+     * der Link zur naechsten Seite steht im Link-Header, solange die Seite voll ist.
+     * Hat sich der Katalog seit dem uebergebenen ETag nicht geaendert, wird mit 304 geantwortet, ohne die Zutaten zu laden.
      *
-     * @return ResponseEntity mit einer Liste von GetIngredientDto, den Zutaten
+     * @param ingredientPageDto das IngredientPageDto mit den optionalen Parametern fuer die Seite
+     * @param webRequest        die aktuelle Anfrage fuer die Auswertung von If-None-Match
+     * @return ResponseEntity mit einer Liste von GetIngredientDto, den Zutaten, oder null, wenn sich der Katalog nicht veraendert hat
      * @throws ServiceException bei einem Fehler in der Service-Schicht
      */
     @GetMapping
-    public ResponseEntity<List<GetIngredientDto>> getIngredients() throws ServiceException {
-        List<GetIngredientDto> ingredients = service.getIngredients();
-        return ResponseEntity.ok(ingredients);
+    public ResponseEntity<List<GetIngredientDto>> getIngredients(@Valid @ModelAttribute IngredientPageDto ingredientPageDto, WebRequest webRequest) throws ServiceException {
+        String eTag = service.getCatalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        if (ingredientPageDto.getAfter() == null && ingredientPageDto.getLimit() == null) {
+            List<GetIngredientDto> ingredients = service.getIngredients();
+            return okWithETag(eTag).body(ingredients);
+        }
+
+        int limit = ingredientPageDto.getLimit() != null ? ingredientPageDto.getLimit() : DEFAULT_PAGE_SIZE;
+        List<GetIngredientDto> ingredients = service.getIngredients(ingredientPageDto.getAfter(), limit);
+        if (ingredients.size() < limit) {
+            return okWithETag(eTag).body(ingredients);
+        }
+        String lastIngredientId = ingredients.get(ingredients.size() - 1).getFoodId();
+        String nextPage = ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("after", lastIngredientId).replaceQueryParam("limit", limit).toUriString();
+        return okWithETag(eTag).header(HttpHeaders.LINK, "<" + nextPage + ">; rel=\"next\"").body(ingredients);
+    }
+
+    /**
+     * Sucht Zutaten, deren Name den Suchbegriff enthaelt, z.B. fuer die Autovervollstaendigung beim Erstellen eines Rezepts.
+     *
+     * Hat sich der Katalog seit dem uebergebenen ETag nicht geaendert, wird mit 304 geantwortet, ohne die Zutaten zu durchsuchen.
+     *
+     * @param ingredientSearchDto das IngredientSearchDto mit dem Suchbegriff und dem optionalen Limit
+     * @param webRequest          die aktuelle Anfrage fuer die Auswertung von If-None-Match
+     * @return ResponseEntity mit einer Liste von GetIngredientDto, den gefundenen Zutaten, oder null, wenn sich der Katalog nicht veraendert hat
+     * @throws ServiceException bei einem Fehler in der Service-Schicht
+     */
+    @GetMapping(value = SEARCH)
+    public ResponseEntity<List<GetIngredientDto>> searchIngredients(@Valid @ModelAttribute IngredientSearchDto ingredientSearchDto, WebRequest webRequest) throws ServiceException {
+        String eTag = service.getCatalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        int limit = ingredientSearchDto.getLimit() != null ? ingredientSearchDto.getLimit() : DEFAULT_SEARCH_LIMIT;
+        List<GetIngredientDto> ingredients = service.searchIngredients(ingredientSearchDto.getName(), limit);
+        return okWithETag(eTag).body(ingredients);
+    }
+
+    /**
+     * Erstellt eine erfolgreiche Antwort mit dem ETag des Katalogs. Clients muessen die Antwort vor jeder Wiederverwendung mit dem ETag erneut pruefen.
+     *
+     * @param eTag der ETag des Katalogs, aus dem die Antwort geladen wurde
+     * @return der BodyBuilder fuer die Antwort
+     */
+    private ResponseEntity.BodyBuilder okWithETag(String eTag) {
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache());
     }
 }
@@ -0,0 +1,55 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.controller;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Der MetricsController stellt die Metriken der Anwendung im Textformat von Prometheus zum Abruf bereit.
+ * Der Endpunkt liegt ausserhalb der API, damit er auch waehrend des Imports und ohne CORS abgefragt werden kann.
+ */
+@RestController
+public class MetricsController {
+    /**
+     * Der Pfad, unter dem Prometheus die Metriken abruft.
+     */
+    public final static String METRICS = "/metrics";
+
+    /**
+     * Der Content-Type des Textformats 0.0.4 von Prometheus.
+     */
+    private final static String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * Die Registry mit den Metriken der Anwendung.
+     */
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Erzeugt einen neuen MetricsController mit der angegebenen MetricsRegistry.
+     *
+     * @param metricsRegistry die Registry mit den Metriken der Anwendung
+     */
+    @Autowired
+    public MetricsController(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * Ruft alle Metriken der Anwendung ab.
+     *
+     * @return ResponseEntity mit den Metriken im Textformat von Prometheus
+     * @throws IOException wenn die Metriken nicht geschrieben werden koennen
+     */
+    @GetMapping(value = METRICS, produces = PROMETHEUS_CONTENT_TYPE)
+    public ResponseEntity<String> getMetrics() throws IOException {
+        StringWriter writer = new StringWriter();
+        metricsRegistry.writePrometheus(writer);
+        return ResponseEntity.ok(writer.toString());
+    }
+}
@@ -2,17 +2,30 @@ package de.burak_dogan.bachelorarbeitbackend.recipes.controller;
 
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.CreateRecipeDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeDetailDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeImageDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeListItemDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.RecipeFilterDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.RecipeImageDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.RecipePageDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.UpdateFavoritesDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
 import de.burak_dogan.bachelorarbeitbackend.recipes.service.IRecipeService;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.ImageSize;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
 import java.util.List;
 
 
@@ -28,23 +41,43 @@ public class RecipeController {
     /**
      * Der Basis-URL fuer die Rezept-Ressource.
      */
-    protected final static String BASE_URL = "/api/v1/recipes";
+    public final static String BASE_URL = "/api/v1/recipes";
 
     /**
      * Der Pfad fuer die Detailansicht eines Rezepts mit Platzhalter fuer die Rezept-ID.
      */
     protected final static String DETAIL = "/{recipeId}";
 
+    /**
+     * Der Pfad fuer das Bild eines Rezepts mit Platzhalter fuer die Rezept-ID.
+     */
+    public final static String IMAGE = "/{recipeId}/image";
+
     /**
      * Der Pfad für das Aktualisieren des Favoritenstatus eines Rezepts mit Platzhalter für die Rezept-ID.
      */
     private final static String FAVORITE = "/favorites/{recipeId}";
 
+    /**
+     * Der Pfad fuer die favorisierten Rezepte und das gemeinsame Setzen des Favoritenstatus.
+     */
+    private final static String FAVORITES = "/favorites";
+
     /**
      * Der Pfad für das Filtern von Rezepten.
      */
     private final static String FILTER = "/filter";
 
+    /**
+     * Der Pfad für das Streamen aller Rezepte.
+     */
+    private final static String STREAM = "/stream";
+
+    /**
+     * Die Seitengroesse, wenn beim seitenweisen Abrufen kein Limit angegeben wird.
+     */
+    private final static int DEFAULT_PAGE_SIZE = 20;
+
     /**
      * Der Service, der die Geschaeftslogik fuer die Verarbeitung der Anfragen bereitstellt.
      */
@@ -62,28 +95,152 @@ public class RecipeController {
     }
 
     /**
-     * Ruft alle Rezepte fuer die Listenansicht ab.
+     * Ruft die Rezepte fuer die Listenansicht ab.
+     * Ohne Parameter werden alle Rezepte zurueckgegeben. Mit 'after' oder 'limit' wird eine Seite zurueckgegeben,
+     * der Link zur naechsten Seite steht im Link-Header, solange die Seite voll ist.
+     * Hat sich der Katalog seit dem uebergebenen ETag nicht geaendert, wird mit 304 geantwortet, ohne die Rezepte zu laden.
      *
-     * @return ResponseEntity mit einer Liste von GetRecipeListItemDto
+     * @param recipePageDto das RecipePageDto mit den optionalen Parametern fuer die Seite
+     * @param webRequest    die aktuelle Anfrage fuer die Auswertung von If-None-Match
+     * @return ResponseEntity mit einer Liste von GetRecipeListItemDto oder null, wenn sich der Katalog nicht veraendert hat
      * @throws ServiceException bei einem Fehler in der Service-Schicht
      */
     @GetMapping
-    public ResponseEntity<List<GetRecipeListItemDto>> getRecipes() throws ServiceException {
-        List<GetRecipeListItemDto> recipes = service.getRecipes();
-        return ResponseEntity.ok(recipes);
+    public ResponseEntity<List<GetRecipeListItemDto>> getRecipes(@Valid @ModelAttribute RecipePageDto recipePageDto, WebRequest webRequest) throws ServiceException {
+        String eTag = service.getCatalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        if (recipePageDto.getAfter() == null && recipePageDto.getLimit() == null) {
+            List<GetRecipeListItemDto> recipes = service.getRecipes();
+            return okWithETag(eTag).body(recipes);
+        }
+
+        int limit = recipePageDto.getLimit() != null ? recipePageDto.getLimit() : DEFAULT_PAGE_SIZE;
+        return toPage(service.getRecipes(recipePageDto.getAfter(), limit), limit, eTag);
+    }
+
+    /**
+     * Ruft die favorisierten Rezepte fuer die Listenansicht ab.
+     * Ohne Parameter werden alle favorisierten Rezepte zurueckgegeben. Mit 'after' oder 'limit' wird eine Seite zurueckgegeben,
+     * der Link zur naechsten Seite steht im Link-Header, solange die Seite voll ist.
+     * Hat sich der Katalog seit dem uebergebenen ETag nicht geaendert, wird mit 304 geantwortet, ohne die Rezepte zu laden.
+     *
+     * @param recipePageDto das RecipePageDto mit den optionalen Parametern fuer die Seite
+     * @param webRequest    die aktuelle Anfrage fuer die Auswertung von If-None-Match
+     * @return ResponseEntity mit einer Liste von GetRecipeListItemDto oder null, wenn sich der Katalog nicht veraendert hat
+     * @throws ServiceException bei einem Fehler in der Service-Schicht
+     */
+    @GetMapping(value = FAVORITES)
+    public ResponseEntity<List<GetRecipeListItemDto>> getFavoriteRecipes(@Valid @ModelAttribute RecipePageDto recipePageDto, WebRequest webRequest) throws ServiceException {
+        String eTag = service.getCatalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        if (recipePageDto.getAfter() == null && recipePageDto.getLimit() == null) {
+            return okWithETag(eTag).body(service.getFavoriteRecipes(null, null));
+        }
+
+        int limit = recipePageDto.getLimit() != null ? recipePageDto.getLimit() : DEFAULT_PAGE_SIZE;
+        return toPage(service.getFavoriteRecipes(recipePageDto.getAfter(), limit), limit, eTag);
+    }
+
+    /**
+     * Erstellt die Antwort fuer eine Seite von Rezepten. Ist die Seite voll, wird der Link zur naechsten Seite in den Link-Header geschrieben.
+     *
+     * @param recipes die Rezepte der Seite
+     * @param limit   die maximale Anzahl der Rezepte auf der Seite
+     * @param eTag    der ETag des Katalogs, aus dem die Seite geladen wurde
+     * @return ResponseEntity mit den Rezepten der Seite
+     */
+    private ResponseEntity<List<GetRecipeListItemDto>> toPage(List<GetRecipeListItemDto> recipes, int limit, String eTag) {
+        if (recipes.size() < limit) {
+            return okWithETag(eTag).body(recipes);
+        }
+        Long lastRecipeId = recipes.get(recipes.size() - 1).getId();
+        String nextPage = ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("after", lastRecipeId).replaceQueryParam("limit", limit).toUriString();
+        return okWithETag(eTag).header(HttpHeaders.LINK, "<" + nextPage + ">; rel=\"next\"").body(recipes);
+    }
+
+    /**
+     * Erstellt eine erfolgreiche Antwort mit dem ETag des Katalogs. Clients muessen die Antwort vor jeder Wiederverwendung mit dem ETag erneut pruefen.
+     *
+     * @param eTag der ETag des Katalogs, aus dem die Antwort geladen wurde
+     * @return der BodyBuilder fuer die Antwort
+     */
+    private ResponseEntity.BodyBuilder okWithETag(String eTag) {
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache());
+    }
+
+    /**
+     * Streamt alle Rezepte fuer die Listenansicht als JSON-Array.
+     * Die Rezepte werden schrittweise geschrieben, ohne die gesamte Antwort im Speicher aufzubauen.
+     * Hat sich der Katalog seit dem uebergebenen ETag nicht geaendert, wird mit 304 geantwortet, ohne den Stream zu starten.
+     *
+     * @param webRequest die aktuelle Anfrage fuer die Auswertung von If-None-Match
+     * @return ResponseEntity mit dem StreamingResponseBody, der die Rezepte schreibt, oder null, wenn sich der Katalog nicht veraendert hat
+     */
+    @GetMapping(value = STREAM)
+    public ResponseEntity<StreamingResponseBody> streamRecipes(WebRequest webRequest) {
+        String eTag = service.getCatalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        StreamingResponseBody body = outputStream -> {
+            try {
+                service.streamRecipes(outputStream);
+            } catch (ServiceException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        };
+        return okWithETag(eTag).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     /**
      * Ruft ein einzelnes Rezept fuer die Detailansicht anhand der angegebenen Rezept-ID ab.
      *
-     * @param recipeId die ID des Rezepts
-     * @return ResponseEntity mit GetRecipeDetailDto des abgerufenen Rezepts
+     * Hat sich der Katalog seit dem uebergebenen ETag nicht geaendert, wird mit 304 geantwortet, ohne das Rezept zu laden.
+     * Ein nicht existierendes Rezept wird auch bei passendem ETag mit 404 beantwortet.
+     *
+     * @param recipeId   die ID des Rezepts
+     * @param webRequest die aktuelle Anfrage fuer die Auswertung von If-None-Match
+     * @return ResponseEntity mit GetRecipeDetailDto des abgerufenen Rezepts oder null, wenn sich der Katalog nicht veraendert hat
      * @throws ServiceException bei einem Fehler in der Service-Schicht
      */
     @GetMapping(value = DETAIL)
-    public ResponseEntity<GetRecipeDetailDto> getSingleRecipe(@PathVariable Long recipeId) throws ServiceException {
+    public ResponseEntity<GetRecipeDetailDto> getSingleRecipe(@PathVariable Long recipeId, WebRequest webRequest) throws ServiceException {
+        String eTag = service.getRecipeETag(recipeId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         GetRecipeDetailDto recipe = service.getSingleRecipe(recipeId);
-        return ResponseEntity.ok(recipe);
+        return okWithETag(eTag).body(recipe);
+    }
+
+    /**
+     * Liefert das Bild eines Rezepts als Rohdaten aus, wahlweise als Vorschaubild (size=thumbnail), in mittlerer Groesse (size=medium) oder im Original.
+     * Der Hashwert des Bildes wird zusammen mit der Groesse als starker ETag verwendet, sodass bei unveraendertem Bild mit 304 geantwortet wird, ohne das Bild zu laden.
+     * Range-Anfragen werden ueber die Resource-Verarbeitung von Spring MVC mit 206 beantwortet.
+     *
+     * @param recipeId       die ID des Rezepts
+     * @param recipeImageDto das RecipeImageDto mit der optionalen Groesse des Bildes
+     * @param webRequest     die aktuelle Anfrage fuer die Auswertung von If-None-Match
+     * @return ResponseEntity mit dem Bild oder null, wenn das Bild nicht veraendert wurde
+     * @throws ServiceException bei einem Fehler in der Service-Schicht
+     */
+    @GetMapping(value = IMAGE, produces = MediaType.ALL_VALUE)
+    public ResponseEntity<Resource> getRecipeImage(@PathVariable Long recipeId, @Valid @ModelAttribute RecipeImageDto recipeImageDto, WebRequest webRequest) throws ServiceException {
+        ImageSize size = ImageSize.fromParameter(recipeImageDto.getSize());
+        String eTag = size.eTag(service.getImageHash(recipeId));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        GetRecipeImageDto image = service.getImage(recipeId, size);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(image.getContentType()))
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(new ByteArrayResource(image.getImage()));
     }
 
     /**
@@ -99,18 +256,39 @@ public class RecipeController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Setzt den Favoritenstatus mehrerer Rezepte gemeinsam, z.B. beim Abgleich der Favoriten eines Clients.
+     * Existiert eines der Rezepte nicht, wird keines aktualisiert.
+     *
+     * @param dto das UpdateFavoritesDto mit den IDs der Rezepte und dem neuen Favoritenstatus
+     * @return ResponseEntity ohne Inhalt
+     * @throws ServiceException bei einem Fehler in der Service-Schicht
+     */
+    @PutMapping(value = FAVORITES, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> updateFavoriteStatus(@RequestBody @Valid UpdateFavoritesDto dto) throws ServiceException {
+        service.updateFavoriteStatus(dto);
+        return ResponseEntity.noContent().build();
+    }
+
 
     /**
      * Ruft gefilterte Rezepte anhand der angegebenen Filterkriterien ab.
      *
+     * Hat sich der Katalog seit dem uebergebenen ETag nicht geaendert, wird mit 304 geantwortet, ohne die Rezepte zu filtern.
+     *
      * @param recipeFilterDto das RecipeFilterDto mit den Filterkriterien
-     * @return ResponseEntity mit einer Liste von GetRecipeListItemDto der abgerufenen Rezepte
+     * @param webRequest      die aktuelle Anfrage fuer die Auswertung von If-None-Match
+     * @return ResponseEntity mit einer Liste von GetRecipeListItemDto der abgerufenen Rezepte oder null, wenn sich der Katalog nicht veraendert hat
      * @throws ServiceException bei einem Fehler in der Service-Schicht
      */
     @GetMapping(value = FILTER)
-    public ResponseEntity<List<GetRecipeListItemDto>> getFilteredRecipes(@Valid @ModelAttribute RecipeFilterDto recipeFilterDto) throws ServiceException {
+    public ResponseEntity<List<GetRecipeListItemDto>> getFilteredRecipes(@Valid @ModelAttribute RecipeFilterDto recipeFilterDto, WebRequest webRequest) throws ServiceException {
+        String eTag = service.getCatalogETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         List<GetRecipeListItemDto> recipes = service.findRecipesByNutritionalValues(recipeFilterDto);
-        return ResponseEntity.ok(recipes);
+        return okWithETag(eTag).body(recipes);
     }
 
 
@@ -0,0 +1,81 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness.ServiceState;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.ImportStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+/**
+ * DTO-Klasse, die Informationen ueber den Fortschritt des Imports der Rezepte enthaelt.
+ */
+@Data
+@Builder
+public class GetImportStatusDto {
+
+    /**
+     * Der Zustand des Imports.
+     */
+    private ImportStatus status;
+
+    /**
+     * Der Zustand der Anwendung, von dem abhaengt, ob Anfragen an die API beantwortet werden.
+     */
+    private ServiceState readiness;
+
+    /**
+     * Die Anzahl der in diesem Lauf abgerufenen Seiten.
+     */
+    private Integer pagesFetched;
+
+    /**
+     * Die Anzahl der in diesem Lauf gespeicherten Rezepte.
+     */
+    private Integer recipesSaved;
+
+    /**
+     * Die Anzahl der insgesamt gespeicherten Rezepte.
+     */
+    private Long recipesTotal;
+
+    /**
+     * Die Anzahl der Rezepte, die insgesamt gespeichert sein sollen.
+     */
+    private Integer targetRecipes;
+
+    /**
+     * Der Zeitpunkt, zu dem der Import gestartet wurde.
+     */
+    private Instant startedAt;
+
+    /**
+     * Der Zeitpunkt, zu dem der Import beendet wurde.
+     */
+    private Instant finishedAt;
+
+    /**
+     * Die geschaetzte verbleibende Dauer des Imports in Sekunden oder null, wenn keine Schaetzung moeglich ist.
+     */
+    private Long estimatedSecondsRemaining;
+
+    /**
+     * Die Anzahl der Verbindungen zu den Edamam APIs, die gerade verwendet werden.
+     */
+    private Integer httpConnectionsLeased;
+
+    /**
+     * Die Anzahl der Anfragen an die Edamam APIs, die auf eine freie Verbindung warten, oder null, wenn der HTTP-Client sie nicht bereitstellt.
+     */
+    private Integer httpConnectionsPending;
+
+    /**
+     * Die Anzahl der offenen, unbenutzten Verbindungen zu den Edamam APIs oder null, wenn der HTTP-Client sie nicht bereitstellt.
+     */
+    private Integer httpConnectionsAvailable;
+
+    /**
+     * Die maximale Anzahl an Verbindungen zu den Edamam APIs oder null, wenn der HTTP-Client sie nicht bereitstellt.
+     */
+    private Integer httpConnectionsMax;
+}
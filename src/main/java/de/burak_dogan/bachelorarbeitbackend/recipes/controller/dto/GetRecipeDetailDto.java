@@ -29,9 +29,14 @@ public class GetRecipeDetailDto {
     private String preparation;
 
     /**
-     * Das Bild des Rezepts im Base64-Format.
+     * Die URL, ueber die das Bild des Rezepts abgerufen werden kann.
      */
-    private byte[] image;
+    private String imageUrl;
+
+    /**
+     * Der Hashwert des Bildes. Aendert sich nur, wenn sich das Bild aendert.
+     */
+    private String imageHash;
 
     /**
      * Die Anzahl der Portionen des Rezepts.
@@ -0,0 +1,22 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO-Klasse, die das Bild eines Rezepts mit den fuer die Auslieferung benoetigten Informationen enthaelt.
+ */
+@Data
+@Builder
+public class GetRecipeImageDto {
+
+    /**
+     * Das Bild des Rezepts als Byte-Array.
+     */
+    private byte[] image;
+
+    /**
+     * Der Content-Type des Bildes, z.B. image/jpeg.
+     */
+    private String contentType;
+}
@@ -21,9 +21,19 @@ public class GetRecipeListItemDto {
     private String title;
 
     /**
-     * Das Bild des Rezepts im Base64-Format.
+     * Die URL, ueber die das Bild des Rezepts abgerufen werden kann.
      */
-    private byte[] image;
+    private String imageUrl;
+
+    /**
+     * Die URL, ueber die das Vorschaubild des Rezepts fuer die Listenansicht abgerufen werden kann.
+     */
+    private String thumbnailUrl;
+
+    /**
+     * Der Hashwert des Bildes. Aendert sich nur, wenn sich das Bild aendert.
+     */
+    private String imageHash;
 
     /**
      * Die Anzahl der Portionen des Rezepts.
@@ -0,0 +1,25 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * DTO-Klasse, die die Parameter fuer das seitenweise Abrufen der Zutaten enthaelt.
+ * Die Seiten werden ueber die ID der letzten Zutat der vorherigen Seite (Keyset-Paginierung) bestimmt.
+ */
+@Data
+public class IngredientPageDto {
+
+    /**
+     * Die ID der letzten Zutat der vorherigen Seite. Ohne Angabe wird die erste Seite zurueckgegeben.
+     */
+    String after;
+
+    /**
+     * Die maximale Anzahl der Zutaten pro Seite.
+     */
+    @Positive(message = "Limit must be a positive number!")
+    @Max(value = 500, message = "Limit must not be greater than 500!")
+    Integer limit;
+}
@@ -0,0 +1,26 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * DTO-Klasse, die die Parameter fuer die Suche von Zutaten anhand ihres Namens enthaelt.
+ */
+@Data
+public class IngredientSearchDto {
+
+    /**
+     * Der Suchbegriff, der im Namen der Zutat enthalten sein muss.
+     */
+    @NotBlank(message = "Name must not be blank!")
+    String name;
+
+    /**
+     * Die maximale Anzahl der Treffer.
+     */
+    @Positive(message = "Limit must be a positive number!")
+    @Max(value = 100, message = "Limit must not be greater than 100!")
+    Integer limit;
+}
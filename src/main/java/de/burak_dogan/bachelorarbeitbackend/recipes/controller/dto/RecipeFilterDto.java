@@ -1,6 +1,7 @@
 package de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto;
 
 import de.burak_dogan.bachelorarbeitbackend.recipes.validation.AtLeastOneNutritionalValue;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.Data;
@@ -43,4 +44,17 @@ public class RecipeFilterDto {
     @Range(min = 0, max = 100, message = "Deviance must be between 0% and 100%!")
     Integer epsilon;
 
+    /**
+     * Die maximale Anzahl der zurueckgegebenen Rezepte. Ohne Angabe werden alle passenden Rezepte zurueckgegeben.
+     */
+    @Positive(message = "Limit must be a positive number!")
+    @Max(value = 100, message = "Limit must not be greater than 100!")
+    Integer limit;
+
+    /**
+     * Die ID des letzten Rezepts der vorherigen Seite. Es werden nur die Rezepte zurueckgegeben, die in der Sortierung danach folgen.
+     */
+    @Positive(message = "Cursor must be a positive number!")
+    Long cursor;
+
 }
@@ -0,0 +1,17 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+/**
+ * DTO-Klasse, die die Parameter fuer das Abrufen des Bildes eines Rezepts enthaelt.
+ */
+@Data
+public class RecipeImageDto {
+
+    /**
+     * Die gewuenschte Groesse des Bildes. Ohne Angabe wird das Originalbild zurueckgegeben.
+     */
+    @Pattern(regexp = "thumbnail|medium|original", message = "Size must be one of thumbnail, medium or original!")
+    String size;
+}
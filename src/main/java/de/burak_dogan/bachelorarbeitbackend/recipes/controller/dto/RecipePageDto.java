@@ -0,0 +1,26 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * DTO-Klasse, die die Parameter fuer das seitenweise Abrufen der Rezepte enthaelt.
+ * Die Seiten werden ueber die ID des letzten Rezepts der vorherigen Seite (Keyset-Paginierung) bestimmt.
+ */
+@Data
+public class RecipePageDto {
+
+    /**
+     * Die ID des letzten Rezepts der vorherigen Seite. Ohne Angabe wird die erste Seite zurueckgegeben.
+     */
+    @Positive(message = "After must be a positive number!")
+    Long after;
+
+    /**
+     * Die maximale Anzahl der Rezepte pro Seite.
+     */
+    @Positive(message = "Limit must be a positive number!")
+    @Max(value = 100, message = "Limit must not be greater than 100!")
+    Integer limit;
+}
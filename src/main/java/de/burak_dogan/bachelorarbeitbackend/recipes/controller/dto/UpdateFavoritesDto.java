@@ -0,0 +1,28 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO-Klasse, die die Informationen fuer das gemeinsame Setzen des Favoritenstatus mehrerer Rezepte enthaelt.
+ */
+@Data
+public class UpdateFavoritesDto {
+
+    /**
+     * Die IDs der Rezepte, deren Favoritenstatus gesetzt wird.
+     */
+    @NotEmpty(message = "Please provide a list of recipe ids!")
+    @Size(max = 1000, message = "Please provide at most 1000 recipe ids!")
+    private List<@NotNull(message = "Recipe ids must not be null!") Long> recipeIds;
+
+    /**
+     * Der neue Favoritenstatus der Rezepte.
+     */
+    @NotNull(message = "Please provide the favorite status!")
+    private Boolean favorite;
+}
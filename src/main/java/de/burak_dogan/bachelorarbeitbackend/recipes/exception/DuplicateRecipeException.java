@@ -0,0 +1,16 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.exception;
+
+/**
+ * Eine benutzerdefinierte Ausnahme, die ausgeloest wird, wenn bereits ein Rezept mit demselben Fingerabdruck, also demselben Titel und denselben Zutaten, existiert.
+ */
+public class DuplicateRecipeException extends ServiceException {
+
+    /**
+     * Konstruktor fuer die DuplicateRecipeException.
+     *
+     * @param message die Fehlermeldung, die die Ursache der Ausnahme beschreibt.
+     */
+    public DuplicateRecipeException(String message) {
+        super(message);
+    }
+}
@@ -84,6 +84,20 @@ public class ExceptionHandlerAdvice {
         return new ResponseEntity<>(errorObject, conflict);
     }
 
+    /**
+     * Behandelt eine DuplicateRecipeException und gibt eine ResponseEntity mit einem entsprechenden ErrorObject zurueck.
+     *
+     * @param e die aufgetretene DuplicateRecipeException
+     * @return die ResponseEntity mit dem {@link ErrorObject}
+     */
+    @ExceptionHandler(DuplicateRecipeException.class)
+    public ResponseEntity<ErrorObject> handleException(DuplicateRecipeException e) {
+        HttpStatus conflict = HttpStatus.CONFLICT;
+        ErrorObject errorObject = new ErrorObject(conflict, e.getMessage());
+
+        return new ResponseEntity<>(errorObject, conflict);
+    }
+
 
 
 
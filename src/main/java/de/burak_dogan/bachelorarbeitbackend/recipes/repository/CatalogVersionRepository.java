@@ -0,0 +1,43 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.CatalogVersionEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Das Repository fuer die Entitaet {@link CatalogVersionEntry}, das Datenbankzugriffe fuer die gemeinsamen Versionen der Kataloge ermoeglicht.
+ * Ein Eintrag entspricht der Version eines Katalogs.
+ */
+@Repository
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersionEntry, String> {
+
+    /**
+     * Erhoeht die Versionen der angegebenen Kataloge mit einer Anweisung in einer eigenen Transaktion, auch wenn sie nach dem Commit einer anderen Transaktion aufgerufen wird.
+     * Die Zeilen sind dadurch nur fuer diese eine Anweisung gesperrt.
+     *
+     * @param ids Die Namen der Kataloge.
+     * @return Die Anzahl der aktualisierten Eintraege.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("UPDATE CatalogVersionEntry c SET c.version = c.version + 1 WHERE c.id IN :ids")
+    int incrementVersions(Collection<String> ids);
+
+    /**
+     * Legt die Version eines Katalogs an, falls sie noch nicht existiert, z.B. wenn das Schema nicht aus 01-schema.sql erzeugt wurde.
+     *
+     * @param id      Der Name des Katalogs.
+     * @param version Die erste Version des Katalogs.
+     * @return Die Anzahl der angelegten Eintraege.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO catalog_version (id, version) SELECT :id, :version WHERE NOT EXISTS (SELECT 1 FROM catalog_version WHERE id = :id)", nativeQuery = true)
+    int insertIfAbsent(String id, long version);
+}
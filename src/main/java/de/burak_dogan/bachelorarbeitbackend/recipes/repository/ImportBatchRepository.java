@@ -0,0 +1,171 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ImportProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Ingredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.IngredientUnit;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.RecipeIngredient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Das Repository fuer das mengenbasierte Speichern der importierten Rezepte, Zutaten, Masseinheiten und Rezept-Zutaten.
+ * Die Zeilen werden als JDBC-Batches gesendet. Bereits vorhandene Rezepte, Zutaten und Masseinheiten werden ueber ON CONFLICT DO NOTHING
+ * in der Datenbank uebersprungen, sodass vor dem Speichern keine Abfrage der vorhandenen Eintraege noetig ist.
+ */
+@Repository
+public class ImportBatchRepository {
+
+    /**
+     * Der Anfang der SQL-Anweisung fuer das Speichern mehrerer Rezepte. Pro Rezept wird {@link #RECIPE_VALUES} angehaengt.
+     */
+    private static final String INSERT_RECIPES = "INSERT INTO recipe (title, preparation, image, image_hash, image_thumbnail, image_medium, portions, favorite, calories, proteins, carbohydrates, fats, fingerprint) VALUES ";
+
+    /**
+     * Die Platzhalter eines Rezepts in {@link #INSERT_RECIPES}.
+     */
+    private static final String RECIPE_VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Das Ende der SQL-Anweisung fuer das Speichern mehrerer Rezepte. Rezepte, deren Fingerabdruck bereits existiert, werden uebersprungen
+     * und die IDs der gespeicherten Rezepte werden zurueckgegeben.
+     */
+    private static final String INSERT_RECIPES_ON_CONFLICT = " ON CONFLICT (fingerprint) DO NOTHING RETURNING id, fingerprint";
+
+    /**
+     * Die SQL-Anweisung fuer das Speichern einer Zutat, falls diese noch nicht existiert.
+     */
+    private static final String INSERT_INGREDIENT = "INSERT INTO ingredient (id, name, calories, proteins, fats, carbohydrates) VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    /**
+     * Die SQL-Anweisung fuer das Speichern einer Masseinheit, falls diese fuer die Zutat noch nicht existiert.
+     */
+    private static final String INSERT_INGREDIENT_UNIT = "INSERT INTO ingredient_unit (ingredient_id, label, value) VALUES (?, ?, ?) ON CONFLICT (ingredient_id, label) DO NOTHING";
+
+    /**
+     * Die SQL-Anweisung fuer das Speichern einer Rezept-Zutat. Kommt eine Zutat mehrfach in einem Rezept vor, wird nur der erste Eintrag gespeichert.
+     */
+    private static final String INSERT_RECIPE_INGREDIENT = "INSERT INTO recipe_ingredient (recipe_id, ingredient_id, quantity, title) VALUES (?, ?, ?, ?) ON CONFLICT (recipe_id, ingredient_id) DO NOTHING";
+
+    /**
+     * Das JdbcTemplate fuer die Ausfuehrung der Batches.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Die Anzahl der Zeilen pro Batch.
+     */
+    private final int batchSize;
+
+    /**
+     * Konstruktor der Klasse ImportBatchRepository.
+     *
+     * @param jdbcTemplate     Das JdbcTemplate fuer die Ausfuehrung der Batches
+     * @param importProperties Die Eigenschaften des Imports mit der Batchgroesse
+     */
+    @Autowired
+    public ImportBatchRepository(JdbcTemplate jdbcTemplate, ImportProperties importProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = importProperties.getBatchSize();
+    }
+
+    /**
+     * Speichert die angegebenen Rezepte, sofern noch kein Rezept mit demselben Fingerabdruck existiert.
+     * Die Rezepte werden in Bloecken der Batchgroesse mit je einer Anweisung gespeichert, die IDs vergibt die Datenbank.
+     * Die gespeicherten Rezepte erhalten ihre ID, uebersprungene Rezepte werden nicht zurueckgegeben.
+     *
+     * @param recipes Die zu speichernden Rezepte mit Fingerabdruck
+     * @return Die gespeicherten Rezepte in der angegebenen Reihenfolge
+     */
+    public List<Recipe> insertRecipes(List<Recipe> recipes) {
+        List<Recipe> insertedRecipes = new ArrayList<>();
+        for (int from = 0; from < recipes.size(); from += batchSize) {
+            List<Recipe> chunk = recipes.subList(from, Math.min(from + batchSize, recipes.size()));
+            Map<String, Long> insertedIds = new HashMap<>();
+            String sql = INSERT_RECIPES + String.join(", ", Collections.nCopies(chunk.size(), RECIPE_VALUES)) + INSERT_RECIPES_ON_CONFLICT;
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                int index = 1;
+                for (Recipe recipe : chunk) {
+                    statement.setString(index++, recipe.getTitle());
+                    statement.setString(index++, recipe.getPreparation());
+                    statement.setBytes(index++, recipe.getImage());
+                    statement.setString(index++, recipe.getImageHash());
+                    statement.setBytes(index++, recipe.getImageThumbnail());
+                    statement.setBytes(index++, recipe.getImageMedium());
+                    statement.setObject(index++, recipe.getPortions());
+                    statement.setBoolean(index++, recipe.getFavorite());
+                    statement.setObject(index++, recipe.getCalories());
+                    statement.setObject(index++, recipe.getProteins());
+                    statement.setObject(index++, recipe.getCarbohydrates());
+                    statement.setObject(index++, recipe.getFats());
+                    statement.setString(index++, recipe.getFingerprint());
+                }
+                return statement;
+            }, resultSet -> {
+                insertedIds.put(resultSet.getString("fingerprint"), resultSet.getLong("id"));
+            });
+            for (Recipe recipe : chunk) {
+                // Kommt ein Fingerabdruck mehrfach vor, gilt nur das erste Rezept als gespeichert
+                Long id = insertedIds.remove(recipe.getFingerprint());
+                if (id != null) {
+                    recipe.setId(id);
+                    insertedRecipes.add(recipe);
+                }
+            }
+        }
+        return insertedRecipes;
+    }
+
+    /**
+     * Speichert die angegebenen Zutaten, sofern sie noch nicht existieren.
+     *
+     * @param ingredients Die zu speichernden Zutaten
+     */
+    public void insertIngredients(Collection<Ingredient> ingredients) {
+        jdbcTemplate.batchUpdate(INSERT_INGREDIENT, ingredients, batchSize, (statement, ingredient) -> {
+            statement.setString(1, ingredient.getId());
+            statement.setString(2, ingredient.getName());
+            statement.setDouble(3, ingredient.getCalories());
+            statement.setDouble(4, ingredient.getProteins());
+            statement.setDouble(5, ingredient.getFats());
+            statement.setDouble(6, ingredient.getCarbohydrates());
+        });
+    }
+
+    /**
+     * Speichert die angegebenen Masseinheiten, sofern sie fuer die jeweilige Zutat noch nicht existieren.
+     *
+     * @param ingredientUnits Die zu speichernden Masseinheiten
+     */
+    public void insertIngredientUnits(Collection<IngredientUnit> ingredientUnits) {
+        jdbcTemplate.batchUpdate(INSERT_INGREDIENT_UNIT, ingredientUnits, batchSize, (statement, ingredientUnit) -> {
+            statement.setString(1, ingredientUnit.getIngredient().getId());
+            statement.setString(2, ingredientUnit.getLabel());
+            statement.setDouble(3, ingredientUnit.getValue());
+        });
+    }
+
+    /**
+     * Speichert die angegebenen Rezept-Zutaten. Die Rezepte und Zutaten muessen bereits gespeichert sein.
+     *
+     * @param recipeIngredients Die zu speichernden Rezept-Zutaten
+     */
+    public void insertRecipeIngredients(Collection<RecipeIngredient> recipeIngredients) {
+        jdbcTemplate.batchUpdate(INSERT_RECIPE_INGREDIENT, recipeIngredients, batchSize, (statement, recipeIngredient) -> {
+            statement.setLong(1, recipeIngredient.getRecipe().getId());
+            statement.setString(2, recipeIngredient.getIngredient().getId());
+            statement.setDouble(3, recipeIngredient.getQuantity());
+            statement.setString(4, recipeIngredient.getTitle());
+        });
+    }
+}
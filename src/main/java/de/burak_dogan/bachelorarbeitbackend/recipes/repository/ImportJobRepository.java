@@ -0,0 +1,14 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Das Repository fuer die Entitaet {@link ImportJob}, das Datenbankzugriffe fuer ImportJob-Objekte ermoeglicht.
+ * Ein Eintrag entspricht dem Fortschritt eines Imports.
+ */
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, String> {
+
+}
@@ -0,0 +1,14 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.ImportPage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Das Repository fuer die Entitaet {@link ImportPage}, das Datenbankzugriffe fuer ImportPage-Objekte ermoeglicht.
+ * Ein Eintrag entspricht einer bereits verarbeiteten Seite der Rezept-API.
+ */
+@Repository
+public interface ImportPageRepository extends JpaRepository<ImportPage, String> {
+
+}
@@ -0,0 +1,29 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.IngredientLookupCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Das Repository fuer die Entitaet {@link IngredientLookupCacheEntry}, das Datenbankzugriffe fuer IngredientLookupCacheEntry-Objekte ermoeglicht.
+ * Ein Eintrag entspricht der zwischengespeicherten Antwort der Food-API fuer eine Zutat.
+ */
+@Repository
+public interface IngredientLookupCacheRepository extends JpaRepository<IngredientLookupCacheEntry, String> {
+
+    /**
+     * Loescht alle Eintraege, die vor dem angegebenen Zeitpunkt abgerufen wurden.
+     *
+     * @param fetchedBefore Der Zeitpunkt, vor dem abgerufene Eintraege als abgelaufen gelten.
+     * @return Die Anzahl der geloeschten Eintraege.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IngredientLookupCacheEntry e WHERE e.fetchedAt < :fetchedBefore")
+    int deleteByFetchedAtBefore(Instant fetchedBefore);
+}
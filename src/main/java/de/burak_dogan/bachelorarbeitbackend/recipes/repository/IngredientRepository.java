@@ -1,10 +1,14 @@
 package de.burak_dogan.bachelorarbeitbackend.recipes.repository;
 
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Ingredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.IngredientCatalogEntry;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.IngredientUnitLabel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,15 +17,7 @@ import java.util.Optional;
  * Ein Eintrag entspricht einer Zutat mit ihren Naehrstoffen.
  */
 @Repository
-public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
-
-    /**
-     * Ermittelt alle IDs der Ingredients.
-     *
-     * @return Eine Liste aller Ingredient-IDs.
-     */
-    @Query("SELECT i.id FROM Ingredient i")
-    List<String> findAllIds();
+public interface IngredientRepository extends JpaRepository<Ingredient, String> {
 
     /**
      * Sucht ein Ingredient anhand seiner ID.
@@ -31,4 +27,60 @@ public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
      */
     Optional<Ingredient> findById(String id);
 
+    /**
+     * Ermittelt alle Zutaten mit ihren Masseinheiten in einer Abfrage, sortiert nach der ID der Zutat.
+     *
+     * @return Eine Liste mit einer Zeile pro Zutat und Masseinheit.
+     */
+    @Query("SELECT new de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.IngredientUnitLabel(i.id, i.name, u.label) FROM Ingredient i LEFT JOIN i.ingredientUnits u ORDER BY i.id, u.id")
+    List<IngredientUnitLabel> findAllUnitLabels();
+
+    /**
+     * Ermittelt die Zutaten mit den angegebenen IDs mit ihren Masseinheiten in einer Abfrage.
+     *
+     * @param ids Die IDs der Zutaten.
+     * @return Eine Liste mit einer Zeile pro Zutat und Masseinheit.
+     */
+    @Query("SELECT new de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.IngredientUnitLabel(i.id, i.name, u.label) FROM Ingredient i LEFT JOIN i.ingredientUnits u WHERE i.id IN :ids ORDER BY i.id, u.id")
+    List<IngredientUnitLabel> findUnitLabelsByIngredientIdIn(Collection<String> ids);
+
+    /**
+     * Ermittelt die IDs der naechsten Zutaten nach der angegebenen ID, aufsteigend sortiert nach der ID (Keyset-Paginierung).
+     *
+     * @param after    Die ID der letzten Zutat der vorherigen Seite.
+     * @param pageable Die Seitengroesse, die erste Seite des Pageable wird verwendet.
+     * @return Eine Liste der IDs der Zutaten mit einer groesseren ID.
+     */
+    @Query("SELECT i.id FROM Ingredient i WHERE i.id > :after ORDER BY i.id")
+    List<String> findIdsAfter(String after, Pageable pageable);
+
+    /**
+     * Sucht die IDs der Zutaten, deren Name den Suchbegriff enthaelt, ohne Beachtung der Gross- und Kleinschreibung.
+     * Zutaten, deren Name mit dem Suchbegriff beginnt, werden zuerst zurueckgegeben.
+     * Die Suche wird in PostgreSQL ueber einen Trigramm-Index auf lower(name) unterstuetzt.
+     *
+     * @param name     Der Suchbegriff, in dem die Zeichen %, _ und ! bereits mit ! maskiert sind.
+     * @param pageable Die maximale Anzahl an Treffern, die erste Seite des Pageable wird verwendet.
+     * @return Eine Liste der IDs der gefundenen Zutaten.
+     */
+    @Query("SELECT i.id FROM Ingredient i WHERE lower(i.name) LIKE concat('%', lower(:name), '%') ESCAPE '!' " +
+            "ORDER BY CASE WHEN lower(i.name) LIKE concat(lower(:name), '%') ESCAPE '!' THEN 0 ELSE 1 END, lower(i.name), i.id")
+    List<String> findIdsByNameContaining(String name, Pageable pageable);
+
+    /**
+     * Ermittelt den gesamten Zutatenkatalog mit Naehrwerten und Masseinheiten in einer Abfrage.
+     *
+     * @return Eine Liste mit einer Zeile pro Zutat und Masseinheit, sortiert nach der ID der Zutat.
+     */
+    @Query("SELECT new de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.IngredientCatalogEntry(i.id, i.name, i.calories, i.proteins, i.carbohydrates, i.fats, u.label, u.value) FROM Ingredient i LEFT JOIN i.ingredientUnits u ORDER BY i.id, u.id")
+    List<IngredientCatalogEntry> findAllCatalogEntries();
+
+    /**
+     * Ermittelt eine Zutat mit Naehrwerten und Masseinheiten in einer Abfrage.
+     *
+     * @param id Die ID der Zutat.
+     * @return Eine Liste mit einer Zeile pro Masseinheit der Zutat, leer wenn die Zutat nicht existiert.
+     */
+    @Query("SELECT new de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.IngredientCatalogEntry(i.id, i.name, i.calories, i.proteins, i.carbohydrates, i.fats, u.label, u.value) FROM Ingredient i LEFT JOIN i.ingredientUnits u WHERE i.id = :id ORDER BY u.id")
+    List<IngredientCatalogEntry> findCatalogEntriesById(String id);
 }
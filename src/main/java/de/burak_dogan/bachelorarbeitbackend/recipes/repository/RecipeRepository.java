@@ -1,10 +1,21 @@
 package de.burak_dogan.bachelorarbeitbackend.recipes.repository;
 
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeNutrientTotals;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Das Repository fuer die Entitaet {@link Recipe}, das Datenbankzugriffe fuer Recipe-Objekte ermoeglicht.
@@ -14,11 +25,271 @@ import java.util.Optional;
 public interface RecipeRepository extends JpaRepository<Recipe, Long> {
 
     /**
-     * Sucht ein Rezept anhand seines Titels.
+     * Ermittelt, welche der angegebenen Fingerabdruecke bereits zu gespeicherten Rezepten gehoeren.
+     * Die Abfrage wird ueber den eindeutigen Index auf dem Fingerabdruck beantwortet.
      *
-     * @param title Der Titel des Rezepts.
-     * @return Ein Optional, das entweder das gefundene Rezept enthaelt oder leer ist.
+     * @param fingerprints Die zu pruefenden Fingerabdruecke.
+     * @return Eine Liste der Fingerabdruecke, fuer die bereits ein Rezept existiert.
      */
-    Optional<Recipe> findByTitle(String title);
+    @Query("SELECT r.fingerprint FROM Recipe r WHERE r.fingerprint IN :fingerprints")
+    List<String> findExistingFingerprints(Collection<String> fingerprints);
+
+    /**
+     * Berechnet den Fingerabdruck fuer alle Rezepte, die vor Einfuehrung der Fingerabdruecke gespeichert wurden.
+     * Die Berechnung entspricht der von {@code RecipeFingerprint}: normalisierter Titel und die sortierten IDs der Zutaten.
+     * Haben mehrere Rezepte denselben Fingerabdruck, erhaelt nur das aelteste ihn, damit der eindeutige Index nicht verletzt wird.
+     *
+     * @return Die Anzahl der aktualisierten Rezepte.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE recipe r
+            SET fingerprint = f.fingerprint
+            FROM (SELECT DISTINCT ON (c.fingerprint) c.id, c.fingerprint
+                  FROM (SELECT ra.id,
+                               encode(sha256(convert_to(lower(btrim(regexp_replace(ra.title, '\\s+', ' ', 'g'))) || '|'
+                                   || COALESCE(string_agg(DISTINCT ri.ingredient_id COLLATE "C", ',' ORDER BY ri.ingredient_id COLLATE "C"), ''), 'UTF8')), 'hex') AS fingerprint
+                        FROM recipe ra
+                                 LEFT JOIN recipe_ingredient ri ON ri.recipe_id = ra.id
+                        WHERE ra.fingerprint IS NULL
+                        GROUP BY ra.id) c
+                  WHERE NOT EXISTS (SELECT 1 FROM recipe e WHERE e.fingerprint = c.fingerprint)
+                  ORDER BY c.fingerprint, c.id) f
+            WHERE r.id = f.id
+            """, nativeQuery = true)
+    int backfillFingerprints();
+
+    /**
+     * Berechnet die Gesamtnaehrwerte fuer alle Rezepte, fuer die noch keine Gesamtnaehrwerte gespeichert wurden.
+     * Die Summen werden pro Rezept in der Datenbank gebildet, sodass keine Rezept-Zutaten geladen werden muessen.
+     * Rezepte ohne Zutaten erhalten die Gesamtnaehrwerte 0.
+     *
+     * @return Die Anzahl der aktualisierten Rezepte.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE recipe r
+            SET calories = COALESCE(s.calories, 0), proteins = COALESCE(s.proteins, 0), carbohydrates = COALESCE(s.carbohydrates, 0), fats = COALESCE(s.fats, 0)
+            FROM (SELECT ra.id,
+                         SUM(i.calories * ri.quantity / 100)      AS calories,
+                         SUM(i.proteins * ri.quantity / 100)      AS proteins,
+                         SUM(i.carbohydrates * ri.quantity / 100) AS carbohydrates,
+                         SUM(i.fats * ri.quantity / 100)          AS fats
+                  FROM recipe ra
+                           LEFT JOIN recipe_ingredient ri ON ri.recipe_id = ra.id
+                           LEFT JOIN ingredient i ON i.id = ri.ingredient_id
+                  WHERE ra.calories IS NULL
+                  GROUP BY ra.id) s
+            WHERE r.id = s.id
+            """, nativeQuery = true)
+    int backfillNutrientTotals();
+
+    /**
+     * Sucht die IDs der Rezepte, deren gerundete Gesamtnaehrwerte fuer jeden angegebenen Zielwert um hoechstens die erlaubte Abweichung abweichen.
+     * Filterung, Sortierung nach dem euklidischen Abstand und das Limit werden vollstaendig in der Datenbank ausgefuehrt.
+     * Die Sortierung entspricht der des In-Memory-Index: nach dem quadrierten Abstand und bei gleichem Abstand nach der Rezept-ID.
+     * Gerundet wird wie mit {@link Math#round(double)} ueber floor(x + 0.5), da round() in PostgreSQL Werte vom Typ double precision auf die naechste gerade Zahl rundet.
+     * Eine negative Abweichung bedeutet, dass fuer diesen Naehrwert kein Zielwert angegeben wurde.
+     *
+     * @param calories             Die Zielkalorien.
+     * @param caloriesEpsilon      Die erlaubte Abweichung der Kalorien oder ein negativer Wert.
+     * @param proteins             Die Zielproteine.
+     * @param proteinsEpsilon      Die erlaubte Abweichung der Proteine oder ein negativer Wert.
+     * @param carbohydrates        Die Zielkohlenhydrate.
+     * @param carbohydratesEpsilon Die erlaubte Abweichung der Kohlenhydrate oder ein negativer Wert.
+     * @param fats                 Die Zielfette.
+     * @param fatsEpsilon          Die erlaubte Abweichung der Fette oder ein negativer Wert.
+     * @param cursorId             Die ID des letzten Rezepts der vorherigen Seite oder ein negativer Wert fuer die erste Seite.
+     * @param limit                Die maximale Anzahl an Treffern.
+     * @return Die IDs der passenden Rezepte in der Reihenfolge ihrer Genauigkeit.
+     */
+    @Query(value = """
+            WITH rounded AS (SELECT r.id,
+                                    floor(COALESCE(r.calories, 0) + 0.5)      AS calories,
+                                    floor(COALESCE(r.proteins, 0) + 0.5)      AS proteins,
+                                    floor(COALESCE(r.carbohydrates, 0) + 0.5) AS carbohydrates,
+                                    floor(COALESCE(r.fats, 0) + 0.5)          AS fats
+                             FROM recipe r),
+                 ranked AS (SELECT rounded.*,
+                                   CASE WHEN :caloriesEpsilon < 0 THEN 0 ELSE power(rounded.calories - :calories, 2) END
+                                       + CASE WHEN :proteinsEpsilon < 0 THEN 0 ELSE power(rounded.proteins - :proteins, 2) END
+                                       + CASE WHEN :carbohydratesEpsilon < 0 THEN 0 ELSE power(rounded.carbohydrates - :carbohydrates, 2) END
+                                       + CASE WHEN :fatsEpsilon < 0 THEN 0 ELSE power(rounded.fats - :fats, 2) END AS distance
+                            FROM rounded)
+            SELECT CAST(ranked.id AS bigint)
+            FROM ranked
+            WHERE (:caloriesEpsilon < 0 OR abs(ranked.calories - :calories) <= :caloriesEpsilon)
+              AND (:proteinsEpsilon < 0 OR abs(ranked.proteins - :proteins) <= :proteinsEpsilon)
+              AND (:carbohydratesEpsilon < 0 OR abs(ranked.carbohydrates - :carbohydrates) <= :carbohydratesEpsilon)
+              AND (:fatsEpsilon < 0 OR abs(ranked.fats - :fats) <= :fatsEpsilon)
+              AND (:cursorId < 0 OR (ranked.distance, ranked.id) > (SELECT cursor.distance, cursor.id FROM ranked cursor WHERE cursor.id = :cursorId))
+            ORDER BY ranked.distance, ranked.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findIdsByNutrientWindow(double calories, double caloriesEpsilon, double proteins, double proteinsEpsilon, double carbohydrates, double carbohydratesEpsilon, double fats, double fatsEpsilon, long cursorId, int limit);
+
+    /**
+     * Sucht ein Rezept anhand seiner ID und laedt die Rezept-Zutaten in derselben Abfrage mit.
+     *
+     * @param id Die ID des Rezepts.
+     * @return Ein Optional, das entweder das gefundene Rezept mit seinen Rezept-Zutaten enthaelt oder leer ist.
+     */
+    @EntityGraph(attributePaths = "recipeIngredients")
+    @Query("SELECT r FROM Recipe r WHERE r.id = :id")
+    Optional<Recipe> findWithIngredientsById(Long id);
+
+    /**
+     * Ermittelt die Listeneintraege aller Rezepte, aufsteigend sortiert nach der ID.
+     *
+     * @return Eine Liste der Listeneintraege aller Rezepte.
+     */
+    @Query("SELECT new de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem(r.id, r.title, r.imageHash, r.portions, r.favorite, r.calories, r.proteins, r.carbohydrates, r.fats) FROM Recipe r ORDER BY r.id")
+    List<RecipeListItem> findAllListItems();
+
+    /**
+     * Ermittelt die Listeneintraege der naechsten Rezepte nach der angegebenen ID, aufsteigend sortiert nach der ID (Keyset-Paginierung).
+     *
+     * @param after    Die ID des letzten Rezepts der vorherigen Seite.
+     * @param pageable Die Seitengroesse, die erste Seite des Pageable wird verwendet.
+     * @return Eine Liste der Listeneintraege der Rezepte mit einer groesseren ID.
+     */
+    @Query("SELECT new de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem(r.id, r.title, r.imageHash, r.portions, r.favorite, r.calories, r.proteins, r.carbohydrates, r.fats) FROM Recipe r WHERE r.id > :after ORDER BY r.id")
+    List<RecipeListItem> findListItemsAfter(Long after, Pageable pageable);
+
+    /**
+     * Ermittelt die Listeneintraege der naechsten favorisierten Rezepte nach der angegebenen ID, aufsteigend sortiert nach der ID (Keyset-Paginierung).
+     * Die Abfrage wird ueber den partiellen Index auf den favorisierten Rezepten beantwortet.
+     *
+     * @param after    Die ID des letzten Rezepts der vorherigen Seite.
+     * @param pageable Die Seitengroesse, die erste Seite des Pageable wird verwendet, oder ein Pageable ohne Seite fuer alle favorisierten Rezepte.
+     * @return Eine Liste der Listeneintraege der favorisierten Rezepte mit einer groesseren ID.
+     */
+    @Query("SELECT new de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem(r.id, r.title, r.imageHash, r.portions, r.favorite, r.calories, r.proteins, r.carbohydrates, r.fats) FROM Recipe r WHERE r.favorite = true AND r.id > :after ORDER BY r.id")
+    List<RecipeListItem> findFavoriteListItemsAfter(Long after, Pageable pageable);
+
+    /**
+     * Kehrt den Favoritenstatus eines Rezepts mit einer Anweisung um, ohne das Rezept zu laden.
+     * Gleichzeitige Aufrufe gehen dadurch nicht verloren.
+     *
+     * @param id Die ID des Rezepts.
+     * @return Die Anzahl der aktualisierten Rezepte.
+     */
+    @Modifying
+    @Query(value = "UPDATE recipe SET favorite = NOT favorite WHERE id = :id", nativeQuery = true)
+    int toggleFavorite(Long id);
+
+    /**
+     * Setzt den Favoritenstatus mehrerer Rezepte mit einer Anweisung, ohne die Rezepte zu laden.
+     *
+     * @param ids      Die IDs der Rezepte.
+     * @param favorite Der neue Favoritenstatus.
+     * @return Die Anzahl der gefundenen Rezepte.
+     */
+    @Modifying
+    @Query("UPDATE Recipe r SET r.favorite = :favorite WHERE r.id IN :ids")
+    int updateFavorite(Collection<Long> ids, boolean favorite);
+
+    /**
+     * Ermittelt die Listeneintraege der Rezepte mit den angegebenen IDs.
+     *
+     * @param ids Die IDs der Rezepte.
+     * @return Eine Liste der Listeneintraege der gefundenen Rezepte in beliebiger Reihenfolge.
+     */
+    @Query("SELECT new de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem(r.id, r.title, r.imageHash, r.portions, r.favorite, r.calories, r.proteins, r.carbohydrates, r.fats) FROM Recipe r WHERE r.id IN :ids")
+    List<RecipeListItem> findListItemsByIdIn(Collection<Long> ids);
+
+    /**
+     * Liefert die Listeneintraege aller Rezepte als Stream, aufsteigend sortiert nach der ID.
+     * Die Zeilen werden in Bloecken aus der Datenbank gelesen, statt alle auf einmal zu laden. Der Stream muss innerhalb einer Transaktion verarbeitet und danach geschlossen werden.
+     *
+     * @return Ein Stream der Listeneintraege aller Rezepte.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "50"))
+    @Query("SELECT new de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem(r.id, r.title, r.imageHash, r.portions, r.favorite, r.calories, r.proteins, r.carbohydrates, r.fats) FROM Recipe r ORDER BY r.id")
+    Stream<RecipeListItem> streamAllListItems();
+
+    /**
+     * Ermittelt den Hashwert des Bildes eines Rezepts, ohne das Bild zu laden.
+     *
+     * @param id Die ID des Rezepts.
+     * @return Ein Optional, das entweder den Hashwert des Bildes enthaelt oder leer ist.
+     */
+    @Query("SELECT r.imageHash FROM Recipe r WHERE r.id = :id")
+    Optional<String> findImageHashById(Long id);
+
+    /**
+     * Ermittelt das Bild eines Rezepts, ohne die restlichen Spalten zu laden.
+     *
+     * @param id Die ID des Rezepts.
+     * @return Ein Optional, das entweder das Bild enthaelt oder leer ist.
+     */
+    @Query("SELECT r.image FROM Recipe r WHERE r.id = :id")
+    Optional<byte[]> findImageById(Long id);
+
+    /**
+     * Ermittelt das Vorschaubild eines Rezepts, ohne die restlichen Spalten zu laden.
+     *
+     * @param id Die ID des Rezepts.
+     * @return Ein Optional, das entweder das Vorschaubild enthaelt oder leer ist, wenn es noch nicht erzeugt wurde.
+     */
+    @Query("SELECT r.imageThumbnail FROM Recipe r WHERE r.id = :id")
+    Optional<byte[]> findImageThumbnailById(Long id);
+
+    /**
+     * Ermittelt das Bild eines Rezepts in mittlerer Groesse, ohne die restlichen Spalten zu laden.
+     *
+     * @param id Die ID des Rezepts.
+     * @return Ein Optional, das entweder das Bild enthaelt oder leer ist, wenn es noch nicht erzeugt wurde.
+     */
+    @Query("SELECT r.imageMedium FROM Recipe r WHERE r.id = :id")
+    Optional<byte[]> findImageMediumById(Long id);
+
+    /**
+     * Speichert das nachtraeglich erzeugte Vorschaubild eines Rezepts.
+     *
+     * @param id             Die ID des Rezepts.
+     * @param imageThumbnail Das Vorschaubild.
+     * @return Die Anzahl der aktualisierten Rezepte.
+     */
+    @Modifying
+    @Query("UPDATE Recipe r SET r.imageThumbnail = :imageThumbnail WHERE r.id = :id")
+    int updateImageThumbnail(Long id, byte[] imageThumbnail);
+
+    /**
+     * Speichert das nachtraeglich erzeugte Bild eines Rezepts in mittlerer Groesse.
+     *
+     * @param id          Die ID des Rezepts.
+     * @param imageMedium Das Bild in mittlerer Groesse.
+     * @return Die Anzahl der aktualisierten Rezepte.
+     */
+    @Modifying
+    @Query("UPDATE Recipe r SET r.imageMedium = :imageMedium WHERE r.id = :id")
+    int updateImageMedium(Long id, byte[] imageMedium);
+
+    /**
+     * Berechnet den Hashwert des Bildes fuer alle Rezepte, fuer die noch kein Hashwert gespeichert wurde.
+     *
+     * @return Die Anzahl der aktualisierten Rezepte.
+     */
+    @Modifying
+    @Query(value = "UPDATE recipe SET image_hash = encode(sha256(image), 'hex') WHERE image_hash IS NULL", nativeQuery = true)
+    int backfillImageHashes();
+
+    /**
+     * Ermittelt die vorberechneten Gesamtnaehrwerte aller Rezepte, ohne die Rezepte selbst zu laden.
+     *
+     * @return Eine Liste mit den Gesamtnaehrwerten aller Rezepte.
+     */
+    @Query("SELECT new de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeNutrientTotals(r.id, r.calories, r.proteins, r.carbohydrates, r.fats) FROM Recipe r")
+    List<RecipeNutrientTotals> findAllNutrientTotals();
+
+    /**
+     * Ermittelt die vorberechneten Gesamtnaehrwerte eines Rezepts, ohne das Rezept selbst zu laden.
+     *
+     * @param id Die ID des Rezepts.
+     * @return Ein Optional, das entweder die Gesamtnaehrwerte des Rezepts enthaelt oder leer ist.
+     */
+    @Query("SELECT new de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeNutrientTotals(r.id, r.calories, r.proteins, r.carbohydrates, r.fats) FROM Recipe r WHERE r.id = :id")
+    Optional<RecipeNutrientTotals> findNutrientTotalsById(Long id);
 
 }
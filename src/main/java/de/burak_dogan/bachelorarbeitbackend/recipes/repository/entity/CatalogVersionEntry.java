@@ -0,0 +1,34 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * Die Klasse `CatalogVersionEntry` repraesentiert eine Entitaet in der Datenbanktabelle "catalog_version", die gemeinsame Version des Katalogs.
+ * Alle Instanzen der Anwendung lesen und erhoehen dieselbe Zeile, sodass die ETags auch hinter einem Load Balancer uebereinstimmen.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "catalog_version")
+public class CatalogVersionEntry {
+
+    /**
+     * Der Name des Katalogs.
+     */
+    @Id
+    @Column(length = 32)
+    String id;
+
+    /**
+     * Die aktuelle Version des Katalogs.
+     */
+    @Column(nullable = false)
+    Long version;
+}
@@ -0,0 +1,63 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Die Klasse `ImportJob` repraesentiert eine Entitaet in der Datenbanktabelle "import_job", den Fortschritt eines Imports.
+ * Nach jeder gespeicherten Seite wird der Link zur naechsten Seite gespeichert, sodass ein abgebrochener Import nach einem Neustart dort fortgesetzt wird.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "import_job")
+public class ImportJob {
+
+    /**
+     * Die ID des Imports.
+     */
+    @Id
+    String id;
+
+    /**
+     * Der Zustand des Imports.
+     */
+    @Enumerated(EnumType.STRING)
+    ImportStatus status;
+
+    /**
+     * Der Link zur naechsten Seite der Rezept-API oder null, wenn keine weitere Seite abgerufen werden muss.
+     */
+    @Column(columnDefinition = "text")
+    String nextUrl;
+
+    /**
+     * Die Anzahl der bisher abgerufenen Seiten.
+     */
+    Integer pagesFetched;
+
+    /**
+     * Die Anzahl der bisher gespeicherten Rezepte.
+     */
+    Integer recipesSaved;
+
+    /**
+     * Der Zeitpunkt, zu dem der Import gestartet wurde.
+     */
+    Instant startedAt;
+
+    /**
+     * Der Zeitpunkt der letzten Aktualisierung.
+     */
+    Instant updatedAt;
+}
@@ -0,0 +1,60 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Die Klasse `ImportPage` repraesentiert eine Entitaet in der Datenbanktabelle "import_page", eine bereits verarbeitete Seite der Rezept-API.
+ * Sie enthaelt das Ergebnis der Seite und den Link zur naechsten Seite, sodass die Seite bei spaeteren Laeufen ohne erneute Anfrage uebersprungen werden kann.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "import_page")
+public class ImportPage {
+
+    /**
+     * Der SHA-256-Hashwert der URL der Seite ohne Zugangsdaten.
+     */
+    @Id
+    String id;
+
+    /**
+     * Die ID des Imports, zu dem die Seite gehoert.
+     */
+    String jobId;
+
+    /**
+     * Die fortlaufende Nummer der Seite innerhalb des Imports.
+     */
+    Integer pageNumber;
+
+    /**
+     * Der Link zur naechsten Seite oder null, wenn es keine weitere Seite gibt.
+     */
+    @Column(columnDefinition = "text")
+    String nextUrl;
+
+    /**
+     * Die Anzahl der gueltigen Rezepte der Seite.
+     */
+    Integer recipesReceived;
+
+    /**
+     * Die Anzahl der gespeicherten Rezepte der Seite. Rezepte, die bereits existieren, werden nicht gezaehlt.
+     */
+    Integer recipesSaved;
+
+    /**
+     * Der Zeitpunkt, zu dem die Seite verarbeitet wurde.
+     */
+    Instant processedAt;
+}
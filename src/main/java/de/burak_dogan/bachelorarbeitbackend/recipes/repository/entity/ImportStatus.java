@@ -0,0 +1,27 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity;
+
+/**
+ * Die moeglichen Zustaende des Imports der Rezepte.
+ */
+public enum ImportStatus {
+
+    /**
+     * Der Import wurde seit dem Start der Anwendung noch nicht gestartet.
+     */
+    PENDING,
+
+    /**
+     * Der Import laeuft im Hintergrund.
+     */
+    RUNNING,
+
+    /**
+     * Der Import wurde abgeschlossen.
+     */
+    COMPLETED,
+
+    /**
+     * Der Import wurde wegen eines Fehlers abgebrochen und wird beim naechsten Start fortgesetzt.
+     */
+    FAILED
+}
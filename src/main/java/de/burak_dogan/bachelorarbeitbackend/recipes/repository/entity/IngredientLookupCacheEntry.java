@@ -0,0 +1,41 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Die Klasse `IngredientLookupCacheEntry` repraesentiert eine Entitaet in der Datenbanktabelle "ingredient_lookup_cache",
+ * die zwischengespeicherte Antwort der Food-API von Edamam fuer eine Zutat.
+ * Sie enthaelt die entsprechenden Felder, die den Spalten der Tabelle entsprechen.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "ingredient_lookup_cache")
+public class IngredientLookupCacheEntry {
+
+    /**
+     * Die Food-ID der Zutat.
+     */
+    @Id
+    String foodId;
+
+    /**
+     * Der erste Treffer der Antwort der Food-API als JSON, inklusive Naehrwerten und aller Masseinheiten.
+     */
+    @Column(columnDefinition = "text")
+    String response;
+
+    /**
+     * Der Zeitpunkt, zu dem die Antwort von der Food-API abgerufen wurde.
+     */
+    Instant fetchedAt;
+}
@@ -22,9 +22,12 @@ public class Recipe {
 
     /**
      * Die eindeutige ID des Rezepts.
+     * Die IDs stammen aus derselben Sequenz wie der Standardwert der Spalte, den der Import beim Einfuegen ueber JDBC verwendet.
+     * Daher wird pro Rezept genau eine ID reserviert, ein Block wie bei einer allocationSize groesser 1 wuerde bei jedem importierten Rezept verbraucht.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_seq")
+    @SequenceGenerator(name = "recipe_seq", sequenceName = "recipe_id_seq", allocationSize = 1)
     Long id;
 
     /**
@@ -39,9 +42,33 @@ public class Recipe {
 
     /**
      * Das Bild des Rezepts (als Byte-Array).
+     * Wird erst beim ersten Zugriff geladen, damit Listenabfragen die Bilder nicht mitladen.
      */
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
     byte[] image;
 
+    /**
+     * Das Vorschaubild des Rezepts fuer die Listenansicht (als Byte-Array), hoechstens 200 Pixel gross.
+     * Wird beim Schreiben oder beim ersten Abruf aus dem Originalbild erzeugt.
+     */
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    byte[] imageThumbnail;
+
+    /**
+     * Das Bild des Rezepts in mittlerer Groesse (als Byte-Array), hoechstens 600 Pixel gross.
+     * Wird beim Schreiben oder beim ersten Abruf aus dem Originalbild erzeugt.
+     */
+    @Basic(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    byte[] imageMedium;
+
+    /**
+     * Der SHA-256-Hashwert des Bildes als Hex-String, der als ETag fuer die Auslieferung des Bildes verwendet wird.
+     */
+    String imageHash;
+
     /**
      * Die Portionsgroesse des Rezepts.
      */
@@ -52,10 +79,37 @@ public class Recipe {
      */
     Boolean favorite;
 
+    /**
+     * Die Gesamtkalorien des Rezepts. Wird beim Speichern aus den Zutaten berechnet.
+     */
+    Double calories;
+
+    /**
+     * Die Gesamtmenge an Proteinen des Rezepts. Wird beim Speichern aus den Zutaten berechnet.
+     */
+    Double proteins;
+
+    /**
+     * Die Gesamtmenge an Kohlenhydraten des Rezepts. Wird beim Speichern aus den Zutaten berechnet.
+     */
+    Double carbohydrates;
+
+    /**
+     * Die Gesamtmenge an Fetten des Rezepts. Wird beim Speichern aus den Zutaten berechnet.
+     */
+    Double fats;
+
+    /**
+     * Der Fingerabdruck des Rezepts aus normalisiertem Titel und sortierten Food-IDs der Zutaten, ueber den doppelte Rezepte beim Import erkannt werden.
+     * Die Spalte hat einen eindeutigen Index.
+     */
+    String fingerprint;
+
     /**
      * Eine Liste von "RecipeIngredient"-Objekten, die die Zutaten des Rezepts darstellen.
      */
     @OneToMany(mappedBy = "recipe", orphanRemoval = true, fetch = FetchType.LAZY)
+    @ToString.Exclude
     List<RecipeIngredient> recipeIngredients = new ArrayList<>();
 }
 
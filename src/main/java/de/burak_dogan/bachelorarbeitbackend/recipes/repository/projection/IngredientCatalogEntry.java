@@ -0,0 +1,17 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection;
+
+/**
+ * Ein Record, der die Naehrwerte einer Zutat zusammen mit einer ihrer Masseinheiten und deren Gewicht in Gramm enthaelt.
+ * Pro Zutat und Masseinheit wird eine Zeile gelesen, sodass der Zutatenkatalog in einer Abfrage geladen werden kann.
+ *
+ * @param ingredientId  Die ID der Zutat
+ * @param name          Der Name der Zutat
+ * @param calories      Die Kalorien pro 100 Gramm
+ * @param proteins      Die Proteine pro 100 Gramm
+ * @param carbohydrates Die Kohlenhydrate pro 100 Gramm
+ * @param fats          Die Fette pro 100 Gramm
+ * @param label         Die Bezeichnung der Masseinheit oder null, wenn die Zutat keine Masseinheiten hat
+ * @param grams         Das Gewicht der Masseinheit in Gramm oder null, wenn die Zutat keine Masseinheiten hat
+ */
+public record IngredientCatalogEntry(String ingredientId, String name, Double calories, Double proteins, Double carbohydrates, Double fats, String label, Double grams) {
+}
@@ -0,0 +1,12 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection;
+
+/**
+ * Ein Record, der eine Zutat zusammen mit einer ihrer Masseinheiten enthaelt.
+ * Pro Zutat und Masseinheit wird eine Zeile gelesen, sodass Zutaten und Masseinheiten in einer Abfrage geladen werden.
+ *
+ * @param ingredientId Die ID der Zutat
+ * @param name         Der Name der Zutat
+ * @param label        Die Bezeichnung der Masseinheit oder null, wenn die Zutat keine Masseinheiten hat
+ */
+public record IngredientUnitLabel(String ingredientId, String name, String label) {
+}
@@ -0,0 +1,18 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection;
+
+/**
+ * Ein Record, der die fuer die Listenansicht benoetigten Spalten eines Rezepts enthaelt.
+ * Wird direkt per JPQL-Konstruktorausdruck gelesen, sodass weder die Bilder noch die Zutaten der Rezepte geladen werden.
+ *
+ * @param id            Die ID des Rezepts
+ * @param title         Der Titel des Rezepts
+ * @param imageHash     Der Hashwert des Bildes
+ * @param portions      Die Anzahl der Portionen des Rezepts
+ * @param favorite      Der Favoritenstatus des Rezepts
+ * @param calories      Die Gesamtkalorien des Rezepts
+ * @param proteins      Die Gesamtmenge an Proteinen des Rezepts
+ * @param carbohydrates Die Gesamtmenge an Kohlenhydraten des Rezepts
+ * @param fats          Die Gesamtmenge an Fetten des Rezepts
+ */
+public record RecipeListItem(Long id, String title, String imageHash, Double portions, Boolean favorite, Double calories, Double proteins, Double carbohydrates, Double fats) {
+}
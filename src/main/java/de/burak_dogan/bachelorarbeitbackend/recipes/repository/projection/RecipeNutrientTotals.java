@@ -0,0 +1,25 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
+
+/**
+ * Ein Record, der die vorberechneten Gesamtnaehrwerte eines Rezepts ohne die restlichen Spalten der Tabelle "recipe" enthaelt.
+ *
+ * @param id            Die ID des Rezepts
+ * @param calories      Die Gesamtkalorien des Rezepts
+ * @param proteins      Die Gesamtmenge an Proteinen des Rezepts
+ * @param carbohydrates Die Gesamtmenge an Kohlenhydraten des Rezepts
+ * @param fats          Die Gesamtmenge an Fetten des Rezepts
+ */
+public record RecipeNutrientTotals(Long id, Double calories, Double proteins, Double carbohydrates, Double fats) {
+
+    /**
+     * Erstellt die Gesamtnaehrwerte aus einer Recipe-Entity.
+     *
+     * @param recipe Das Rezept mit den berechneten Gesamtnaehrwerten
+     * @return Die Gesamtnaehrwerte des Rezepts
+     */
+    public static RecipeNutrientTotals of(Recipe recipe) {
+        return new RecipeNutrientTotals(recipe.getId(), recipe.getCalories(), recipe.getProteins(), recipe.getCarbohydrates(), recipe.getFats());
+    }
+}
@@ -1,46 +1,81 @@
 package de.burak_dogan.bachelorarbeitbackend.recipes.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import de.burak_dogan.bachelorarbeitbackend.recipes.config.InitializationAspect;
-import de.burak_dogan.bachelorarbeitbackend.recipes.exception.JsonKeyNotFoundException;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.Counter;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.Histogram;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.MetricsRegistry;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness.ReadinessGate;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness.ServiceState;
 import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
-import de.burak_dogan.bachelorarbeitbackend.recipes.repository.IngredientUnitRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.ImportBatchRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.ImportJobRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.ImportPageRepository;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.IngredientRepository;
-import de.burak_dogan.bachelorarbeitbackend.recipes.repository.RecipeIngredientRepository;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.RecipeRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.ImportJob;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.ImportPage;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.ImportStatus;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Ingredient;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.IngredientUnit;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.RecipeIngredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ImportProperties;
 import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.RequestProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeNutrientTotals;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.CachedIngredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.CatalogVersion;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.CatalogVersion.Catalog;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.DumpFileReader;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.ImageDownloader;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.ImageProcessor;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.ImportProgress;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.IngredientCatalogCache;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.IngredientLookupCache;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.IngredientLookupClient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.NutrientCalculator;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.RecipeFingerprint;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.RecipeNutrientIndex;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.RecipePageParser;
 import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.InitialDataMapper;
 import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.*;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.client.utils.URIBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
-import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
+import java.io.IOException;
 import java.net.URI;
-import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Diese Klasse ist verantwortlich fuer den Import von den Rezepten. Dafuer werden Requests an die Edamam-API gesendet, welche nach dem Mappen in der Datenbank gespeichert werden.
@@ -50,6 +85,16 @@ import java.util.concurrent.atomic.AtomicReference;
 @Slf4j
 @Service
 public class DataImporterService {
+    /**
+     * Die ID des gespeicherten Fortschritts des Imports der Rezepte
+     */
+    private static final String IMPORT_JOB_ID = "recipes";
+
+    /**
+     * Die ID des gespeicherten Fortschritts des Imports aus der Rezept-Datei
+     */
+    private static final String DUMP_IMPORT_JOB_ID = "recipe-dump";
+
     /**
      * Das Repository fuer Rezepte
      */
@@ -61,14 +106,9 @@ public class DataImporterService {
     private final IngredientRepository ingredientRepository;
 
     /**
-     * Das Repository fuer Rezept-Zutaten
+     * Das Repository fuer das mengenbasierte Speichern der Zutaten, Masseinheiten und Rezept-Zutaten
      */
-    private final RecipeIngredientRepository recipeIngredientRepository;
-
-    /**
-     * Das Repository fuer Zutateneinheiten
-     */
-    private final IngredientUnitRepository ingredientUnitRepository;
+    private final ImportBatchRepository importBatchRepository;
 
     /**
      * Der RestTemplate fuer die HTTP-Anfragen
@@ -91,491 +131,986 @@ public class DataImporterService {
     private final InitialDataMapper initialDataMapper;
 
     /**
-     * Der InitializationAspect, der auf true gesetzt wird, wenn die Initialisierung bzw. der Import der Daten fertig ist
+     * Der Zustand der Anwendung, der nach der Vorbereitung der Daten und nach dem Import gewechselt wird
      */
-    private final InitializationAspect initializationAspect;
+    private final ReadinessGate readinessGate;
 
     /**
      * Der PlatformTransactionManager, der die Transaktionen verwaltet
      */
     private final PlatformTransactionManager transactionManager;
 
+    /**
+     * Der NutrientCalculator fuer die Berechnung der Gesamtnaehrwerte der importierten Rezepte
+     */
+    private final NutrientCalculator nutrientCalculator;
+
+    /**
+     * Der In-Memory-Index ueber die Gesamtnaehrwerte aller Rezepte, der beim Import fortlaufend ergaenzt wird
+     */
+    private final RecipeNutrientIndex recipeNutrientIndex;
+
+    /**
+     * Der ImageProcessor fuer die Berechnung der Hashwerte und der verkleinerten Varianten der importierten Bilder
+     */
+    private final ImageProcessor imageProcessor;
+
+    /**
+     * Der Cache ueber den Zutatenkatalog, der beim Import invalidiert und danach neu aufgebaut wird
+     */
+    private final IngredientCatalogCache ingredientCatalogCache;
+
+    /**
+     * Der Client fuer die nebenlaeufigen und rate-limitierten Abfragen der Zutaten bei der Food-API
+     */
+    private final IngredientLookupClient ingredientLookupClient;
+
+    /**
+     * Der Cache fuer die Antworten der Food-API, dessen abgelaufene Eintraege vor dem Import entfernt werden
+     */
+    private final IngredientLookupCache ingredientLookupCache;
+
+    /**
+     * Der ImageDownloader, der die Bilder der Rezepte einer Seite parallel herunterlaedt
+     */
+    private final ImageDownloader imageDownloader;
+
+    /**
+     * Das Repository fuer den gespeicherten Fortschritt des Imports
+     */
+    private final ImportJobRepository importJobRepository;
+
+    /**
+     * Der Fortschritt des laufenden Imports, der ueber den Status-Endpunkt abgefragt wird
+     */
+    private final ImportProgress importProgress;
+
+    /**
+     * Das Repository fuer die bereits verarbeiteten Seiten der Rezept-API
+     */
+    private final ImportPageRepository importPageRepository;
+
+    /**
+     * Der Leser fuer die Dateien, aus denen Rezepte und Zutaten ohne Netzwerkzugriff importiert werden
+     */
+    private final DumpFileReader dumpFileReader;
+
+    /**
+     * Der Parser, der die Antworten der Rezept-API direkt aus dem Stream liest
+     */
+    private final RecipePageParser recipePageParser;
+
+    /**
+     * Die Eigenschaften des Imports mit der Zielanzahl an Rezepten und der maximalen Anzahl an Seiten pro Lauf
+     */
+    private final ImportProperties importProperties;
+
+    /**
+     * Die Version des Katalogs, die nach der Vorbereitung der Daten und nach jeder gespeicherten Seite erhoeht wird
+     */
+    private final CatalogVersion catalogVersion;
+
+    /**
+     * Die Anzahl der verarbeiteten Seiten der Rezept-API
+     */
+    private final Counter apiPages;
+
+    /**
+     * Die Anzahl der verarbeiteten Seiten der Rezept-Datei
+     */
+    private final Counter dumpPages;
+
+    /**
+     * Die Dauer der erfolgreichen Anfragen an die Rezept-API einschliesslich des Lesens der Antwort
+     */
+    private final Histogram successfulRecipeRequests;
+
+    /**
+     * Die Dauer der fehlgeschlagenen Anfragen an die Rezept-API
+     */
+    private final Histogram failedRecipeRequests;
+
+    /**
+     * Die Anzahl der gespeicherten Rezepte
+     */
+    private final Counter savedRecipes;
+
+    /**
+     * Die Anzahl der Rezepte, die bereits gespeichert waren oder auf einer Seite mehrfach vorkamen
+     */
+    private final Counter skippedRecipes;
+
+    /**
+     * Der Thread, auf dem der Import im Hintergrund laeuft
+     */
+    private final ExecutorService importExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recipe-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
 
     /**
      * Konstruktor fuer den DataImporterService.
      *
      * @param recipeRepository           Das Repository fuer Rezepte
      * @param ingredientRepository       Das Repository fuer Zutaten
-     * @param recipeIngredientRepository Das Repository fuer Rezept-Zutaten
-     * @param ingredientUnitRepository   Das Repository fuer Zutateneinheiten
+     * @param importBatchRepository      Das Repository fuer das mengenbasierte Speichern der Zutaten, Masseinheiten und Rezept-Zutaten
      * @param restTemplate               Der RestTemplate fuer die HTTP-Anfragen
      * @param requestProperties          Die RequestProperties fuer die Anfragen
      * @param objectMapper               Der ObjectMapper fuer die JSON-Verarbeitung
      * @param initialDataMapper          Der InitialDataMapper fuer das Mappen der DTOs zu Entities
-     * @param initializationAspect       Der InitializationAspect, der auf true gesetzt wird, wenn die Initialisierung bzw. der Import der Daten fertig ist
+     * @param readinessGate              Der Zustand der Anwendung, der nach der Vorbereitung der Daten und nach dem Import gewechselt wird
      * @param transactionManager         Der PlatformTransactionManager, der die Transaktionen verwaltet
+     * @param nutrientCalculator         Der NutrientCalculator fuer die Berechnung der Gesamtnaehrwerte der importierten Rezepte
+     * @param recipeNutrientIndex        Der In-Memory-Index ueber die Gesamtnaehrwerte aller Rezepte, der beim Import fortlaufend ergaenzt wird
+     * @param imageProcessor             Der ImageProcessor fuer die Berechnung der Hashwerte und der verkleinerten Varianten der importierten Bilder
+     * @param ingredientCatalogCache     Der Cache ueber den Zutatenkatalog, der beim Import invalidiert und danach neu aufgebaut wird
+     * @param ingredientLookupClient     Der Client fuer die nebenlaeufigen und rate-limitierten Abfragen der Zutaten bei der Food-API
+     * @param ingredientLookupCache      Der Cache fuer die Antworten der Food-API, dessen abgelaufene Eintraege vor dem Import entfernt werden
+     * @param imageDownloader            Der ImageDownloader, der die Bilder der Rezepte einer Seite parallel herunterlaedt
+     * @param importJobRepository        Das Repository fuer den gespeicherten Fortschritt des Imports
+     * @param importProgress             Der Fortschritt des laufenden Imports, der ueber den Status-Endpunkt abgefragt wird
+     * @param importPageRepository       Das Repository fuer die bereits verarbeiteten Seiten der Rezept-API
+     * @param importProperties           Die Eigenschaften des Imports mit der Zielanzahl an Rezepten und der maximalen Anzahl an Seiten pro Lauf
+     * @param dumpFileReader             Der Leser fuer die Dateien, aus denen Rezepte und Zutaten ohne Netzwerkzugriff importiert werden
+     * @param recipePageParser           Der Parser, der die Antworten der Rezept-API direkt aus dem Stream liest
+     * @param catalogVersion             Die Version des Katalogs, die nach der Vorbereitung der Daten und nach jeder gespeicherten Seite erhoeht wird
+     * @param metricsRegistry            Die Registry fuer die Zaehlung der Seiten und Rezepte und die Messung der Anfragen an die Rezept-API
      */
     @Autowired
-    public DataImporterService(RecipeRepository recipeRepository, IngredientRepository ingredientRepository, RecipeIngredientRepository recipeIngredientRepository, IngredientUnitRepository ingredientUnitRepository, RequestProperties requestProperties, RestTemplate restTemplate, ObjectMapper objectMapper, InitialDataMapper initialDataMapper, InitializationAspect initializationAspect, PlatformTransactionManager transactionManager) {
+    public DataImporterService(RecipeRepository recipeRepository, IngredientRepository ingredientRepository, ImportBatchRepository importBatchRepository, RequestProperties requestProperties, RestTemplate restTemplate, ObjectMapper objectMapper, InitialDataMapper initialDataMapper, ReadinessGate readinessGate, PlatformTransactionManager transactionManager, NutrientCalculator nutrientCalculator, RecipeNutrientIndex recipeNutrientIndex, ImageProcessor imageProcessor, IngredientCatalogCache ingredientCatalogCache, IngredientLookupClient ingredientLookupClient, IngredientLookupCache ingredientLookupCache, ImageDownloader imageDownloader, ImportJobRepository importJobRepository, ImportProgress importProgress, ImportPageRepository importPageRepository, ImportProperties importProperties, DumpFileReader dumpFileReader, RecipePageParser recipePageParser, CatalogVersion catalogVersion, MetricsRegistry metricsRegistry) {
         this.recipeRepository = recipeRepository;
         this.ingredientRepository = ingredientRepository;
-        this.recipeIngredientRepository = recipeIngredientRepository;
-        this.ingredientUnitRepository = ingredientUnitRepository;
+        this.importBatchRepository = importBatchRepository;
         this.restTemplate = restTemplate;
         this.requestProperties = requestProperties;
         this.objectMapper = objectMapper;
         objectMapper.configure(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES, true); // Objectmapper so konfiguriert, dass Eintraege die null als wert haben, nicht gemappt werden, und eine Exception werfen.
         this.initialDataMapper = initialDataMapper;
-        this.initializationAspect = initializationAspect;
+        this.readinessGate = readinessGate;
         this.transactionManager = transactionManager;
+        this.nutrientCalculator = nutrientCalculator;
+        this.recipeNutrientIndex = recipeNutrientIndex;
+        this.imageProcessor = imageProcessor;
+        this.ingredientCatalogCache = ingredientCatalogCache;
+        this.ingredientLookupClient = ingredientLookupClient;
+        this.ingredientLookupCache = ingredientLookupCache;
+        this.imageDownloader = imageDownloader;
+        this.importJobRepository = importJobRepository;
+        this.importProgress = importProgress;
+        this.importPageRepository = importPageRepository;
+        this.importProperties = importProperties;
+        this.dumpFileReader = dumpFileReader;
+        this.recipePageParser = recipePageParser;
+        this.catalogVersion = catalogVersion;
+        this.apiPages = metricsRegistry.counter("import_pages_total", "Recipe pages processed by the import", "source", "api");
+        this.dumpPages = metricsRegistry.counter("import_pages_total", "Recipe pages processed by the import", "source", "dump");
+        this.successfulRecipeRequests = metricsRegistry.timer("import_http_requests_seconds", "Duration of requests to the Edamam APIs", "api", "recipe", "outcome", "success");
+        this.failedRecipeRequests = metricsRegistry.timer("import_http_requests_seconds", "Duration of requests to the Edamam APIs", "api", "recipe", "outcome", "error");
+        this.savedRecipes = metricsRegistry.counter("import_recipes_total", "Recipes handled by the import by result", "result", "saved");
+        this.skippedRecipes = metricsRegistry.counter("import_recipes_total", "Recipes handled by the import by result", "result", "skipped");
     }
 
 
     /**
-     * Diese Methode initialisiert die Daten, indem sie Rezepte von einer externen API abruft und in der Datenbank speichert.
+     * Diese Methode bereitet die gespeicherten Daten vor und startet anschliessend den Import der Rezepte im Hintergrund.
      * Die Methode wird als Event-Listener fuer das ApplicationReadyEvent registriert und wird automatisch ausgefuehrt,
-     * wenn die Anwendung vollstaendig gestartet und bereit ist. Es werden keine Exceptions geworfen, da das Programm beim Auftreten eines Fehlers weiterlaufen soll.
+     * wenn die Anwendung vollstaendig gestartet und bereit ist. Sobald die Vorbereitung abgeschlossen ist, werden Anfragen mit den bereits
+     * gespeicherten Rezepten beantwortet, waehrend der Import weiterlaeuft. Es werden keine Exceptions geworfen, da das Programm beim Auftreten eines Fehlers weiterlaufen soll.
      */
     @EventListener(ApplicationReadyEvent.class)
     public void initData() {
-        int iterationCount = 0;
-        int maxIterations = 12;
-        List<Recipe> savedRecipes = new ArrayList<>();
+        backfillNutrientTotals();
+        backfillImageHashes();
+        backfillFingerprints();
+        rebuildNutrientIndex();
+        evictExpiredIngredientLookups();
+        warmIngredientCatalogCache();
+        catalogVersion.increment(Catalog.RECIPES, Catalog.INGREDIENTS); // Die Vorbereitung kann Naehrwerte gespeicherter Rezepte veraendert haben, eine andere Instanz kann Zutaten importiert haben
+        readinessGate.transitionTo(ServiceState.IMPORTING); // Anfragen werden ab jetzt mit den bereits gespeicherten Daten beantwortet
+        if (importProperties.getRecipeDumpFile() != null) {
+            importExecutor.execute(this::importDumpFiles);
+        } else {
+            importExecutor.execute(this::importRecipes);
+        }
+    }
 
-        int minEntries = 40;   //mindestens 40 Rezept-Einträge müssen in der DB gespeichert sein
-        URI recipeUrl = URI.create("https://api.edamam.com/api/recipes/v2?type=public&q=&field=label&field=image&field=url&field=yield&field=ingredientLines&field=ingredients&app_id=" + requestProperties.getRecipeAppId() + "&app_key=" + requestProperties.getRecipeAppKey() + "&diet=high-protein");
+    /**
+     * Importiert Rezepte von der externen API und speichert sie in der Datenbank, bis die konfigurierte Anzahl an Rezepten erreicht ist.
+     * Nach jeder Seite werden der Fortschritt und der Link zur naechsten Seite im {@link ImportJob} gespeichert,
+     * sodass ein abgebrochener Import nach einem Neustart an dieser Stelle fortgesetzt wird.
+     * Seiten, die bereits in einem frueheren Lauf verarbeitet wurden, werden ohne Anfrage an die API uebersprungen.
+     * Es werden keine Exceptions geworfen, ein Fehler wird im Zustand des Imports festgehalten.
+     */
+    protected void importRecipes() {
+        int targetRecipes = importProperties.getTargetRecipes();
+        int maxPages = importProperties.getMaxPagesPerRun();
+        int fetchedPages = 0;
+        int savedRecipeCount = 0;
+        URI initialUrl = URI.create(requestProperties.getRecipeBaseUrl() + "?type=public&q=&field=label&field=image&field=url&field=yield&field=ingredientLines&field=ingredients&app_id=" + requestProperties.getRecipeAppId() + "&app_key=" + requestProperties.getRecipeAppKey() + "&diet=high-protein");
+
+        ImportJob importJob = loadImportJob();
+        boolean resuming = importJob.getNextUrl() != null;
+        URI recipeUrl = resuming ? URI.create(importJob.getNextUrl()) : initialUrl;
+        if (resuming) {
+            log.info("Resuming import after " + importJob.getPagesFetched() + " pages");
+        }
+        importJob.setStatus(ImportStatus.RUNNING);
+        saveImportJob(importJob);
 
-        while (savedRecipes.size() <= minEntries) { //So lange iterieren, bis mindestens 40 Einträge gespeichert wurden
-            boolean noLink = false;
-            iterationCount++;
-            Long currentEntries = 0L;
-            try {
-                currentEntries = getRecipeCount();
-            } catch (ServiceException e) {
-                log.error(e.getMessage());
-            }
-            if (currentEntries >= minEntries) {
-                // Im Prinzip, selbe Abfrage wie bei der while-Bedingung. Nötig, da ,,savedRecipes" nur
-                // die Rezepte enthält, die in dieser Session gepeichert wurden, nicht alle Rezepte aus der DB
-                // Falls also aus einer früheren Abfrage Mal bspw. 20 Daten in der DB verblieben sind, und in der Session 20 weitere gespeichert worden sind,
-                // dann würde das Abbruchkriterium nicht erfüllt sein, obwohl der Mindestwert an rezepte in der datenbank erreicht wurde
-
-                log.info(currentEntries + " recipes haven been saved in total");
-                break;
-            } else if (iterationCount > maxIterations) { //Umgehen einer Unendlichkeitsschleife; insgesamt 12 versuche die Mindestanazhl an einträgen zu speichern
-                log.error("Exceeded maximum iterations. " + currentEntries + " recipes haven been saved in total");
-                break;
-            }
-            log.info("Current iteration: " + iterationCount);
+        long initialEntries = 0L;
+        try {
+            initialEntries = getRecipeCount(); // Einmalig gezaehlt, danach werden die gespeicherten Rezepte aufaddiert
+        } catch (ServiceException e) {
+            log.error(e.getMessage());
+        }
+        importProgress.start(targetRecipes, initialEntries);
+        ImportStatus finalStatus = ImportStatus.COMPLETED;
+        Set<String> visitedPages = new HashSet<>();
 
-            RecipeContainerDTO recipeContainerDTO = getResponse(recipeUrl);
-            log.info(String.valueOf(recipeContainerDTO));
-            if (recipeContainerDTO == null) {
-                //Get Request fehlgeschlagen
-                break;
-            }
-            List<RecipeMappingDTO> recipeMappingDTOList = recipeContainerDTO.getRecipeMappingDTOList();
-            if (StringUtils.isEmpty(recipeContainerDTO.getLink())) {
-                noLink = true; //gehe nach Verarbeiten der Daten raus aus der Schleife, da es keine weiteren Einträge mehr gibt
-            } else {
-                recipeUrl = URI.create(recipeContainerDTO.getLink());
-            }
-            if (recipeMappingDTOList == null || recipeMappingDTOList.isEmpty()) {
-                continue; //wenn keine hits, mach mit der nächsten seite weiter
-            }
+        try {
+            while (true) {
+                long currentEntries = initialEntries + savedRecipeCount;
+                if (currentEntries >= targetRecipes) {
+                    log.info(currentEntries + " recipes haven been saved in total");
+                    break;
+                } else if (fetchedPages >= maxPages) { //Umgehen einer Unendlichkeitsschleife; der Import wird beim naechsten Lauf fortgesetzt
+                    log.info("Reached maximum pages for this run. " + currentEntries + " recipes haven been saved in total");
+                    break;
+                }
 
+                String pageKey = getPageKey(recipeUrl);
+                if (!visitedPages.add(pageKey)) {
+                    log.warn("Page " + pageKey + " was already visited in this run, stopping import");
+                    break;
+                }
+                Optional<ImportPage> processedPage = findProcessedPage(pageKey);
+                if (processedPage.isPresent()) {
+                    // Seite wurde bereits verarbeitet, es wird direkt mit der gespeicherten naechsten Seite weitergemacht
+                    if (processedPage.get().getNextUrl() == null) {
+                        log.info("No more response data. All pages have already been processed");
+                        break;
+                    }
+                    recipeUrl = URI.create(processedPage.get().getNextUrl());
+                    continue;
+                }
 
-            for (RecipeMappingDTO recipeMappingDTO : recipeMappingDTOList) {
-                Recipe savedRecipe = save(recipeMappingDTO);
-                if (savedRecipe != null) {
-                    savedRecipes.add(savedRecipe);
+                fetchedPages++;
+                log.info("Current page: " + fetchedPages);
+                RecipeContainerDTO recipeContainerDTO = getResponse(recipeUrl);
+                log.info(String.valueOf(recipeContainerDTO));
+                if (recipeContainerDTO == null && resuming) {
+                    // Der gespeicherte Link ist nicht mehr gueltig, der Import beginnt wieder bei der ersten Seite
+                    log.warn("Stored import cursor could not be resumed, starting from the first page");
+                    resuming = false;
+                    recipeUrl = initialUrl;
+                    continue;
+                }
+                if (recipeContainerDTO == null) {
+                    //Get Request fehlgeschlagen
+                    finalStatus = ImportStatus.FAILED;
+                    break;
+                }
+                resuming = false;
+                List<RecipeMappingDTO> recipeMappingDTOList = recipeContainerDTO.getRecipeMappingDTOList();
+                URI nextUrl = StringUtils.isEmpty(recipeContainerDTO.getLink()) ? null : URI.create(recipeContainerDTO.getLink());
 
+                List<Recipe> savedPage = Collections.emptyList();
+                if (recipeMappingDTOList != null && !recipeMappingDTOList.isEmpty()) { //wenn keine hits, mach mit der nächsten seite weiter
+                    savedPage = savePage(recipeMappingDTOList);
                 }
+                List<RecipeNutrientTotals> savedNutrientTotals = new ArrayList<>();
+                for (Recipe savedRecipe : savedPage) {
+                    savedNutrientTotals.add(RecipeNutrientTotals.of(savedRecipe));
+                }
+                recipeNutrientIndex.addAll(savedNutrientTotals); // Index seitenweise ergaenzen, statt ihn neu aufzubauen
+                if (!savedPage.isEmpty()) {
+                    catalogVersion.increment(Catalog.RECIPES, Catalog.INGREDIENTS); // Erst nach dem Index, sonst koennte die Filterung unter der neuen Version ohne die Seite antworten
+                }
+                savedRecipeCount += savedPage.size();
+                apiPages.increment();
+                savedRecipes.increment(savedPage.size());
+                recordPage(importJob, pageKey, nextUrl, recipeMappingDTOList != null ? recipeMappingDTOList.size() : 0, savedPage.size());
+                if (nextUrl == null) {
+                    log.info("No more response data. " + savedRecipeCount + " entities have been saved");
+                    break;
+                }
+                recipeUrl = nextUrl;
             }
-            if (noLink) {
-                log.info("No more response data. " + savedRecipes.size() + " entities have been saved");
-                break;
-            }
-
-        }
-        initializationAspect.setInitializationInProgress(false);
-        if (savedRecipes.size() >= minEntries) {
-            log.info(savedRecipes.size() + " recipes have been saved");
+        } catch (Exception e) {
+            log.error("Import failed! " + e.getMessage());
+            finalStatus = ImportStatus.FAILED;
         }
 
-
+        importJob.setStatus(finalStatus);
+        saveImportJob(importJob);
+        warmIngredientCatalogCache(); // Die beim Import gespeicherten Zutaten in den Cache uebernehmen
+        importProgress.finish(finalStatus);
+        readinessGate.transitionTo(finalStatus == ImportStatus.COMPLETED ? ServiceState.READY : ServiceState.DEGRADED);
+        log.info(savedRecipeCount + " recipes have been saved");
     }
 
     /**
-     * Diese Methode ruft eine API-Response von der angegebenen URL ab.
-     *
-     * @param recipeUrl URL der Rezept-API-Anfrage
-     * @return API-Response als RecipeContainerDTO-Objekt
+     * Importiert die Rezepte aus der konfigurierten Datei, ohne die Rezept-API oder die Food-API abzufragen, bis die konfigurierte Anzahl an Rezepten erreicht ist.
+     * Zuerst werden die Zutaten aus der optionalen Zutaten-Datei in den {@link IngredientLookupCache} uebernommen,
+     * anschliessend werden die Rezepte in Seiten der konfigurierten Batch-Groesse ueber denselben Weg wie beim Import von der API gespeichert.
+     * Wie beim Import von der API wird nach jeder Seite der Fortschritt im {@link ImportJob} gespeichert. Als Link zur naechsten Seite dient die Position
+     * in der Datei, sodass ein abgebrochener Import nach einem Neustart die bereits gespeicherten Seiten ueberspringt. Aendert sich die Datei oder die Batch-Groesse,
+     * beginnt der Import wieder am Anfang der Datei.
+     * Es werden keine Exceptions geworfen, ein Fehler wird im Zustand des Imports festgehalten.
      */
-    protected RecipeContainerDTO getResponse(URI recipeUrl) {
-        ResponseEntity<JsonNode> response;
-        log.info("URL: " + recipeUrl);
-        try {
-            response = restTemplate.getForEntity(recipeUrl, JsonNode.class);
-            if (!response.getStatusCode().equals(HttpStatus.OK)) {
-                log.info("Error during Get Request!");
-                return null;
-            }
-        } catch (Exception e) {
-            log.info("Error during Get Request! " + e.getMessage());
-            return null;
-        }
-        RecipeContainerDTO recipeContainerDTO = new RecipeContainerDTO();
+    protected void importDumpFiles() {
+        Path recipeDumpFile = importProperties.getRecipeDumpFile();
+        Path ingredientDumpFile = importProperties.getIngredientDumpFile();
+        int batchSize = importProperties.getBatchSize();
+        int targetRecipes = importProperties.getTargetRecipes();
 
-        hasNextPage(response, recipeContainerDTO);
+        ImportJob importJob = loadImportJob(DUMP_IMPORT_JOB_ID);
+        importJob.setStatus(ImportStatus.RUNNING);
+        saveImportJob(importJob);
 
-        if (!response.getBody().has("hits")) {
-            log.error("Response in: " + recipeUrl + " does not contain any valid recipes.");
-            return recipeContainerDTO.with(Collections.emptyList());
+        long initialEntries = 0L;
+        try {
+            initialEntries = getRecipeCount(); // Einmalig gezaehlt, danach werden die gespeicherten Rezepte aufaddiert
+        } catch (ServiceException e) {
+            log.error(e.getMessage());
         }
+        importProgress.start(targetRecipes, initialEntries);
+        ImportStatus finalStatus = ImportStatus.COMPLETED;
+        AtomicInteger savedRecipeCount = new AtomicInteger();
 
-        JsonNode hits = response.getBody().get("hits");
-        List<RecipeMappingDTO> recipeMappingDTOList = new ArrayList<>();
-        recipeLoop:
-        for (JsonNode recipeHit : hits) {
-            RecipeMappingDTO recipeMappingDTO = mapValidRecipeEntries(recipeHit);
+        try {
+            if (initialEntries >= targetRecipes) {
+                log.info(initialEntries + " recipes haven been saved in total");
+            } else {
+                String dumpUrl = getDumpUrl(recipeDumpFile, batchSize);
+                int resumePosition = getDumpResumePosition(importJob, dumpUrl);
+                if (resumePosition > 0) {
+                    log.info("Resuming import from " + recipeDumpFile + " after " + resumePosition + " recipes");
+                }
 
-            if (recipeMappingDTO == null) {
-                continue; //mache nur mit den rezepten weiter, die valide sind, daher continue
-            }
-            for (RecipeIngredientMappingDTO recipeIngredientMappingDTO : recipeMappingDTO.getRecipeIngredientMappingDTOList()) {
-                IngredientMappingDTO ingredientMappingDTO;
-                String foodId = recipeIngredientMappingDTO.getFoodId();
-                ingredientMappingDTO = getIngredient(foodId, recipeIngredientMappingDTO.getMeasure());
+                if (ingredientDumpFile != null) {
+                    Map<String, String> ingredients = new LinkedHashMap<>();
+                    int ingredientCount = dumpFileReader.readIngredientHints(ingredientDumpFile, (foodId, hint) -> {
+                        ingredients.put(foodId, hint.toString());
+                        if (ingredients.size() >= batchSize) {
+                            ingredientLookupCache.putAll(ingredients);
+                            ingredients.clear();
+                        }
+                    });
+                    ingredientLookupCache.putAll(ingredients);
+                    log.info(ingredientCount + " ingredients have been read from " + ingredientDumpFile);
+                }
 
-                if (ingredientMappingDTO == null) {
-                    //Nicht alle Zutaten konnten gemappt werden
-                    continue recipeLoop; //mache nur mit den rezepten weiter, die valide sind, sprich alle Zutaten enthalten, daher continue
+                long startEntries = initialEntries;
+                Path imageDirectory = recipeDumpFile.toAbsolutePath().getParent();
+                List<RecipeMappingDTO> page = new ArrayList<>();
+                AtomicInteger position = new AtomicInteger();
+                AtomicBoolean targetReached = new AtomicBoolean();
+                int recipeCount = dumpFileReader.readRecipesWhile(recipeDumpFile, recipeMappingDTO -> {
+                    if (position.get() < resumePosition) {
+                        position.incrementAndGet(); // Bereits in einem frueheren Lauf verarbeitet
+                        return true;
+                    }
+                    if (startEntries + savedRecipeCount.get() >= targetRecipes) {
+                        targetReached.set(true);
+                        return false;
+                    }
+                    recipeMappingDTO.setImage(resolveDumpImage(imageDirectory, recipeMappingDTO.getImage()));
+                    page.add(recipeMappingDTO);
+                    if (position.incrementAndGet() % batchSize == 0) {
+                        savedRecipeCount.addAndGet(importDumpPage(importJob, dumpUrl, position.get() - page.size(), page, false));
+                        page.clear();
+                    }
+                    return true;
+                });
+                if (targetReached.get()) {
+                    log.info((startEntries + savedRecipeCount.get()) + " recipes haven been saved in total");
+                } else {
+                    savedRecipeCount.addAndGet(importDumpPage(importJob, dumpUrl, position.get() - page.size(), page, true));
+                    log.info(recipeCount + " recipes have been read from " + recipeDumpFile);
                 }
-                recipeIngredientMappingDTO.setQuantity(recipeIngredientMappingDTO.getQuantity() * ingredientMappingDTO.getUnitInGrams());
-                recipeIngredientMappingDTO.setIngredientMappingDTO(ingredientMappingDTO);
             }
-            recipeMappingDTOList.add(recipeMappingDTO);
-
+        } catch (Exception e) {
+            log.error("Import from " + recipeDumpFile + " failed! " + e.getMessage());
+            finalStatus = ImportStatus.FAILED;
         }
-        return recipeContainerDTO.with(recipeMappingDTOList);
-    }
 
+        importJob.setStatus(finalStatus);
+        saveImportJob(importJob);
+        warmIngredientCatalogCache(); // Die beim Import gespeicherten Zutaten in den Cache uebernehmen
+        importProgress.finish(finalStatus);
+        readinessGate.transitionTo(finalStatus == ImportStatus.COMPLETED ? ServiceState.READY : ServiceState.DEGRADED);
+        log.info(savedRecipeCount.get() + " recipes have been saved");
+    }
 
     /**
-     * Überprüft, ob die Antwort einen naechsten Seitenlink enthaelt, und setzt ihn in das RecipeContainerDTO-Objekt.
+     * Verarbeitet eine Seite aus der Rezept-Datei. Eine Seite, die bereits in einem frueheren Lauf verarbeitet wurde, wird uebersprungen,
+     * sonst wird sie gespeichert und wie eine Seite der Rezept-API im Fortschritt des Imports festgehalten.
      *
-     * @param response           Die ResponseEntity mit der JSON-Antwort der Request
-     * @param recipeContainerDTO Das RecipeContainerDTO-Objekt, in das der naechste Seitenlink gesetzt wird
-     */
-    protected static void hasNextPage(ResponseEntity<JsonNode> response, RecipeContainerDTO recipeContainerDTO) {
-        if (response.getBody().has("_links")) {
-            JsonNode links = response.getBody().get("_links");
-            if (links.has("next")) {
-                JsonNode next = links.get("next");
-                if (next.has("href")) {
-                    String nextPageUrl = next.get("href").asText();
-                    recipeContainerDTO.with(nextPageUrl);
-                }
-            }
+     * @param importJob Der Fortschritt des Imports aus der Rezept-Datei
+     * @param dumpUrl   Die URL der Rezept-Datei in ihrem aktuellen Stand
+     * @param from      Die Position des ersten Rezepts der Seite in der Datei
+     * @param page      Die gueltigen Rezepte der Seite
+     * @param lastPage  Gibt an, ob die Seite die letzte der Datei ist
+     * @return Die Anzahl der gespeicherten Rezepte
+     */
+    protected int importDumpPage(ImportJob importJob, String dumpUrl, int from, List<RecipeMappingDTO> page, boolean lastPage) {
+        URI nextUrl = lastPage ? null : getDumpPageUrl(dumpUrl, from + page.size());
+        if (page.isEmpty()) {
+            importJob.setNextUrl(null); // Die Datei endet genau nach einer vollen Seite
+            saveImportJob(importJob);
+            return 0;
+        }
+        String pageKey = getPageKey(getDumpPageUrl(dumpUrl, from));
+        if (findProcessedPage(pageKey).isPresent()) {
+            importJob.setNextUrl(nextUrl != null ? nextUrl.toString() : null);
+            return 0;
         }
+        int saved = saveDumpPage(page);
+        recordPage(importJob, pageKey, nextUrl, page.size(), saved);
+        return saved;
     }
 
-
     /**
-     * Mapt die gueltigen Rezepteintraege aus der JSON-Antwort in ein RecipeMappingDTO-Objekt.
+     * Speichert eine Seite aus der Rezept-Datei. Die Zutaten werden nur aus dem {@link IngredientLookupCache} gelesen.
      *
-     * @param response Die JSON-Antwort
-     * @return Das gemappte RecipeMappingDTO-Objekt oder null, wenn Rezept nicht gueltig ist und somit nicht gemappt werden kann
+     * @param page Die gueltigen Rezepte der Seite
+     * @return Die Anzahl der gespeicherten Rezepte
      */
-    protected RecipeMappingDTO mapValidRecipeEntries(JsonNode response) {
-        if (!response.has("recipe")) {
-            return null;
+    protected int saveDumpPage(List<RecipeMappingDTO> page) {
+        if (page.isEmpty()) {
+            return 0;
         }
-        try {
-            return objectMapper.readValue(response.get("recipe").toString(), RecipeMappingDTO.class);
-        } catch (JsonProcessingException e) {
-            log.warn(e.getOriginalMessage());
-
-            return null; //Es wird keine Exception geworfen, damit die Abfrage weiterläuft
+        List<Recipe> savedPage = savePage(resolveIngredients(filterKnownRecipes(page), false));
+        List<RecipeNutrientTotals> savedNutrientTotals = new ArrayList<>();
+        for (Recipe savedRecipe : savedPage) {
+            savedNutrientTotals.add(RecipeNutrientTotals.of(savedRecipe));
         }
+        recipeNutrientIndex.addAll(savedNutrientTotals);
+        dumpPages.increment();
+        savedRecipes.increment(savedPage.size());
+        if (!savedPage.isEmpty()) {
+            catalogVersion.increment(Catalog.RECIPES, Catalog.INGREDIENTS); // Erst nach dem Index, sonst koennte die Filterung unter der neuen Version ohne die Seite antworten
+        }
+        return savedPage.size();
+    }
 
+    /**
+     * Berechnet die URL der Rezept-Datei in ihrem aktuellen Stand. Groesse, Aenderungszeitpunkt und Batch-Groesse sind Teil der URL,
+     * damit die gespeicherten Seiten nach einer Aenderung der Datei oder der Seitengroesse nicht mehr passen.
+     *
+     * @param recipeDumpFile Die Rezept-Datei
+     * @param batchSize      Die Anzahl der Rezepte pro Seite
+     * @return Die URL der Rezept-Datei ohne Position
+     * @throws IOException Wenn die Groesse oder der Aenderungszeitpunkt der Datei nicht gelesen werden kann
+     */
+    protected static String getDumpUrl(Path recipeDumpFile, int batchSize) throws IOException {
+        return recipeDumpFile.toAbsolutePath().toUri() + "?size=" + Files.size(recipeDumpFile)
+                + "&modified=" + Files.getLastModifiedTime(recipeDumpFile).toMillis() + "&batchSize=" + batchSize;
+    }
 
+    /**
+     * Berechnet die URL einer Seite der Rezept-Datei, die als Schluessel der Seite und als Link zur naechsten Seite im Fortschritt dient.
+     *
+     * @param dumpUrl Die URL der Rezept-Datei in ihrem aktuellen Stand
+     * @param from    Die Position des ersten Rezepts der Seite in der Datei
+     * @return Die URL der Seite
+     */
+    protected static URI getDumpPageUrl(String dumpUrl, int from) {
+        return URI.create(dumpUrl + "&from=" + from);
     }
 
     /**
-     * Ruft die Informationen für eine Zutat anhand ihrer Food-ID ab.
+     * Ermittelt die Position in der Rezept-Datei, an der ein abgebrochener Import fortgesetzt wird.
+     * Gehoert der gespeicherte Link zu einem anderen Stand der Datei, beginnt der Import am Anfang der Datei.
      *
-     * @param foodId Die Food-ID der Zutat
-     * @param unit   Die Einheit der Zutat aus dem Rezept
-     * @return Das gemappte IngredientMappingDTO-Objekt oder null, wenn Zutat nicht gueltig ist und somit nicht gemappt werden kann
-     */
-    protected IngredientMappingDTO getIngredient(String foodId, String unit) {
-        //Pro Zutat Pro Rezept
-        String baseURL = "https://api.edamam.com/api/food-database/v2/parser";
-        String ingredientUrl = baseURL + "?app_id=" + requestProperties.getIngredientAppId() + "&app_key=" + requestProperties.getIngredientAppKey() + "&ingr=" + foodId + "&nutrition-type=cooking";
-        ResponseEntity<JsonNode> response;
+     * @param importJob Der Fortschritt des Imports aus der Rezept-Datei
+     * @param dumpUrl   Die URL der Rezept-Datei in ihrem aktuellen Stand
+     * @return Die Anzahl der Rezepte, die bereits verarbeitet wurden
+     */
+    protected static int getDumpResumePosition(ImportJob importJob, String dumpUrl) {
+        String prefix = dumpUrl + "&from=";
+        if (importJob.getNextUrl() == null || !importJob.getNextUrl().startsWith(prefix)) {
+            return 0;
+        }
         try {
-            response = restTemplate.getForEntity(ingredientUrl, JsonNode.class);
+            return Integer.parseInt(importJob.getNextUrl().substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            log.warn("Stored import cursor could not be resumed, starting from the beginning of the file");
+            return 0;
+        }
+    }
 
-            if (!response.getStatusCode().equals(HttpStatus.OK)) {
-                log.info("Error during Get Request! ");
-                return null;
+    /**
+     * Loest den Bildpfad eines Rezepts aus der Rezept-Datei auf. Relative Pfade werden als Dateien im Verzeichnis der Rezept-Datei interpretiert,
+     * sodass die Bilder ohne Netzwerkzugriff gelesen werden koennen. Nur URLs mit dem Schema http, https oder file werden unveraendert uebernommen,
+     * ein Pfad wie {@code C:/images/a.jpg} oder {@code images/a:b.jpg} enthaelt zwar einen Doppelpunkt, ist aber keine URL.
+     *
+     * @param imageDirectory Das Verzeichnis der Rezept-Datei
+     * @param image          Der Bildpfad oder die URL des Bildes
+     * @return Die URL des Bildes
+     */
+    protected static String resolveDumpImage(Path imageDirectory, String image) {
+        try {
+            String scheme = URI.create(image).getScheme();
+            if ("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme) || "file".equalsIgnoreCase(scheme)) {
+                return image;
             }
-        } catch (Exception e) {
-            log.info("Error during Get Request! " + e.getMessage());
-            return null;
+        } catch (IllegalArgumentException e) {
+            // Kein gueltiger URI, z.B. ein Pfad mit Leerzeichen oder Backslashes
         }
+        return imageDirectory.resolve(image).toUri().toString();
+    }
 
-        if (!response.getBody().has("hints")) {
-            log.error("Response does not contain any valid ingredients.");
-            return null;
+    /**
+     * Berechnet den Schluessel einer Seite der Rezept-API aus ihrer URL. Die Zugangsdaten werden dabei entfernt,
+     * damit eine Seite auch nach einer Aenderung der Zugangsdaten wiedererkannt wird.
+     *
+     * @param recipeUrl Die URL der Seite
+     * @return Der SHA-256-Hashwert der URL ohne Zugangsdaten als Hex-String
+     */
+    protected static String getPageKey(URI recipeUrl) {
+        String url = recipeUrl.toString().replaceAll("([?&])app_(id|key)=[^&]*", "$1");
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
-        JsonNode ingredient = response.getBody().get("hints").get(0);
-        return mapValidIngredientEntries(ingredient, foodId, unit);
+    }
 
+    /**
+     * Sucht eine bereits verarbeitete Seite. Ein Fehler wird nur geloggt, die Seite wird dann erneut abgerufen.
+     *
+     * @param pageKey Der Schluessel der Seite
+     * @return Die verarbeitete Seite oder ein leeres Optional
+     */
+    protected Optional<ImportPage> findProcessedPage(String pageKey) {
+        try {
+            return importPageRepository.findById(pageKey);
+        } catch (Exception e) {
+            log.error("Import page could not be loaded! " + e.getMessage());
+            return Optional.empty();
+        }
+    }
 
+    /**
+     * Laedt den gespeicherten Fortschritt des Imports oder legt einen neuen an, wenn noch kein Import gelaufen ist.
+     * Ein Fehler wird nur geloggt, der Import beginnt dann bei der ersten Seite.
+     *
+     * @return Der Fortschritt des Imports
+     */
+    protected ImportJob loadImportJob() {
+        return loadImportJob(IMPORT_JOB_ID);
     }
 
     /**
-     * Mapt die gültigen Zutateneintraege aus der JSON-Antwort in ein IngredientMappingDTO-Objekt.
+     * Laedt den gespeicherten Fortschritt eines Imports oder legt einen neuen an, wenn dieser Import noch nicht gelaufen ist.
+     * Ein Fehler wird nur geloggt, der Import beginnt dann von vorne.
      *
-     * @param response Die JSON-Antwort der Request
-     * @param foodId   Die Food-ID der Zutat
-     * @param unit     Die Einheit der Zutat aus dem Rezept
-     * @return Das gemappte IngredientMappingDTO-Objekt oder null, wenn Zutat nicht gueltig ist und somit nicht gemappt werden kann
+     * @param jobId Die ID des Imports
+     * @return Der Fortschritt des Imports
      */
-    protected IngredientMappingDTO mapValidIngredientEntries(JsonNode response, String foodId, String unit) {
+    protected ImportJob loadImportJob(String jobId) {
         try {
-            if (!response.has("food")) {
-                throw new JsonKeyNotFoundException("Key 'food' does not exist");
-            }
-            IngredientMappingDTO ingredientMappingDTO = objectMapper.readValue(response.get("food").toString(), IngredientMappingDTO.class);
-            List<IngredientUnitMappingDTO> units = findEveryUnit(response);
-            ingredientMappingDTO.setIngredientUnitMappingDTOS(units);
-            if (unit.equals("<unit>")) {
-                unit = "Whole";
+            Optional<ImportJob> importJob = importJobRepository.findById(jobId);
+            if (importJob.isPresent()) {
+                return importJob.get();
             }
-            String finalUnit = unit;
-            IngredientUnitMappingDTO unitInGrams = units.stream().filter(unitMapping -> unitMapping.getLabel().equalsIgnoreCase(finalUnit)).findFirst().orElseThrow(() -> new JsonKeyNotFoundException("Key 'units' is invalid! " + finalUnit + " does not exist!"));
-            ingredientMappingDTO.setUnitInGrams(unitInGrams.getWeight());
-            return ingredientMappingDTO;
-        } catch (JsonProcessingException e) {
-            log.warn("Ingredient with foodId: " + foodId + " could not be mapped! " + e.getMessage());
-            return null; //Es wird keine Exception geworfen, damit die Abfrage weiterläuft
+        } catch (Exception e) {
+            log.error("Import job could not be loaded! " + e.getMessage());
         }
-
-
+        return ImportJob.builder().id(jobId).pagesFetched(0).recipesSaved(0).startedAt(Instant.now()).build();
     }
 
     /**
-     * Sucht alle Einheiten einer Zutat in der JSON-Antwort der Request und mappt sie in eine Liste von IngredientUnitMappingDTO-Objekten.
+     * Zaehlt eine verarbeitete Seite, speichert ihr Ergebnis und den Link zur naechsten Seite, damit der Import dort fortgesetzt werden kann.
+     * Ein Fehler beim Speichern der Seite wird nur geloggt, die Seite wird dann bei einem spaeteren Lauf erneut abgerufen.
      *
-     * @param response Die JSON-Antwort
-     * @return Die Liste der gemappten IngredientUnitMappingDTO-Objekte
-     * @throws JsonKeyNotFoundException Wenn ein erforderlicher Schlüssel in der JSON-Antwort nicht vorhanden ist
-     */
-    protected List<IngredientUnitMappingDTO> findEveryUnit(JsonNode response) throws JsonKeyNotFoundException {
-        List<IngredientUnitMappingDTO> ingredientUnitMappingDTOS = new ArrayList<>();
-        if (!response.has("measures")) {
-            throw new JsonKeyNotFoundException("Key 'measures' does not exist");
-        }
-
-        JsonNode units = response.get("measures");
-        for (JsonNode unitNode : units) {
-            if (unitNode.has("weight")) {
-                if (unitNode.has("uri")) {
-                    if (!unitNode.get("uri").asText().endsWith("default")) {
-                        String label = unitNode.get("label").asText();
-                        Double weight = unitNode.get("weight").asDouble();
-                        ingredientUnitMappingDTOS.add(IngredientUnitMappingDTO.builder().label(label).weight(weight).build());
-                    }
-                }
-
-            } else {
-                throw new JsonKeyNotFoundException("Key 'units' is invalid!");
-            }
+     * @param importJob       Der Fortschritt des Imports
+     * @param pageKey         Der Schluessel der verarbeiteten Seite
+     * @param nextUrl         Der Link zur naechsten Seite oder null, wenn es keine weitere Seite gibt
+     * @param receivedRecipes Die Anzahl der gueltigen Rezepte der Seite
+     * @param savedRecipes    Die Anzahl der gespeicherten Rezepte der Seite
+     */
+    protected void recordPage(ImportJob importJob, String pageKey, URI nextUrl, int receivedRecipes, int savedRecipes) {
+        importProgress.pageProcessed(savedRecipes);
+        try {
+            importPageRepository.save(ImportPage.builder().id(pageKey).jobId(importJob.getId()).pageNumber(importJob.getPagesFetched() + 1)
+                    .nextUrl(nextUrl != null ? nextUrl.toString() : null).recipesReceived(receivedRecipes).recipesSaved(savedRecipes).processedAt(Instant.now()).build());
+        } catch (Exception e) {
+            log.error("Import page could not be saved! " + e.getMessage());
         }
-        return ingredientUnitMappingDTOS;
+        importJob.setNextUrl(nextUrl != null ? nextUrl.toString() : null);
+        importJob.setPagesFetched(importJob.getPagesFetched() + 1);
+        importJob.setRecipesSaved(importJob.getRecipesSaved() + savedRecipes);
+        saveImportJob(importJob);
+    }
 
+    /**
+     * Speichert den Fortschritt des Imports. Ein Fehler wird nur geloggt, damit der Import trotzdem weiterlaufen kann.
+     *
+     * @param importJob Der zu speichernde Fortschritt des Imports
+     */
+    protected void saveImportJob(ImportJob importJob) {
+        try {
+            importJob.setUpdatedAt(Instant.now());
+            importJobRepository.save(importJob);
+        } catch (Exception e) {
+            log.error("Import job could not be saved! " + e.getMessage());
+        }
+    }
 
+    /**
+     * Beendet den Thread des Imports beim Herunterfahren der Anwendung. Der Import wird beim naechsten Start fortgesetzt.
+     */
+    @PreDestroy
+    public void shutdown() {
+        importExecutor.shutdownNow();
     }
 
     /**
-     * Diese Methode speichert ein Rezept mit den dazugehoerigen Zutaten in der Datenbank.
-     *
-     * @param recipeMappingDTO Rezept-Faten als RecipeMappingDTO-Objekt
-     * @return gespeichertes Rezept als Recipe-Objekt
+     * Berechnet die Gesamtnaehrwerte fuer alle Rezepte, die vor Einfuehrung der vorberechneten Naehrwerte gespeichert wurden.
+     * Ein Fehler wird nur geloggt, damit der Import trotzdem weiterlaufen kann.
      */
-    protected Recipe save(RecipeMappingDTO recipeMappingDTO) {
-        AtomicReference<Recipe> savedRecipeRef = new AtomicReference<>();
+    protected void backfillNutrientTotals() {
         TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
-        transactionTemplate.execute(status -> {
-            try {
-                byte[] imageAsByte = retrieveImage(recipeMappingDTO.getImage());
-                Recipe recipe = initialDataMapper.mapToRecipe(recipeMappingDTO, imageAsByte);
-                saveRecipe(recipe);
-                List<RecipeIngredientMappingDTO> recipeIngredientMappingDTOList = recipeMappingDTO.getRecipeIngredientMappingDTOList();
-                for (RecipeIngredientMappingDTO recipeIngredientMappingDTO : recipeIngredientMappingDTOList) {
-                    IngredientMappingDTO ingredientMappingDTO = recipeIngredientMappingDTO.getIngredientMappingDTO();
-                    Ingredient ingredient = initialDataMapper.mapToIngredient(ingredientMappingDTO);
-                    boolean ingredientExistsAlready = saveIngredient(ingredient);
-                    saveRecipeIngredient(initialDataMapper.mapToRecipeIngredients(recipe, ingredient, recipeIngredientMappingDTO));
-                    if (!ingredientExistsAlready) {
-                        //speichere die Einheiten nur, wenn im selben Zug die dazugehörige zutat gespeichert wurde,
-                        //sowohl Zutat als auch Einheiten werden also nicht gespeichert, wenn die Zutat bereits in der DB existiert
-                        //denn, wenn die Zutat existiert, existieren auch immer die dazugehörigen Einheiten
-
-                        for (IngredientUnitMappingDTO ingredientUnitMappingDTO : ingredientMappingDTO.getIngredientUnitMappingDTOS()) {
-
-                            saveUnit(initialDataMapper.mapToIngredientUnit(ingredientUnitMappingDTO, ingredient));
-
-                        }
-                    }
-                }
-                savedRecipeRef.set(recipe); // Speichere die im repository erfolgreich hinzugefügte Zutat
-            } catch (ServiceException e) {
-                status.setRollbackOnly();
+        try {
+            // Die Summen werden in der Datenbank gebildet, statt Rezepte, Rezept-Zutaten und Zutaten zu laden
+            Integer updatedRecipes = transactionTemplate.execute(status -> recipeRepository.backfillNutrientTotals());
+            if (updatedRecipes != null && updatedRecipes > 0) {
+                log.info("Nutrient totals have been calculated for " + updatedRecipes + " recipes");
             }
-            return null;
-        });
-
-        return savedRecipeRef.get(); // Gib das gespeicherte Rezept aus
+        } catch (Exception e) {
+            log.error("Nutrient totals could not be calculated! " + e.getMessage());
+        }
     }
 
+    /**
+     * Berechnet den Hashwert des Bildes fuer alle Rezepte, die vor Einfuehrung der Hashwerte gespeichert wurden.
+     * Ein Fehler wird nur geloggt, damit der Import trotzdem weiterlaufen kann.
+     */
+    protected void backfillImageHashes() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            Integer updatedRecipes = transactionTemplate.execute(status -> recipeRepository.backfillImageHashes());
+            if (updatedRecipes != null && updatedRecipes > 0) {
+                log.info("Image hashes have been calculated for " + updatedRecipes + " recipes");
+            }
+        } catch (Exception e) {
+            log.error("Image hashes could not be calculated! " + e.getMessage());
+        }
+    }
 
     /**
-     * Diese Methode speichert ein Rezept, ohne ihre Zutaten.
-     *
-     * @param recipe Das zu speichernde Rezept als Recipe-Objekt
-     * @throws ServiceException Wenn ein Fehler beim Zugriff auf die Datenbank auftritt
+     * Berechnet den Fingerabdruck fuer alle Rezepte, die vor Einfuehrung der Fingerabdruecke gespeichert wurden, damit sie beim Import wiedererkannt werden.
+     * Ein Fehler wird nur geloggt, damit der Import trotzdem weiterlaufen kann.
      */
-    protected void saveRecipe(Recipe recipe) throws ServiceException {
+    protected void backfillFingerprints() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
         try {
-            Optional<Recipe> savedRecipe = recipeRepository.findByTitle(recipe.getTitle()); // alle vorhandenen Rezepte mit dem Titel abrufen
-            if (savedRecipe.isPresent()) {
-                //schaut, ob Rezept mit dem Titel bereits existiert, -> verhindert, dass dasselbe Rezept mehrmals vorkommt
-                throw new ServiceException("Recipe already exists.");
-            } else {
-                recipeRepository.save(recipe);
+            Integer updatedRecipes = transactionTemplate.execute(status -> recipeRepository.backfillFingerprints());
+            if (updatedRecipes != null && updatedRecipes > 0) {
+                log.info("Fingerprints have been calculated for " + updatedRecipes + " recipes");
             }
         } catch (Exception e) {
-            String errorMessage = "Recipe  " + recipe.getTitle() + " could not be saved!";
-            log.error(errorMessage + " " + e.getMessage());
-            throw new ServiceException(errorMessage, e);
+            log.error("Fingerprints could not be calculated! " + e.getMessage());
         }
     }
 
     /**
-     * Diese Methode ruft die Anzahl der gespeicherten Rezepte aus der Datenbank ab.
-     *
-     * @return Anzahl der gespeicherten Rezepte
-     * @throws ServiceException falls ein Fehler beim Zugriff auf die Datenbank auftritt
+     * Baut den In-Memory-Index ueber die Gesamtnaehrwerte aller gespeicherten Rezepte auf.
+     * Ein Fehler wird nur geloggt, damit der Import trotzdem weiterlaufen kann.
      */
-    @Transactional(readOnly = true, rollbackFor = ServiceException.class)
-    protected Long getRecipeCount() throws ServiceException {
+    protected void rebuildNutrientIndex() {
         try {
-            return recipeRepository.count();
+            recipeNutrientIndex.rebuild(recipeRepository.findAllNutrientTotals());
+            log.info("Nutrient index has been built for " + recipeNutrientIndex.size() + " recipes");
         } catch (Exception e) {
-            String errorMessage = "Recipe count could not be loaded ";
-            throw new ServiceException(errorMessage, e);
+            log.error("Nutrient index could not be built! " + e.getMessage());
         }
     }
 
+    /**
+     * Entfernt die abgelaufenen Antworten der Food-API aus dem Cache, damit diese Zutaten beim Import erneut abgefragt werden.
+     */
+    protected void evictExpiredIngredientLookups() {
+        int evictedLookups = ingredientLookupCache.evictExpired();
+        if (evictedLookups > 0) {
+            log.info(evictedLookups + " expired ingredient lookups have been evicted");
+        }
+    }
 
     /**
-     * Speichert eine Zutat in der Datenbank.
+     * Laedt den gesamten Zutatenkatalog in den Cache, damit das Erstellen von Rezepten keine Datenbankabfragen pro Zutat benoetigt.
+     * Ein Fehler wird nur geloggt, fehlende Zutaten werden dann beim ersten Zugriff einzeln geladen.
+     */
+    protected void warmIngredientCatalogCache() {
+        try {
+            ingredientCatalogCache.warm(CachedIngredient.fromEntries(ingredientRepository.findAllCatalogEntries()));
+            log.info("Ingredient catalog cache has been warmed with " + ingredientCatalogCache.size() + " ingredients");
+        } catch (Exception e) {
+            log.error("Ingredient catalog cache could not be warmed! " + e.getMessage());
+        }
+    }
+
+    /**
+     * Diese Methode ruft eine API-Response von der angegebenen URL ab.
      *
-     * @param ingredient Die zu speichernde Zutat als Ingredient-Objekt
-     * @return Gibt zurück, ob die Zutat bereits vorhanden war (true) oder erfolgreich gespeichert wurde (false)
-     * @throws ServiceException Wenn ein Fehler beim Zugriff auf die Datenbank auftritt
+     * @param recipeUrl URL der Rezept-API-Anfrage
+     * @return API-Response als RecipeContainerDTO-Objekt
      */
-    protected boolean saveIngredient(Ingredient ingredient) throws ServiceException {
+    protected RecipeContainerDTO getResponse(URI recipeUrl) {
+        RecipeContainerDTO recipeContainerDTO;
+        log.info("URL: " + recipeUrl);
+        long start = System.nanoTime();
         try {
-            List<String> existingIds = ingredientRepository.findAllIds(); // alle vorhandenen Zutaten-IDs abrufen
-            if (!existingIds.contains(ingredient.getId())) {
-                ingredientRepository.save(ingredient); // Zutat nur speichern, wenn ID noch nicht vorhanden ist
-                return false;
-            } else {
-                log.info("Ingredient " + ingredient.getName() + " with the id " + ingredient.getId() + "was not saved, it already exists!");
-                return true;
+            // Die Antwort wird direkt aus dem Stream gelesen, ohne sie als JSON-Baum aufzubauen
+            recipeContainerDTO = restTemplate.execute(recipeUrl, HttpMethod.GET, null, response -> {
+                if (!response.getStatusCode().equals(HttpStatus.OK)) {
+                    return null;
+                }
+                return recipePageParser.parse(response.getBody());
+            });
+            if (recipeContainerDTO == null) {
+                failedRecipeRequests.recordNanos(System.nanoTime() - start);
+                log.info("Error during Get Request!");
+                return null;
             }
         } catch (Exception e) {
-            String errorMessage = "Ingredient with the id: " + ingredient.getId() + " could not be saved!";
-            log.error(errorMessage + " " + e.getMessage());
-            throw new ServiceException(errorMessage, e);
+            failedRecipeRequests.recordNanos(System.nanoTime() - start);
+            log.info("Error during Get Request! " + e.getMessage());
+            return null;
         }
+        successfulRecipeRequests.recordNanos(System.nanoTime() - start);
 
+        if (recipeContainerDTO.getRecipeMappingDTOList().isEmpty()) {
+            log.error("Response in: " + recipeUrl + " does not contain any valid recipes.");
+            return recipeContainerDTO;
+        }
+        // Bereits gespeicherte Rezepte werden verworfen, bevor ihre Zutaten abgefragt werden
+        return recipeContainerDTO.with(resolveIngredients(filterKnownRecipes(recipeContainerDTO.getRecipeMappingDTOList()), true));
+    }
+
+    /**
+     * Ermittelt die Zutaten aller angegebenen Rezepte und ordnet sie den Rezept-Zutaten zu.
+     * Die Zutaten werden ueber den {@link IngredientLookupClient} gemeinsam abgefragt, die Mengen der Rezept-Zutaten werden dabei in Gramm umgerechnet.
+     *
+     * @param validRecipeMappingDTOList Die gueltigen Rezepte
+     * @param allowRequests             true, wenn Zutaten, die nicht im Cache sind, bei der Food-API abgefragt werden duerfen
+     * @return Die Rezepte, deren Zutaten alle gefunden und gemappt werden konnten
+     */
+    protected List<RecipeMappingDTO> resolveIngredients(List<RecipeMappingDTO> validRecipeMappingDTOList, boolean allowRequests) {
+        List<RecipeIngredientMappingDTO> recipeIngredientMappingDTOList = new ArrayList<>();
+        for (RecipeMappingDTO recipeMappingDTO : validRecipeMappingDTOList) {
+            recipeIngredientMappingDTOList.addAll(recipeMappingDTO.getRecipeIngredientMappingDTOList());
+        }
+
+        // Die Zutaten aller Rezepte werden nebenlaeufig abgefragt, die Ergebnisse liegen in derselben Reihenfolge wie die Rezept-Zutaten vor
+        List<IngredientMappingDTO> ingredientMappingDTOList = ingredientLookupClient.lookupAll(recipeIngredientMappingDTOList, allowRequests);
+        List<RecipeMappingDTO> recipeMappingDTOList = new ArrayList<>();
+        int offset = 0;
+        recipeLoop:
+        for (RecipeMappingDTO recipeMappingDTO : validRecipeMappingDTOList) {
+            List<RecipeIngredientMappingDTO> recipeIngredients = recipeMappingDTO.getRecipeIngredientMappingDTOList();
+            int first = offset;
+            offset += recipeIngredients.size();
+            for (int i = 0; i < recipeIngredients.size(); i++) {
+                RecipeIngredientMappingDTO recipeIngredientMappingDTO = recipeIngredients.get(i);
+                IngredientMappingDTO ingredientMappingDTO = ingredientMappingDTOList.get(first + i);
+
+                if (ingredientMappingDTO == null) {
+                    //Nicht alle Zutaten konnten gemappt werden
+                    continue recipeLoop; //mache nur mit den rezepten weiter, die valide sind, sprich alle Zutaten enthalten, daher continue
+                }
+                recipeIngredientMappingDTO.setQuantity(recipeIngredientMappingDTO.getQuantity() * ingredientMappingDTO.getUnitInGrams());
+                recipeIngredientMappingDTO.setIngredientMappingDTO(ingredientMappingDTO);
+            }
+            recipeMappingDTOList.add(recipeMappingDTO);
+
+        }
+        return recipeMappingDTOList;
     }
 
 
     /**
-     * Speichert eine Rezeptzutat in der Datenbank. Also die Zuweisung einer Zutat zu einem Rezept
+     * Speichert die Rezepte einer Seite der API-Antwort gemeinsam in einer Transaktion.
+     * Bilder, Naehrwerte und Zutaten werden vorher ausserhalb der Transaktion vorbereitet, damit diese waehrend der Downloads nicht offen bleibt.
+     * Die Bilder aller Rezepte der Seite werden dabei parallel vom {@link ImageDownloader} heruntergeladen.
+     * Schlaegt das Speichern der gesamten Seite fehl, werden die Rezepte einzeln gespeichert, sodass ein fehlerhaftes Rezept nicht die ganze Seite verwirft.
      *
-     * @param recipeIngredient Die zu speichernde Rezeptzutat als RecipeIngredient-Objekt
-     * @throws ServiceException Wenn ein Fehler beim Zugriff auf die Datenbank auftritt
+     * @param recipeMappingDTOList Die Rezept-Daten der Seite als RecipeMappingDTO-Objekte
+     * @return Die gespeicherten Rezepte
      */
-    protected void saveRecipeIngredient(RecipeIngredient recipeIngredient) throws ServiceException {
+    protected List<Recipe> savePage(List<RecipeMappingDTO> recipeMappingDTOList) {
+        List<CompletableFuture<byte[]>> images = new ArrayList<>();
+        for (RecipeMappingDTO recipeMappingDTO : recipeMappingDTOList) {
+            images.add(imageDownloader.downloadAsync(recipeMappingDTO.getImage()));
+        }
+
+        List<PreparedRecipeDTO> preparedRecipes = new ArrayList<>();
+        for (int i = 0; i < recipeMappingDTOList.size(); i++) {
+            RecipeMappingDTO recipeMappingDTO = recipeMappingDTOList.get(i);
+            try {
+                preparedRecipes.add(prepareRecipe(recipeMappingDTO, awaitImage(images.get(i))));
+            } catch (ServiceException e) {
+                log.error("Recipe " + recipeMappingDTO.getLabel() + " could not be prepared! " + e.getMessage());
+            }
+        }
+        if (preparedRecipes.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
         try {
-            recipeIngredientRepository.save(recipeIngredient);
+            return transactionTemplate.execute(status -> saveBatch(preparedRecipes));
         } catch (Exception e) {
-            String errorMessage = "Recipe " + recipeIngredient.getRecipe().getTitle() + " and it's ingredient " + recipeIngredient.getIngredient().getName() + " could not be saved!";
-            log.error(errorMessage + " " + e.getMessage());
-            throw new ServiceException(errorMessage, e);
+            log.warn("Page with " + preparedRecipes.size() + " recipes could not be saved as a batch, saving recipes one by one. " + e.getMessage());
+        }
+
+        List<Recipe> savedRecipes = new ArrayList<>();
+        for (PreparedRecipeDTO preparedRecipe : preparedRecipes) {
+            preparedRecipe.getRecipe().setId(null); // Die im fehlgeschlagenen Batch vergebene ID wurde zurueckgerollt
+            try {
+                savedRecipes.addAll(transactionTemplate.execute(status -> saveBatch(List.of(preparedRecipe))));
+            } catch (Exception e) {
+                log.error("Recipe " + preparedRecipe.getRecipe().getTitle() + " could not be saved! " + e.getMessage());
+            }
         }
+        return savedRecipes;
     }
 
     /**
-     * Speichert die Masseinheit für eine Zutat in der Datenbank.
+     * Wartet, bis der Download eines Bildes abgeschlossen ist.
      *
-     * @param ingredientUnit Das zu speichernde IngredientUnit-Objekt
-     * @throws ServiceException Wenn ein Fehler beim Speichern der Einheiten auftritt
+     * @param image Der laufende oder abgeschlossene Download
+     * @return Das Bild als Byte-Array
+     * @throws ServiceException Wenn das Bild nicht heruntergeladen werden kann
      */
-    protected void saveUnit(IngredientUnit ingredientUnit) throws ServiceException {
-        String ingredientId = ingredientUnit.getIngredient().getId();
+    protected byte[] awaitImage(CompletableFuture<byte[]> image) throws ServiceException {
         try {
-            ingredientUnitRepository.save(ingredientUnit);
-
-        } catch (Exception e) {
-            String errorMessage = "IngredientMeasures for ingredient " + ingredientId + "with the unit "
-                    + ingredientUnit.getLabel() + " and it's value " + ingredientUnit.getValue() + " could not be saved!";
-            log.error(errorMessage + " " + e.getMessage());
-            throw new ServiceException(errorMessage, e);
+            return image.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            throw new ServiceException("Error while retrieving image: " + e.getCause().getMessage(), e.getCause());
         }
     }
 
-
     /**
-     * Ruft ein Bild von der angegebenen URL ab und gibt es als Byte-Array zurück.
+     * Bereitet ein Rezept fuer das Speichern vor. Die Entities werden gemappt, die verkleinerten Bilder erzeugt und die Gesamtnaehrwerte berechnet.
      *
-     * @param imageUrl Die URL des Bildes
-     * @return Das abgerufene Bild als Byte-Array
-     * @throws ServiceException Wenn ein Fehler beim Abrufen des Bildes auftritt
+     * @param recipeMappingDTO Rezept-Daten als RecipeMappingDTO-Objekt
+     * @param imageAsByte      Das bereits heruntergeladene Bild des Rezepts
+     * @return Das vorbereitete, noch nicht gespeicherte Rezept
      */
-    protected byte[] retrieveImage(String imageUrl) throws ServiceException {
-        try {
-            // Es wurde sich an diesem Ansatz orientiert: https://stackoverflow.com/a/2295331
-            URIBuilder uriBuilder = new URIBuilder(imageUrl);
-            URL url = uriBuilder.build().toURL();
+    protected PreparedRecipeDTO prepareRecipe(RecipeMappingDTO recipeMappingDTO, byte[] imageAsByte) {
+        Recipe recipe = initialDataMapper.mapToRecipe(recipeMappingDTO, imageAsByte);
+        imageProcessor.applyImageData(recipe);
+
+        List<Ingredient> ingredients = new ArrayList<>();
+        List<IngredientUnit> ingredientUnits = new ArrayList<>();
+        List<RecipeIngredient> recipeIngredients = new ArrayList<>();
+        for (RecipeIngredientMappingDTO recipeIngredientMappingDTO : recipeMappingDTO.getRecipeIngredientMappingDTOList()) {
+            IngredientMappingDTO ingredientMappingDTO = recipeIngredientMappingDTO.getIngredientMappingDTO();
+            Ingredient ingredient = initialDataMapper.mapToIngredient(ingredientMappingDTO);
+            ingredients.add(ingredient);
+            for (IngredientUnitMappingDTO ingredientUnitMappingDTO : ingredientMappingDTO.getIngredientUnitMappingDTOS()) {
+                ingredientUnits.add(initialDataMapper.mapToIngredientUnit(ingredientUnitMappingDTO, ingredient));
+            }
+            recipeIngredients.add(initialDataMapper.mapToRecipeIngredients(recipe, ingredient, recipeIngredientMappingDTO));
+        }
+        nutrientCalculator.applyTotals(recipe, recipeIngredients);
+        return PreparedRecipeDTO.builder().recipe(recipe).ingredients(ingredients).ingredientUnits(ingredientUnits).recipeIngredients(recipeIngredients).build();
+    }
 
-            InputStream inputStream = url.openStream(); //Daten werden aus der URL gelesen
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    /**
+     * Speichert die vorbereiteten Rezepte mit ihren Zutaten, Masseinheiten und Rezept-Zutaten mengenbasiert in der laufenden Transaktion.
+     * Rezepte, deren Fingerabdruck bereits existiert, werden von der Datenbank ueber ON CONFLICT DO NOTHING uebersprungen,
+     * sodass auch ein zwischenzeitlich gespeichertes Rezept nicht zum Abbruch der Transaktion fuehrt.
+     * Bereits vorhandene Zutaten und Masseinheiten werden ebenfalls von der Datenbank uebersprungen.
+     *
+     * @param preparedRecipes Die vorbereiteten Rezepte
+     * @return Die gespeicherten Rezepte
+     */
+    protected List<Recipe> saveBatch(List<PreparedRecipeDTO> preparedRecipes) {
+        List<Recipe> recipes = new ArrayList<>();
+        for (PreparedRecipeDTO preparedRecipe : preparedRecipes) {
+            recipes.add(preparedRecipe.getRecipe());
+        }
+        Set<Recipe> insertedRecipes = new HashSet<>(importBatchRepository.insertRecipes(recipes));
+        if (insertedRecipes.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-            byte[] buffer = new byte[4096];
-            int bytesRead;
-            while ((bytesRead = inputStream.read(buffer)) != -1) { //
-                outputStream.write(buffer, 0, bytesRead);
+        List<Recipe> savedRecipes = new ArrayList<>();
+        Map<String, Ingredient> ingredients = new LinkedHashMap<>();
+        Map<String, IngredientUnit> ingredientUnits = new LinkedHashMap<>();
+        List<RecipeIngredient> recipeIngredients = new ArrayList<>();
+        for (PreparedRecipeDTO preparedRecipe : preparedRecipes) {
+            Recipe recipe = preparedRecipe.getRecipe();
+            if (!insertedRecipes.contains(recipe)) {
+                log.debug("Recipe " + recipe.getTitle() + " was not saved, it already exists");
+                continue;
             }
+            savedRecipes.add(recipe);
+            for (Ingredient ingredient : preparedRecipe.getIngredients()) {
+                ingredients.putIfAbsent(ingredient.getId(), ingredient);
+            }
+            for (IngredientUnit ingredientUnit : preparedRecipe.getIngredientUnits()) {
+                ingredientUnits.putIfAbsent(ingredientUnit.getIngredient().getId() + "|" + ingredientUnit.getLabel(), ingredientUnit);
+            }
+            recipeIngredients.addAll(preparedRecipe.getRecipeIngredients());
+        }
 
-            inputStream.close();
-            outputStream.close();
+        importBatchRepository.insertIngredients(ingredients.values());
+        importBatchRepository.insertIngredientUnits(ingredientUnits.values());
+        importBatchRepository.insertRecipeIngredients(recipeIngredients);
+        return savedRecipes;
+    }
 
-            return outputStream.toByteArray();
+    /**
+     * Entfernt die Rezepte, die bereits gespeichert sind oder auf der Seite mehrfach vorkommen, noch bevor Zutaten abgefragt und Bilder heruntergeladen werden.
+     * Die Fingerabdruecke der gesamten Seite werden mit einer Abfrage ueber den eindeutigen Index geprueft.
+     * Schlaegt die Abfrage fehl, werden alle Rezepte behalten, doppelte Rezepte werden dann beim Speichern uebersprungen.
+     *
+     * @param recipeMappingDTOList Die Rezepte der Seite
+     * @return Die neuen Rezepte der Seite
+     */
+    protected List<RecipeMappingDTO> filterKnownRecipes(List<RecipeMappingDTO> recipeMappingDTOList) {
+        Map<String, RecipeMappingDTO> recipesByFingerprint = new LinkedHashMap<>();
+        for (RecipeMappingDTO recipeMappingDTO : recipeMappingDTOList) {
+            recipesByFingerprint.putIfAbsent(RecipeFingerprint.of(recipeMappingDTO), recipeMappingDTO);
+        }
+        try {
+            recipesByFingerprint.keySet().removeAll(recipeRepository.findExistingFingerprints(recipesByFingerprint.keySet()));
         } catch (Exception e) {
-            throw new ServiceException("Error while retrieving image: " + e.getMessage());
+            log.warn("Existing recipes could not be checked! " + e.getMessage());
         }
+        int knownRecipes = recipeMappingDTOList.size() - recipesByFingerprint.size();
+        if (knownRecipes > 0) {
+            skippedRecipes.increment(knownRecipes);
+            log.info(knownRecipes + " of " + recipeMappingDTOList.size() + " recipes already exist and are skipped");
+        }
+        return new ArrayList<>(recipesByFingerprint.values());
+    }
 
-
+    /**
+     * Diese Methode ruft die Anzahl der gespeicherten Rezepte aus der Datenbank ab.
+     *
+     * @return Anzahl der gespeicherten Rezepte
+     * @throws ServiceException falls ein Fehler beim Zugriff auf die Datenbank auftritt
+     */
+    @Transactional(readOnly = true, rollbackFor = ServiceException.class)
+    protected Long getRecipeCount() throws ServiceException {
+        try {
+            return recipeRepository.count();
+        } catch (Exception e) {
+            String errorMessage = "Recipe count could not be loaded ";
+            throw new ServiceException(errorMessage, e);
+        }
     }
 
 }
@@ -0,0 +1,21 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service;
+
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetImportStatusDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Das Interface IImportService stellt Methoden zur Abfrage des Imports der Rezepte bereit.
+ */
+public interface IImportService {
+
+    /**
+     * Ruft den Fortschritt des Imports ab.
+     *
+     * @return Der Fortschritt des Imports.
+     * @throws ServiceException Wenn ein Fehler beim Abrufen des Fortschritts auftritt.
+     */
+    @Transactional(readOnly = true, rollbackFor = ServiceException.class)
+    GetImportStatusDto getImportStatus() throws ServiceException;
+}
@@ -12,6 +12,14 @@ import java.util.List;
  */
 public interface IIngredientService {
 
+    /**
+     * Gibt den schwachen ETag fuer den aktuellen Stand der Zutaten zurueck, ohne die Zutaten zu laden.
+     * Er aendert sich, sobald durch den Import neue Zutaten gespeichert werden koennen.
+     *
+     * @return Der schwache ETag des aktuellen Stands
+     */
+    String getCatalogETag();
+
 
     /**
      * Ruft eine Liste aller Rezepte ab.
@@ -21,4 +29,26 @@ public interface IIngredientService {
      */
     @Transactional(readOnly = true, rollbackFor = ServiceException.class)
     List<GetIngredientDto> getIngredients() throws ServiceException;
+
+    /**
+     * Ruft eine Seite von Zutaten ab, aufsteigend sortiert nach ihrer ID.
+     *
+     * @param after Die ID der letzten Zutat der vorherigen Seite oder null fuer die erste Seite.
+     * @param limit Die maximale Anzahl an Zutaten.
+     * @return Eine Liste von Zutat-Objekten.
+     * @throws ServiceException Wenn ein Fehler beim Abrufen der Zutaten auftritt.
+     */
+    @Transactional(readOnly = true, rollbackFor = ServiceException.class)
+    List<GetIngredientDto> getIngredients(String after, int limit) throws ServiceException;
+
+    /**
+     * Sucht Zutaten, deren Name den Suchbegriff enthaelt. Zutaten, deren Name mit dem Suchbegriff beginnt, werden zuerst zurueckgegeben.
+     *
+     * @param name  Der Suchbegriff.
+     * @param limit Die maximale Anzahl an Treffern.
+     * @return Eine Liste von Zutat-Objekten.
+     * @throws ServiceException Wenn ein Fehler beim Suchen der Zutaten auftritt.
+     */
+    @Transactional(readOnly = true, rollbackFor = ServiceException.class)
+    List<GetIngredientDto> searchIngredients(String name, int limit) throws ServiceException;
 }
@@ -2,11 +2,15 @@ package de.burak_dogan.bachelorarbeitbackend.recipes.service;
 
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.CreateRecipeDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeDetailDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeImageDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeListItemDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.RecipeFilterDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.UpdateFavoritesDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.ImageSize;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -14,6 +18,14 @@ import java.util.List;
  */
 public interface IRecipeService {
 
+    /**
+     * Gibt den schwachen ETag fuer den aktuellen Stand der Rezepte zurueck, ohne die Rezepte zu laden.
+     * Er aendert sich, sobald ein Rezept erstellt, ein Favoritenstatus geaendert oder eine Seite importiert wurde.
+     *
+     * @return Der schwache ETag des aktuellen Stands
+     */
+    String getCatalogETag();
+
     /**
      * Ruft eine Liste aller Rezepte ab.
      *
@@ -23,6 +35,26 @@ public interface IRecipeService {
     @Transactional(readOnly = true, rollbackFor = ServiceException.class)
     List<GetRecipeListItemDto> getRecipes() throws ServiceException;
 
+    /**
+     * Ruft eine Seite von Rezepten ab, aufsteigend sortiert nach der Rezept-ID.
+     *
+     * @param after Die ID des letzten Rezepts der vorherigen Seite oder null fuer die erste Seite.
+     * @param limit Die maximale Anzahl der Rezepte auf der Seite.
+     * @return Eine Liste von Rezept-Objekten.
+     * @throws ServiceException Wenn ein Fehler beim Abrufen der Rezepte auftritt.
+     */
+    @Transactional(readOnly = true, rollbackFor = ServiceException.class)
+    List<GetRecipeListItemDto> getRecipes(Long after, int limit) throws ServiceException;
+
+    /**
+     * Schreibt alle Rezepte als JSON-Array in den angegebenen OutputStream, ohne die gesamte Antwort im Speicher aufzubauen.
+     *
+     * @param outputStream Der OutputStream, in den die Rezepte geschrieben werden.
+     * @throws ServiceException Wenn ein Fehler beim Abrufen oder Schreiben der Rezepte auftritt.
+     */
+    @Transactional(readOnly = true, rollbackFor = ServiceException.class)
+    void streamRecipes(OutputStream outputStream) throws ServiceException;
+
     /**
      * Ruft ein Rezept ab.
      *
@@ -34,6 +66,39 @@ public interface IRecipeService {
     @Transactional(readOnly = true, rollbackFor = ServiceException.class)
     GetRecipeDetailDto getSingleRecipe(Long recipeId) throws ServiceException;
 
+    /**
+     * Gibt den schwachen ETag fuer den aktuellen Stand eines Rezepts zurueck, ohne das Rezept zu laden.
+     * Existiert das Rezept nicht, wird eine Ausnahme geworfen, damit eine bedingte Anfrage nicht mit 304 statt mit 404 beantwortet wird.
+     *
+     * @param recipeId Die ID des Rezepts.
+     * @return Der schwache ETag des aktuellen Stands
+     * @throws ServiceException Wenn ein Fehler beim Abrufen auftritt oder kein Rezept mit der Rezept-ID existiert.
+     */
+    @Transactional(readOnly = true, rollbackFor = ServiceException.class)
+    String getRecipeETag(Long recipeId) throws ServiceException;
+
+    /**
+     * Ruft den Hashwert des Bildes eines Rezepts ab, ohne das Bild zu laden.
+     *
+     * @param recipeId Die ID des Rezepts.
+     * @return Der Hashwert des Bildes.
+     * @throws ServiceException Wenn ein Fehler beim Abrufen auftritt oder kein Rezept mit der Rezept-ID existiert.
+     */
+    @Transactional(readOnly = true, rollbackFor = ServiceException.class)
+    String getImageHash(Long recipeId) throws ServiceException;
+
+    /**
+     * Ruft das Bild eines Rezepts in der angegebenen Groesse ab.
+     * Fehlt eine verkleinerte Variante noch, wird sie beim ersten Abruf erzeugt und gespeichert.
+     *
+     * @param recipeId Die ID des Rezepts.
+     * @param size     Die gewuenschte Groesse des Bildes.
+     * @return Das Bild mit seinem Content-Type.
+     * @throws ServiceException Wenn ein Fehler beim Abrufen auftritt oder kein Rezept mit der Rezept-ID existiert.
+     */
+    @Transactional(rollbackFor = ServiceException.class)
+    GetRecipeImageDto getImage(Long recipeId, ImageSize size) throws ServiceException;
+
     /**
      * Aktualisiert den Favoritenstatus eines Rezepts.
      *
@@ -43,6 +108,26 @@ public interface IRecipeService {
     @Transactional(rollbackFor = ServiceException.class)
     void updateFavoriteStatus(Long recipeId) throws ServiceException;
 
+    /**
+     * Setzt den Favoritenstatus mehrerer Rezepte gemeinsam.
+     *
+     * @param dto Das Dto mit den IDs der Rezepte und dem neuen Favoritenstatus.
+     * @throws ServiceException Wenn ein Fehler beim Aktualisieren des Favoritenstatus auftritt oder eines der Rezepte nicht existiert.
+     */
+    @Transactional(rollbackFor = ServiceException.class)
+    void updateFavoriteStatus(UpdateFavoritesDto dto) throws ServiceException;
+
+    /**
+     * Ruft eine Seite der favorisierten Rezepte ab, aufsteigend sortiert nach der Rezept-ID.
+     *
+     * @param after Die ID des letzten Rezepts der vorherigen Seite oder null fuer die erste Seite.
+     * @param limit Die maximale Anzahl der Rezepte auf der Seite oder null fuer alle favorisierten Rezepte.
+     * @return Eine Liste von Rezept-Objekten.
+     * @throws ServiceException Wenn ein Fehler beim Abrufen der Rezepte auftritt.
+     */
+    @Transactional(readOnly = true, rollbackFor = ServiceException.class)
+    List<GetRecipeListItemDto> getFavoriteRecipes(Long after, Integer limit) throws ServiceException;
+
     /**
      * Sucht Rezepte basierend auf den Ziel-Naehrwertangaben.
      *
@@ -58,7 +143,8 @@ public interface IRecipeService {
      * Erstellt ein Rezept anhand der Eingaben des Users.
      *
      * @param dto                 Das Dto, das die Eingaben des Users enthaelt.
-     * @throws ServiceException Wenn ein Fehler beim Suchen der Rezepte auftritt oder eine angegebene Zutat oder Masseinheit nicht existiert.
+     * @throws ServiceException Wenn ein Fehler beim Suchen der Rezepte auftritt, eine angegebene Zutat oder Masseinheit nicht existiert
+     *                          oder bereits ein Rezept mit demselben Titel und denselben Zutaten existiert.
      */
 
     @Transactional(rollbackFor = ServiceException.class)
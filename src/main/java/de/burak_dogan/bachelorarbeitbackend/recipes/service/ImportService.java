@@ -0,0 +1,81 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.http.ConnectionPoolStats;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.http.PooledClientHttpRequestFactory;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness.ReadinessGate;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetImportStatusDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.RecipeRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.ImportProgress;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Eine Implementierung des Interface 'IImportService', welche Methoden zur Abfrage des Imports der Rezepte bereitstellt.
+ */
+@Service
+public class ImportService implements IImportService {
+
+    /**
+     * Das RecipeRepository-Objekt fuer die Anzahl der gespeicherten Rezepte
+     */
+    private final RecipeRepository recipeRepository;
+
+    /**
+     * Der Fortschritt des laufenden Imports
+     */
+    private final ImportProgress importProgress;
+
+    /**
+     * Die Factory der HTTP-Anfragen an die Edamam APIs, deren Verbindungsauslastung ausgegeben wird
+     */
+    private final PooledClientHttpRequestFactory requestFactory;
+
+    /**
+     * Der Zustand der Anwendung
+     */
+    private final ReadinessGate readinessGate;
+
+    /**
+     * Konstruktor der Klasse ImportService.
+     *
+     * @param recipeRepository Das RecipeRepository-Objekt fuer die Anzahl der gespeicherten Rezepte
+     * @param importProgress   Der Fortschritt des laufenden Imports
+     * @param requestFactory   Die Factory der HTTP-Anfragen an die Edamam APIs, deren Verbindungsauslastung ausgegeben wird
+     * @param readinessGate    Der Zustand der Anwendung
+     */
+    @Autowired
+    public ImportService(RecipeRepository recipeRepository, ImportProgress importProgress, PooledClientHttpRequestFactory requestFactory, ReadinessGate readinessGate) {
+        this.recipeRepository = recipeRepository;
+        this.importProgress = importProgress;
+        this.requestFactory = requestFactory;
+        this.readinessGate = readinessGate;
+    }
+
+    @Override
+    public GetImportStatusDto getImportStatus() throws ServiceException {
+        try {
+            Duration remaining = importProgress.estimateRemaining();
+            ConnectionPoolStats poolStats = requestFactory.getPoolStats();
+            return GetImportStatusDto.builder()
+                    .status(importProgress.getStatus())
+                    .readiness(readinessGate.getState())
+                    .pagesFetched(importProgress.getPagesFetched())
+                    .recipesSaved(importProgress.getRecipesSaved())
+                    .recipesTotal(recipeRepository.count())
+                    .targetRecipes(importProgress.getTargetRecipes())
+                    .startedAt(importProgress.getStartedAt())
+                    .finishedAt(importProgress.getFinishedAt())
+                    .estimatedSecondsRemaining(remaining != null ? remaining.toSeconds() : null)
+                    .httpConnectionsLeased(poolStats.leased())
+                    .httpConnectionsPending(poolStats.pending())
+                    .httpConnectionsAvailable(poolStats.available())
+                    .httpConnectionsMax(poolStats.max())
+                    .build();
+        } catch (Exception e) {
+            throw new ServiceException("Import status could not be loaded!", e);
+        }
+    }
+}
@@ -3,11 +3,16 @@ package de.burak_dogan.bachelorarbeitbackend.recipes.service;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetIngredientDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.IngredientRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.CatalogVersion;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.CatalogVersion.Catalog;
 import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.IngredientMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Eine Implementierung des Interface 'IIngredientService', welche Methoden zur Verwaltung von Zutaten und ihren Naehrwerten bereitstellt.
@@ -25,26 +30,92 @@ public class IngredientService implements IIngredientService {
      */
     private final IngredientMapper ingredientMapper;
 
+    /**
+     * Die Version des Katalogs, aus der der ETag der Zutaten abgeleitet wird
+     */
+    private final CatalogVersion catalogVersion;
+
 
     /**
      * Konstruktor der Klasse RecipeService.
      *
      * @param ingredientRepository        Das IngredientRepository-Objekt fuer den Zugriff auf Zutat-Daten
      * @param ingredientMapper            Der IngredientMapper fuer die Konvertierung von Zutat-Objekten zu DTOs
+     * @param catalogVersion              Die Version des Katalogs, aus der der ETag der Zutaten abgeleitet wird
      */
     @Autowired
-    public IngredientService(IngredientRepository ingredientRepository, IngredientMapper ingredientMapper) {
+    public IngredientService(IngredientRepository ingredientRepository, IngredientMapper ingredientMapper, CatalogVersion catalogVersion) {
         this.ingredientRepository = ingredientRepository;
         this.ingredientMapper = ingredientMapper;
+        this.catalogVersion = catalogVersion;
+    }
+
+    @Override
+    public String getCatalogETag() {
+        return catalogVersion.eTag(Catalog.INGREDIENTS);
     }
 
     @Override
     public List<GetIngredientDto> getIngredients() throws ServiceException {
+        try {
+            // Zutaten und Masseinheiten werden in einer Abfrage gelesen, statt die Masseinheiten pro Zutat nachzuladen
+            return new ArrayList<>(ingredientMapper.mapUnitLabelsToDtos(ingredientRepository.findAllUnitLabels()).values());
+        } catch (Exception e) {
+            throw new ServiceException("Ingredients could not be loaded!", e);
+        }
+    }
 
+    @Override
+    public List<GetIngredientDto> getIngredients(String after, int limit) throws ServiceException {
         try {
-            return ingredientRepository.findAll().stream().map(ingredientMapper::mapModelToDto).toList();
+            List<String> ingredientIds = ingredientRepository.findIdsAfter(after != null ? after : "", PageRequest.of(0, limit));
+            return getIngredientsByIds(ingredientIds);
         } catch (Exception e) {
             throw new ServiceException("Ingredients could not be loaded!", e);
         }
     }
+
+    @Override
+    public List<GetIngredientDto> searchIngredients(String name, int limit) throws ServiceException {
+        try {
+            List<String> ingredientIds = ingredientRepository.findIdsByNameContaining(escapeLikePattern(name.trim()), PageRequest.of(0, limit));
+            return getIngredientsByIds(ingredientIds);
+        } catch (Exception e) {
+            throw new ServiceException("Ingredients could not be searched!", e);
+        }
+    }
+
+
+    // === UTIL===
+
+    /**
+     * Laedt die Zutaten mit den angegebenen IDs mit ihren Masseinheiten in einer Abfrage.
+     *
+     * @param ingredientIds Die IDs der Zutaten in der gewuenschten Reihenfolge
+     * @return Die Zutaten in der Reihenfolge der IDs
+     */
+    protected List<GetIngredientDto> getIngredientsByIds(List<String> ingredientIds) {
+        if (ingredientIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<String, GetIngredientDto> ingredientsById = ingredientMapper.mapUnitLabelsToDtos(ingredientRepository.findUnitLabelsByIngredientIdIn(ingredientIds));
+        List<GetIngredientDto> ingredients = new ArrayList<>(ingredientIds.size());
+        for (String ingredientId : ingredientIds) {
+            GetIngredientDto ingredient = ingredientsById.get(ingredientId);
+            if (ingredient != null) {
+                ingredients.add(ingredient);
+            }
+        }
+        return ingredients;
+    }
+
+    /**
+     * Maskiert die Platzhalter von LIKE im Suchbegriff, damit diese als normale Zeichen gesucht werden.
+     *
+     * @param value Der Suchbegriff
+     * @return Der Suchbegriff, in dem %, _ und ! mit ! maskiert sind
+     */
+    protected String escapeLikePattern(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
 }
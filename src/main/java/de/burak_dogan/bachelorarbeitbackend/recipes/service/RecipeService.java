@@ -1,23 +1,46 @@
 package de.burak_dogan.bachelorarbeitbackend.recipes.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.Counter;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.Histogram;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.MetricsRegistry;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.*;
 import de.burak_dogan.bachelorarbeitbackend.recipes.exception.DuplicateIngredientException;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.DuplicateRecipeException;
 import de.burak_dogan.bachelorarbeitbackend.recipes.exception.EntityNotFoundException;
 import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.IngredientRepository;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.RecipeIngredientRepository;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.RecipeRepository;
-import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Ingredient;
-import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.IngredientUnit;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.RecipeIngredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.IngredientCatalogEntry;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeNutrientTotals;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.CachedIngredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.CatalogVersion;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.CatalogVersion.Catalog;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.ImageProcessor;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.ImageSize;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.IngredientCatalogCache;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.NutrientCalculator;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.RecipeFingerprint;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.RecipeImageCache;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.RecipeNutrientIndex;
 import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.RecipeMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.OutputStream;
 import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * Eine Implementierung des Interface 'IRecipeService', welche Methoden zur Verwaltung von Rezepten bereitstellt.
@@ -47,6 +70,56 @@ public class RecipeService implements IRecipeService {
      */
     private final RecipeMapper recipeMapper;
 
+    /**
+     * Der NutrientCalculator fuer die Berechnung der Gesamtnaehrwerte beim Erstellen eines Rezepts
+     */
+    private final NutrientCalculator nutrientCalculator;
+
+    /**
+     * Der In-Memory-Index ueber die Gesamtnaehrwerte aller Rezepte fuer die Filterung
+     */
+    private final RecipeNutrientIndex recipeNutrientIndex;
+
+    /**
+     * Der {@link ObjectMapper} fuer das schrittweise Schreiben der Rezepte als JSON
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Der ImageProcessor fuer die Berechnung der Hashwerte und die Erkennung des Content-Types der Bilder
+     */
+    private final ImageProcessor imageProcessor;
+
+    /**
+     * Der Zwischenspeicher fuer die ausgelieferten Rezeptbilder in allen Groessen
+     */
+    private final RecipeImageCache recipeImageCache;
+
+    /**
+     * Der Cache ueber den Zutatenkatalog fuer die Pruefung der Zutaten und Masseinheiten beim Erstellen eines Rezepts
+     */
+    private final IngredientCatalogCache ingredientCatalogCache;
+
+    /**
+     * Die Version des Katalogs, die bei jeder Aenderung der Rezepte erhoeht wird
+     */
+    private final CatalogVersion catalogVersion;
+
+    /**
+     * Die Dauer der Suche nach passenden Rezepten im In-Memory-Index
+     */
+    private final Histogram indexFilterTimer;
+
+    /**
+     * Die Dauer der Suche nach passenden Rezepten in der Datenbank, solange der Index nicht geladen ist
+     */
+    private final Histogram databaseFilterTimer;
+
+    /**
+     * Die Anzahl der berechneten Gesamtnaehrwerte. Gezaehlt statt gemessen, da eine Zeitmessung pro Rezept teurer waere als die Berechnung selbst.
+     */
+    private final Counter nutrientTotalsCounter;
+
 
     /**
      * Konstruktor der Klasse RecipeService.
@@ -55,40 +128,112 @@ public class RecipeService implements IRecipeService {
      * @param ingredientRepository       Das IngredientRepository-Objekt fuer den Zugriff auf Zutat-Daten
      * @param recipeIngredientRepository Das RecipeIngredientRepository-Objekt fuer den Zugriff auf Rezept-Zutaten-Beziehungen
      * @param recipeMapper               Der RecipeMapper fuer die Konvertierung von Rezept-Objekten zu DTOs
+     * @param nutrientCalculator         Der NutrientCalculator fuer die Berechnung der Gesamtnaehrwerte beim Erstellen eines Rezepts
+     * @param recipeNutrientIndex        Der In-Memory-Index ueber die Gesamtnaehrwerte aller Rezepte fuer die Filterung
+     * @param objectMapper               Der ObjectMapper fuer das schrittweise Schreiben der Rezepte als JSON
+     * @param imageProcessor             Der ImageProcessor fuer die Berechnung der Hashwerte und die Erkennung des Content-Types der Bilder
+     * @param recipeImageCache           Der Zwischenspeicher fuer die ausgelieferten Rezeptbilder in allen Groessen
+     * @param ingredientCatalogCache     Der Cache ueber den Zutatenkatalog fuer die Pruefung der Zutaten und Masseinheiten beim Erstellen eines Rezepts
+     * @param catalogVersion             Die Version des Katalogs fuer die ETags, die nach dem Erstellen eines Rezepts und nach dem Aendern des Favoritenstatus erhoeht wird
+     * @param metricsRegistry            Die Registry fuer die Messung der Filterung und die Zaehlung der berechneten Gesamtnaehrwerte
      */
     @Autowired
-    public RecipeService(RecipeRepository recipeRepository, IngredientRepository ingredientRepository, RecipeIngredientRepository recipeIngredientRepository, RecipeMapper recipeMapper
+    public RecipeService(RecipeRepository recipeRepository, IngredientRepository ingredientRepository, RecipeIngredientRepository recipeIngredientRepository, RecipeMapper recipeMapper, NutrientCalculator nutrientCalculator, RecipeNutrientIndex recipeNutrientIndex, ObjectMapper objectMapper, ImageProcessor imageProcessor, RecipeImageCache recipeImageCache, IngredientCatalogCache ingredientCatalogCache,
+                         CatalogVersion catalogVersion, MetricsRegistry metricsRegistry
     ) {
         this.recipeRepository = recipeRepository;
         this.ingredientRepository = ingredientRepository;
         this.recipeIngredientRepository = recipeIngredientRepository;
         this.recipeMapper = recipeMapper;
+        this.nutrientCalculator = nutrientCalculator;
+        this.recipeNutrientIndex = recipeNutrientIndex;
+        this.objectMapper = objectMapper;
+        this.imageProcessor = imageProcessor;
+        this.recipeImageCache = recipeImageCache;
+        this.ingredientCatalogCache = ingredientCatalogCache;
+        this.catalogVersion = catalogVersion;
+        this.indexFilterTimer = metricsRegistry.timer("recipes_filter_seconds", "Duration of finding recipes by nutritional values", "source", "index");
+        this.databaseFilterTimer = metricsRegistry.timer("recipes_filter_seconds", "Duration of finding recipes by nutritional values", "source", "database");
+        this.nutrientTotalsCounter = metricsRegistry.counter("recipes_nutrient_totals_total", "Rounded nutrient totals computed for responses");
     }
 
 
+    @Override
+    public String getCatalogETag() {
+        return catalogVersion.eTag(Catalog.RECIPES);
+    }
+
+    @Override
+    public String getRecipeETag(Long recipeId) throws ServiceException {
+        String eTag = catalogVersion.eTag(Catalog.RECIPES); // Die Version wird vor den Daten gelesen, damit neue Daten nie unter einer alten Version ausgeliefert werden
+        boolean recipeExists;
+        try {
+            recipeExists = recipeRepository.existsById(recipeId);
+        } catch (Exception e) {
+            throw new ServiceException("The Recipe could not be loaded!", e);
+        }
+        if (!recipeExists) {
+            throw new EntityNotFoundException("The recipe with the id " + recipeId + " does not exist!");
+        }
+        return eTag;
+    }
+
     @Override
     public List<GetRecipeListItemDto> getRecipes() throws ServiceException {
-        List<Recipe> recipes;
+        List<RecipeListItem> recipes;
         try {
-            recipes = recipeRepository.findAll();
+            recipes = recipeRepository.findAllListItems();
         } catch (Exception e) {
             throw new ServiceException("Recipes could not be loaded!", e);
         }
 
         List<GetRecipeListItemDto> getRecipeListItemDtoList = new ArrayList<>();
-        for (Recipe recipe : recipes) {
+        for (RecipeListItem recipe : recipes) {
             NutrientsDto nutrientsDto = getTotalNutrients(recipe);
-            GetRecipeListItemDto getRecipeListItemDto = recipeMapper.mapModelToListItemDto(recipe, nutrientsDto);
+            GetRecipeListItemDto getRecipeListItemDto = recipeMapper.mapListItemToDto(recipe, nutrientsDto);
             getRecipeListItemDtoList.add(getRecipeListItemDto);
         }
         return getRecipeListItemDtoList;
     }
 
+    @Override
+    public List<GetRecipeListItemDto> getRecipes(Long after, int limit) throws ServiceException {
+        List<RecipeListItem> recipes;
+        try {
+            recipes = recipeRepository.findListItemsAfter(after != null ? after : 0L, PageRequest.of(0, limit));
+        } catch (Exception e) {
+            throw new ServiceException("Recipes could not be loaded!", e);
+        }
+
+        List<GetRecipeListItemDto> getRecipeListItemDtoList = new ArrayList<>();
+        for (RecipeListItem recipe : recipes) {
+            getRecipeListItemDtoList.add(recipeMapper.mapListItemToDto(recipe, getTotalNutrients(recipe)));
+        }
+        return getRecipeListItemDtoList;
+    }
+
+    @Override
+    public void streamRecipes(OutputStream outputStream) throws ServiceException {
+        try (Stream<RecipeListItem> recipes = recipeRepository.streamAllListItems();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // Der OutputStream wird vom Aufrufer geschlossen
+            generator.writeStartArray();
+            Iterator<RecipeListItem> iterator = recipes.iterator();
+            while (iterator.hasNext()) {
+                RecipeListItem recipe = iterator.next();
+                objectMapper.writeValue(generator, recipeMapper.mapListItemToDto(recipe, getTotalNutrients(recipe)));
+            }
+            generator.writeEndArray();
+        } catch (Exception e) {
+            throw new ServiceException("Recipes could not be loaded!", e);
+        }
+    }
+
     @Override
     public GetRecipeDetailDto getSingleRecipe(Long recipeId) throws ServiceException {
         Optional<Recipe> optionalRecipe;
         try {
-            optionalRecipe = recipeRepository.findById(recipeId);
+            optionalRecipe = recipeRepository.findWithIngredientsById(recipeId);
         } catch (Exception e) {
             throw new ServiceException("The Recipe could not be loaded!", e);
         }
@@ -104,70 +249,121 @@ public class RecipeService implements IRecipeService {
     }
 
     @Override
-    public void updateFavoriteStatus(Long recipeId) throws ServiceException {
-        Optional<Recipe> optionalRecipe;
-        String errorMessage = "The favorite status of the recipe could not be updated!";
+    public String getImageHash(Long recipeId) throws ServiceException {
+        Optional<String> imageHash;
         try {
-            optionalRecipe = recipeRepository.findById(recipeId);
+            imageHash = recipeRepository.findImageHashById(recipeId);
         } catch (Exception e) {
-            throw new ServiceException(errorMessage, e);
+            throw new ServiceException("The image could not be loaded!", e);
         }
-        if (optionalRecipe.isPresent()) {
-            Recipe recipe = optionalRecipe.get();
-            Boolean currentFavoriteStatus = recipe.getFavorite();
-            recipe.setFavorite(!currentFavoriteStatus);
-            try {
-                recipeRepository.save(recipe);
-            } catch (Exception e) {
-                throw new ServiceException(errorMessage, e);
+        if (imageHash.isEmpty()) {
+            throw new EntityNotFoundException("The image of the recipe with the id " + recipeId + " does not exist!");
+        }
+        return imageHash.get();
+    }
 
-            }
-        } else {
-            throw new EntityNotFoundException("The recipe you are trying to update does not exist!");
+    @Override
+    public GetRecipeImageDto getImage(Long recipeId, ImageSize size) throws ServiceException {
+        GetRecipeImageDto cachedImage = recipeImageCache.get(recipeId, size);
+        if (cachedImage != null) {
+            return cachedImage;
         }
 
+        byte[] imageData = size == ImageSize.ORIGINAL ? getOriginalImage(recipeId) : getResizedImage(recipeId, size);
+        GetRecipeImageDto image = GetRecipeImageDto.builder().image(imageData).contentType(imageProcessor.detectContentType(imageData)).build();
+        recipeImageCache.put(recipeId, size, image);
+        return image;
+    }
 
+    @Override
+    public void updateFavoriteStatus(Long recipeId) throws ServiceException {
+        int updatedRecipes;
+        try {
+            // Der Status wird in der Datenbank umgekehrt, ohne das Rezept mit seinem Bild zu laden und zurueckzuschreiben
+            updatedRecipes = recipeRepository.toggleFavorite(recipeId);
+        } catch (Exception e) {
+            throw new ServiceException("The favorite status of the recipe could not be updated!", e);
+        }
+        if (updatedRecipes == 0) {
+            throw new EntityNotFoundException("The recipe you are trying to update does not exist!");
+        }
+        runAfterCommit(() -> catalogVersion.increment(Catalog.RECIPES));
     }
 
     @Override
-    public List<GetRecipeListItemDto> findRecipesByNutritionalValues(RecipeFilterDto dto) throws ServiceException {
-        final Double EPSILON_PERCENTAGE = dto.getEpsilon() / 100.0;
+    public void updateFavoriteStatus(UpdateFavoritesDto dto) throws ServiceException {
+        Set<Long> recipeIds = new HashSet<>(dto.getRecipeIds());
+        int updatedRecipes;
+        try {
+            updatedRecipes = recipeRepository.updateFavorite(recipeIds, dto.getFavorite());
+        } catch (Exception e) {
+            throw new ServiceException("The favorite status of the recipes could not be updated!", e);
+        }
+        if (updatedRecipes != recipeIds.size()) {
+            // Die Aenderungen werden zurueckgerollt, damit keine Rezepte teilweise aktualisiert werden
+            throw new EntityNotFoundException((recipeIds.size() - updatedRecipes) + " of the recipes you are trying to update do not exist!");
+        }
+        runAfterCommit(() -> catalogVersion.increment(Catalog.RECIPES));
+    }
 
-        List<Recipe> allRecipes;
+    @Override
+    public List<GetRecipeListItemDto> getFavoriteRecipes(Long after, Integer limit) throws ServiceException {
+        List<RecipeListItem> recipes;
         try {
-            allRecipes = recipeRepository.findAll();
+            recipes = recipeRepository.findFavoriteListItemsAfter(after != null ? after : 0L, limit != null ? PageRequest.of(0, limit) : Pageable.unpaged());
         } catch (Exception e) {
-            throw new ServiceException("Recipes could not be filtered!");
+            throw new ServiceException("Favorite recipes could not be loaded!", e);
         }
 
-        Long targetProteins = dto.getProteins();
-        Long targetFats = dto.getFats();
-        Long targetCarbohydrates = dto.getCarbohydrates();
-        Long targetCalories = dto.getCalories();
+        List<GetRecipeListItemDto> getRecipeListItemDtoList = new ArrayList<>();
+        for (RecipeListItem recipe : recipes) {
+            getRecipeListItemDtoList.add(recipeMapper.mapListItemToDto(recipe, getTotalNutrients(recipe)));
+        }
+        return getRecipeListItemDtoList;
+    }
+
+    @Override
+    public List<GetRecipeListItemDto> findRecipesByNutritionalValues(RecipeFilterDto dto) throws ServiceException {
+        final Double EPSILON_PERCENTAGE = dto.getEpsilon() / 100.0;
 
-        // Berechnen der Abweichung pro Filter
-        double epsilonProteins = targetProteins != null ? targetProteins * EPSILON_PERCENTAGE : 0.0;
-        double epsilonFats = targetFats != null ? targetFats * EPSILON_PERCENTAGE : 0.0;
-        double epsilonCarbohydrates = targetCarbohydrates != null ? targetCarbohydrates * EPSILON_PERCENTAGE : 0.0;
-        double epsilonCalories = targetCalories != null ? targetCalories * EPSILON_PERCENTAGE : 0.0;
+        int limit = dto.getLimit() != null ? dto.getLimit() : Integer.MAX_VALUE;
+        RecipeNutrientTotals cursor = dto.getCursor() != null ? getNutrientTotals(dto.getCursor()) : null;
 
-        List<GetRecipeListItemDto> getRecipeListItemDtoList = new ArrayList<>();
+        // Der Index bzw. die Datenbank liefert nur die besten Treffer bis zum Limit, bereits nach Genauigkeit sortiert.
+        // Die DTOs werden anschliessend nur fuer diese Treffer erstellt.
+        List<Long> matchingRecipeIds;
+        long start = System.nanoTime();
+        if (recipeNutrientIndex.isLoaded()) {
+            matchingRecipeIds = recipeNutrientIndex.findMatches(dto.getCalories(), dto.getProteins(), dto.getCarbohydrates(), dto.getFats(), EPSILON_PERCENTAGE, cursor, limit);
+            indexFilterTimer.recordNanos(System.nanoTime() - start);
+        } else {
+            matchingRecipeIds = findMatchesInDatabase(dto, EPSILON_PERCENTAGE, cursor, limit);
+            databaseFilterTimer.recordNanos(System.nanoTime() - start);
+        }
 
-        for (Recipe recipe : allRecipes) {
-            NutrientsDto nutrientsDto = getTotalNutrients(recipe);
+        if (matchingRecipeIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-            // Vergleichen der berechneten Nährwerte mit den Benutzereingaben
-            if ((targetCalories == null || Math.abs(nutrientsDto.getCalories() - targetCalories) <= epsilonCalories) &&
-                    (targetProteins == null || Math.abs(nutrientsDto.getProteins() - targetProteins) <= epsilonProteins) &&
-                    (targetCarbohydrates == null || Math.abs(nutrientsDto.getCarbohydrates() - targetCarbohydrates) <= epsilonCarbohydrates) &&
-                    (targetFats == null || Math.abs(nutrientsDto.getFats() - targetFats) <= epsilonFats)) {
-                getRecipeListItemDtoList.add(recipeMapper.mapModelToListItemDto(recipe, nutrientsDto));
-            }
+        List<RecipeListItem> matchingRecipes;
+        try {
+            matchingRecipes = recipeRepository.findListItemsByIdIn(matchingRecipeIds);
+        } catch (Exception e) {
+            throw new ServiceException("Recipes could not be filtered!", e);
         }
 
-        // Sortiert die Treffer nach Genauigkeit
-        Collections.sort(getRecipeListItemDtoList, Comparator.comparingDouble(recipe -> calculateEuclideanDistance(recipe, dto)));
+        Map<Long, RecipeListItem> recipesById = new HashMap<>();
+        for (RecipeListItem recipe : matchingRecipes) {
+            recipesById.put(recipe.id(), recipe);
+        }
 
+        List<GetRecipeListItemDto> getRecipeListItemDtoList = new ArrayList<>();
+        for (Long recipeId : matchingRecipeIds) {
+            RecipeListItem recipe = recipesById.get(recipeId);
+            if (recipe != null) {
+                getRecipeListItemDtoList.add(recipeMapper.mapListItemToDto(recipe, getTotalNutrients(recipe)));
+            }
+        }
         return getRecipeListItemDtoList;
     }
 
@@ -176,18 +372,27 @@ public class RecipeService implements IRecipeService {
     @Override
     public void createRecipe(CreateRecipeDto dto) throws ServiceException {
         Recipe recipe = recipeMapper.mapCreateDtoToEntity(dto);
-        saveRecipe(recipe);
+        // Derselbe Fingerabdruck wie beim Import, damit ein erstelltes Rezept beim Import als bereits vorhanden erkannt wird
+        List<String> foodIds = new ArrayList<>();
+        for (RecipeIngredientDto ingredientDto : dto.getIngredients()) {
+            foodIds.add(ingredientDto.getFoodId());
+        }
+        recipe.setFingerprint(RecipeFingerprint.of(recipe.getTitle(), foodIds));
+        checkRecipeIsNew(recipe);
+        imageProcessor.applyImageData(recipe);
         List<RecipeIngredient> recipeIngredientList = new ArrayList<>();
+        List<CachedIngredient> cachedIngredientList = new ArrayList<>();
         for (RecipeIngredientDto ingredientDto : dto.getIngredients()) {
             RecipeIngredient recipeIngredient = new RecipeIngredient();
             recipeIngredient.setRecipe(recipe);
-            Ingredient ingredient = getIngredient(ingredientDto.getFoodId());
-            recipeIngredient.setIngredient(ingredient);
+            CachedIngredient ingredient = getIngredient(ingredientDto.getFoodId());
+            // Die Zutat wurde bereits ueber den Cache geprueft, daher genuegt eine Referenz ohne Datenbankabfrage
+            recipeIngredient.setIngredient(ingredientRepository.getReferenceById(ingredient.id()));
             // Finden der Einheit und seinen Gramm wert: also wie viel gramm bspw. 1 cup sind, das wird mit der quantity verrechnet
             Double quantityInOriginalMeasure = ingredientDto.getQuantity();
             String unit = ingredientDto.getUnit();
-            IngredientUnit ingredientUnit = validateUnit(ingredient.getIngredientUnits(), unit);
-            Double quantityInGrams = getQuantityConvertedToGram(ingredientUnit.getValue(), quantityInOriginalMeasure);
+            Double unitInGrams = validateUnit(ingredient, unit);
+            Double quantityInGrams = getQuantityConvertedToGram(unitInGrams, quantityInOriginalMeasure);
             recipeIngredient.setQuantity(quantityInGrams);
 
 
@@ -201,10 +406,14 @@ public class RecipeService implements IRecipeService {
             String title = quantityString + " " + unit + " " + ingredientDto.getName();
             recipeIngredient.setTitle(title);
             recipeIngredientList.add(recipeIngredient);
-
+            cachedIngredientList.add(ingredient);
 
         }
+        // Die Gesamtnaehrwerte werden einmalig beim Schreiben berechnet, damit Lesezugriffe die Zutaten nicht laden muessen
+        nutrientCalculator.applyTotals(recipe, recipeIngredientList, cachedIngredientList);
+        saveRecipe(recipe);
         saveRecipeIngredients(recipeIngredientList);
+        addToNutrientIndexAfterCommit(recipe);
 
     }
 
@@ -212,81 +421,109 @@ public class RecipeService implements IRecipeService {
     // === UTIL===
 
     /**
-     * Berechnet die gerundeten Gesamtnaehrwerte fuer ein Rezept.
+     * Gibt die gerundeten Gesamtnaehrwerte fuer ein Rezept zurueck.
+     * Die Werte werden beim Speichern des Rezepts berechnet, sodass hier keine Zutaten geladen werden muessen.
      *
      * @param recipe Das Rezept
      * @return Ein {@link NutrientsDto}-Objekt mit den Gesamtnaehrwerten
      */
     protected NutrientsDto getTotalNutrients(Recipe recipe) {
-        double totalProteins = 0.0;
-        double totalFats = 0.0;
-        double totalCarbohydrates = 0.0;
-        double totalCalories = 0.0;
-
-        for (RecipeIngredient ingredient : recipe.getRecipeIngredients()) {
-            double quantity = ingredient.getQuantity();
-            Ingredient ingredientData = ingredient.getIngredient();
-
-            totalCalories += ((ingredientData.getCalories() * quantity) / 100);
-            totalProteins += ((ingredientData.getProteins() * quantity) / 100);
-            totalCarbohydrates += ((ingredientData.getCarbohydrates() * quantity) / 100);
-            totalFats += ((ingredientData.getFats() * quantity) / 100);
-
+        return getTotalNutrients(recipe.getCalories(), recipe.getProteins(), recipe.getCarbohydrates(), recipe.getFats());
+    }
 
-        }
+    /**
+     * Gibt die gerundeten Gesamtnaehrwerte fuer einen Listeneintrag zurueck.
+     *
+     * @param recipe Der Listeneintrag des Rezepts
+     * @return Ein {@link NutrientsDto}-Objekt mit den Gesamtnaehrwerten
+     */
+    protected NutrientsDto getTotalNutrients(RecipeListItem recipe) {
+        return getTotalNutrients(recipe.calories(), recipe.proteins(), recipe.carbohydrates(), recipe.fats());
+    }
 
+    /**
+     * Rundet die gespeicherten Gesamtnaehrwerte und fasst sie in einem NutrientsDto zusammen.
+     *
+     * @param calories      Die Gesamtkalorien
+     * @param proteins      Die Gesamtmenge an Proteinen
+     * @param carbohydrates Die Gesamtmenge an Kohlenhydraten
+     * @param fats          Die Gesamtmenge an Fetten
+     * @return Ein {@link NutrientsDto}-Objekt mit den gerundeten Gesamtnaehrwerten
+     */
+    protected NutrientsDto getTotalNutrients(Double calories, Double proteins, Double carbohydrates, Double fats) {
+        nutrientTotalsCounter.increment();
         // Runden auf ganze Zahlen
-        long roundedCalories = Math.round(totalCalories);
-        long roundedProteins = Math.round(totalProteins);
-        long roundedCarbohydrates = Math.round(totalCarbohydrates);
-        long roundedFats = Math.round(totalFats);
+        long roundedCalories = roundNutrient(calories);
+        long roundedProteins = roundNutrient(proteins);
+        long roundedCarbohydrates = roundNutrient(carbohydrates);
+        long roundedFats = roundNutrient(fats);
         return NutrientsDto.builder().calories(roundedCalories).proteins(roundedProteins).carbohydrates(roundedCarbohydrates).fats(roundedFats).build();
     }
 
 
     /**
-     * Berechnet den euklidischen Abstand zwischen den Nährwerten eines Rezepts und den gewünschten Nährwerten.
+     * Rundet einen gespeicherten Naehrwert auf eine ganze Zahl.
      *
-     * @param recipe          Das Rezept, für das der Abstand berechnet werden soll.
-     * @param targetNutrients Das Objekt mit den gewünschten Nährwerten.
-     * @return Der euklidische Abstand zwischen den Nährwerten des Rezepts und den gewünschten Nährwerten.
+     * @param value Der gespeicherte Naehrwert, null falls dieser noch nicht berechnet wurde
+     * @return Der gerundete Naehrwert
      */
-    protected double calculateEuclideanDistance(GetRecipeListItemDto recipe, RecipeFilterDto targetNutrients) {
-        NutrientsDto recipeNutrients = recipe.getNutrients();
-
-        Long recipeProteins = recipeNutrients.getProteins();
-        Long recipeFats = recipeNutrients.getFats();
-        Long recipeCarbohydrates = recipeNutrients.getCarbohydrates();
-        Long recipeCalories = recipeNutrients.getCalories();
+    protected long roundNutrient(Double value) {
+        return value != null ? Math.round(value) : 0L;
+    }
 
 
-        Long targetProteins = targetNutrients.getProteins();
-        Long targetFats = targetNutrients.getFats();
-        Long targetCarbohydrates = targetNutrients.getCarbohydrates();
-        Long targetCalories = targetNutrients.getCalories();
+    /**
+     * Fuegt ein neu erstelltes Rezept dem Naehrwert-Index hinzu, sobald die Transaktion erfolgreich abgeschlossen wurde, und erhoeht danach die Version des Katalogs.
+     * Dadurch enthaelt der Index keine Rezepte, deren Speicherung zurueckgerollt wurde, und eine Filterung unter der neuen Version findet das Rezept bereits.
+     *
+     * @param recipe Das neu erstellte Rezept
+     */
+    protected void addToNutrientIndexAfterCommit(Recipe recipe) {
+        RecipeNutrientTotals nutrientTotals = RecipeNutrientTotals.of(recipe);
+        runAfterCommit(() -> {
+            recipeNutrientIndex.add(nutrientTotals);
+            catalogVersion.increment(Catalog.RECIPES);
+        });
+    }
 
+    /**
+     * Fuehrt eine Aktion aus, sobald die laufende Transaktion erfolgreich abgeschlossen wurde, bzw. sofort, wenn keine Transaktion laeuft.
+     *
+     * @param action Die auszufuehrende Aktion
+     */
+    protected void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 
-        double squaredDistance = 0.0;
 
-        //Berechnung des euklidischen Abstands: nur für die Werte, die vom Benutzer angegeben wurden
-        if (targetProteins != null) {
-            squaredDistance += Math.pow(targetProteins - recipeProteins, 2);
-        }
-        if (targetFats != null) {
-            squaredDistance += Math.pow(targetFats - recipeFats, 2);
-        }
-        if (targetCarbohydrates != null) {
-            squaredDistance += Math.pow(targetCarbohydrates - recipeCarbohydrates, 2);
+    /**
+     * Prueft, ob bereits ein Rezept mit demselben Fingerabdruck gespeichert ist.
+     *
+     * @param recipe Das zu speichernde Rezept mit seinem Fingerabdruck
+     * @throws DuplicateRecipeException Wenn bereits ein Rezept mit demselben Titel und denselben Zutaten existiert
+     * @throws ServiceException         Wenn ein Fehler beim Zugriff auf die Datenbank auftritt
+     */
+    protected void checkRecipeIsNew(Recipe recipe) throws ServiceException {
+        List<String> existingFingerprints;
+        try {
+            existingFingerprints = recipeRepository.findExistingFingerprints(List.of(recipe.getFingerprint()));
+        } catch (Exception e) {
+            throw new ServiceException("The recipe with the title " + recipe.getTitle() + " could not be created!", e);
         }
-        if (targetCalories != null) {
-            squaredDistance += Math.pow(targetCalories - recipeCalories, 2);
+        if (!existingFingerprints.isEmpty()) {
+            throw new DuplicateRecipeException("A recipe with the title " + recipe.getTitle() + " and the same ingredients already exists!");
         }
-
-
-        return Math.sqrt(squaredDistance);
     }
 
-
     /**
      * Speichert ein Rezept in der Datenbank.
      *
@@ -319,40 +556,174 @@ public class RecipeService implements IRecipeService {
 
 
     /**
-     * Gibt die Zutat mit der angegebenen ID zurück.
+     * Gibt das Originalbild des Rezepts mit der angegebenen ID zurueck.
+     *
+     * @param recipeId Die ID des Rezepts
+     * @return Das Originalbild als Byte-Array
+     * @throws ServiceException Wenn ein Fehler beim Laden auftritt oder das Rezept nicht existiert
+     */
+    protected byte[] getOriginalImage(Long recipeId) throws ServiceException {
+        Optional<byte[]> image;
+        try {
+            image = recipeRepository.findImageById(recipeId);
+        } catch (Exception e) {
+            throw new ServiceException("The image could not be loaded!", e);
+        }
+        if (image.isEmpty()) {
+            throw new EntityNotFoundException("The image of the recipe with the id " + recipeId + " does not exist!");
+        }
+        return image.get();
+    }
+
+
+    /**
+     * Gibt die verkleinerte Variante des Bildes des Rezepts mit der angegebenen ID zurueck.
+     * Wurde die Variante noch nicht erzeugt, z.B. bei Rezepten aus aelteren Datenbestaenden, wird sie aus dem Originalbild berechnet und gespeichert.
+     *
+     * @param recipeId Die ID des Rezepts
+     * @param size     Die Groesse der Variante, nicht ORIGINAL
+     * @return Die verkleinerte Variante als Byte-Array
+     * @throws ServiceException Wenn ein Fehler beim Laden oder Speichern auftritt oder das Rezept nicht existiert
+     */
+    protected byte[] getResizedImage(Long recipeId, ImageSize size) throws ServiceException {
+        Optional<byte[]> storedImage;
+        try {
+            storedImage = size == ImageSize.THUMBNAIL ? recipeRepository.findImageThumbnailById(recipeId) : recipeRepository.findImageMediumById(recipeId);
+        } catch (Exception e) {
+            throw new ServiceException("The image could not be loaded!", e);
+        }
+        if (storedImage.isPresent()) {
+            return storedImage.get();
+        }
+
+        byte[] resizedImage = imageProcessor.resize(getOriginalImage(recipeId), size);
+        try {
+            if (size == ImageSize.THUMBNAIL) {
+                recipeRepository.updateImageThumbnail(recipeId, resizedImage);
+            } else {
+                recipeRepository.updateImageMedium(recipeId, resizedImage);
+            }
+        } catch (Exception e) {
+            throw new ServiceException("The image could not be loaded!", e);
+        }
+        return resizedImage;
+    }
+
+
+    /**
+     * Sucht die passenden Rezepte direkt in der Datenbank. Wird verwendet, solange der Naehrwert-Index noch nicht aufgebaut wurde.
+     *
+     * @param dto               Die Filterkriterien
+     * @param epsilonPercentage Die erlaubte Abweichung als Anteil des Zielwerts
+     * @param cursor            Die Gesamtnaehrwerte des letzten Rezepts der vorherigen Seite oder null fuer die erste Seite
+     * @param limit             Die maximale Anzahl an Treffern
+     * @return Die IDs der passenden Rezepte in der Reihenfolge ihrer Genauigkeit
+     * @throws ServiceException Wenn ein Fehler beim Suchen auftritt
+     */
+    protected List<Long> findMatchesInDatabase(RecipeFilterDto dto, double epsilonPercentage, RecipeNutrientTotals cursor, int limit) throws ServiceException {
+        try {
+            return recipeRepository.findIdsByNutrientWindow(
+                    targetOf(dto.getCalories()), epsilonOf(dto.getCalories(), epsilonPercentage),
+                    targetOf(dto.getProteins()), epsilonOf(dto.getProteins(), epsilonPercentage),
+                    targetOf(dto.getCarbohydrates()), epsilonOf(dto.getCarbohydrates(), epsilonPercentage),
+                    targetOf(dto.getFats()), epsilonOf(dto.getFats(), epsilonPercentage),
+                    cursor != null ? cursor.id() : -1L, limit);
+        } catch (Exception e) {
+            throw new ServiceException("Recipes could not be filtered!", e);
+        }
+    }
+
+
+    /**
+     * Gibt den Zielwert eines Naehrwerts fuer die Datenbankabfrage zurueck.
+     *
+     * @param target Der Zielwert oder null, wenn dieser nicht angegeben wurde
+     * @return Der Zielwert oder 0, wenn dieser nicht angegeben wurde
+     */
+    protected double targetOf(Long target) {
+        return target != null ? target : 0.0;
+    }
+
+
+    /**
+     * Gibt die erlaubte Abweichung eines Naehrwerts fuer die Datenbankabfrage zurueck.
+     *
+     * @param target            Der Zielwert oder null, wenn dieser nicht angegeben wurde
+     * @param epsilonPercentage Die erlaubte Abweichung als Anteil des Zielwerts
+     * @return Die erlaubte Abweichung oder -1, wenn kein Zielwert angegeben wurde
+     */
+    protected double epsilonOf(Long target, double epsilonPercentage) {
+        return target != null ? target * epsilonPercentage : -1.0;
+    }
+
+
+    /**
+     * Gibt die vorberechneten Gesamtnaehrwerte des Rezepts mit der angegebenen ID zurueck.
+     *
+     * @param recipeId Die ID des Rezepts
+     * @return Die Gesamtnaehrwerte des Rezepts
+     * @throws ServiceException Wenn ein Fehler beim Suchen auftritt oder das Rezept nicht existiert
+     */
+    protected RecipeNutrientTotals getNutrientTotals(Long recipeId) throws ServiceException {
+        Optional<RecipeNutrientTotals> nutrientTotals;
+        try {
+            nutrientTotals = recipeRepository.findNutrientTotalsById(recipeId);
+        } catch (Exception e) {
+            throw new ServiceException("Recipes could not be filtered!", e);
+        }
+        if (nutrientTotals.isEmpty()) {
+            throw new EntityNotFoundException("The recipe with the id " + recipeId + " does not exist!");
+        }
+        return nutrientTotals.get();
+    }
+
+
+    /**
+     * Gibt die Zutat mit der angegebenen ID aus dem Zutatenkatalog-Cache zurück.
+     * Ist die Zutat nicht zwischengespeichert, wird sie mit ihren Masseinheiten in einer Abfrage geladen und in den Cache aufgenommen.
      *
      * @param foodId Die ID der Zutat
-     * @return Das {@link Ingredient}-Objekt
+     * @return Das {@link CachedIngredient}-Objekt mit Naehrwerten und Masseinheiten
      * @throws ServiceException Wenn ein Fehler beim Suchen auftritt oder die Zutat nicht existiert
      */
-    protected Ingredient getIngredient(String foodId) throws ServiceException {
-        Optional<Ingredient> ingredient;
+    protected CachedIngredient getIngredient(String foodId) throws ServiceException {
+        CachedIngredient cachedIngredient = ingredientCatalogCache.get(foodId);
+        if (cachedIngredient != null) {
+            return cachedIngredient;
+        }
+
+        long cacheVersion = ingredientCatalogCache.getVersion();
+        List<IngredientCatalogEntry> catalogEntries;
         try {
-            ingredient = ingredientRepository.findById(foodId);
+            catalogEntries = ingredientRepository.findCatalogEntriesById(foodId);
         } catch (Exception e) {
             throw new ServiceException("The recipe could not be created", e);
 
         }
-        if (ingredient.isEmpty()) {
+        if (catalogEntries.isEmpty()) {
             throw new EntityNotFoundException("The ingredient with the id " + foodId + " does not exist!");
         }
 
-
-        return ingredient.get();
+        CachedIngredient ingredient = CachedIngredient.fromEntries(catalogEntries).get(0);
+        ingredientCatalogCache.put(ingredient, cacheVersion);
+        return ingredient;
     }
 
 
     /**
      * Ueberprueft, ob die angegebene Einheit in den zulaessigen Einheiten der Zutat enthalten ist.
      *
-     * @param ingredientUnits Die zulaessigen Einheiten der Zutat
-     * @param unit            Die angegebene Einheit
-     * @return Das {@link IngredientUnit}-Objekt für die angegebene Einheit
+     * @param ingredient Die Zutat mit ihren zulaessigen Einheiten
+     * @param unit       Die angegebene Einheit
+     * @return Das Gewicht der angegebenen Einheit in Gramm
      * @throws EntityNotFoundException Wenn die Einheit nicht zulaessig ist
      */
-    protected IngredientUnit validateUnit(List<IngredientUnit> ingredientUnits, String unit) throws EntityNotFoundException {
-        String ingredientName = ingredientUnits.get(0).getIngredient().getName();
-        return ingredientUnits.stream().filter(ingredientUnit -> ingredientUnit.getLabel().equals(unit)).findFirst().orElseThrow(() -> new EntityNotFoundException("The unit " + unit + " does not exist for the ingredient " + ingredientName + "!"));
+    protected Double validateUnit(CachedIngredient ingredient, String unit) throws EntityNotFoundException {
+        Double unitInGrams = ingredient.unitsInGrams().get(unit);
+        if (unitInGrams == null) {
+            throw new EntityNotFoundException("The unit " + unit + " does not exist for the ingredient " + ingredient.name() + "!");
+        }
+        return unitInGrams;
     }
 
     /**
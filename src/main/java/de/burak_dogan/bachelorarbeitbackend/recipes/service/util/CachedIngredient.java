@@ -0,0 +1,49 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.IngredientCatalogEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ein Record, der die Naehrwerte einer Zutat und die Umrechnung ihrer Masseinheiten in Gramm fuer den Zutatenkatalog-Cache enthaelt.
+ *
+ * @param id            Die ID der Zutat
+ * @param name          Der Name der Zutat
+ * @param calories      Die Kalorien pro 100 Gramm
+ * @param proteins      Die Proteine pro 100 Gramm
+ * @param carbohydrates Die Kohlenhydrate pro 100 Gramm
+ * @param fats          Die Fette pro 100 Gramm
+ * @param unitsInGrams  Das Gewicht in Gramm pro Bezeichnung der Masseinheit
+ */
+public record CachedIngredient(String id, String name, double calories, double proteins, double carbohydrates, double fats, Map<String, Double> unitsInGrams) {
+
+    /**
+     * Fasst die Zeilen pro Zutat und Masseinheit zu Eintraegen fuer den Cache zusammen.
+     *
+     * @param entries Die Zeilen mit je einer Zutat und einer ihrer Masseinheiten, nach der ID der Zutat sortiert oder gruppiert
+     * @return Die Eintraege fuer den Cache, einer pro Zutat
+     */
+    public static List<CachedIngredient> fromEntries(List<IngredientCatalogEntry> entries) {
+        Map<String, List<IngredientCatalogEntry>> entriesById = new LinkedHashMap<>();
+        for (IngredientCatalogEntry entry : entries) {
+            entriesById.computeIfAbsent(entry.ingredientId(), id -> new ArrayList<>()).add(entry);
+        }
+
+        List<CachedIngredient> ingredients = new ArrayList<>(entriesById.size());
+        for (List<IngredientCatalogEntry> ingredientEntries : entriesById.values()) {
+            IngredientCatalogEntry first = ingredientEntries.get(0);
+            Map<String, Double> unitsInGrams = new HashMap<>();
+            for (IngredientCatalogEntry entry : ingredientEntries) {
+                if (entry.label() != null) {
+                    unitsInGrams.put(entry.label(), entry.grams());
+                }
+            }
+            ingredients.add(new CachedIngredient(first.ingredientId(), first.name(), first.calories(), first.proteins(), first.carbohydrates(), first.fats(), Map.copyOf(unitsInGrams)));
+        }
+        return ingredients;
+    }
+}
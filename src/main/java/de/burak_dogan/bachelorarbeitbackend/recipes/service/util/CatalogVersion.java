@@ -0,0 +1,155 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.CatalogProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.CatalogVersionRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.CatalogVersionEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Die Versionen des Rezept- und des Zutatenkatalogs. Sie werden bei jeder Aenderung der ausgelieferten Daten erhoeht, die Rezepte z.B. beim Erstellen eines Rezepts,
+ * beim Aendern des Favoritenstatus und mit jeder importierten Seite, die Zutaten nur beim Import.
+ * Aus den Versionen werden schwache ETags fuer die GET-Endpunkte abgeleitet, sodass unveraenderte Antworten mit 304 beantwortet werden, ohne die Daten zu laden.
+ * Die Versionen werden in der Tabelle "catalog_version" gefuehrt, sodass alle Instanzen der Anwendung dieselben ETags liefern.
+ * Sie werden erst nach dem Commit einer Aenderung erhoeht, damit eine neue Version nie zusammen mit einem alten Stand ausgeliefert wird.
+ * Jede Instanz haelt die Versionen fuer das konfigurierte Intervall im Speicher, sodass wiederholte bedingte Anfragen die Datenbank nicht abfragen.
+ * Eigene Aenderungen sind sofort sichtbar, Aenderungen anderer Instanzen nach spaetestens einem Intervall.
+ */
+@Slf4j
+@Component
+public class CatalogVersion {
+
+    /**
+     * Die Kataloge mit eigener Version.
+     */
+    public enum Catalog {
+        RECIPES, INGREDIENTS;
+
+        /**
+         * Gibt den Namen des Katalogs in der Tabelle "catalog_version" zurueck.
+         *
+         * @return Der Name des Katalogs, z.B. {@code recipes}
+         */
+        String id() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * Das Repository fuer die gemeinsamen Versionen der Kataloge
+     */
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    /**
+     * Die Dauer in Nanosekunden, fuer die die gelesenen Versionen verwendet werden
+     */
+    private final long refreshIntervalNanos;
+
+    /**
+     * Die zuletzt gelesenen Versionen oder null, wenn noch keine gelesen wurden
+     */
+    private volatile Versions versions;
+
+    /**
+     * Zaehlt die eigenen Erhoehungen. Versionen, die vor der letzten eigenen Erhoehung gelesen wurden, werden nicht mehr verwendet
+     */
+    private final AtomicLong increments = new AtomicLong();
+
+    /**
+     * Konstruktor der Klasse CatalogVersion.
+     *
+     * @param catalogVersionRepository Das Repository fuer die gemeinsamen Versionen der Kataloge
+     * @param catalogProperties        Die Eigenschaften der Katalogversionen
+     */
+    @Autowired
+    public CatalogVersion(CatalogVersionRepository catalogVersionRepository, CatalogProperties catalogProperties) {
+        this.catalogVersionRepository = catalogVersionRepository;
+        this.refreshIntervalNanos = catalogProperties.getVersionRefreshInterval().toNanos();
+    }
+
+    /**
+     * Gibt die aktuelle Version eines Katalogs zurueck. Sind die gehaltenen Versionen aelter als das Intervall, werden alle Versionen mit einer Abfrage neu gelesen.
+     *
+     * @param catalog Der Katalog
+     * @return Die aktuelle Version, 0 falls der Katalog noch keine Version hat
+     */
+    public long get(Catalog catalog) {
+        Versions current = versions;
+        if (current == null || current.increments() != increments.get() || System.nanoTime() - current.loadedAt() >= refreshIntervalNanos) {
+            current = load();
+        }
+        return current.byCatalog().getOrDefault(catalog.id(), 0L);
+    }
+
+    /**
+     * Erhoeht die Versionen der angegebenen Kataloge in einer eigenen, kurzen Transaktion.
+     * Die Methode darf erst aufgerufen werden, wenn die Aenderung committet und auch im Speicher sichtbar ist, z.B. im {@link RecipeNutrientIndex}.
+     * Sonst koennte eine gleichzeitige Anfrage den alten Stand unter der neuen Version ausliefern, den Clients danach per 304 weiterverwenden.
+     * Ein Fehler wird nur geloggt, da die Aenderung bereits gespeichert ist. Die Versionen werden spaetestens beim naechsten Start wieder erhoeht.
+     *
+     * @param catalogs Die geaenderten Kataloge
+     */
+    public void increment(Catalog... catalogs) {
+        List<String> ids = new ArrayList<>();
+        for (Catalog catalog : catalogs) {
+            ids.add(catalog.id());
+        }
+        try {
+            if (catalogVersionRepository.incrementVersions(ids) < ids.size()) {
+                for (String id : ids) {
+                    catalogVersionRepository.insertIfAbsent(id, System.currentTimeMillis());
+                }
+            }
+        } catch (Exception e) {
+            log.error("Catalog version could not be incremented! " + e.getMessage());
+        } finally {
+            increments.incrementAndGet();
+        }
+    }
+
+    /**
+     * Gibt den schwachen ETag fuer die aktuelle Version eines Katalogs zurueck.
+     * Die erste Version ist der Zeitpunkt ihres Anlegens, damit nach dem Zuruecksetzen der Datenbank keine ETags aus einem frueheren Stand wieder gueltig werden.
+     *
+     * @param catalog Der Katalog
+     * @return Der schwache ETag, z.B. {@code W/"lxk2v0a8"}
+     */
+    public String eTag(Catalog catalog) {
+        return "W/\"" + Long.toString(get(catalog), 36) + "\"";
+    }
+
+    /**
+     * Liest die Versionen aller Kataloge aus der Datenbank. Die Anzahl der eigenen Erhoehungen wird vorher festgehalten,
+     * sodass Versionen, die waehrend einer Erhoehung gelesen wurden, bei der naechsten Anfrage erneut gelesen werden.
+     *
+     * @return Die gelesenen Versionen
+     */
+    private Versions load() {
+        long incrementsBefore = increments.get();
+        long loadedAt = System.nanoTime();
+        Map<String, Long> byCatalog = new HashMap<>();
+        for (CatalogVersionEntry entry : catalogVersionRepository.findAll()) {
+            byCatalog.put(entry.getId(), entry.getVersion());
+        }
+        Versions loaded = new Versions(byCatalog, loadedAt, incrementsBefore);
+        versions = loaded;
+        return loaded;
+    }
+
+    /**
+     * Die zu einem Zeitpunkt gelesenen Versionen aller Kataloge.
+     *
+     * @param byCatalog  Die Versionen nach dem Namen des Katalogs
+     * @param loadedAt   Der Zeitpunkt des Lesens aus {@link System#nanoTime()}
+     * @param increments Die Anzahl der eigenen Erhoehungen vor dem Lesen
+     */
+    private record Versions(Map<String, Long> byCatalog, long loadedAt, long increments) {
+    }
+}
@@ -0,0 +1,172 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeMappingDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Diese Klasse liest Rezepte und Zutaten aus lokalen Dateien im Format der Edamam-API, sodass der Import ohne Netzwerkzugriff erfolgen kann.
+ * Die Dateien enthalten einen JSON-Wert pro Zeile (NDJSON). Sie werden mit dem {@link JsonParser} von Jackson gestreamt,
+ * sodass hoechstens der jeweils gelesene Treffer im Speicher liegt und auch sehr grosse Dateien gelesen werden koennen.
+ */
+@Slf4j
+@Component
+public class DumpFileReader {
+
+    /**
+     * Die Groesse des Lesepuffers in Bytes
+     */
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Der {@link ObjectMapper} fuer die JSON-Verarbeitung
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Der Parser, der die Rezepte einer Seite direkt aus dem Token-Strom mappt
+     */
+    private final RecipePageParser recipePageParser;
+
+    /**
+     * Konstruktor der Klasse DumpFileReader.
+     *
+     * @param objectMapper     Der ObjectMapper fuer die JSON-Verarbeitung
+     * @param recipePageParser Der Parser, der die Rezepte einer Seite direkt aus dem Token-Strom mappt
+     */
+    @Autowired
+    public DumpFileReader(ObjectMapper objectMapper, RecipePageParser recipePageParser) {
+        this.objectMapper = objectMapper;
+        this.recipePageParser = recipePageParser;
+    }
+
+    /**
+     * Liest alle gueltigen Rezepte aus einer Datei. Eine Zeile ist entweder eine vollstaendige Antwort der Rezept-API mit dem Schluessel "hits"
+     * oder ein einzelner Treffer mit dem Schluessel "recipe". Die Rezepte werden vom {@link RecipePageParser} direkt aus dem Token-Strom gemappt.
+     *
+     * @param file     Die Datei mit den Rezepten
+     * @param consumer Erhaelt die gueltigen Rezepte in der Reihenfolge der Datei
+     * @return Die Anzahl der gelesenen Rezepte
+     * @throws IOException Wenn die Datei nicht gelesen werden kann oder kein gueltiges JSON enthaelt
+     */
+    public int readRecipes(Path file, Consumer<RecipeMappingDTO> consumer) throws IOException {
+        return readRecipesWhile(file, recipeMappingDTO -> {
+            consumer.accept(recipeMappingDTO);
+            return true;
+        });
+    }
+
+    /**
+     * Liest die gueltigen Rezepte aus einer Datei, bis der Consumer false zurueckgibt. Die restlichen Treffer des aktuellen Objekts werden noch geparst,
+     * aber nicht mehr weitergegeben, der Rest der Datei wird nicht mehr gelesen.
+     *
+     * @param file     Die Datei mit den Rezepten
+     * @param consumer Erhaelt die gueltigen Rezepte in der Reihenfolge der Datei und gibt zurueck, ob weitere Rezepte gelesen werden sollen
+     * @return Die Anzahl der weitergegebenen Rezepte
+     * @throws IOException Wenn die Datei nicht gelesen werden kann oder kein gueltiges JSON enthaelt
+     */
+    public int readRecipesWhile(Path file, Predicate<RecipeMappingDTO> consumer) throws IOException {
+        AtomicInteger count = new AtomicInteger();
+        AtomicBoolean proceed = new AtomicBoolean(true);
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+             JsonParser parser = objectMapper.createParser(inputStream)) {
+            while (proceed.get() && nextObject(parser)) {
+                recipePageParser.readPage(parser, recipeMappingDTO -> {
+                    if (proceed.get()) {
+                        count.incrementAndGet();
+                        proceed.set(consumer.test(recipeMappingDTO));
+                    }
+                });
+            }
+        }
+        return count.get();
+    }
+
+    /**
+     * Liest die Zutaten aus einer Datei. Eine Zeile ist entweder eine vollstaendige Antwort der Food-API mit dem Schluessel "hints"
+     * oder ein einzelner Treffer mit dem Schluessel "food". Wie bei der Abfrage der Food-API wird nur der erste Treffer einer Antwort verwendet,
+     * die weiteren Treffer werden ohne Aufbau eines JSON-Baums uebersprungen.
+     *
+     * @param file     Die Datei mit den Zutaten
+     * @param consumer Erhaelt die Food-ID und den ersten Treffer jeder Antwort
+     * @return Die Anzahl der gelesenen Zutaten
+     * @throws IOException Wenn die Datei nicht gelesen werden kann oder kein gueltiges JSON enthaelt
+     */
+    public int readIngredientHints(Path file, BiConsumer<String, JsonNode> consumer) throws IOException {
+        int count = 0;
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+             JsonParser parser = objectMapper.createParser(inputStream)) {
+            while (nextObject(parser)) {
+                JsonNode hint = null;
+                ObjectNode singleHint = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    JsonToken value = parser.nextToken();
+                    if (field.equals("hints") && value == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            if (hint == null && parser.currentToken() == JsonToken.START_OBJECT) {
+                                hint = parser.readValueAsTree();
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else if (field.equals("food") || field.equals("measures")) {
+                        if (singleHint == null) {
+                            singleHint = objectMapper.createObjectNode();
+                        }
+                        singleHint.set(field, parser.readValueAsTree());
+                    } else {
+                        parser.skipChildren(); // z.B. "text", "parsed" oder "_links" werden nicht benoetigt
+                    }
+                }
+                if (hint == null) {
+                    hint = singleHint;
+                }
+                String foodId = hint == null ? null : hint.path("food").path("foodId").asText(null);
+                if (foodId == null) {
+                    log.warn("Entry in " + file + " does not contain any valid ingredients.");
+                    continue;
+                }
+                consumer.accept(foodId, hint);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Springt zum naechsten JSON-Objekt auf oberster Ebene. Andere Werte werden uebersprungen.
+     *
+     * @param parser Der Parser der Datei
+     * @return true, wenn der Parser auf dem Beginn eines Objekts steht, false am Ende der Datei
+     * @throws IOException Wenn die Datei nicht gelesen werden kann oder kein gueltiges JSON enthaelt
+     */
+    private boolean nextObject(JsonParser parser) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.START_OBJECT) {
+                return true;
+            }
+            log.warn("Skipping unexpected " + token + " in dump file");
+            parser.skipChildren();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,219 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.Counter;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.MetricsRegistry;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ImportProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.utils.URIBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Diese Klasse laedt die Bilder der importierten Rezepte herunter.
+ * Die Downloads laufen auf einer festen Anzahl an Threads mit begrenzter Warteschlange, sodass die Bilder einer Seite parallel
+ * und ohne offene Datenbanktransaktion heruntergeladen werden. Ist die Warteschlange voll, laedt der aufrufende Thread das Bild selbst herunter.
+ * Jeder Download hat Timeouts fuer Verbindungsaufbau und Lesen, eine maximale Groesse und wird bei Fehlern mit wachsender Wartezeit wiederholt.
+ */
+@Slf4j
+@Component
+public class ImageDownloader {
+
+    /**
+     * Die Eigenschaften des Imports mit den Einstellungen fuer den Download
+     */
+    private final ImportProperties importProperties;
+
+    /**
+     * Der Thread-Pool fuer die parallelen Downloads
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Die Anzahl der heruntergeladenen Bytes
+     */
+    private final Counter downloadedBytes;
+
+    /**
+     * Die Anzahl der erfolgreich heruntergeladenen Bilder
+     */
+    private final Counter successfulDownloads;
+
+    /**
+     * Die Anzahl der Bilder, die auch nach allen Wiederholungen nicht heruntergeladen werden konnten
+     */
+    private final Counter failedDownloads;
+
+    /**
+     * Konstruktor der Klasse ImageDownloader.
+     *
+     * @param importProperties Die Eigenschaften des Imports mit den Einstellungen fuer den Download
+     * @param metricsRegistry  Die Registry fuer die Zaehlung der Downloads und die Auslastung der Warteschlange
+     */
+    @Autowired
+    public ImageDownloader(ImportProperties importProperties, MetricsRegistry metricsRegistry) {
+        this.importProperties = importProperties;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(importProperties.getImageWorkers(), importProperties.getImageWorkers(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(importProperties.getImageQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-download-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.downloadedBytes = metricsRegistry.counter("import_image_bytes_total", "Bytes of recipe images downloaded during the import");
+        this.successfulDownloads = metricsRegistry.counter("import_images_total", "Recipe images downloaded during the import by outcome", "outcome", "success");
+        this.failedDownloads = metricsRegistry.counter("import_images_total", "Recipe images downloaded during the import by outcome", "outcome", "error");
+        metricsRegistry.gauge("import_image_queue_size", "Image downloads waiting for a worker", () -> executor.getQueue().size());
+    }
+
+    /**
+     * Startet den Download eines Bildes im Thread-Pool.
+     *
+     * @param imageUrl Die URL des Bildes
+     * @return Das Bild als Byte-Array, sobald es heruntergeladen wurde; schlaegt der Download fehl, wird die Future mit einer {@link ServiceException} abgeschlossen
+     */
+    public CompletableFuture<byte[]> downloadAsync(String imageUrl) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return download(imageUrl);
+            } catch (ServiceException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Laedt ein Bild herunter und wiederholt den Download bei Fehlern.
+     *
+     * @param imageUrl Die URL des Bildes
+     * @return Das Bild als Byte-Array
+     * @throws ServiceException Wenn das Bild auch nach allen Wiederholungen nicht heruntergeladen werden kann oder zu gross ist
+     */
+    public byte[] download(String imageUrl) throws ServiceException {
+        long backoffMillis = importProperties.getImageRetryBackoff().toMillis();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                byte[] image = fetch(imageUrl);
+                successfulDownloads.increment();
+                downloadedBytes.increment(image.length);
+                return image;
+            } catch (ImageTooLargeException e) {
+                failedDownloads.increment();
+                throw new ServiceException("Error while retrieving image: " + e.getMessage());
+            } catch (Exception e) {
+                if (attempt >= importProperties.getImageRetries()) {
+                    failedDownloads.increment();
+                    throw new ServiceException("Error while retrieving image: " + e.getMessage());
+                }
+                log.debug("Retrying download of image " + imageUrl + " after error: " + e.getMessage());
+            }
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceException("Download of image " + imageUrl + " was interrupted");
+            }
+            backoffMillis *= 2;
+        }
+    }
+
+    /**
+     * Fuehrt einen einzelnen Download eines Bildes aus.
+     *
+     * @param imageUrl Die URL des Bildes
+     * @return Das Bild als Byte-Array
+     * @throws Exception Wenn die Verbindung fehlschlaegt, der Server keinen Erfolg meldet oder das Bild zu gross ist
+     */
+    protected byte[] fetch(String imageUrl) throws Exception {
+        long maxBytes = importProperties.getImageMaxBytes();
+        URI uri = new URIBuilder(imageUrl).build();
+        if ("file".equalsIgnoreCase(uri.getScheme())) {
+            return readFile(Path.of(uri), maxBytes);
+        }
+        URL url = uri.toURL();
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setConnectTimeout((int) importProperties.getImageConnectTimeout().toMillis());
+        connection.setReadTimeout((int) importProperties.getImageReadTimeout().toMillis());
+        try {
+            int status = connection.getResponseCode();
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Unexpected status " + status + " for " + imageUrl);
+            }
+            if (connection.getContentLengthLong() > maxBytes) {
+                throw new ImageTooLargeException("Image " + imageUrl + " exceeds " + maxBytes + " bytes");
+            }
+            try (InputStream inputStream = connection.getInputStream()) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                byte[] buffer = new byte[16 * 1024];
+                long totalBytes = 0;
+                int bytesRead;
+                while ((bytesRead = inputStream.read(buffer)) != -1) {
+                    totalBytes += bytesRead;
+                    if (totalBytes > maxBytes) { // Der Server muss keine Content-Length senden, daher wird auch beim Lesen geprueft
+                        throw new ImageTooLargeException("Image " + imageUrl + " exceeds " + maxBytes + " bytes");
+                    }
+                    outputStream.write(buffer, 0, bytesRead);
+                }
+                return outputStream.toByteArray();
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Liest ein lokal gespeichertes Bild, z.B. beim Import aus einer Datei ohne Netzwerkzugriff.
+     *
+     * @param file     Die Datei des Bildes
+     * @param maxBytes Die maximale Groesse des Bildes in Bytes
+     * @return Das Bild als Byte-Array
+     * @throws IOException Wenn die Datei nicht gelesen werden kann oder das Bild zu gross ist
+     */
+    private byte[] readFile(Path file, long maxBytes) throws IOException {
+        if (Files.size(file) > maxBytes) {
+            throw new ImageTooLargeException("Image " + file + " exceeds " + maxBytes + " bytes");
+        }
+        return Files.readAllBytes(file);
+    }
+
+    /**
+     * Beendet den Thread-Pool beim Herunterfahren der Anwendung.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Wird geworfen, wenn ein Bild die maximale Groesse ueberschreitet. Der Download wird dann nicht wiederholt.
+     */
+    private static class ImageTooLargeException extends IOException {
+
+        /**
+         * Konstruktor der Klasse ImageTooLargeException.
+         *
+         * @param message Die Fehlermeldung
+         */
+        ImageTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
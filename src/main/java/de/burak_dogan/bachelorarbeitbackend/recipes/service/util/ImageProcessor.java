@@ -0,0 +1,117 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Diese Klasse stellt Hilfsfunktionen fuer die Bilder der Rezepte bereit, z.B. die Berechnung des Hashwerts fuer ETags
+ * und das Erzeugen der verkleinerten Varianten.
+ */
+@Slf4j
+@Component
+public class ImageProcessor {
+
+    /**
+     * Berechnet den SHA-256-Hashwert eines Bildes als Hex-String.
+     * Der Wert entspricht dem Ergebnis von encode(sha256(image), 'hex') in PostgreSQL.
+     *
+     * @param image Das Bild als Byte-Array
+     * @return Der Hashwert als Hex-String in Kleinbuchstaben
+     */
+    public String hash(byte[] image) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(image));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by the JVM", e); // SHA-256 muss von jeder JVM unterstuetzt werden
+        }
+    }
+
+    /**
+     * Ermittelt den Content-Type eines Bildes anhand der ersten Bytes.
+     *
+     * @param image Das Bild als Byte-Array
+     * @return Der erkannte Content-Type oder application/octet-stream, wenn dieser nicht erkannt werden konnte
+     */
+    public String detectContentType(byte[] image) {
+        try (InputStream inputStream = new ByteArrayInputStream(image)) {
+            String contentType = URLConnection.guessContentTypeFromStream(inputStream);
+            return contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        } catch (IOException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+
+    /**
+     * Setzt den Hashwert und die verkleinerten Varianten des Bildes im Rezept.
+     * Wird beim Schreiben eines Rezepts aufgerufen, damit die Varianten beim Abruf nicht berechnet werden muessen.
+     *
+     * @param recipe Das Rezept mit gesetztem Originalbild
+     */
+    public void applyImageData(Recipe recipe) {
+        byte[] image = recipe.getImage();
+        recipe.setImageHash(hash(image));
+        recipe.setImageThumbnail(resize(image, ImageSize.THUMBNAIL));
+        recipe.setImageMedium(resize(image, ImageSize.MEDIUM));
+    }
+
+    /**
+     * Verkleinert ein Bild auf die angegebene Groesse, wobei das Seitenverhaeltnis erhalten bleibt.
+     * Bilder mit Transparenz werden als PNG, alle anderen als JPEG gespeichert.
+     * Ist das Bild bereits klein genug oder kann es nicht gelesen werden, wird das Originalbild zurueckgegeben.
+     *
+     * @param image Das Originalbild als Byte-Array
+     * @param size  Die gewuenschte Groesse
+     * @return Das verkleinerte Bild als Byte-Array
+     */
+    public byte[] resize(byte[] image, ImageSize size) {
+        int maxDimension = size.getMaxDimension();
+        if (maxDimension == 0) {
+            return image;
+        }
+        try {
+            BufferedImage original = ImageIO.read(new ByteArrayInputStream(image));
+            if (original == null || (original.getWidth() <= maxDimension && original.getHeight() <= maxDimension)) {
+                return image;
+            }
+            double scale = (double) maxDimension / Math.max(original.getWidth(), original.getHeight());
+            int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+            boolean hasAlpha = original.getColorModel().hasAlpha();
+
+            BufferedImage resized = new BufferedImage(width, height, hasAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = resized.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(original, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            if (!ImageIO.write(resized, hasAlpha ? "png" : "jpeg", outputStream)) {
+                return image;
+            }
+            return outputStream.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Image could not be resized to " + size.name().toLowerCase() + ": " + e.getMessage());
+            return image;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+/**
+ * Die Groessen, in denen das Bild eines Rezepts ausgeliefert werden kann.
+ * Die verkleinerten Varianten werden einmalig berechnet und neben dem Originalbild gespeichert.
+ */
+public enum ImageSize {
+
+    /**
+     * Vorschaubild fuer die Listenansicht mit hoechstens 200 Pixeln Kantenlaenge.
+     */
+    THUMBNAIL(200),
+
+    /**
+     * Mittlere Groesse fuer die Detailansicht mit hoechstens 600 Pixeln Kantenlaenge.
+     */
+    MEDIUM(600),
+
+    /**
+     * Das unveraenderte Originalbild.
+     */
+    ORIGINAL(0);
+
+    /**
+     * Die maximale Kantenlaenge in Pixeln, 0 fuer das Originalbild.
+     */
+    private final int maxDimension;
+
+    /**
+     * Konstruktor der Bildgroesse.
+     *
+     * @param maxDimension Die maximale Kantenlaenge in Pixeln, 0 fuer das Originalbild
+     */
+    ImageSize(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+
+    /**
+     * Gibt die maximale Kantenlaenge in Pixeln zurueck.
+     *
+     * @return Die maximale Kantenlaenge, 0 fuer das Originalbild
+     */
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    /**
+     * Bildet den ETag fuer diese Bildgroesse aus dem Hashwert des Originalbildes.
+     * Dadurch erhaelt jede Groesse einen eigenen ETag, der sich nur mit dem Originalbild aendert.
+     *
+     * @param imageHash Der Hashwert des Originalbildes
+     * @return Der ETag fuer diese Bildgroesse
+     */
+    public String eTag(String imageHash) {
+        return this == ORIGINAL ? imageHash : imageHash + "-" + name().toLowerCase();
+    }
+
+    /**
+     * Ermittelt die Bildgroesse anhand eines Request-Parameters.
+     *
+     * @param parameter Der Request-Parameter, z.B. thumbnail, oder null
+     * @return Die passende Bildgroesse, ORIGINAL wenn kein Parameter angegeben wurde
+     */
+    public static ImageSize fromParameter(String parameter) {
+        return parameter != null ? valueOf(parameter.toUpperCase()) : ORIGINAL;
+    }
+}
@@ -0,0 +1,157 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.ImportStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Der Fortschritt des laufenden Imports im Speicher. Der Import aktualisiert die Werte nach jeder Seite,
+ * der Status-Endpunkt liest sie, ohne auf die Datenbank zuzugreifen.
+ */
+@Component
+public class ImportProgress {
+
+    /**
+     * Der aktuelle Zustand des Imports.
+     */
+    private volatile ImportStatus status = ImportStatus.PENDING;
+
+    /**
+     * Die Anzahl der in diesem Lauf abgerufenen Seiten.
+     */
+    private final AtomicInteger pagesFetched = new AtomicInteger();
+
+    /**
+     * Die Anzahl der in diesem Lauf gespeicherten Rezepte.
+     */
+    private final AtomicInteger recipesSaved = new AtomicInteger();
+
+    /**
+     * Die Anzahl der Rezepte, die insgesamt in der Datenbank gespeichert sein sollen.
+     */
+    private volatile int targetRecipes;
+
+    /**
+     * Die Anzahl der Rezepte, die beim Start des Imports bereits gespeichert waren.
+     */
+    private volatile long recipesAtStart;
+
+    /**
+     * Der Zeitpunkt, zu dem der Import gestartet wurde.
+     */
+    private volatile Instant startedAt;
+
+    /**
+     * Der Zeitpunkt, zu dem der Import beendet wurde.
+     */
+    private volatile Instant finishedAt;
+
+    /**
+     * Setzt den Fortschritt zurueck und markiert den Import als laufend.
+     *
+     * @param targetRecipes  Die Anzahl der Rezepte, die insgesamt gespeichert sein sollen
+     * @param recipesAtStart Die Anzahl der Rezepte, die bereits gespeichert sind
+     */
+    public void start(int targetRecipes, long recipesAtStart) {
+        this.targetRecipes = targetRecipes;
+        this.recipesAtStart = recipesAtStart;
+        pagesFetched.set(0);
+        recipesSaved.set(0);
+        startedAt = Instant.now();
+        finishedAt = null;
+        status = ImportStatus.RUNNING;
+    }
+
+    /**
+     * Zaehlt eine abgerufene Seite und die daraus gespeicherten Rezepte.
+     *
+     * @param savedRecipes Die Anzahl der gespeicherten Rezepte der Seite
+     */
+    public void pageProcessed(int savedRecipes) {
+        pagesFetched.incrementAndGet();
+        recipesSaved.addAndGet(savedRecipes);
+    }
+
+    /**
+     * Markiert den Import als beendet.
+     *
+     * @param status Der Endzustand des Imports
+     */
+    public void finish(ImportStatus status) {
+        finishedAt = Instant.now();
+        this.status = status;
+    }
+
+    /**
+     * Schaetzt die verbleibende Dauer des Imports anhand der bisherigen Rate gespeicherter Rezepte.
+     *
+     * @return Die geschaetzte verbleibende Dauer oder null, wenn der Import nicht laeuft oder noch keine Rezepte gespeichert wurden
+     */
+    public Duration estimateRemaining() {
+        int saved = recipesSaved.get();
+        Instant start = startedAt;
+        if (status != ImportStatus.RUNNING || saved == 0 || start == null) {
+            return null;
+        }
+        long remainingRecipes = Math.max(0, targetRecipes - recipesAtStart - saved);
+        Duration elapsed = Duration.between(start, Instant.now());
+        return elapsed.multipliedBy(remainingRecipes).dividedBy(saved);
+    }
+
+    /**
+     * Gibt den aktuellen Zustand des Imports zurueck.
+     *
+     * @return Der Zustand des Imports
+     */
+    public ImportStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Gibt die Anzahl der in diesem Lauf abgerufenen Seiten zurueck.
+     *
+     * @return Die Anzahl der abgerufenen Seiten
+     */
+    public int getPagesFetched() {
+        return pagesFetched.get();
+    }
+
+    /**
+     * Gibt die Anzahl der in diesem Lauf gespeicherten Rezepte zurueck.
+     *
+     * @return Die Anzahl der gespeicherten Rezepte
+     */
+    public int getRecipesSaved() {
+        return recipesSaved.get();
+    }
+
+    /**
+     * Gibt die Anzahl der Rezepte zurueck, die insgesamt gespeichert sein sollen.
+     *
+     * @return Die Zielanzahl der Rezepte
+     */
+    public int getTargetRecipes() {
+        return targetRecipes;
+    }
+
+    /**
+     * Gibt den Zeitpunkt zurueck, zu dem der Import gestartet wurde.
+     *
+     * @return Der Startzeitpunkt oder null, wenn der Import noch nicht gestartet wurde
+     */
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Gibt den Zeitpunkt zurueck, zu dem der Import beendet wurde.
+     *
+     * @return Der Endzeitpunkt oder null, wenn der Import noch nicht beendet wurde
+     */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,124 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ein im Speicher gehaltener Cache ueber den Zutatenkatalog mit den Naehrwerten und der Umrechnung der Masseinheiten in Gramm.
+ * Beim Erstellen eines Rezepts muessen dadurch fuer die Pruefung der Zutaten und Masseinheiten keine Datenbankabfragen pro Zutat ausgefuehrt werden.
+ * Der Cache ist versioniert: Jede Invalidierung erhoeht die Version, sodass Eintraege, die vor der Invalidierung geladen wurden, nicht mehr uebernommen werden.
+ */
+@Component
+public class IngredientCatalogCache {
+
+    /**
+     * Die aktuell zwischengespeicherten Zutaten nach ihrer ID.
+     */
+    private volatile Map<String, CachedIngredient> ingredients = new ConcurrentHashMap<>();
+
+    /**
+     * Die aktuelle Version des Caches. Wird bei jedem Aufwaermen und jeder Invalidierung erhoeht.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Die Anzahl der Zugriffe, fuer die die Zutat im Cache gefunden wurde.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * Die Anzahl der Zugriffe, fuer die die Zutat nicht im Cache gefunden wurde.
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Gibt die zwischengespeicherte Zutat mit der angegebenen ID zurueck.
+     *
+     * @param foodId Die ID der Zutat
+     * @return Die Zutat oder null, wenn sie nicht zwischengespeichert ist
+     */
+    public CachedIngredient get(String foodId) {
+        CachedIngredient ingredient = ingredients.get(foodId);
+        if (ingredient != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return ingredient;
+    }
+
+    /**
+     * Gibt die aktuelle Version des Caches zurueck. Muss vor dem Laden einer fehlenden Zutat abgefragt und an {@link #put} uebergeben werden.
+     *
+     * @return Die aktuelle Version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Nimmt eine nach einem Fehlzugriff geladene Zutat in den Cache auf, sofern der Cache seit dem Laden nicht invalidiert wurde.
+     *
+     * @param ingredient      Die geladene Zutat
+     * @param expectedVersion Die Version des Caches vor dem Laden der Zutat
+     */
+    public void put(CachedIngredient ingredient, long expectedVersion) {
+        Map<String, CachedIngredient> current = ingredients;
+        if (version.get() == expectedVersion) {
+            current.put(ingredient.id(), ingredient);
+        }
+    }
+
+    /**
+     * Ersetzt den Inhalt des Caches durch den angegebenen Zutatenkatalog.
+     *
+     * @param catalog Alle Zutaten des Katalogs
+     */
+    public void warm(List<CachedIngredient> catalog) {
+        Map<String, CachedIngredient> warmed = new ConcurrentHashMap<>(Math.max(16, catalog.size() * 2));
+        for (CachedIngredient ingredient : catalog) {
+            warmed.put(ingredient.id(), ingredient);
+        }
+        version.incrementAndGet(); // Zuerst die Version erhoehen, damit laufende Ladevorgaenge nicht in den neuen Inhalt schreiben
+        ingredients = warmed;
+    }
+
+    /**
+     * Leert den Cache, z.B. wenn durch einen Import neue Zutaten gespeichert werden.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        ingredients = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gibt die Anzahl der zwischengespeicherten Zutaten zurueck.
+     *
+     * @return Die Anzahl der Zutaten
+     */
+    public int size() {
+        return ingredients.size();
+    }
+
+    /**
+     * Gibt die Anzahl der Zugriffe zurueck, fuer die die Zutat im Cache gefunden wurde.
+     *
+     * @return Die Anzahl der Treffer
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gibt die Anzahl der Zugriffe zurueck, fuer die die Zutat nicht im Cache gefunden wurde.
+     *
+     * @return Die Anzahl der Fehlzugriffe
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+}
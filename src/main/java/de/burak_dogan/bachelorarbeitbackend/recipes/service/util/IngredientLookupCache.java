@@ -0,0 +1,153 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.RequestProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.IngredientLookupCacheRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.IngredientLookupCacheEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ein zweistufiger Cache fuer die Antworten der Food-API von Edamam, nach der Food-ID der Zutat.
+ * Die erste Stufe ist eine Map im Speicher, die zweite die Tabelle "ingredient_lookup_cache", sodass der Cache einen Neustart uebersteht.
+ * Eintraege, die aelter als die konfigurierte Gueltigkeitsdauer sind, werden nicht mehr zurueckgegeben und die Zutat wird erneut abgefragt.
+ * Fehler beim Zugriff auf die Datenbank werden nur geloggt, die Zutat wird dann wie bei einem Cache-Miss von der API abgefragt.
+ */
+@Slf4j
+@Component
+public class IngredientLookupCache {
+
+    /**
+     * Die im Speicher zwischengespeicherten Eintraege nach der Food-ID.
+     */
+    private final Map<String, IngredientLookupCacheEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Das Repository fuer die in der Datenbank zwischengespeicherten Eintraege.
+     */
+    private final IngredientLookupCacheRepository ingredientLookupCacheRepository;
+
+    /**
+     * Die Gueltigkeitsdauer eines Eintrags.
+     */
+    private final Duration ttl;
+
+    /**
+     * Konstruktor der Klasse IngredientLookupCache.
+     *
+     * @param ingredientLookupCacheRepository Das Repository fuer die in der Datenbank zwischengespeicherten Eintraege
+     * @param requestProperties               Die RequestProperties mit der Gueltigkeitsdauer der Eintraege
+     */
+    @Autowired
+    public IngredientLookupCache(IngredientLookupCacheRepository ingredientLookupCacheRepository, RequestProperties requestProperties) {
+        this.ingredientLookupCacheRepository = ingredientLookupCacheRepository;
+        this.ttl = requestProperties.getIngredientCacheTtl();
+    }
+
+    /**
+     * Gibt die zwischengespeicherte Antwort fuer die angegebene Zutat zurueck. Zuerst wird im Speicher, dann in der Datenbank gesucht.
+     *
+     * @param foodId Die Food-ID der Zutat
+     * @return Die Antwort als JSON oder null, wenn keine gueltige Antwort zwischengespeichert ist
+     */
+    public String get(String foodId) {
+        IngredientLookupCacheEntry entry = entries.get(foodId);
+        if (entry == null) {
+            entry = findInDatabase(foodId);
+            if (entry == null) {
+                return null;
+            }
+            entries.put(foodId, entry);
+        }
+        if (isExpired(entry)) {
+            entries.remove(foodId, entry);
+            return null;
+        }
+        return entry.getResponse();
+    }
+
+    /**
+     * Speichert die Antwort fuer die angegebene Zutat im Speicher und in der Datenbank.
+     *
+     * @param foodId   Die Food-ID der Zutat
+     * @param response Die Antwort der Food-API als JSON
+     */
+    public void put(String foodId, String response) {
+        IngredientLookupCacheEntry entry = IngredientLookupCacheEntry.builder().foodId(foodId).response(response).fetchedAt(Instant.now()).build();
+        entries.put(foodId, entry);
+        try {
+            ingredientLookupCacheRepository.save(entry);
+        } catch (Exception e) {
+            log.warn("Lookup of ingredient with foodId: " + foodId + " could not be cached! " + e.getMessage());
+        }
+    }
+
+    /**
+     * Speichert mehrere Antworten gemeinsam im Speicher und in der Datenbank.
+     *
+     * @param responses Die Antworten der Food-API als JSON nach der Food-ID
+     */
+    public void putAll(Map<String, String> responses) {
+        Instant now = Instant.now();
+        List<IngredientLookupCacheEntry> newEntries = new ArrayList<>();
+        for (Map.Entry<String, String> response : responses.entrySet()) {
+            IngredientLookupCacheEntry entry = IngredientLookupCacheEntry.builder().foodId(response.getKey()).response(response.getValue()).fetchedAt(now).build();
+            entries.put(response.getKey(), entry);
+            newEntries.add(entry);
+        }
+        try {
+            ingredientLookupCacheRepository.saveAll(newEntries);
+        } catch (Exception e) {
+            log.warn(newEntries.size() + " ingredient lookups could not be cached! " + e.getMessage());
+        }
+    }
+
+    /**
+     * Entfernt alle abgelaufenen Eintraege aus dem Speicher und der Datenbank.
+     *
+     * @return Die Anzahl der aus der Datenbank geloeschten Eintraege
+     */
+    public int evictExpired() {
+        entries.values().removeIf(this::isExpired);
+        try {
+            return ingredientLookupCacheRepository.deleteByFetchedAtBefore(Instant.now().minus(ttl));
+        } catch (Exception e) {
+            log.warn("Expired ingredient lookups could not be deleted! " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Sucht den Eintrag fuer die angegebene Zutat in der Datenbank.
+     *
+     * @param foodId Die Food-ID der Zutat
+     * @return Der Eintrag oder null, wenn er nicht existiert oder nicht geladen werden kann
+     */
+    private IngredientLookupCacheEntry findInDatabase(String foodId) {
+        try {
+            Optional<IngredientLookupCacheEntry> entry = ingredientLookupCacheRepository.findById(foodId);
+            return entry.orElse(null);
+        } catch (Exception e) {
+            log.warn("Cached lookup of ingredient with foodId: " + foodId + " could not be loaded! " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Prueft, ob ein Eintrag aelter als die Gueltigkeitsdauer ist.
+     *
+     * @param entry Der zu pruefende Eintrag
+     * @return true, wenn der Eintrag abgelaufen ist
+     */
+    private boolean isExpired(IngredientLookupCacheEntry entry) {
+        return entry.getFetchedAt().plus(ttl).isBefore(Instant.now());
+    }
+}
@@ -0,0 +1,336 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.Counter;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.Histogram;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.MetricsRegistry;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.RequestProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.JsonKeyNotFoundException;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.IngredientMappingDTO;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.IngredientUnitMappingDTO;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeIngredientMappingDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Diese Klasse fragt die Informationen der Zutaten bei der Food-API von Edamam ab.
+ * Die Abfragen einer Seite werden nebenlaeufig auf virtuellen Threads ausgefuehrt. Die Anzahl gleichzeitiger Anfragen wird ueber eine Semaphore begrenzt
+ * und die Anfragerate ueber einen {@link TokenBucketRateLimiter}, damit das Kontingent der API eingehalten wird.
+ * Bereits abgefragte Zutaten werden aus dem {@link IngredientLookupCache} beantwortet.
+ *
+ * @see <a href="https://developer.edamam.com/food-database-api-docs#/">Food API</a>
+ */
+@Slf4j
+@Component
+public class IngredientLookupClient {
+
+    /**
+     * Der RestTemplate fuer die HTTP-Anfragen
+     */
+    private final RestTemplate restTemplate;
+
+    /**
+     * Die RequestProperties fuer die Anfragen
+     */
+    private final RequestProperties requestProperties;
+
+    /**
+     * Der {@link ObjectMapper} fuer die JSON-Verarbeitung
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Der Rate-Limiter, der die Anfragen an die Food-API auf das erlaubte Kontingent begrenzt
+     */
+    private final TokenBucketRateLimiter rateLimiter;
+
+    /**
+     * Die Semaphore, die die Anzahl gleichzeitig laufender Anfragen begrenzt
+     */
+    private final Semaphore concurrencyLimit;
+
+    /**
+     * Der Cache fuer die Antworten der Food-API, damit bekannte Zutaten nicht erneut abgefragt werden
+     */
+    private final IngredientLookupCache ingredientLookupCache;
+
+    /**
+     * Die Anzahl der Zutaten, die aus dem Cache beantwortet wurden
+     */
+    private final Counter cacheHits;
+
+    /**
+     * Die Anzahl der Zutaten, die nicht im Cache waren
+     */
+    private final Counter cacheMisses;
+
+    /**
+     * Die Dauer der erfolgreichen Anfragen an die Food-API
+     */
+    private final Histogram successfulRequests;
+
+    /**
+     * Die Dauer der fehlgeschlagenen Anfragen an die Food-API
+     */
+    private final Histogram failedRequests;
+
+    /**
+     * Konstruktor der Klasse IngredientLookupClient.
+     *
+     * @param restTemplate          Der RestTemplate fuer die HTTP-Anfragen
+     * @param requestProperties     Die RequestProperties fuer die Anfragen, inklusive Nebenlaeufigkeit und Rate-Limit
+     * @param objectMapper          Der ObjectMapper fuer die JSON-Verarbeitung
+     * @param ingredientLookupCache Der Cache fuer die Antworten der Food-API
+     * @param metricsRegistry       Die Registry fuer die Zaehlung der Cache-Treffer und die Messung der Anfragen
+     */
+    @Autowired
+    public IngredientLookupClient(RestTemplate restTemplate, RequestProperties requestProperties, ObjectMapper objectMapper, IngredientLookupCache ingredientLookupCache, MetricsRegistry metricsRegistry) {
+        this.restTemplate = restTemplate;
+        this.requestProperties = requestProperties;
+        this.objectMapper = objectMapper;
+        this.rateLimiter = new TokenBucketRateLimiter(requestProperties.getIngredientRequestsPerSecond(), requestProperties.getIngredientRequestBurst());
+        this.concurrencyLimit = new Semaphore(requestProperties.getMaxConcurrentIngredientRequests());
+        this.ingredientLookupCache = ingredientLookupCache;
+        this.cacheHits = metricsRegistry.counter("import_ingredient_cache_total", "Ingredient lookups during the import by cache result", "result", "hit");
+        this.cacheMisses = metricsRegistry.counter("import_ingredient_cache_total", "Ingredient lookups during the import by cache result", "result", "miss");
+        this.successfulRequests = metricsRegistry.timer("import_http_requests_seconds", "Duration of requests to the Edamam APIs", "api", "ingredient", "outcome", "success");
+        this.failedRequests = metricsRegistry.timer("import_http_requests_seconds", "Duration of requests to the Edamam APIs", "api", "ingredient", "outcome", "error");
+    }
+
+    /**
+     * Fragt die Informationen fuer alle angegebenen Rezept-Zutaten nebenlaeufig ab.
+     * Jede Food-ID wird dabei nur einmal abgefragt, auch wenn sie in mehreren Rezept-Zutaten vorkommt.
+     * Die Ergebnisse werden in derselben Reihenfolge wie die Rezept-Zutaten zurueckgegeben.
+     *
+     * @param recipeIngredientMappingDTOList Die Rezept-Zutaten, fuer die die Zutaten abgefragt werden
+     * @return Die gemappten IngredientMappingDTO-Objekte; null an den Stellen, deren Zutat nicht gueltig ist und somit nicht gemappt werden kann
+     */
+    public List<IngredientMappingDTO> lookupAll(List<RecipeIngredientMappingDTO> recipeIngredientMappingDTOList) {
+        return lookupAll(recipeIngredientMappingDTOList, true);
+    }
+
+    /**
+     * Fragt die Informationen fuer alle angegebenen Rezept-Zutaten nebenlaeufig ab.
+     * Ist die Abfrage der Food-API nicht erlaubt, werden nur Zutaten aus dem {@link IngredientLookupCache} beantwortet, z.B. beim Import aus einer Datei ohne Netzwerkzugriff.
+     *
+     * @param recipeIngredientMappingDTOList Die Rezept-Zutaten, fuer die die Zutaten abgefragt werden
+     * @param allowRequests                  true, wenn Zutaten, die nicht im Cache sind, bei der Food-API abgefragt werden duerfen
+     * @return Die gemappten IngredientMappingDTO-Objekte; null an den Stellen, deren Zutat nicht gueltig ist oder nicht gefunden wurde
+     */
+    public List<IngredientMappingDTO> lookupAll(List<RecipeIngredientMappingDTO> recipeIngredientMappingDTOList, boolean allowRequests) {
+        Map<String, Future<JsonNode>> futures = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (RecipeIngredientMappingDTO recipeIngredientMappingDTO : recipeIngredientMappingDTOList) {
+                String foodId = recipeIngredientMappingDTO.getFoodId();
+                if (!futures.containsKey(foodId)) {
+                    futures.put(foodId, executor.submit(() -> allowRequests ? fetchIngredient(foodId) : getCachedIngredient(foodId)));
+                }
+            }
+        } // close() wartet, bis alle Abfragen abgeschlossen sind
+
+        List<IngredientMappingDTO> ingredientMappingDTOList = new ArrayList<>();
+        for (RecipeIngredientMappingDTO recipeIngredientMappingDTO : recipeIngredientMappingDTOList) {
+            String foodId = recipeIngredientMappingDTO.getFoodId();
+            JsonNode ingredient = join(futures.get(foodId), foodId);
+            ingredientMappingDTOList.add(ingredient == null ? null : mapValidIngredientEntries(ingredient, foodId, recipeIngredientMappingDTO.getMeasure()));
+        }
+        return ingredientMappingDTOList;
+    }
+
+    /**
+     * Fragt die Informationen fuer eine Zutat ab.
+     *
+     * @param foodId Die Food-ID der Zutat
+     * @param unit   Die Einheit der Zutat aus dem Rezept
+     * @return Das gemappte IngredientMappingDTO-Objekt oder null, wenn Zutat nicht gueltig ist und somit nicht gemappt werden kann
+     */
+    public IngredientMappingDTO lookup(String foodId, String unit) {
+        JsonNode ingredient = fetchIngredient(foodId);
+        return ingredient == null ? null : mapValidIngredientEntries(ingredient, foodId, unit);
+    }
+
+    /**
+     * Gibt den ersten Treffer der Food-API fuer eine Zutat zurueck. Ist er im {@link IngredientLookupCache} vorhanden, wird keine Anfrage gesendet.
+     * Andernfalls wird die API unter Einhaltung der Begrenzung der gleichzeitigen Anfragen und des Rate-Limits abgefragt und die Antwort zwischengespeichert.
+     *
+     * @param foodId Die Food-ID der Zutat
+     * @return Der erste Treffer als JSON oder null, wenn die Zutat nicht abgefragt werden kann
+     */
+    protected JsonNode fetchIngredient(String foodId) {
+        JsonNode cachedIngredient = getCachedIngredient(foodId);
+        if (cachedIngredient != null) {
+            cacheHits.increment();
+            return cachedIngredient;
+        }
+        cacheMisses.increment();
+
+        try {
+            concurrencyLimit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Lookup of ingredient with foodId: " + foodId + " was interrupted!");
+            return null;
+        }
+        JsonNode ingredient;
+        try {
+            rateLimiter.acquire();
+            ingredient = getIngredient(foodId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Lookup of ingredient with foodId: " + foodId + " was interrupted!");
+            return null;
+        } finally {
+            concurrencyLimit.release();
+        }
+        if (ingredient != null) {
+            ingredientLookupCache.put(foodId, ingredient.toString());
+        }
+        return ingredient;
+    }
+
+    /**
+     * Gibt den im {@link IngredientLookupCache} gespeicherten Treffer fuer eine Zutat zurueck, ohne die Food-API abzufragen.
+     *
+     * @param foodId Die Food-ID der Zutat
+     * @return Der erste Treffer als JSON oder null, wenn die Zutat nicht oder nicht gueltig zwischengespeichert ist
+     */
+    protected JsonNode getCachedIngredient(String foodId) {
+        String cachedResponse = ingredientLookupCache.get(foodId);
+        if (cachedResponse == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(cachedResponse);
+        } catch (JsonProcessingException e) {
+            log.warn("Cached lookup of ingredient with foodId: " + foodId + " is invalid! " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Wartet auf das Ergebnis einer Abfrage.
+     *
+     * @param future Die laufende oder abgeschlossene Abfrage
+     * @param foodId Die Food-ID der abgefragten Zutat
+     * @return Das Ergebnis der Abfrage oder null, wenn die Abfrage fehlgeschlagen ist
+     */
+    private JsonNode join(Future<JsonNode> future, String foodId) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Lookup of ingredient with foodId: " + foodId + " was interrupted!");
+        } catch (ExecutionException e) {
+            log.warn("Ingredient with foodId: " + foodId + " could not be retrieved! " + e.getCause());
+        }
+        return null;
+    }
+
+    /**
+     * Ruft die Informationen für eine Zutat anhand ihrer Food-ID bei der Food-API ab.
+     *
+     * @param foodId Die Food-ID der Zutat
+     * @return Der erste Treffer der Antwort als JSON oder null, wenn die Anfrage fehlschlaegt oder keine Treffer enthaelt
+     */
+    protected JsonNode getIngredient(String foodId) {
+        String ingredientUrl = requestProperties.getIngredientBaseUrl() + "?app_id=" + requestProperties.getIngredientAppId() + "&app_key=" + requestProperties.getIngredientAppKey() + "&ingr=" + foodId + "&nutrition-type=cooking";
+        ResponseEntity<JsonNode> response;
+        long start = System.nanoTime();
+        try {
+            response = restTemplate.getForEntity(ingredientUrl, JsonNode.class);
+
+            if (!response.getStatusCode().equals(HttpStatus.OK)) {
+                failedRequests.recordNanos(System.nanoTime() - start);
+                log.info("Error during Get Request! ");
+                return null;
+            }
+        } catch (Exception e) {
+            failedRequests.recordNanos(System.nanoTime() - start);
+            log.info("Error during Get Request! " + e.getMessage());
+            return null;
+        }
+        successfulRequests.recordNanos(System.nanoTime() - start);
+
+        if (!response.getBody().has("hints") || response.getBody().get("hints").isEmpty()) {
+            log.error("Response does not contain any valid ingredients.");
+            return null;
+        }
+        return response.getBody().get("hints").get(0);
+    }
+
+    /**
+     * Mapt die gültigen Zutateneintraege aus der JSON-Antwort in ein IngredientMappingDTO-Objekt.
+     *
+     * @param response Die JSON-Antwort der Request
+     * @param foodId   Die Food-ID der Zutat
+     * @param unit     Die Einheit der Zutat aus dem Rezept
+     * @return Das gemappte IngredientMappingDTO-Objekt oder null, wenn Zutat nicht gueltig ist und somit nicht gemappt werden kann
+     */
+    protected IngredientMappingDTO mapValidIngredientEntries(JsonNode response, String foodId, String unit) {
+        try {
+            if (!response.has("food")) {
+                throw new JsonKeyNotFoundException("Key 'food' does not exist");
+            }
+            IngredientMappingDTO ingredientMappingDTO = objectMapper.treeToValue(response.get("food"), IngredientMappingDTO.class);
+            List<IngredientUnitMappingDTO> units = findEveryUnit(response);
+            ingredientMappingDTO.setIngredientUnitMappingDTOS(units);
+            if (unit.equals("<unit>")) {
+                unit = "Whole";
+            }
+            String finalUnit = unit;
+            IngredientUnitMappingDTO unitInGrams = units.stream().filter(unitMapping -> unitMapping.getLabel().equalsIgnoreCase(finalUnit)).findFirst().orElseThrow(() -> new JsonKeyNotFoundException("Key 'units' is invalid! " + finalUnit + " does not exist!"));
+            ingredientMappingDTO.setUnitInGrams(unitInGrams.getWeight());
+            return ingredientMappingDTO;
+        } catch (JsonProcessingException e) {
+            log.warn("Ingredient with foodId: " + foodId + " could not be mapped! " + e.getMessage());
+            return null; //Es wird keine Exception geworfen, damit die Abfrage weiterläuft
+        }
+    }
+
+    /**
+     * Sucht alle Einheiten einer Zutat in der JSON-Antwort der Request und mappt sie in eine Liste von IngredientUnitMappingDTO-Objekten.
+     *
+     * @param response Die JSON-Antwort
+     * @return Die Liste der gemappten IngredientUnitMappingDTO-Objekte
+     * @throws JsonKeyNotFoundException Wenn ein erforderlicher Schlüssel in der JSON-Antwort nicht vorhanden ist
+     */
+    protected List<IngredientUnitMappingDTO> findEveryUnit(JsonNode response) throws JsonKeyNotFoundException {
+        List<IngredientUnitMappingDTO> ingredientUnitMappingDTOS = new ArrayList<>();
+        if (!response.has("measures")) {
+            throw new JsonKeyNotFoundException("Key 'measures' does not exist");
+        }
+
+        JsonNode units = response.get("measures");
+        for (JsonNode unitNode : units) {
+            if (unitNode.has("weight")) {
+                if (unitNode.has("uri")) {
+                    if (!unitNode.get("uri").asText().endsWith("default")) {
+                        String label = unitNode.get("label").asText();
+                        Double weight = unitNode.get("weight").asDouble();
+                        ingredientUnitMappingDTOS.add(IngredientUnitMappingDTO.builder().label(label).weight(weight).build());
+                    }
+                }
+
+            } else {
+                throw new JsonKeyNotFoundException("Key 'units' is invalid!");
+            }
+        }
+        return ingredientUnitMappingDTOS;
+    }
+}
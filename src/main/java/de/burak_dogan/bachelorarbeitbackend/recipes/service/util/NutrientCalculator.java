@@ -0,0 +1,75 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Ingredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.RecipeIngredient;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Diese Klasse berechnet die Gesamtnaehrwerte eines Rezepts aus seinen Zutaten.
+ * Die Werte werden beim Schreiben eines Rezepts in der Recipe-Entity abgelegt, sodass lesende Zugriffe die Zutaten nicht mehr laden muessen.
+ */
+@Component
+public class NutrientCalculator {
+
+    /**
+     * Berechnet die Gesamtnaehrwerte aus den angegebenen Rezept-Zutaten und setzt sie im Rezept.
+     * Die Naehrwerte einer Zutat sind pro 100 Gramm angegeben, die Menge der Rezept-Zutat in Gramm.
+     *
+     * @param recipe            Das Rezept, in dem die Gesamtnaehrwerte gesetzt werden
+     * @param recipeIngredients Die Zutaten des Rezepts inklusive der dazugehoerigen Ingredient-Entities
+     */
+    public void applyTotals(Recipe recipe, List<RecipeIngredient> recipeIngredients) {
+        double totalProteins = 0.0;
+        double totalFats = 0.0;
+        double totalCarbohydrates = 0.0;
+        double totalCalories = 0.0;
+
+        for (RecipeIngredient recipeIngredient : recipeIngredients) {
+            double quantity = recipeIngredient.getQuantity();
+            Ingredient ingredient = recipeIngredient.getIngredient();
+
+            totalCalories += ((ingredient.getCalories() * quantity) / 100);
+            totalProteins += ((ingredient.getProteins() * quantity) / 100);
+            totalCarbohydrates += ((ingredient.getCarbohydrates() * quantity) / 100);
+            totalFats += ((ingredient.getFats() * quantity) / 100);
+        }
+
+        recipe.setCalories(totalCalories);
+        recipe.setProteins(totalProteins);
+        recipe.setCarbohydrates(totalCarbohydrates);
+        recipe.setFats(totalFats);
+    }
+
+    /**
+     * Berechnet die Gesamtnaehrwerte aus den angegebenen Rezept-Zutaten und den Naehrwerten aus dem Zutatenkatalog-Cache und setzt sie im Rezept.
+     * Die Ingredient-Entities der Rezept-Zutaten werden dabei nicht verwendet, sodass diese nicht geladen werden muessen.
+     *
+     * @param recipe            Das Rezept, in dem die Gesamtnaehrwerte gesetzt werden
+     * @param recipeIngredients Die Zutaten des Rezepts
+     * @param ingredients       Die Naehrwerte der Zutaten aus dem Cache, in derselben Reihenfolge wie die Rezept-Zutaten
+     */
+    public void applyTotals(Recipe recipe, List<RecipeIngredient> recipeIngredients, List<CachedIngredient> ingredients) {
+        double totalProteins = 0.0;
+        double totalFats = 0.0;
+        double totalCarbohydrates = 0.0;
+        double totalCalories = 0.0;
+
+        for (int i = 0; i < recipeIngredients.size(); i++) {
+            double quantity = recipeIngredients.get(i).getQuantity();
+            CachedIngredient ingredient = ingredients.get(i);
+
+            totalCalories += ((ingredient.calories() * quantity) / 100);
+            totalProteins += ((ingredient.proteins() * quantity) / 100);
+            totalCarbohydrates += ((ingredient.carbohydrates() * quantity) / 100);
+            totalFats += ((ingredient.fats() * quantity) / 100);
+        }
+
+        recipe.setCalories(totalCalories);
+        recipe.setProteins(totalProteins);
+        recipe.setCarbohydrates(totalCarbohydrates);
+        recipe.setFats(totalFats);
+    }
+}
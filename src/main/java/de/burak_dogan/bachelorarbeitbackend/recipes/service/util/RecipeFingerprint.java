@@ -0,0 +1,59 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeIngredientMappingDTO;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeMappingDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Berechnet den Fingerabdruck eines Rezepts, ueber den doppelte Rezepte beim Import erkannt werden.
+ * Der Fingerabdruck ist der SHA-256-Hashwert des normalisierten Titels und der sortierten Food-IDs der Zutaten.
+ * Der Titel wird dabei in Kleinbuchstaben umgewandelt und mehrfache Leerzeichen werden zusammengefasst, sodass z.B. "Chicken  Curry" und "chicken curry" mit denselben Zutaten als dasselbe Rezept gelten.
+ * Die Berechnung entspricht der in {@code RecipeRepository.backfillFingerprints()}, damit bereits gespeicherte Rezepte denselben Fingerabdruck erhalten.
+ */
+public final class RecipeFingerprint {
+
+    /**
+     * Es werden keine Instanzen benoetigt.
+     */
+    private RecipeFingerprint() {
+    }
+
+    /**
+     * Berechnet den Fingerabdruck eines Rezepts aus der API-Antwort.
+     *
+     * @param recipeMappingDTO Die Rezept-Daten
+     * @return Der Fingerabdruck als Hex-String
+     */
+    public static String of(RecipeMappingDTO recipeMappingDTO) {
+        SortedSet<String> foodIds = new TreeSet<>();
+        for (RecipeIngredientMappingDTO recipeIngredientMappingDTO : recipeMappingDTO.getRecipeIngredientMappingDTOList()) {
+            foodIds.add(recipeIngredientMappingDTO.getFoodId());
+        }
+        return of(recipeMappingDTO.getLabel(), foodIds);
+    }
+
+    /**
+     * Berechnet den Fingerabdruck aus einem Titel und den Food-IDs der Zutaten. Reihenfolge und Wiederholungen der Food-IDs spielen keine Rolle.
+     *
+     * @param title   Der Titel des Rezepts
+     * @param foodIds Die Food-IDs der Zutaten
+     * @return Der Fingerabdruck als Hex-String
+     */
+    public static String of(String title, Collection<String> foodIds) {
+        String normalizedTitle = title.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+        String key = normalizedTitle + "|" + String.join(",", new TreeSet<>(foodIds));
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ImageProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeImageDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Zwischenspeicher fuer die ausgelieferten Rezeptbilder in allen Groessen.
+ * Die Groesse des Zwischenspeichers ist ueber die Summe der Bytes begrenzt. Wird die Grenze ueberschritten,
+ * werden die am laengsten nicht mehr abgerufenen Bilder entfernt (LRU).
+ */
+@Component
+public class RecipeImageCache {
+
+    /**
+     * Die zwischengespeicherten Bilder, sortiert nach dem letzten Zugriff.
+     */
+    private final LinkedHashMap<String, GetRecipeImageDto> images = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Die maximale Gesamtgroesse der zwischengespeicherten Bilder in Bytes.
+     */
+    private final long maxBytes;
+
+    /**
+     * Die aktuelle Gesamtgroesse der zwischengespeicherten Bilder in Bytes.
+     */
+    private long currentBytes;
+
+    /**
+     * Konstruktor der Klasse RecipeImageCache.
+     *
+     * @param imageProperties Die Eigenschaften der Auslieferung der Rezeptbilder
+     */
+    @Autowired
+    public RecipeImageCache(ImageProperties imageProperties) {
+        this.maxBytes = imageProperties.getCacheMaxBytes();
+    }
+
+    /**
+     * Gibt das zwischengespeicherte Bild eines Rezepts in der angegebenen Groesse zurueck.
+     *
+     * @param recipeId Die ID des Rezepts
+     * @param size     Die Groesse des Bildes
+     * @return Das Bild oder null, wenn es nicht zwischengespeichert ist
+     */
+    public synchronized GetRecipeImageDto get(Long recipeId, ImageSize size) {
+        return images.get(key(recipeId, size));
+    }
+
+    /**
+     * Speichert das Bild eines Rezepts in der angegebenen Groesse zwischen und entfernt bei Bedarf die am laengsten nicht abgerufenen Bilder.
+     * Bilder, die alleine groesser als der gesamte Zwischenspeicher sind, werden nicht zwischengespeichert.
+     *
+     * @param recipeId Die ID des Rezepts
+     * @param size     Die Groesse des Bildes
+     * @param image    Das Bild
+     */
+    public synchronized void put(Long recipeId, ImageSize size, GetRecipeImageDto image) {
+        long imageBytes = image.getImage().length;
+        if (imageBytes > maxBytes) {
+            return;
+        }
+        GetRecipeImageDto previous = images.put(key(recipeId, size), image);
+        if (previous != null) {
+            currentBytes -= previous.getImage().length;
+        }
+        currentBytes += imageBytes;
+
+        Iterator<Map.Entry<String, GetRecipeImageDto>> iterator = images.entrySet().iterator();
+        while (currentBytes > maxBytes && iterator.hasNext()) {
+            currentBytes -= iterator.next().getValue().getImage().length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Gibt die aktuelle Gesamtgroesse der zwischengespeicherten Bilder zurueck.
+     *
+     * @return Die Gesamtgroesse in Bytes
+     */
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    /**
+     * Bildet den Schluessel fuer ein Bild im Zwischenspeicher.
+     *
+     * @param recipeId Die ID des Rezepts
+     * @param size     Die Groesse des Bildes
+     * @return Der Schluessel
+     */
+    private static String key(Long recipeId, ImageSize size) {
+        return recipeId + ":" + size.name();
+    }
+}
@@ -0,0 +1,567 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeNutrientTotals;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ein im Speicher gehaltener Index ueber die gerundeten Gesamtnaehrwerte aller Rezepte (Kalorien, Proteine, Kohlenhydrate, Fette).
+ * Die Werte werden spaltenweise in primitiven Arrays gehalten, zusaetzlich existiert pro Naehrwert eine nach diesem Wert sortierte Zeilenreihenfolge.
+ * Bereichsanfragen starten ueber eine binaere Suche in der Dimension mit den wenigsten Kandidaten, sodass nicht der gesamte Katalog durchlaufen werden muss.
+ * Lesende Zugriffe arbeiten auf einem unveraenderlichen Snapshot und benoetigen daher keine Synchronisation.
+ */
+@Component
+public class RecipeNutrientIndex {
+
+    /**
+     * Die Anzahl der indizierten Naehrwerte.
+     */
+    private static final int DIMENSIONS = 4;
+
+    /**
+     * Die Position der Kalorien in den Spalten des Index.
+     */
+    private static final int CALORIES = 0;
+
+    /**
+     * Die Position der Proteine in den Spalten des Index.
+     */
+    private static final int PROTEINS = 1;
+
+    /**
+     * Die Position der Kohlenhydrate in den Spalten des Index.
+     */
+    private static final int CARBOHYDRATES = 2;
+
+    /**
+     * Die Position der Fette in den Spalten des Index.
+     */
+    private static final int FATS = 3;
+
+    /**
+     * Der aktuelle Stand des Index. Wird bei jeder Aenderung durch einen neuen Snapshot ersetzt.
+     */
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Gibt an, ob der Index bereits einmal vollstaendig aus der Datenbank aufgebaut wurde.
+     */
+    private volatile boolean loaded = false;
+
+    /**
+     * Baut den Index vollstaendig aus den angegebenen Gesamtnaehrwerten neu auf.
+     *
+     * @param nutrientTotals Die Gesamtnaehrwerte aller Rezepte
+     */
+    public synchronized void rebuild(List<RecipeNutrientTotals> nutrientTotals) {
+        snapshot = Snapshot.EMPTY.with(nutrientTotals);
+        loaded = true;
+    }
+
+    /**
+     * Fuegt die Gesamtnaehrwerte neu gespeicherter Rezepte dem Index hinzu.
+     *
+     * @param nutrientTotals Die Gesamtnaehrwerte der neuen Rezepte
+     */
+    public synchronized void addAll(List<RecipeNutrientTotals> nutrientTotals) {
+        if (nutrientTotals.isEmpty()) {
+            return;
+        }
+        snapshot = snapshot.with(nutrientTotals);
+    }
+
+    /**
+     * Fuegt die Gesamtnaehrwerte eines neu gespeicherten Rezepts dem Index hinzu.
+     *
+     * @param nutrientTotals Die Gesamtnaehrwerte des neuen Rezepts
+     */
+    public void add(RecipeNutrientTotals nutrientTotals) {
+        addAll(List.of(nutrientTotals));
+    }
+
+    /**
+     * Gibt an, ob der Index bereits aus der Datenbank aufgebaut wurde.
+     *
+     * @return true, wenn der Index aufgebaut wurde, sonst false
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Gibt die Anzahl der indizierten Rezepte zurueck.
+     *
+     * @return Die Anzahl der indizierten Rezepte
+     */
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * Sucht die Rezepte, deren gerundete Naehrwerte fuer jeden angegebenen Zielwert um hoechstens die prozentuale Abweichung abweichen.
+     * Nicht angegebene Zielwerte (null) werden weder gefiltert noch beim Abstand beruecksichtigt.
+     * Die Treffer werden nach dem euklidischen Abstand zu den Zielwerten und bei gleichem Abstand nach der Rezept-ID sortiert.
+     * Es werden nur die ersten Treffer bis zum Limit ueber einen begrenzten Heap ermittelt, ohne alle Treffer zu sortieren.
+     *
+     * @param calories          Die Zielkalorien oder null
+     * @param proteins          Die Zielproteine oder null
+     * @param carbohydrates     Die Zielkohlenhydrate oder null
+     * @param fats              Die Zielfette oder null
+     * @param epsilonPercentage Die erlaubte Abweichung als Anteil des Zielwerts, z.B. 0.1 fuer 10%
+     * @param cursor            Die Gesamtnaehrwerte des letzten Rezepts der vorherigen Seite oder null fuer die erste Seite
+     * @param limit             Die maximale Anzahl an Treffern
+     * @return Die IDs der passenden Rezepte in der Reihenfolge ihrer Genauigkeit
+     */
+    public List<Long> findMatches(Long calories, Long proteins, Long carbohydrates, Long fats, double epsilonPercentage, RecipeNutrientTotals cursor, int limit) {
+        Snapshot current = snapshot;
+        Long[] requestedTargets = {calories, proteins, carbohydrates, fats};
+        boolean[] constrained = new boolean[DIMENSIONS];
+        double[] targets = new double[DIMENSIONS];
+        double[] epsilons = new double[DIMENSIONS];
+        // Ohne Zielwert werden alle Zeilen in ihrer Reihenfolge durchlaufen, sonst die Bereiche des Haupt- und des Deltasegments der fuehrenden Dimension
+        int drivingDimension = -1;
+        int from = 0;
+        int to = current.size;
+        int deltaFrom = 0;
+        int deltaTo = 0;
+        for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+            if (requestedTargets[dimension] == null) {
+                continue;
+            }
+            constrained[dimension] = true;
+            targets[dimension] = requestedTargets[dimension];
+            epsilons[dimension] = requestedTargets[dimension] * epsilonPercentage;
+            // Die Grenzen werden um 1 erweitert, die exakte Pruefung erfolgt anschliessend pro Kandidat
+            double lowerKey = targets[dimension] - epsilons[dimension] - 1;
+            double upperKey = targets[dimension] + epsilons[dimension] + 1;
+            int[] rows = current.sortedRows[dimension];
+            int[] delta = current.deltaRows[dimension];
+            int lower = current.lowerBound(dimension, rows, lowerKey);
+            int upper = current.lowerBound(dimension, rows, upperKey);
+            int deltaLower = current.lowerBound(dimension, delta, lowerKey);
+            int deltaUpper = current.lowerBound(dimension, delta, upperKey);
+            if (drivingDimension == -1 || (upper - lower) + (deltaUpper - deltaLower) < (to - from) + (deltaTo - deltaFrom)) {
+                drivingDimension = dimension;
+                from = lower;
+                to = upper;
+                deltaFrom = deltaLower;
+                deltaTo = deltaUpper;
+            }
+        }
+
+        double cursorDistance = -1.0;
+        long cursorId = Long.MIN_VALUE;
+        if (cursor != null) {
+            double[] cursorValues = {Snapshot.round(cursor.calories()), Snapshot.round(cursor.proteins()), Snapshot.round(cursor.carbohydrates()), Snapshot.round(cursor.fats())};
+            cursorDistance = squaredDistance(cursorValues, targets, constrained);
+            cursorId = cursor.id();
+        }
+
+        int mainCandidates = to - from;
+        int candidates = mainCandidates + (deltaTo - deltaFrom);
+        BoundedHeap heap = new BoundedHeap(Math.min(limit, candidates));
+        double[] rowValues = new double[DIMENSIONS];
+        candidateLoop:
+        for (int candidate = 0; candidate < candidates; candidate++) {
+            int row;
+            if (drivingDimension == -1) {
+                row = candidate;
+            } else if (candidate < mainCandidates) {
+                row = current.sortedRows[drivingDimension][from + candidate];
+            } else {
+                row = current.deltaRows[drivingDimension][deltaFrom + candidate - mainCandidates];
+            }
+            for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+                rowValues[dimension] = current.values[dimension][row];
+                if (constrained[dimension] && Math.abs(rowValues[dimension] - targets[dimension]) > epsilons[dimension]) {
+                    continue candidateLoop;
+                }
+            }
+            double distance = squaredDistance(rowValues, targets, constrained);
+            long id = current.ids[row];
+            // Keyset-Paginierung: nur Treffer, die nach dem Cursor einsortiert werden
+            if (cursor != null && !BoundedHeap.isAfter(distance, id, cursorDistance, cursorId)) {
+                continue;
+            }
+            heap.offer(distance, id);
+        }
+        return heap.toSortedIds();
+    }
+
+    /**
+     * Berechnet den quadrierten euklidischen Abstand zwischen den Naehrwerten und den angegebenen Zielwerten.
+     *
+     * @param values      Die gerundeten Naehrwerte pro Dimension
+     * @param targets     Die Zielwerte pro Dimension
+     * @param constrained Pro Dimension, ob ein Zielwert angegeben wurde
+     * @return Der quadrierte euklidische Abstand
+     */
+    private static double squaredDistance(double[] values, double[] targets, boolean[] constrained) {
+        double squaredDistance = 0.0;
+        for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+            if (constrained[dimension]) {
+                double difference = values[dimension] - targets[dimension];
+                squaredDistance += difference * difference;
+            }
+        }
+        return squaredDistance;
+    }
+
+    /**
+     * Ein Max-Heap mit fester Kapazitaet ueber primitive Abstaende, der die naechsten Treffer behaelt.
+     * Die Wurzel ist jeweils der schlechteste der bisher behaltenen Treffer.
+     */
+    private static final class BoundedHeap {
+
+        /**
+         * Die quadrierten Abstaende der behaltenen Treffer.
+         */
+        private final double[] distances;
+
+        /**
+         * Die Rezept-IDs der behaltenen Treffer.
+         */
+        private final long[] ids;
+
+        /**
+         * Die Anzahl der behaltenen Treffer.
+         */
+        private int size;
+
+        /**
+         * Konstruktor fuer einen leeren Heap.
+         *
+         * @param capacity Die maximale Anzahl an Treffern
+         */
+        private BoundedHeap(int capacity) {
+            this.distances = new double[capacity];
+            this.ids = new long[capacity];
+        }
+
+        /**
+         * Prueft, ob ein Treffer in der Sortierung nach einem anderen Treffer kommt.
+         *
+         * @param distance      Der Abstand des Treffers
+         * @param id            Die ID des Treffers
+         * @param otherDistance Der Abstand des anderen Treffers
+         * @param otherId       Die ID des anderen Treffers
+         * @return true, wenn der Treffer nach dem anderen Treffer kommt
+         */
+        private static boolean isAfter(double distance, long id, double otherDistance, long otherId) {
+            return distance > otherDistance || (distance == otherDistance && id > otherId);
+        }
+
+        /**
+         * Bietet einen Treffer an. Ist der Heap voll, ersetzt der Treffer den schlechtesten, falls er besser ist.
+         *
+         * @param distance Der quadrierte Abstand des Treffers
+         * @param id       Die Rezept-ID des Treffers
+         */
+        private void offer(double distance, long id) {
+            if (size < distances.length) {
+                distances[size] = distance;
+                ids[size] = id;
+                siftUp(size++);
+            } else if (size > 0 && isAfter(distances[0], ids[0], distance, id)) {
+                distances[0] = distance;
+                ids[0] = id;
+                siftDown(0, size);
+            }
+        }
+
+        /**
+         * Gibt die behaltenen Treffer aufsteigend sortiert zurueck. Der Heap ist danach nicht mehr verwendbar.
+         *
+         * @return Die Rezept-IDs der Treffer, beginnend mit dem genauesten Treffer
+         */
+        private List<Long> toSortedIds() {
+            // Heapsort: die Wurzel ist jeweils der schlechteste verbleibende Treffer und wird ans Ende getauscht
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            List<Long> sortedIds = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                sortedIds.add(ids[i]);
+            }
+            return sortedIds;
+        }
+
+        /**
+         * Stellt die Heap-Eigenschaft nach dem Einfuegen am angegebenen Index wieder her.
+         *
+         * @param index Der Index des eingefuegten Treffers
+         */
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!isAfter(distances[index], ids[index], distances[parent], ids[parent])) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        /**
+         * Stellt die Heap-Eigenschaft ab dem angegebenen Index wieder her.
+         *
+         * @param index    Der Index, ab dem die Heap-Eigenschaft verletzt sein kann
+         * @param heapSize Die Anzahl der Eintraege, die zum Heap gehoeren
+         */
+        private void siftDown(int index, int heapSize) {
+            while (true) {
+                int largest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < heapSize && isAfter(distances[left], ids[left], distances[largest], ids[largest])) {
+                    largest = left;
+                }
+                if (right < heapSize && isAfter(distances[right], ids[right], distances[largest], ids[largest])) {
+                    largest = right;
+                }
+                if (largest == index) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        /**
+         * Vertauscht zwei Treffer im Heap.
+         *
+         * @param first  Der Index des ersten Treffers
+         * @param second Der Index des zweiten Treffers
+         */
+        private void swap(int first, int second) {
+            double distance = distances[first];
+            distances[first] = distances[second];
+            distances[second] = distance;
+            long id = ids[first];
+            ids[first] = ids[second];
+            ids[second] = id;
+        }
+    }
+
+    /**
+     * Ein unveraenderlicher Stand des Index.
+     * Die sortierten Zeilen bestehen aus einem Hauptsegment und einem kleinen Deltasegment mit den zuletzt hinzugefuegten Zeilen.
+     * Neue Zeilen werden nur in das Deltasegment einsortiert, erst wenn dieses {@link #MAX_DELTA_SIZE} Zeilen uebersteigt, wird es mit dem Hauptsegment zusammengefuehrt.
+     * Die Spalten werden mit Reserve angelegt, sodass neue Zeilen hinter dem sichtbaren Bereich eingetragen werden koennen, ohne alle Spalten zu kopieren.
+     */
+    private static final class Snapshot {
+
+        /**
+         * Die maximale Anzahl an Zeilen im Deltasegment, bevor es mit dem Hauptsegment zusammengefuehrt wird.
+         */
+        private static final int MAX_DELTA_SIZE = 1024;
+
+        /**
+         * Der leere Index.
+         */
+        private static final Snapshot EMPTY = new Snapshot(new long[0], new double[DIMENSIONS][0], new int[DIMENSIONS][0], new int[DIMENSIONS][0], 0);
+
+        /**
+         * Die Rezept-IDs pro Zeile. Das Array kann groesser als die Anzahl der Zeilen sein.
+         */
+        private final long[] ids;
+
+        /**
+         * Die gerundeten Naehrwerte pro Dimension und Zeile. Die Arrays koennen groesser als die Anzahl der Zeilen sein.
+         */
+        private final double[][] values;
+
+        /**
+         * Pro Dimension die Zeilen des Hauptsegments aufsteigend sortiert nach dem Naehrwert dieser Dimension.
+         */
+        private final int[][] sortedRows;
+
+        /**
+         * Pro Dimension die Zeilen des Deltasegments aufsteigend sortiert nach dem Naehrwert dieser Dimension.
+         */
+        private final int[][] deltaRows;
+
+        /**
+         * Die Anzahl der Zeilen.
+         */
+        private final int size;
+
+        /**
+         * Konstruktor fuer einen Snapshot.
+         *
+         * @param ids        Die Rezept-IDs pro Zeile
+         * @param values     Die gerundeten Naehrwerte pro Dimension und Zeile
+         * @param sortedRows Pro Dimension die nach dem Naehrwert sortierten Zeilen des Hauptsegments
+         * @param deltaRows  Pro Dimension die nach dem Naehrwert sortierten Zeilen des Deltasegments
+         * @param size       Die Anzahl der Zeilen
+         */
+        private Snapshot(long[] ids, double[][] values, int[][] sortedRows, int[][] deltaRows, int size) {
+            this.ids = ids;
+            this.values = values;
+            this.sortedRows = sortedRows;
+            this.deltaRows = deltaRows;
+            this.size = size;
+        }
+
+        /**
+         * Erzeugt einen neuen Snapshot, der zusaetzlich die angegebenen Rezepte enthaelt.
+         * Die neuen Zeilen werden sortiert und in das Deltasegment einsortiert, das Hauptsegment bleibt in der Regel unveraendert.
+         * Die neuen Zeilen werden hinter dem Bereich dieses Snapshots in die gemeinsamen Spalten geschrieben, den dieser Snapshot nie liest.
+         * Die Methode darf daher pro Snapshot nur einmal aufgerufen werden, was der Index ueber den synchronisierten Austausch des aktuellen Snapshots sicherstellt.
+         *
+         * @param nutrientTotals Die hinzuzufuegenden Gesamtnaehrwerte
+         * @return Der neue Snapshot
+         */
+        private Snapshot with(List<RecipeNutrientTotals> nutrientTotals) {
+            int newSize = size + nutrientTotals.size();
+            long[] newIds = ids;
+            double[][] newValues = values;
+            if (newSize > ids.length) {
+                int capacity = Math.max(newSize, ids.length + (ids.length >> 1));
+                newIds = Arrays.copyOf(ids, capacity);
+                newValues = new double[DIMENSIONS][];
+                for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+                    newValues[dimension] = Arrays.copyOf(values[dimension], capacity);
+                }
+            }
+            for (int i = 0; i < nutrientTotals.size(); i++) {
+                RecipeNutrientTotals totals = nutrientTotals.get(i);
+                int row = size + i;
+                newIds[row] = totals.id();
+                newValues[CALORIES][row] = round(totals.calories());
+                newValues[PROTEINS][row] = round(totals.proteins());
+                newValues[CARBOHYDRATES][row] = round(totals.carbohydrates());
+                newValues[FATS][row] = round(totals.fats());
+            }
+
+            int[][] newSortedRows = sortedRows;
+            int[][] newDeltaRows = new int[DIMENSIONS][];
+            for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+                double[] column = newValues[dimension];
+                newDeltaRows[dimension] = merge(column, deltaRows[dimension], sortRows(column, size, newSize));
+            }
+            if (newDeltaRows[0].length > MAX_DELTA_SIZE) {
+                newSortedRows = new int[DIMENSIONS][];
+                for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+                    newSortedRows[dimension] = merge(newValues[dimension], sortedRows[dimension], newDeltaRows[dimension]);
+                    newDeltaRows[dimension] = new int[0];
+                }
+            }
+            return new Snapshot(newIds, newValues, newSortedRows, newDeltaRows, newSize);
+        }
+
+        /**
+         * Ermittelt die erste Position in einer nach einer Dimension sortierten Zeilenfolge, deren Wert groesser oder gleich dem Schluessel ist.
+         *
+         * @param dimension Die Dimension
+         * @param rows      Die nach dieser Dimension sortierten Zeilen, also das Haupt- oder das Deltasegment
+         * @param key       Der gesuchte Wert
+         * @return Die erste Position mit einem Wert groesser oder gleich dem Schluessel
+         */
+        private int lowerBound(int dimension, int[] rows, double key) {
+            double[] column = values[dimension];
+            int low = 0;
+            int high = rows.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (column[rows[middle]] < key) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Sortiert die Zeilen im angegebenen Bereich nach ihrem Wert in der Spalte.
+         * Verwendet einen stabilen Mergesort von unten nach oben auf primitiven Arrays, damit keine Zeilennummern geboxt werden.
+         *
+         * @param column Die Werte der Spalte
+         * @param from   Die erste Zeile (inklusive)
+         * @param to     Die letzte Zeile (exklusive)
+         * @return Die sortierten Zeilen
+         */
+        private static int[] sortRows(double[] column, int from, int to) {
+            int[] rows = new int[to - from];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = from + i;
+            }
+            int[] buffer = new int[rows.length];
+            for (int width = 1; width < rows.length; width <<= 1) {
+                for (int start = 0; start < rows.length; start += width << 1) {
+                    int middle = Math.min(start + width, rows.length);
+                    int end = Math.min(middle + width, rows.length);
+                    mergeRuns(column, rows, start, middle, end, buffer);
+                }
+                int[] sorted = buffer;
+                buffer = rows;
+                rows = sorted;
+            }
+            return rows;
+        }
+
+        /**
+         * Fuehrt zwei benachbarte, sortierte Abschnitte einer Zeilenfolge in denselben Bereich des Zielarrays zusammen.
+         *
+         * @param column Die Werte der Spalte
+         * @param source Die Zeilenfolge mit den beiden sortierten Abschnitten
+         * @param from   Der Beginn des ersten Abschnitts (inklusive)
+         * @param middle Das Ende des ersten und der Beginn des zweiten Abschnitts
+         * @param to     Das Ende des zweiten Abschnitts (exklusive)
+         * @param target Das Zielarray
+         */
+        private static void mergeRuns(double[] column, int[] source, int from, int middle, int to, int[] target) {
+            int i = from;
+            int j = middle;
+            int k = from;
+            while (i < middle && j < to) {
+                target[k++] = column[source[i]] <= column[source[j]] ? source[i++] : source[j++];
+            }
+            System.arraycopy(source, i, target, k, middle - i);
+            System.arraycopy(source, j, target, k + middle - i, to - j);
+        }
+
+        /**
+         * Fuehrt zwei nach ihrem Wert in der Spalte sortierte Zeilenfolgen zusammen.
+         *
+         * @param column Die Werte der Spalte
+         * @param first  Die erste sortierte Zeilenfolge
+         * @param second Die zweite sortierte Zeilenfolge
+         * @return Die zusammengefuehrte, sortierte Zeilenfolge
+         */
+        private static int[] merge(double[] column, int[] first, int[] second) {
+            if (first.length == 0) {
+                return second;
+            }
+            int[] merged = new int[first.length + second.length];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            while (i < first.length && j < second.length) {
+                merged[k++] = column[first[i]] <= column[second[j]] ? first[i++] : second[j++];
+            }
+            while (i < first.length) {
+                merged[k++] = first[i++];
+            }
+            while (j < second.length) {
+                merged[k++] = second[j++];
+            }
+            return merged;
+        }
+
+        /**
+         * Rundet einen Naehrwert auf eine ganze Zahl, wie er auch in der Antwort an den Client ausgegeben wird.
+         *
+         * @param value Der Naehrwert, null falls dieser noch nicht berechnet wurde
+         * @return Der gerundete Naehrwert
+         */
+        private static double round(Double value) {
+            return value != null ? Math.round(value) : 0L;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeContainerDTO;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeMappingDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Diese Klasse liest eine Seite der Rezept-API von Edamam mit dem {@link JsonParser} von Jackson direkt in RecipeMappingDTO-Objekte ein.
+ * Die Rezepte werden einzeln aus dem Token-Strom gemappt, ohne die Antwort als JSON-Baum aufzubauen oder als String zwischenzuspeichern.
+ * Ungueltige Rezepte werden uebersprungen, der Parser setzt dann beim naechsten Treffer fort.
+ *
+ * @see <a href="https://developer.edamam.com/edamam-docs-recipe-api">Recipe API</a>
+ */
+@Slf4j
+@Component
+public class RecipePageParser {
+
+    /**
+     * Der {@link ObjectMapper} fuer die JSON-Verarbeitung
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Konstruktor der Klasse RecipePageParser.
+     *
+     * @param objectMapper Der ObjectMapper fuer die JSON-Verarbeitung
+     */
+    @Autowired
+    public RecipePageParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Liest eine vollstaendige Antwort der Rezept-API.
+     *
+     * @param body Der Inhalt der Antwort
+     * @return Die gueltigen Rezepte und der Link zur naechsten Seite, falls vorhanden
+     * @throws IOException Wenn die Antwort nicht gelesen werden kann oder kein gueltiges JSON enthaelt
+     */
+    public RecipeContainerDTO parse(InputStream body) throws IOException {
+        List<RecipeMappingDTO> recipeMappingDTOList = new ArrayList<>();
+        RecipeContainerDTO recipeContainerDTO = new RecipeContainerDTO();
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                recipeContainerDTO.with(readPage(parser, recipeMappingDTOList::add));
+            }
+        }
+        return recipeContainerDTO.with(recipeMappingDTOList);
+    }
+
+    /**
+     * Liest ein JSON-Objekt mit einer Seite der Rezept-API. Das Objekt ist entweder eine Antwort mit dem Schluessel "hits" oder ein einzelner Treffer mit dem Schluessel "recipe".
+     *
+     * @param parser   Der Parser, der auf dem Beginn des Objekts steht; danach steht er auf dem Ende des Objekts
+     * @param consumer Erhaelt die gueltigen Rezepte in der Reihenfolge der Seite
+     * @return Der Link zur naechsten Seite oder null, wenn es keine weitere Seite gibt
+     * @throws IOException Wenn die Seite nicht gelesen werden kann oder kein gueltiges JSON enthaelt
+     */
+    public String readPage(JsonParser parser, Consumer<RecipeMappingDTO> consumer) throws IOException {
+        String nextLink = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals("hits") && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.currentToken() == JsonToken.START_OBJECT) {
+                        readHit(parser, consumer);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if (field.equals("recipe") && value == JsonToken.START_OBJECT) {
+                readRecipe(parser, consumer);
+            } else if (field.equals("_links") && value == JsonToken.START_OBJECT) {
+                JsonNode links = parser.readValueAsTree(); // Der Link-Block ist klein, daher wird er als Baum gelesen
+                nextLink = links.path("next").path("href").asText(null);
+            } else {
+                parser.skipChildren(); // z.B. "from", "to" oder "count" werden nicht benoetigt
+            }
+        }
+        return nextLink;
+    }
+
+    /**
+     * Liest einen Treffer der Rezept-API.
+     *
+     * @param parser   Der Parser, der auf dem Beginn des Treffers steht; danach steht er auf dem Ende des Treffers
+     * @param consumer Erhaelt das Rezept des Treffers, wenn es gueltig ist
+     * @throws IOException Wenn der Treffer nicht gelesen werden kann oder kein gueltiges JSON enthaelt
+     */
+    private void readHit(JsonParser parser, Consumer<RecipeMappingDTO> consumer) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals("recipe") && value == JsonToken.START_OBJECT) {
+                readRecipe(parser, consumer);
+            } else {
+                parser.skipChildren(); // z.B. "_links" eines Treffers wird nicht benoetigt
+            }
+        }
+    }
+
+    /**
+     * Mapt ein Rezept direkt aus dem Token-Strom in ein RecipeMappingDTO-Objekt.
+     * Ist das Rezept ungueltig, wird der Rest des Rezepts uebersprungen, damit die folgenden Treffer weiter gelesen werden koennen.
+     *
+     * @param parser   Der Parser, der auf dem Beginn des Rezepts steht; danach steht er auf dem Ende des Rezepts
+     * @param consumer Erhaelt das Rezept, wenn es gueltig ist
+     * @throws IOException Wenn das Rezept nicht gelesen werden kann oder kein gueltiges JSON enthaelt
+     */
+    private void readRecipe(JsonParser parser, Consumer<RecipeMappingDTO> consumer) throws IOException {
+        JsonStreamContext enclosingContext = parser.getParsingContext().getParent();
+        RecipeMappingDTO recipeMappingDTO;
+        try {
+            recipeMappingDTO = objectMapper.readValue(parser, RecipeMappingDTO.class);
+        } catch (DatabindException e) {
+            log.warn(e.getOriginalMessage());
+            while (parser.getParsingContext() != enclosingContext && parser.nextToken() != null) {
+                // Die restlichen Tokens des ungueltigen Rezepts werden uebersprungen
+            }
+            return; //Es wird keine Exception geworfen, damit die Abfrage weiterläuft
+        }
+        consumer.accept(recipeMappingDTO);
+    }
+}
@@ -0,0 +1,83 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ein Rate-Limiter nach dem Token-Bucket-Verfahren, der die Anfragen an eine externe API auf das erlaubte Kontingent begrenzt.
+ * Der Bucket fasst hoechstens {@code capacity} Tokens und wird kontinuierlich mit {@code permitsPerSecond} Tokens pro Sekunde aufgefuellt.
+ * Jede Anfrage verbraucht ein Token; ist keines verfuegbar, wartet der aufrufende Thread, bis wieder eines nachgefuellt wurde.
+ */
+public class TokenBucketRateLimiter {
+
+    /**
+     * Die Anzahl der Tokens, die pro Sekunde nachgefuellt werden.
+     */
+    private final double permitsPerSecond;
+
+    /**
+     * Die maximale Anzahl an Tokens im Bucket, also die Anzahl der Anfragen, die direkt hintereinander gesendet werden duerfen.
+     */
+    private final double capacity;
+
+    /**
+     * Die aktuell verfuegbaren Tokens.
+     */
+    private double availableTokens;
+
+    /**
+     * Der Zeitpunkt der letzten Auffuellung in Nanosekunden.
+     */
+    private long lastRefillNanos;
+
+    /**
+     * Konstruktor der Klasse TokenBucketRateLimiter. Der Bucket ist zu Beginn voll.
+     *
+     * @param permitsPerSecond Die Anzahl der Tokens, die pro Sekunde nachgefuellt werden
+     * @param capacity         Die maximale Anzahl an Tokens im Bucket
+     */
+    public TokenBucketRateLimiter(double permitsPerSecond, int capacity) {
+        if (permitsPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Rate limit and capacity must be positive");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = capacity;
+        this.availableTokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Verbraucht ein Token und wartet dafuer gegebenenfalls, bis wieder eines verfuegbar ist.
+     *
+     * @throws InterruptedException Wenn der Thread waehrend des Wartens unterbrochen wird
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tryAcquire()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Versucht ein Token zu verbrauchen.
+     *
+     * @return 0, wenn ein Token verbraucht wurde, sonst die Wartezeit in Nanosekunden, bis das naechste Token verfuegbar ist
+     */
+    protected synchronized long tryAcquire() {
+        refill();
+        if (availableTokens >= 1) {
+            availableTokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - availableTokens) / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Fuellt den Bucket entsprechend der seit der letzten Auffuellung vergangenen Zeit auf.
+     */
+    private void refill() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        availableTokens = Math.min(capacity, availableTokens + elapsedSeconds * permitsPerSecond);
+        lastRefillNanos = now;
+    }
+}
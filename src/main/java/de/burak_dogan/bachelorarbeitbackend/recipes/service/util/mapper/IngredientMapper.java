@@ -2,8 +2,14 @@ package de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper;
 
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetIngredientDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Ingredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.IngredientUnitLabel;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Diese Klasse dient dazu, eine Ingredient-Entity in ein DTO umzuwandeln.
  */
@@ -20,4 +26,22 @@ public class IngredientMapper {
     public GetIngredientDto mapModelToDto(Ingredient ingredient) {
         return GetIngredientDto.builder().foodId(ingredient.getId()).name(ingredient.getName()).units(ingredient.getIngredientUnits().stream().map(ingredientUnit -> ingredientUnit.getLabel()).toList()).build();
     }
+
+    /**
+     * Fasst die Zeilen pro Zutat und Masseinheit zu GetIngredientDtos zusammen.
+     * Die Reihenfolge der Zutaten entspricht der Reihenfolge ihres ersten Auftretens in den Zeilen.
+     *
+     * @param unitLabels Die Zeilen mit je einer Zutat und einer ihrer Masseinheiten.
+     * @return Die erstellten GetIngredientDTOs, nach der ID der Zutat abrufbar.
+     */
+    public Map<String, GetIngredientDto> mapUnitLabelsToDtos(List<IngredientUnitLabel> unitLabels) {
+        Map<String, GetIngredientDto> ingredients = new LinkedHashMap<>();
+        for (IngredientUnitLabel unitLabel : unitLabels) {
+            GetIngredientDto ingredient = ingredients.computeIfAbsent(unitLabel.ingredientId(), id -> GetIngredientDto.builder().foodId(id).name(unitLabel.name()).units(new ArrayList<>()).build());
+            if (unitLabel.label() != null) {
+                ingredient.getUnits().add(unitLabel.label());
+            }
+        }
+        return ingredients;
+    }
 }
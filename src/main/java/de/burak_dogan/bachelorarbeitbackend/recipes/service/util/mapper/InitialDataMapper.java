@@ -4,6 +4,7 @@ import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Ingredient
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.IngredientUnit;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.RecipeIngredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.RecipeFingerprint;
 import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.IngredientMappingDTO;
 import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.IngredientUnitMappingDTO;
 import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeIngredientMappingDTO;
@@ -24,7 +25,7 @@ public class InitialDataMapper {
      * @return Die erstellte Recipe-Entity.
      */
     public Recipe mapToRecipe(RecipeMappingDTO recipeMappingDTO, byte[] imageAsByte){
-        return Recipe.builder().title(recipeMappingDTO.getLabel()).preparation(recipeMappingDTO.getUrl()).image(imageAsByte).portions(recipeMappingDTO.getYield()).favorite(false).build();
+        return Recipe.builder().title(recipeMappingDTO.getLabel()).preparation(recipeMappingDTO.getUrl()).image(imageAsByte).portions(recipeMappingDTO.getYield()).favorite(false).fingerprint(RecipeFingerprint.of(recipeMappingDTO)).build();
     }
 
 
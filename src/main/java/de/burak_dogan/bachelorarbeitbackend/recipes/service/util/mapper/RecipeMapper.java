@@ -1,11 +1,15 @@
 package de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper;
 
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.RecipeController;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.CreateRecipeDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeDetailDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.NutrientsDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeListItemDto;
 import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.ImageSize;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Diese Klasse dient dazu, eine Recipe-Entity in ein DTO umzuwandeln.
@@ -14,14 +18,40 @@ import org.springframework.stereotype.Component;
 public class RecipeMapper {
 
     /**
-     * Wandelt ein Recipe-Objekt in ein GetRecipeListItemDto um, welches fuer die Listenansicht verwendet wird.
+     * Die URL, ueber die das Bild eines Rezepts abgerufen werden kann, mit Platzhalter fuer die Rezept-ID.
+     * Sie wird aus dem Mapping des RecipeControllers zusammengesetzt, damit beide nicht auseinanderlaufen.
+     */
+    private static final String IMAGE_URL = RecipeController.BASE_URL + RecipeController.IMAGE;
+
+    /**
+     * Der Platzhalter fuer die Rezept-ID in der URL des Bildes.
+     */
+    private static final String RECIPE_ID_VARIABLE = "{recipeId}";
+
+    /**
+     * Der Teil der URL vor der Rezept-ID. Die URL wird einmalig zerlegt, da sie fuer jeden Listeneintrag erzeugt wird.
+     */
+    private static final String IMAGE_URL_PREFIX = IMAGE_URL.substring(0, IMAGE_URL.indexOf(RECIPE_ID_VARIABLE));
+
+    /**
+     * Der Teil der URL nach der Rezept-ID.
+     */
+    private static final String IMAGE_URL_SUFFIX = IMAGE_URL.substring(IMAGE_URL.indexOf(RECIPE_ID_VARIABLE) + RECIPE_ID_VARIABLE.length());
+
+    /**
+     * Der Parameter, mit dem das Vorschaubild eines Rezepts statt des Originalbildes abgerufen wird.
+     */
+    private static final String THUMBNAIL_PARAMETER = UriComponentsBuilder.newInstance().queryParam("size", ImageSize.THUMBNAIL.name().toLowerCase()).toUriString();
+
+    /**
+     * Wandelt einen RecipeListItem-Listeneintrag in ein GetRecipeListItemDto um, welches fuer die Listenansicht verwendet wird.
      *
-     * @param recipe       Das Recipe-Objekt, das in ein DTO umgewandelt werden soll.
+     * @param recipe       Der Listeneintrag des Rezepts, der in ein DTO umgewandelt werden soll.
      * @param nutrientsDto Das NutrientsDto-Objekt, das die Naehrwerte fuer das Rezept enthaelt.
      * @return Das erstellte GetRecipeListItemDTO.
      */
-    public GetRecipeListItemDto mapModelToListItemDto(Recipe recipe, NutrientsDto nutrientsDto) {
-        return GetRecipeListItemDto.builder().id(recipe.getId()).title(recipe.getTitle()).image(recipe.getImage()).portions(recipe.getPortions()).favorite(recipe.getFavorite()).nutrients(nutrientsDto).build();
+    public GetRecipeListItemDto mapListItemToDto(RecipeListItem recipe, NutrientsDto nutrientsDto) {
+        return GetRecipeListItemDto.builder().id(recipe.id()).title(recipe.title()).imageUrl(getImageUrl(recipe.id())).thumbnailUrl(getThumbnailUrl(recipe.id())).imageHash(recipe.imageHash()).portions(recipe.portions()).favorite(recipe.favorite()).nutrients(nutrientsDto).build();
     }
 
     /**
@@ -32,7 +62,7 @@ public class RecipeMapper {
      * @return Das erstellte GetRecipeDetailDTO.
      */
     public GetRecipeDetailDto mapModelToDetailDto(Recipe recipe, NutrientsDto nutrientsDto) {
-        return GetRecipeDetailDto.builder().id(recipe.getId()).title(recipe.getTitle()).image(recipe.getImage()).portions(recipe.getPortions()).favorite(recipe.getFavorite()).nutrients(nutrientsDto).preparation(recipe.getPreparation()).ingredients(recipe.getRecipeIngredients().stream().map(ingredient -> ingredient.getTitle()).toList()).build();
+        return GetRecipeDetailDto.builder().id(recipe.getId()).title(recipe.getTitle()).imageUrl(getImageUrl(recipe.getId())).imageHash(recipe.getImageHash()).portions(recipe.getPortions()).favorite(recipe.getFavorite()).nutrients(nutrientsDto).preparation(recipe.getPreparation()).ingredients(recipe.getRecipeIngredients().stream().map(ingredient -> ingredient.getTitle()).toList()).build();
     }
 
     /**
@@ -45,4 +75,24 @@ public class RecipeMapper {
         return Recipe.builder().title(dto.getTitle()).image(dto.getImage()).portions(dto.getPortions()).preparation(dto.getPreparation()).favorite(false).build();
     }
 
+    /**
+     * Gibt die URL zurueck, ueber die das Bild eines Rezepts abgerufen werden kann.
+     *
+     * @param recipeId Die ID des Rezepts
+     * @return Die URL des Bildes
+     */
+    public String getImageUrl(Long recipeId) {
+        return IMAGE_URL_PREFIX + recipeId + IMAGE_URL_SUFFIX;
+    }
+
+    /**
+     * Gibt die URL zurueck, ueber die das Vorschaubild eines Rezepts abgerufen werden kann.
+     *
+     * @param recipeId Die ID des Rezepts
+     * @return Die URL des Vorschaubildes
+     */
+    public String getThumbnailUrl(Long recipeId) {
+        return getImageUrl(recipeId) + THUMBNAIL_PARAMETER;
+    }
+
 }
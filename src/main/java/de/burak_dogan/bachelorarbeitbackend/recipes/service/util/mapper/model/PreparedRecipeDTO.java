@@ -0,0 +1,43 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Ingredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.IngredientUnit;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.RecipeIngredient;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO-Klasse fuer ein importiertes Rezept, das vollstaendig vorbereitet, aber noch nicht gespeichert wurde.
+ * Bild, Naehrwerte und Zutaten sind bereits gesetzt, sodass mehrere Rezepte gemeinsam in einem Batch gespeichert werden koennen.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class PreparedRecipeDTO {
+
+    /**
+     * Das Rezept mit Bild und Gesamtnaehrwerten.
+     */
+    private Recipe recipe;
+
+    /**
+     * Die Zutaten des Rezepts.
+     */
+    private List<Ingredient> ingredients;
+
+    /**
+     * Die Masseinheiten der Zutaten des Rezepts.
+     */
+    private List<IngredientUnit> ingredientUnits;
+
+    /**
+     * Die Zuordnungen der Zutaten zum Rezept.
+     */
+    private List<RecipeIngredient> recipeIngredients;
+}
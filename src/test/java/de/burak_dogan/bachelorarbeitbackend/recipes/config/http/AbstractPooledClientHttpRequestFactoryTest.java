@@ -0,0 +1,135 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.RequestProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Gemeinsame Tests fuer die {@link PooledClientHttpRequestFactory}-Implementierungen gegen einen lokalen HTTP-Server.
+ * Die Unterklassen pruefen nur noch, was ihr jeweiliger Client ueber seine Verbindungen preisgibt.
+ *
+ * @param <F> Die getestete Factory
+ */
+abstract class AbstractPooledClientHttpRequestFactoryTest<F extends PooledClientHttpRequestFactory> {
+
+    protected static final String BODY = "{\"hits\":[]}";
+
+    private HttpServer server;
+
+    protected final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger compressedResponses = new AtomicInteger();
+
+    protected F requestFactory;
+
+    private RestTemplate restTemplate;
+
+    protected abstract F createRequestFactory(RequestProperties requestProperties);
+
+    protected abstract void close(F requestFactory) throws IOException;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/gzip", exchange -> {
+            clientAddresses.add(exchange.getRemoteAddress());
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            respond(exchange, BODY, acceptEncoding != null && acceptEncoding.contains("gzip"));
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "{}", false);
+        });
+        server.start();
+
+        requestFactory = createRequestFactory(new RequestProperties());
+        restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        close(requestFactory);
+        server.stop(0);
+    }
+
+    @Test
+    void requestsDecompressGzipResponses() {
+        assertEquals(BODY, get("/gzip"));
+        assertEquals(1, compressedResponses.get());
+    }
+
+    @Test
+    void poolStatsCountOpenResponsesAsLeased() throws IOException {
+        ClientHttpResponse response = requestFactory.createRequest(URI.create(url("/gzip")), HttpMethod.GET).execute();
+        assertEquals(1, requestFactory.getPoolStats().leased());
+
+        response.close();
+        assertEquals(0, requestFactory.getPoolStats().leased());
+    }
+
+    @Test
+    void requestsFailAfterReadTimeout() throws IOException {
+        RequestProperties requestProperties = new RequestProperties();
+        requestProperties.setHttpReadTimeout(Duration.ofMillis(200));
+        F timeoutRequestFactory = createRequestFactory(requestProperties);
+        try {
+            RestTemplate timeoutRestTemplate = new RestTemplate(timeoutRequestFactory);
+            assertThrows(ResourceAccessException.class, () -> timeoutRestTemplate.getForObject(url("/slow"), String.class));
+            assertEquals(0, timeoutRequestFactory.getPoolStats().leased());
+        } finally {
+            close(timeoutRequestFactory);
+        }
+    }
+
+    protected String get(String path) {
+        return restTemplate.getForObject(url(path), String.class);
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private void respond(HttpExchange exchange, String body, boolean gzip) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (gzip) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream outputStream = new GZIPOutputStream(compressed)) {
+                outputStream.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            compressedResponses.incrementAndGet();
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
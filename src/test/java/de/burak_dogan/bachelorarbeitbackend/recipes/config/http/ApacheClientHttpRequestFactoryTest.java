@@ -0,0 +1,34 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.http;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.RequestProperties;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ApacheClientHttpRequestFactoryTest extends AbstractPooledClientHttpRequestFactoryTest<ApacheClientHttpRequestFactory> {
+
+    @Override
+    protected ApacheClientHttpRequestFactory createRequestFactory(RequestProperties requestProperties) {
+        return new ApacheClientHttpRequestFactory(requestProperties);
+    }
+
+    @Override
+    protected void close(ApacheClientHttpRequestFactory requestFactory) throws IOException {
+        requestFactory.close();
+    }
+
+    @Test
+    void requestsReuseOnePooledConnection() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(BODY, get("/gzip"));
+        }
+
+        assertEquals(1, clientAddresses.size());
+        ConnectionPoolStats poolStats = requestFactory.getPoolStats();
+        assertEquals(0, poolStats.leased());
+        assertEquals(1, poolStats.available());
+        assertEquals(20, poolStats.max());
+    }
+}
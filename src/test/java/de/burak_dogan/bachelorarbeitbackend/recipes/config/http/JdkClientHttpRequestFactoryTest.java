@@ -0,0 +1,32 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.http;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.RequestProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JdkClientHttpRequestFactoryTest extends AbstractPooledClientHttpRequestFactoryTest<JdkClientHttpRequestFactory> {
+
+    @Override
+    protected JdkClientHttpRequestFactory createRequestFactory(RequestProperties requestProperties) {
+        return new JdkClientHttpRequestFactory(requestProperties);
+    }
+
+    @Override
+    protected void close(JdkClientHttpRequestFactory requestFactory) {
+        requestFactory.close();
+    }
+
+    @Test
+    void poolStatsOnlyExposeRequestsInFlight() {
+        assertEquals(BODY, get("/gzip"));
+
+        // Der HttpClient des JDK legt seinen Pool nicht offen, gezaehlt werden nur die laufenden Anfragen
+        ConnectionPoolStats poolStats = requestFactory.getPoolStats();
+        assertEquals(0, poolStats.leased());
+        assertNull(poolStats.pending());
+        assertNull(poolStats.available());
+        assertNull(poolStats.max());
+    }
+}
@@ -0,0 +1,89 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.CorsProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.MetricsProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ReadinessProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness.ReadinessFilter;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness.ReadinessGate;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ManagementPortFilterTest {
+
+    private final MetricsProperties metricsProperties = new MetricsProperties();
+
+    private final ManagementPortFilter managementPortFilter = new ManagementPortFilter(metricsProperties);
+
+    @Test
+    void servesMetricsOnlyOnTheManagementPort() throws Exception {
+        MockFilterChain managementChain = new MockFilterChain();
+        managementPortFilter.doFilter(request("/metrics", 8082), new MockHttpServletResponse(), managementChain);
+        assertNotNull(managementChain.getRequest());
+
+        MockFilterChain serverChain = new MockFilterChain();
+        MockHttpServletResponse serverResponse = new MockHttpServletResponse();
+        managementPortFilter.doFilter(request("/metrics", 8080), serverResponse, serverChain);
+        assertNull(serverChain.getRequest());
+        assertEquals(404, serverResponse.getStatus());
+    }
+
+    @Test
+    void servesTheApiOnlyOnTheServerPort() throws Exception {
+        MockFilterChain serverChain = new MockFilterChain();
+        managementPortFilter.doFilter(request("/api/v1/recipes", 8080), new MockHttpServletResponse(), serverChain);
+        assertNotNull(serverChain.getRequest());
+
+        MockFilterChain managementChain = new MockFilterChain();
+        MockHttpServletResponse managementResponse = new MockHttpServletResponse();
+        managementPortFilter.doFilter(request("/api/v1/recipes", 8082), managementResponse, managementChain);
+        assertNull(managementChain.getRequest());
+        assertEquals(404, managementResponse.getStatus());
+    }
+
+    @Test
+    void hidesMetricsWhenTheManagementPortIsDisabled() throws Exception {
+        metricsProperties.setPort(0);
+        MockFilterChain filterChain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        managementPortFilter.doFilter(request("/metrics", 0), response, filterChain);
+
+        assertNull(filterChain.getRequest());
+        assertEquals(404, response.getStatus());
+    }
+
+    @Test
+    void runsBeforeTheReadinessFilter() throws Exception {
+        ReadinessFilter readinessFilter = new ReadinessFilter(new ReadinessGate(event -> {
+        }), new ReadinessProperties(), new CorsProperties(), new ObjectMapper());
+        // Spring Boot sortiert die Filter-Beans ueber ihre @Order-Annotation in dieser Reihenfolge
+        List<Filter> filters = new ArrayList<>(List.of(readinessFilter, managementPortFilter));
+        AnnotationAwareOrderComparator.sort(filters);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new MockFilterChain(new HttpServlet() {
+        }, filters.toArray(Filter[]::new)).doFilter(request("/api/v1/recipes", 8082), response);
+
+        assertEquals(List.of(managementPortFilter, readinessFilter), filters);
+        assertEquals(404, response.getStatus());
+    }
+
+    private static MockHttpServletRequest request(String path, int localPort) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setLocalPort(localPort);
+        return request;
+    }
+}
@@ -0,0 +1,141 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsRegistryTest {
+
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+
+    @Test
+    void writesCountersAndGaugesInPrometheusFormat() throws Exception {
+        Counter hits = metricsRegistry.counter("cache_requests_total", "Cache lookups", "result", "hit");
+        hits.increment(3);
+        assertSame(hits, metricsRegistry.counter("cache_requests_total", "Cache lookups", "result", "hit"));
+        metricsRegistry.counter("cache_requests_total", "Cache lookups", "result", "miss").increment();
+        metricsRegistry.gauge("queue_size", "Queued \"jobs\"", () -> 7, "name", "a\"b");
+
+        String output = write();
+
+        assertTrue(output.contains("# HELP cache_requests_total Cache lookups\n# TYPE cache_requests_total counter\n"));
+        assertTrue(output.contains("cache_requests_total{result=\"hit\"} 3\n"));
+        assertTrue(output.contains("cache_requests_total{result=\"miss\"} 1\n"));
+        assertTrue(output.contains("# TYPE queue_size gauge\nqueue_size{name=\"a\\\"b\"} 7\n"));
+        assertThrows(IllegalArgumentException.class, () -> metricsRegistry.timer("queue_size", "Queued jobs"));
+    }
+
+    @Test
+    void writesCumulativeHistogramBuckets() throws Exception {
+        Histogram histogram = metricsRegistry.histogram("statements", "Statements per request", new double[]{1, 5}, "uri", "/api");
+        histogram.observe(0);
+        histogram.observe(3);
+        histogram.observe(5);
+        histogram.observe(12);
+
+        String output = write();
+
+        assertTrue(output.contains("statements_bucket{uri=\"/api\",le=\"1\"} 1\n"));
+        assertTrue(output.contains("statements_bucket{uri=\"/api\",le=\"5\"} 3\n"));
+        assertTrue(output.contains("statements_bucket{uri=\"/api\",le=\"+Inf\"} 4\n"));
+        assertTrue(output.contains("statements_sum{uri=\"/api\"} 20\n"));
+        assertTrue(output.contains("statements_count{uri=\"/api\"} 4\n"));
+        assertEquals(4, histogram.getCount());
+    }
+
+    @Test
+    void escapesLabelValuesAndHelpTexts() throws Exception {
+        metricsRegistry.counter("requests_total", "Requests to C:\\api\nper \"uri\"", "uri", "C:\\a\"b\"\nc").increment();
+
+        String output = write();
+
+        assertTrue(output.contains("# HELP requests_total Requests to C:\\\\api\\nper \"uri\"\n"));
+        assertTrue(output.contains("requests_total{uri=\"C:\\\\a\\\"b\\\"\\nc\"} 1\n"));
+        assertEquals(3, output.split("\n").length);
+        assertEquals("uri=\"\"", MetricsRegistry.formatLabels("uri", null));
+    }
+
+    @Test
+    void rejectsNamesOutsideTheExpositionFormat() {
+        assertThrows(IllegalArgumentException.class, () -> metricsRegistry.counter("http-requests", "Requests"));
+        assertThrows(IllegalArgumentException.class, () -> metricsRegistry.counter("1requests", "Requests"));
+        assertThrows(IllegalArgumentException.class, () -> metricsRegistry.counter("requests_total", "Requests", "status-code", "200"));
+        assertThrows(IllegalArgumentException.class, () -> metricsRegistry.counter("requests_total", "Requests", "__name__", "x"));
+        assertThrows(IllegalArgumentException.class, () -> metricsRegistry.counter("requests_total", "Requests", "uri"));
+        assertThrows(IllegalArgumentException.class, () -> metricsRegistry.histogram("latency", "Latency", new double[]{1, 0.5}));
+        assertThrows(IllegalArgumentException.class, () -> metricsRegistry.histogram("latency", "Latency", new double[]{1, Double.POSITIVE_INFINITY}));
+        assertThrows(IllegalArgumentException.class, () -> metricsRegistry.histogram("latency", "Latency", new double[]{1}, "le", "1"));
+    }
+
+    @Test
+    void writesHistogramBucketsInAscendingCumulativeOrder() throws Exception {
+        Histogram histogram = metricsRegistry.timer("request_duration_seconds", "Request duration", "method", "GET");
+        histogram.observe(0.0009765625);
+        histogram.observe(0.03125);
+        histogram.observe(0.03125);
+        histogram.observe(42);
+        metricsRegistry.timer("request_duration_seconds", "Request duration", "method", "POST").observe(0.2);
+
+        String output = write();
+
+        assertEquals(1, count(output, "# TYPE request_duration_seconds histogram\n"));
+        assertTrue(output.indexOf("# TYPE request_duration_seconds histogram") < output.indexOf("request_duration_seconds_bucket"));
+        Matcher bucket = Pattern.compile("request_duration_seconds_bucket\\{method=\"GET\",le=\"([^\"]+)\"} (\\d+)\n").matcher(output);
+        List<String> bounds = new ArrayList<>();
+        long previousCount = 0;
+        double previousBound = Double.NEGATIVE_INFINITY;
+        while (bucket.find()) {
+            bounds.add(bucket.group(1));
+            double bound = "+Inf".equals(bucket.group(1)) ? Double.POSITIVE_INFINITY : Double.parseDouble(bucket.group(1));
+            long cumulativeCount = Long.parseLong(bucket.group(2));
+            assertTrue(bound > previousBound);
+            assertTrue(cumulativeCount >= previousCount);
+            previousBound = bound;
+            previousCount = cumulativeCount;
+        }
+        assertEquals(MetricsRegistry.SECONDS_BUCKETS.length + 1, bounds.size());
+        assertEquals("0.001", bounds.get(0));
+        assertEquals("1", bounds.get(8));
+        assertEquals("+Inf", bounds.get(bounds.size() - 1));
+        assertEquals(4, previousCount);
+        assertTrue(output.contains("request_duration_seconds_bucket{method=\"GET\",le=\"0.001\"} 1\n"));
+        assertTrue(output.contains("request_duration_seconds_bucket{method=\"GET\",le=\"0.05\"} 3\n"));
+        assertTrue(output.contains("request_duration_seconds_sum{method=\"GET\"} 42.0634765625\n"));
+        assertTrue(output.contains("request_duration_seconds_count{method=\"GET\"} 4\n"));
+        assertTrue(output.contains("request_duration_seconds_bucket{method=\"POST\",le=\"+Inf\"} 1\n"));
+    }
+
+    @Test
+    void writesUnavailableGaugesAsNaN() throws Exception {
+        metricsRegistry.gauge("pool_connections", "Open connections", () -> Double.NaN);
+        metricsRegistry.gauge("pool_connections_max", "Maximum connections", () -> null);
+
+        String output = write();
+
+        assertTrue(output.contains("pool_connections NaN\n"));
+        assertTrue(output.contains("pool_connections_max NaN\n"));
+    }
+
+    private static int count(String output, String part) {
+        int count = 0;
+        for (int index = output.indexOf(part); index >= 0; index = output.indexOf(part, index + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private String write() throws Exception {
+        StringWriter writer = new StringWriter();
+        metricsRegistry.writePrometheus(writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.CorsProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ReadinessProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadinessFilterTest {
+
+    private final List<Object> publishedEvents = new ArrayList<>();
+
+    private ReadinessGate readinessGate;
+
+    private ReadinessFilter readinessFilter;
+
+    @BeforeEach
+    void setUp() {
+        CorsProperties corsProperties = new CorsProperties();
+        corsProperties.setAllowedOrigins("http://localhost:3000");
+        readinessGate = new ReadinessGate(publishedEvents::add);
+        readinessFilter = new ReadinessFilter(readinessGate, new ReadinessProperties(), corsProperties, new ObjectMapper());
+    }
+
+    @Test
+    void rejectsApiRequestsWhileStarting() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/recipes");
+        request.addHeader("Origin", "http://localhost:3000");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        readinessFilter.doFilter(request, response, filterChain);
+
+        assertNull(filterChain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("10", response.getHeader("Retry-After"));
+        assertEquals("http://localhost:3000", response.getHeader("Access-Control-Allow-Origin"));
+        assertTrue(response.getContentAsString().contains("SERVICE_UNAVAILABLE"));
+    }
+
+    @Test
+    void passesOpenPathsAndRequestsAfterTransition() throws Exception {
+        MockFilterChain importStatusChain = new MockFilterChain();
+        readinessFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/import/status"), new MockHttpServletResponse(), importStatusChain);
+        assertNotNull(importStatusChain.getRequest());
+
+        readinessGate.transitionTo(ServiceState.IMPORTING);
+        MockFilterChain recipesChain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        readinessFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/recipes"), response, recipesChain);
+
+        assertNotNull(recipesChain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(1, publishedEvents.size());
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, ((AvailabilityChangeEvent<?>) publishedEvents.get(0)).getState());
+    }
+}
@@ -0,0 +1,107 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.controller;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeImageDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ExceptionHandlerAdvice;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.IRecipeService;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.ImageProcessor;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.ImageSize;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.RecipeMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RecipeControllerTest {
+
+    private static final String IMAGE_HASH = "abc123";
+
+    private final RecipeMapper recipeMapper = new RecipeMapper();
+
+    private byte[] image;
+
+    private IRecipeService service;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BufferedImage bufferedImage = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(bufferedImage, "png", outputStream);
+        image = outputStream.toByteArray();
+
+        service = mock(IRecipeService.class);
+        when(service.getImageHash(1L)).thenReturn(IMAGE_HASH);
+        when(service.getImage(1L, ImageSize.ORIGINAL)).thenReturn(GetRecipeImageDto.builder().image(image).contentType(new ImageProcessor().detectContentType(image)).build());
+        mockMvc = MockMvcBuilders.standaloneSetup(new RecipeController(service)).setControllerAdvice(new ExceptionHandlerAdvice()).build();
+    }
+
+    @Test
+    void servesTheImageWithTheDetectedContentTypeAndAStrongETag() throws Exception {
+        mockMvc.perform(get(recipeMapper.getImageUrl(1L)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + IMAGE_HASH + "\""))
+                .andExpect(content().bytes(image));
+    }
+
+    @Test
+    void answersAMatchingETagWithNotModifiedWithoutLoadingTheImage() throws Exception {
+        mockMvc.perform(get(recipeMapper.getImageUrl(1L)).header(HttpHeaders.IF_NONE_MATCH, "\"" + IMAGE_HASH + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        verify(service, never()).getImage(any(), any());
+    }
+
+    @Test
+    void answersARangeRequestWithPartialContent() throws Exception {
+        mockMvc.perform(get(recipeMapper.getImageUrl(1L)).header(HttpHeaders.RANGE, "bytes=0-7"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-7/" + image.length))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 0, 8)));
+    }
+
+    @Test
+    void listAndDetailLinkTheImageInsteadOfEmbeddingIt() throws Exception {
+        Recipe recipe = Recipe.builder().id(1L).title("Pfannkuchen").image(image).imageHash(IMAGE_HASH).portions(2.0).favorite(false).recipeIngredients(new ArrayList<>()).build();
+        RecipeListItem listItem = new RecipeListItem(1L, "Pfannkuchen", IMAGE_HASH, 2.0, false, 0.0, 0.0, 0.0, 0.0);
+        when(service.getCatalogETag()).thenReturn("W/\"1\"");
+        when(service.getRecipeETag(1L)).thenReturn("W/\"1\"");
+        when(service.getRecipes()).thenReturn(List.of(recipeMapper.mapListItemToDto(listItem, null)));
+        when(service.getSingleRecipe(1L)).thenReturn(recipeMapper.mapModelToDetailDto(recipe, null));
+
+        mockMvc.perform(get(RecipeController.BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].image").doesNotExist())
+                .andExpect(jsonPath("$[0].imageUrl").value("/api/v1/recipes/1/image"))
+                .andExpect(jsonPath("$[0].thumbnailUrl").value("/api/v1/recipes/1/image?size=thumbnail"))
+                .andExpect(jsonPath("$[0].imageHash").value(IMAGE_HASH));
+        mockMvc.perform(get(RecipeController.BASE_URL + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.image").doesNotExist())
+                .andExpect(jsonPath("$.imageUrl").value("/api/v1/recipes/1/image"))
+                .andExpect(jsonPath("$.imageHash").value(IMAGE_HASH));
+    }
+}
@@ -0,0 +1,74 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Ingredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.IngredientUnit;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.IngredientUnitLabel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:ingredients;NON_KEYWORDS=VALUE;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IngredientRepositoryTest {
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @BeforeEach
+    void setUp() {
+        persist("food_a", "Chicken Breast", "Gram", "Piece");
+        persist("food_b", "Roasted Chicken", "Gram");
+        persist("food_c", "Rice", "Cup");
+        persist("food_d", "100% Juice");
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    void findAllUnitLabelsReturnsOneRowPerUnit() {
+        List<IngredientUnitLabel> unitLabels = ingredientRepository.findAllUnitLabels();
+
+        assertEquals(List.of(
+                new IngredientUnitLabel("food_a", "Chicken Breast", "Gram"),
+                new IngredientUnitLabel("food_a", "Chicken Breast", "Piece"),
+                new IngredientUnitLabel("food_b", "Roasted Chicken", "Gram"),
+                new IngredientUnitLabel("food_c", "Rice", "Cup"),
+                new IngredientUnitLabel("food_d", "100% Juice", null)
+        ), unitLabels);
+    }
+
+    @Test
+    void findIdsAfterPagesById() {
+        assertEquals(List.of("food_a", "food_b"), ingredientRepository.findIdsAfter("", PageRequest.of(0, 2)));
+        assertEquals(List.of("food_c", "food_d"), ingredientRepository.findIdsAfter("food_b", PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void findIdsByNameContainingReturnsPrefixMatchesFirst() {
+        assertEquals(List.of("food_a", "food_b"), ingredientRepository.findIdsByNameContaining("chicken", PageRequest.of(0, 10)));
+        assertEquals(List.of("food_b"), ingredientRepository.findIdsByNameContaining("ted chi", PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void findIdsByNameContainingTreatsEscapedWildcardsLiterally() {
+        assertEquals(List.of("food_d"), ingredientRepository.findIdsByNameContaining("0!%", PageRequest.of(0, 10)));
+    }
+
+    private void persist(String id, String name, String... units) {
+        Ingredient ingredient = testEntityManager.persist(Ingredient.builder().id(id).name(name).calories(100.0).proteins(1.0).carbohydrates(1.0).fats(1.0).build());
+        for (String unit : units) {
+            testEntityManager.persist(IngredientUnit.builder().ingredient(ingredient).label(unit).value(1.0).build());
+        }
+    }
+}
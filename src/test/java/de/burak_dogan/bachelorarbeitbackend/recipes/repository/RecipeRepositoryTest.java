@@ -0,0 +1,197 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.repository;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Ingredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.RecipeIngredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeListItem;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.RecipeNutrientIndex;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:recipes;NON_KEYWORDS=VALUE;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RecipeRepositoryTest {
+
+    private static final int RECIPE_COUNT = 20;
+
+    private static final int INGREDIENTS_PER_RECIPE = 3;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private final List<Long> recipeIds = new ArrayList<>();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<Ingredient> ingredients = new ArrayList<>();
+        for (int i = 0; i < INGREDIENTS_PER_RECIPE; i++) {
+            Ingredient ingredient = Ingredient.builder().id("food_" + i).name("Ingredient " + i).calories(100.0).proteins(10.0).carbohydrates(10.0).fats(5.0).build();
+            ingredients.add(testEntityManager.persist(ingredient));
+        }
+        for (int i = 0; i < RECIPE_COUNT; i++) {
+            Recipe recipe = Recipe.builder().title("Recipe " + i).preparation("Preparation").image(new byte[]{1, 2, 3}).imageHash("hash").portions(2.0).favorite(false).calories(300.0).proteins(30.0).carbohydrates(30.0).fats(15.0).fingerprint("fingerprint-" + i).build();
+            testEntityManager.persist(recipe);
+            for (Ingredient ingredient : ingredients) {
+                RecipeIngredient recipeIngredient = new RecipeIngredient();
+                recipeIngredient.setRecipe(recipe);
+                recipeIngredient.setIngredient(ingredient);
+                recipeIngredient.setQuantity(100.0);
+                recipeIngredient.setTitle("100 g " + ingredient.getName());
+                testEntityManager.persist(recipeIngredient);
+            }
+            recipeIds.add(recipe.getId());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllListItemsRunsSingleStatement() {
+        List<RecipeListItem> recipes = recipeRepository.findAllListItems();
+
+        assertEquals(RECIPE_COUNT, recipes.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findListItemsAfterRunsSingleStatement() {
+        List<RecipeListItem> recipes = recipeRepository.findListItemsAfter(recipeIds.get(4), PageRequest.of(0, 5));
+
+        assertEquals(recipeIds.subList(5, 10), recipes.stream().map(RecipeListItem::id).toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void toggleFavoriteUpdatesWithoutLoadingRecipe() {
+        assertEquals(1, recipeRepository.toggleFavorite(recipeIds.get(3)));
+        assertEquals(0, recipeRepository.toggleFavorite(-1L));
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(List.of(recipeIds.get(3)), recipeRepository.findFavoriteListItemsAfter(0L, Pageable.unpaged()).stream().map(RecipeListItem::id).toList());
+
+        recipeRepository.toggleFavorite(recipeIds.get(3));
+        assertEquals(List.of(), recipeRepository.findFavoriteListItemsAfter(0L, Pageable.unpaged()));
+    }
+
+    @Test
+    void updateFavoriteSetsAllRecipesInSingleStatement() {
+        assertEquals(3, recipeRepository.updateFavorite(List.of(recipeIds.get(1), recipeIds.get(5), recipeIds.get(7)), true));
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        List<RecipeListItem> favorites = recipeRepository.findFavoriteListItemsAfter(recipeIds.get(1), PageRequest.of(0, 1));
+        assertEquals(List.of(recipeIds.get(5)), favorites.stream().map(RecipeListItem::id).toList());
+    }
+
+    @Test
+    void findListItemsByIdInRunsSingleStatement() {
+        List<RecipeListItem> recipes = recipeRepository.findListItemsByIdIn(recipeIds.subList(0, 10));
+
+        assertEquals(10, recipes.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void streamAllListItemsRunsSingleStatement() {
+        long count;
+        try (Stream<RecipeListItem> recipes = recipeRepository.streamAllListItems()) {
+            count = recipes.count();
+        }
+
+        assertEquals(RECIPE_COUNT, count);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findWithIngredientsByIdLoadsIngredientsInSameStatement() {
+        Recipe recipe = recipeRepository.findWithIngredientsById(recipeIds.get(0)).orElseThrow();
+        List<String> titles = recipe.getRecipeIngredients().stream().map(RecipeIngredient::getTitle).toList();
+
+        assertEquals(INGREDIENTS_PER_RECIPE, titles.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findIdsByNutrientWindowOrdersByDistanceAndPagesByCursor() {
+        List<Long> firstPage = recipeRepository.findIdsByNutrientWindow(300, 30, 0, -1, 0, -1, 0, -1, -1L, 5);
+        List<Long> secondPage = recipeRepository.findIdsByNutrientWindow(300, 30, 0, -1, 0, -1, 0, -1, firstPage.get(4), 5);
+
+        assertEquals(recipeIds.subList(0, 5), firstPage);
+        assertEquals(recipeIds.subList(5, 10), secondPage);
+    }
+
+    @Test
+    void findIdsByNutrientWindowExcludesValuesOutsideTheWindow() {
+        List<Long> matches = recipeRepository.findIdsByNutrientWindow(300, 30, 50, 5, 0, -1, 0, -1, -1L, RECIPE_COUNT);
+
+        assertEquals(List.of(), matches);
+    }
+
+    @Test
+    void findIdsByNutrientWindowRoundsHalfValuesLikeTheIndex() {
+        Recipe lower = testEntityManager.persist(Recipe.builder().title("Half 272.5").preparation("Preparation").image(new byte[]{1, 2, 3}).portions(2.0).favorite(false).calories(272.5).proteins(0.5).carbohydrates(0.0).fats(0.0).build());
+        Recipe upper = testEntityManager.persist(Recipe.builder().title("Half 273.5").preparation("Preparation").image(new byte[]{1, 2, 3}).portions(2.0).favorite(false).calories(273.5).proteins(1.5).carbohydrates(0.0).fats(0.0).build());
+        testEntityManager.flush();
+        RecipeNutrientIndex index = new RecipeNutrientIndex();
+        index.rebuild(recipeRepository.findAllNutrientTotals());
+
+        List<Long> fromIndex = index.findMatches(273L, null, null, null, 0.0, null, RECIPE_COUNT);
+        List<Long> fromDatabase = recipeRepository.findIdsByNutrientWindow(273, 0, 0, -1, 0, -1, 0, -1, -1L, RECIPE_COUNT);
+
+        assertEquals(List.of(lower.getId()), fromIndex);
+        assertEquals(fromIndex, fromDatabase);
+        assertEquals(List.of(upper.getId()), index.findMatches(null, 2L, null, null, 0.0, null, RECIPE_COUNT));
+        assertEquals(List.of(upper.getId()), recipeRepository.findIdsByNutrientWindow(0, -1, 2, 0, 0, -1, 0, -1, -1L, RECIPE_COUNT));
+    }
+
+    @Test
+    void findExistingFingerprintsChecksWholePageInSingleStatement() {
+        List<String> fingerprints = recipeRepository.findExistingFingerprints(List.of("fingerprint-1", "fingerprint-2", "new-fingerprint"));
+
+        assertEquals(Set.of("fingerprint-1", "fingerprint-2"), Set.copyOf(fingerprints));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void saveAllAndFlushBatchesRecipeInsertsWithConsecutiveIds() {
+        List<Recipe> recipes = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            recipes.add(Recipe.builder().title("Batched " + i).preparation("Preparation").image(new byte[]{1, 2, 3}).portions(2.0).favorite(false).build());
+        }
+
+        recipeRepository.saveAllAndFlush(recipes);
+
+        assertEquals(10, statistics.getEntityInsertCount());
+        // Eine Sequenzabfrage pro Rezept, die Inserts selbst laufen in einem Batch
+        assertTrue(statistics.getPrepareStatementCount() <= recipes.size() + 1);
+        assertEquals(recipes.get(0).getId() + recipes.size() - 1, recipes.get(recipes.size() - 1).getId());
+    }
+}
@@ -0,0 +1,38 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.ImportJob;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DataImporterServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void resolveDumpImageKeepsOnlyHttpAndFileUrls() {
+        assertEquals("https://example.org/a.jpg", DataImporterService.resolveDumpImage(directory, "https://example.org/a.jpg"));
+        assertEquals("http://example.org/a.jpg", DataImporterService.resolveDumpImage(directory, "http://example.org/a.jpg"));
+        assertEquals(directory.resolve("a.jpg").toUri().toString(), DataImporterService.resolveDumpImage(directory, directory.resolve("a.jpg").toUri().toString()));
+        assertEquals(directory.resolve("images/a:b.jpg").toUri().toString(), DataImporterService.resolveDumpImage(directory, "images/a:b.jpg"));
+        assertEquals(directory.resolve("C:/images/a.jpg").toUri().toString(), DataImporterService.resolveDumpImage(directory, "C:/images/a.jpg"));
+        assertEquals(directory.resolve("my image.jpg").toUri().toString(), DataImporterService.resolveDumpImage(directory, "my image.jpg"));
+    }
+
+    @Test
+    void getDumpResumePositionOnlyResumesTheSameFileAndBatchSize() throws IOException {
+        Path file = Files.writeString(directory.resolve("recipes.ndjson"), "{}");
+        String dumpUrl = DataImporterService.getDumpUrl(file, 50);
+        ImportJob importJob = ImportJob.builder().nextUrl(DataImporterService.getDumpPageUrl(dumpUrl, 100).toString()).build();
+
+        assertEquals(100, DataImporterService.getDumpResumePosition(importJob, dumpUrl));
+        assertEquals(0, DataImporterService.getDumpResumePosition(importJob, DataImporterService.getDumpUrl(file, 20)));
+        assertEquals(0, DataImporterService.getDumpResumePosition(ImportJob.builder().build(), dumpUrl));
+    }
+}
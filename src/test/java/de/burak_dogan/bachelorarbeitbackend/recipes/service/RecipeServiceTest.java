@@ -0,0 +1,179 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness.ReadinessGate;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.readiness.ServiceState;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.CreateRecipeDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeListItemDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.RecipeFilterDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.RecipeIngredientDto;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.DuplicateRecipeException;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.EntityNotFoundException;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.IngredientRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.IngredientUnitRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.RecipeRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Ingredient;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.IngredientUnit;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.Recipe;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeIngredientMappingDTO;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeMappingDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:recipe-service;NON_KEYWORDS=VALUE;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.import.targetRecipes=0"
+})
+class RecipeServiceTest {
+
+    @Autowired
+    private IRecipeService recipeService;
+
+    @Autowired
+    private IIngredientService ingredientService;
+
+    @Autowired
+    private DataImporterService dataImporterService;
+
+    @Autowired
+    private IngredientRepository ingredientRepository;
+
+    @Autowired
+    private IngredientUnitRepository ingredientUnitRepository;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private ReadinessGate readinessGate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void awaitImport() throws InterruptedException {
+        // Der Import laeuft nach dem Start im Hintergrund und laedt zum Schluss den Zutatenkatalog in den Cache
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (readinessGate.getState() == ServiceState.IMPORTING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void importSkipsRecipesThatWereCreatedWithTheSameTitleAndFoods() throws Exception {
+        Ingredient chicken = ingredientRepository.save(Ingredient.builder().id("food_chicken").name("Chicken").calories(200.0).proteins(25.0).carbohydrates(0.0).fats(10.0).build());
+        Ingredient rice = ingredientRepository.save(Ingredient.builder().id("food_rice").name("Rice").calories(130.0).proteins(3.0).carbohydrates(28.0).fats(0.5).build());
+        ingredientUnitRepository.saveAll(List.of(
+                IngredientUnit.builder().ingredient(chicken).label("Gram").value(1.0).build(),
+                IngredientUnit.builder().ingredient(rice).label("Gram").value(1.0).build()));
+
+        recipeService.createRecipe(createRecipeDto("Chicken Curry", "food_rice", "food_chicken"));
+        long recipeCount = recipeRepository.count();
+
+        RecipeMappingDTO imported = RecipeMappingDTO.builder().label("chicken  curry").url("u").image("i.jpg").yield(2.0)
+                .recipeIngredientMappingDTOList(List.of(
+                        new RecipeIngredientMappingDTO("food_chicken", "200 g chicken", 200.0, "Gram"),
+                        new RecipeIngredientMappingDTO("food_rice", "150 g rice", 150.0, "Gram")))
+                .build();
+        assertTrue(dataImporterService.filterKnownRecipes(List.of(imported)).isEmpty());
+        assertThrows(DuplicateRecipeException.class, () -> recipeService.createRecipe(createRecipeDto("Chicken Curry", "food_chicken", "food_rice")));
+        assertEquals(recipeCount, recipeRepository.count());
+    }
+
+    @Test
+    void createRecipeChangesTheCatalogETagAndUnknownRecipesAreNotFound() throws Exception {
+        Ingredient tomato = ingredientRepository.save(Ingredient.builder().id("food_tomato").name("Tomato").calories(18.0).proteins(0.9).carbohydrates(3.9).fats(0.2).build());
+        ingredientUnitRepository.save(IngredientUnit.builder().ingredient(tomato).label("Gram").value(1.0).build());
+        String eTag = recipeService.getCatalogETag();
+        String ingredientETag = ingredientService.getCatalogETag();
+
+        recipeService.createRecipe(createRecipeDto("Tomato Salad", "food_tomato"));
+
+        String changedETag = recipeService.getCatalogETag();
+        assertNotEquals(eTag, changedETag);
+        Long recipeId = recipeRepository.findAll().stream().filter(recipe -> "Tomato Salad".equals(recipe.getTitle())).map(Recipe::getId).findFirst().orElseThrow();
+        assertEquals(changedETag, recipeService.getRecipeETag(recipeId));
+        assertThrows(EntityNotFoundException.class, () -> recipeService.getRecipeETag(-1L));
+
+        recipeService.updateFavoriteStatus(recipeId);
+
+        assertNotEquals(changedETag, recipeService.getCatalogETag());
+        assertEquals(ingredientETag, ingredientService.getCatalogETag());
+    }
+
+    @Test
+    void filterNeverAnswersWithoutANewRecipeUnderTheNewCatalogETag() throws Exception {
+        Ingredient oats = ingredientRepository.save(Ingredient.builder().id("food_oats").name("Oats").calories(389.0).proteins(16.9).carbohydrates(66.3).fats(6.9).build());
+        ingredientUnitRepository.save(IngredientUnit.builder().ingredient(oats).label("Gram").value(1.0).build());
+        String eTag = recipeService.getCatalogETag();
+        List<String> eTagsAfterCommit = new ArrayList<>();
+        List<List<GetRecipeListItemDto>> matchesAfterCommit = new ArrayList<>();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // Wird vor den Synchronisationen des Services registriert und laeuft daher direkt nach dem Commit, noch vor der Aktualisierung des Index
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eTagsAfterCommit.add(recipeService.getCatalogETag());
+                    matchesAfterCommit.add(findOatmeal());
+                }
+            });
+            try {
+                recipeService.createRecipe(createRecipeDto("Oatmeal", "food_oats"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals(eTag, eTagsAfterCommit.get(0));
+        assertTrue(matchesAfterCommit.get(0).stream().noneMatch(recipe -> "Oatmeal".equals(recipe.getTitle())));
+        assertNotEquals(eTag, recipeService.getCatalogETag());
+        assertFalse(findOatmeal().stream().noneMatch(recipe -> "Oatmeal".equals(recipe.getTitle())));
+    }
+
+    private List<GetRecipeListItemDto> findOatmeal() {
+        RecipeFilterDto filter = new RecipeFilterDto();
+        filter.setCalories(Math.round(recipeRepository.findAll().stream().filter(recipe -> "Oatmeal".equals(recipe.getTitle())).findFirst().orElseThrow().getCalories()));
+        filter.setEpsilon(0);
+        try {
+            return recipeService.findRecipesByNutritionalValues(filter);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static CreateRecipeDto createRecipeDto(String title, String... foodIds) {
+        CreateRecipeDto dto = new CreateRecipeDto();
+        dto.setTitle(title);
+        dto.setPortions(2.0);
+        dto.setPreparation("Preparation");
+        dto.setImage(new byte[]{1, 2, 3});
+        dto.setIngredients(new ArrayList<>());
+        for (String foodId : foodIds) {
+            RecipeIngredientDto ingredientDto = new RecipeIngredientDto();
+            ingredientDto.setFoodId(foodId);
+            ingredientDto.setName(foodId);
+            ingredientDto.setQuantity(100.0);
+            ingredientDto.setUnit("Gram");
+            dto.getIngredients().add(ingredientDto);
+        }
+        return dto;
+    }
+}
@@ -0,0 +1,109 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.CatalogProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.CatalogVersionRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.CatalogVersion.Catalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:catalog-version;NON_KEYWORDS=VALUE;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogVersionTest {
+
+    @Autowired
+    private CatalogVersionRepository catalogVersionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogVersion catalogVersion;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersionRepository.deleteAll();
+        catalogVersion = catalogVersion(Duration.ZERO);
+    }
+
+    @Test
+    void sharesTheWeakETagBetweenInstances() {
+        CatalogVersion otherInstance = catalogVersion(Duration.ZERO);
+        String eTag = catalogVersion.eTag(Catalog.RECIPES);
+        assertTrue(eTag.startsWith("W/\"") && eTag.endsWith("\""));
+        assertEquals(eTag, otherInstance.eTag(Catalog.RECIPES));
+
+        catalogVersion.increment(Catalog.RECIPES);
+
+        assertNotEquals(eTag, otherInstance.eTag(Catalog.RECIPES));
+        assertEquals(catalogVersion.eTag(Catalog.RECIPES), otherInstance.eTag(Catalog.RECIPES));
+        long version = otherInstance.get(Catalog.RECIPES);
+
+        otherInstance.increment(Catalog.RECIPES);
+
+        assertEquals(version + 1, catalogVersion.get(Catalog.RECIPES));
+    }
+
+    @Test
+    void keepsTheCatalogsApart() {
+        catalogVersion.increment(Catalog.RECIPES, Catalog.INGREDIENTS);
+        long ingredients = catalogVersion.get(Catalog.INGREDIENTS);
+        long recipes = catalogVersion.get(Catalog.RECIPES);
+
+        catalogVersion.increment(Catalog.RECIPES);
+
+        assertEquals(recipes + 1, catalogVersion.get(Catalog.RECIPES));
+        assertEquals(ingredients, catalogVersion.get(Catalog.INGREDIENTS));
+    }
+
+    @Test
+    void cachesForeignChangesForTheRefreshIntervalButNotOwnChanges() {
+        CatalogVersion cachingInstance = catalogVersion(Duration.ofHours(1));
+        catalogVersion.increment(Catalog.RECIPES);
+        String eTag = cachingInstance.eTag(Catalog.RECIPES);
+
+        catalogVersion.increment(Catalog.RECIPES);
+
+        assertEquals(eTag, cachingInstance.eTag(Catalog.RECIPES));
+
+        cachingInstance.increment(Catalog.RECIPES);
+
+        assertEquals(catalogVersion.eTag(Catalog.RECIPES), cachingInstance.eTag(Catalog.RECIPES));
+    }
+
+    @Test
+    void incrementsInItsOwnTransactionAfterACommit() {
+        catalogVersion.increment(Catalog.RECIPES);
+        long version = catalogVersion.get(Catalog.RECIPES);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                catalogVersion.increment(Catalog.RECIPES);
+            }
+        }));
+
+        assertEquals(version + 1, catalogVersion.get(Catalog.RECIPES));
+    }
+
+    private CatalogVersion catalogVersion(Duration refreshInterval) {
+        CatalogProperties catalogProperties = new CatalogProperties();
+        catalogProperties.setVersionRefreshInterval(refreshInterval);
+        return new CatalogVersion(catalogVersionRepository, catalogProperties);
+    }
+}
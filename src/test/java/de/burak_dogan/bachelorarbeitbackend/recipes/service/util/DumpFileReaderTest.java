@@ -0,0 +1,86 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeMappingDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DumpFileReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new ParameterNamesModule())
+            .configure(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES, true);
+
+    private final DumpFileReader dumpFileReader = new DumpFileReader(objectMapper, new RecipePageParser(objectMapper));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readRecipesReadsPagesAndSingleHits() throws IOException {
+        Path file = write("recipes.ndjson",
+                "{\"from\":1,\"hits\":[{\"recipe\":" + recipe("A") + "},{\"recipe\":{\"label\":\"Invalid\"}},{\"recipe\":" + recipe("B") + "}],\"_links\":{\"next\":{\"href\":\"x\"}}}",
+                "{\"recipe\":" + recipe("C") + "}",
+                "",
+                "{\"hits\":[]}");
+        List<RecipeMappingDTO> recipes = new ArrayList<>();
+
+        int count = dumpFileReader.readRecipes(file, recipes::add);
+
+        assertEquals(3, count);
+        assertEquals(List.of("A", "B", "C"), recipes.stream().map(RecipeMappingDTO::getLabel).toList());
+    }
+
+    @Test
+    void readRecipesWhileStopsWhenTheConsumerDeclines() throws IOException {
+        Path file = write("recipes.ndjson",
+                "{\"hits\":[{\"recipe\":" + recipe("A") + "},{\"recipe\":" + recipe("B") + "},{\"recipe\":" + recipe("C") + "}]}",
+                "{\"recipe\":" + recipe("D") + "}");
+        List<RecipeMappingDTO> recipes = new ArrayList<>();
+
+        int count = dumpFileReader.readRecipesWhile(file, recipe -> {
+            recipes.add(recipe);
+            return recipes.size() < 2;
+        });
+
+        assertEquals(2, count);
+        assertEquals(List.of("A", "B"), recipes.stream().map(RecipeMappingDTO::getLabel).toList());
+    }
+
+    @Test
+    void readIngredientHintsUsesFirstHintOfEachResponse() throws IOException {
+        Path file = write("ingredients.ndjson",
+                "{\"text\":\"food_a\",\"parsed\":[],\"hints\":[{\"food\":{\"foodId\":\"food_a\",\"label\":\"A\"},\"measures\":[]},{\"food\":{\"foodId\":\"other\"}}]}",
+                "{\"food\":{\"foodId\":\"food_b\",\"label\":\"B\"},\"measures\":[{\"label\":\"Gram\"}]}",
+                "{\"text\":\"unknown\",\"hints\":[]}");
+        Map<String, JsonNode> hints = new LinkedHashMap<>();
+
+        int count = dumpFileReader.readIngredientHints(file, hints::put);
+
+        assertEquals(2, count);
+        assertEquals(List.of("food_a", "food_b"), List.copyOf(hints.keySet()));
+        assertEquals("A", hints.get("food_a").get("food").get("label").asText());
+        assertEquals("Gram", hints.get("food_b").get("measures").get(0).get("label").asText());
+    }
+
+    private static String recipe(String label) {
+        return "{\"label\":\"" + label + "\",\"image\":\"" + label + ".jpg\",\"url\":\"u\",\"yield\":1.0,\"ingredients\":[{\"text\":\"t\",\"quantity\":1.0,\"measure\":\"Gram\",\"foodId\":\"food_a\"}]}";
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        return Files.write(directory.resolve(name), List.of(lines));
+    }
+}
@@ -0,0 +1,91 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.MetricsRegistry;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ImportProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImageDownloaderTest {
+
+    private static final byte[] IMAGE = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    private HttpServer server;
+
+    private final AtomicInteger flakyRequests = new AtomicInteger();
+
+    private ImageDownloader imageDownloader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/image", exchange -> respond(exchange, 200, IMAGE));
+        server.createContext("/large", exchange -> respond(exchange, 200, new byte[64]));
+        server.createContext("/flaky", exchange -> respond(exchange, flakyRequests.incrementAndGet() < 3 ? 503 : 200, IMAGE));
+        server.start();
+
+        ImportProperties importProperties = new ImportProperties();
+        importProperties.setImageWorkers(2);
+        importProperties.setImageQueueCapacity(2);
+        importProperties.setImageMaxBytes(32);
+        importProperties.setImageRetries(2);
+        importProperties.setImageRetryBackoff(Duration.ofMillis(10));
+        imageDownloader = new ImageDownloader(importProperties, new MetricsRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageDownloader.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void downloadAsyncCompletesAllDownloadsWhenQueueIsFull() {
+        List<CompletableFuture<byte[]>> images = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            images.add(imageDownloader.downloadAsync(url("/image")));
+        }
+
+        for (CompletableFuture<byte[]> image : images) {
+            assertArrayEquals(IMAGE, image.join());
+        }
+    }
+
+    @Test
+    void downloadRetriesFailedRequests() throws ServiceException {
+        assertArrayEquals(IMAGE, imageDownloader.download(url("/flaky")));
+        assertEquals(3, flakyRequests.get());
+    }
+
+    @Test
+    void downloadRejectsImagesLargerThanMaxBytes() {
+        assertThrows(ServiceException.class, () -> imageDownloader.download(url("/large")));
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.ImportStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImportProgressTest {
+
+    @Test
+    void estimateRemainingIsUnknownBeforeFirstRecipe() {
+        ImportProgress progress = new ImportProgress();
+        assertNull(progress.estimateRemaining());
+
+        progress.start(40, 10);
+        assertEquals(ImportStatus.RUNNING, progress.getStatus());
+        assertNull(progress.estimateRemaining());
+    }
+
+    @Test
+    void estimateRemainingScalesWithRemainingRecipes() throws InterruptedException {
+        ImportProgress progress = new ImportProgress();
+        progress.start(40, 10);
+        Thread.sleep(20);
+        progress.pageProcessed(10);
+
+        Duration remaining = progress.estimateRemaining();
+
+        assertNotNull(remaining);
+        assertTrue(remaining.toMillis() >= 40, "Expected at least twice the elapsed time, but was " + remaining.toMillis());
+        assertEquals(1, progress.getPagesFetched());
+        assertEquals(10, progress.getRecipesSaved());
+    }
+
+    @Test
+    void finishStopsEstimation() {
+        ImportProgress progress = new ImportProgress();
+        progress.start(40, 0);
+        progress.pageProcessed(20);
+        progress.finish(ImportStatus.COMPLETED);
+
+        assertEquals(ImportStatus.COMPLETED, progress.getStatus());
+        assertNotNull(progress.getFinishedAt());
+        assertNull(progress.estimateRemaining());
+    }
+}
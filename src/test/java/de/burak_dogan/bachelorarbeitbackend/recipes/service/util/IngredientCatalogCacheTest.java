@@ -0,0 +1,57 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.IngredientCatalogEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IngredientCatalogCacheTest {
+
+    private IngredientCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new IngredientCatalogCache();
+        cache.warm(CachedIngredient.fromEntries(List.of(
+                new IngredientCatalogEntry("food_a", "Chicken", 165.0, 31.0, 0.0, 3.6, "Gram", 1.0),
+                new IngredientCatalogEntry("food_a", "Chicken", 165.0, 31.0, 0.0, 3.6, "Piece", 120.0),
+                new IngredientCatalogEntry("food_b", "Salt", 0.0, 0.0, 0.0, 0.0, null, null)
+        )));
+    }
+
+    @Test
+    void warmGroupsUnitsPerIngredient() {
+        assertEquals(2, cache.size());
+        assertEquals(Map.of("Gram", 1.0, "Piece", 120.0), cache.get("food_a").unitsInGrams());
+        assertEquals(Map.of(), cache.get("food_b").unitsInGrams());
+    }
+
+    @Test
+    void getCountsHitsAndMisses() {
+        cache.get("food_a");
+        cache.get("food_a");
+        cache.get("food_x");
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void putIsIgnoredWhenCacheWasInvalidatedWhileLoading() {
+        CachedIngredient rice = new CachedIngredient("food_c", "Rice", 130.0, 2.7, 28.0, 0.3, Map.of("Cup", 158.0));
+
+        long staleVersion = cache.getVersion();
+        cache.invalidate();
+        cache.put(rice, staleVersion);
+        assertNull(cache.get("food_c"));
+
+        cache.put(rice, cache.getVersion());
+        assertNotNull(cache.get("food_c"));
+    }
+}
@@ -0,0 +1,63 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.RequestProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.IngredientLookupCacheRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.IngredientLookupCacheEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IngredientLookupCacheTest {
+
+    private IngredientLookupCacheRepository repository;
+
+    private IngredientLookupCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IngredientLookupCacheRepository.class);
+        RequestProperties requestProperties = new RequestProperties();
+        requestProperties.setIngredientCacheTtl(Duration.ofDays(1));
+        cache = new IngredientLookupCache(repository, requestProperties);
+    }
+
+    @Test
+    void getLoadsFromDatabaseOnlyOnce() {
+        when(repository.findById("food_a")).thenReturn(Optional.of(entry("food_a", Instant.now())));
+
+        assertEquals("{}", cache.get("food_a"));
+        assertEquals("{}", cache.get("food_a"));
+        verify(repository, times(1)).findById("food_a");
+    }
+
+    @Test
+    void getIgnoresExpiredEntries() {
+        when(repository.findById("food_a")).thenReturn(Optional.of(entry("food_a", Instant.now().minus(Duration.ofDays(2)))));
+
+        assertNull(cache.get("food_a"));
+    }
+
+    @Test
+    void putStoresInMemoryAndDatabase() {
+        cache.put("food_b", "{}");
+
+        assertEquals("{}", cache.get("food_b"));
+        verify(repository).save(any(IngredientLookupCacheEntry.class));
+        verify(repository, times(0)).findById("food_b");
+    }
+
+    private static IngredientLookupCacheEntry entry(String foodId, Instant fetchedAt) {
+        return IngredientLookupCacheEntry.builder().foodId(foodId).response("{}").fetchedAt(fetchedAt).build();
+    }
+}
@@ -0,0 +1,178 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.metrics.MetricsRegistry;
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.RequestProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.exception.InvalidMeasureException;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.IngredientLookupCacheRepository;
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.entity.IngredientLookupCacheEntry;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.IngredientMappingDTO;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeIngredientMappingDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IngredientLookupClientTest {
+
+    private static final int MAX_CONCURRENT_REQUESTS = 4;
+
+    private HttpServer server;
+
+    private final AtomicInteger activeRequests = new AtomicInteger();
+
+    private final AtomicInteger maxActiveRequests = new AtomicInteger();
+
+    private final AtomicInteger totalRequests = new AtomicInteger();
+
+    private RequestProperties requestProperties;
+
+    private IngredientLookupCacheRepository ingredientLookupCacheRepository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/parser", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        requestProperties = new RequestProperties();
+        requestProperties.setIngredientBaseUrl("http://localhost:" + server.getAddress().getPort() + "/parser");
+        requestProperties.setMaxConcurrentIngredientRequests(MAX_CONCURRENT_REQUESTS);
+        requestProperties.setIngredientRequestsPerSecond(1000);
+        requestProperties.setIngredientRequestBurst(1000);
+        ingredientLookupCacheRepository = mock(IngredientLookupCacheRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void lookupAllReturnsResultsInOrderAndRespectsConcurrencyLimit() throws InvalidMeasureException {
+        List<RecipeIngredientMappingDTO> recipeIngredients = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            recipeIngredients.add(recipeIngredient("food_" + i, "Gram"));
+        }
+
+        List<IngredientMappingDTO> ingredients = createClient().lookupAll(recipeIngredients);
+
+        assertEquals(20, ingredients.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("food_" + i, ingredients.get(i).getFoodId());
+            assertEquals(1.0, ingredients.get(i).getUnitInGrams());
+        }
+        assertTrue(maxActiveRequests.get() <= MAX_CONCURRENT_REQUESTS);
+        assertTrue(maxActiveRequests.get() > 1);
+    }
+
+    @Test
+    void lookupAllReturnsNullForInvalidIngredients() throws InvalidMeasureException {
+        List<IngredientMappingDTO> ingredients = createClient().lookupAll(List.of(recipeIngredient("food_0", "Gram"), recipeIngredient("unknown", "Gram"), recipeIngredient("food_2", "Cup")));
+
+        assertEquals("food_0", ingredients.get(0).getFoodId());
+        assertNull(ingredients.get(1));
+        assertNull(ingredients.get(2));
+    }
+
+    @Test
+    void lookupAllRespectsRateLimit() throws InvalidMeasureException {
+        requestProperties.setIngredientRequestsPerSecond(20);
+        requestProperties.setIngredientRequestBurst(1);
+        List<RecipeIngredientMappingDTO> recipeIngredients = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            recipeIngredients.add(recipeIngredient("food_" + i, "Gram"));
+        }
+
+        long start = System.nanoTime();
+        createClient().lookupAll(recipeIngredients);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(6, totalRequests.get());
+        assertTrue(elapsedMillis >= 200, "Expected at least 200 ms, but was " + elapsedMillis);
+    }
+
+    @Test
+    void lookupAllRequestsEachFoodIdOnce() throws InvalidMeasureException {
+        IngredientLookupClient client = createClient();
+        List<RecipeIngredientMappingDTO> recipeIngredients = List.of(recipeIngredient("food_0", "Gram"), recipeIngredient("food_1", "Gram"), recipeIngredient("food_0", "Gram"));
+
+        List<IngredientMappingDTO> firstPage = client.lookupAll(recipeIngredients);
+        List<IngredientMappingDTO> secondPage = client.lookupAll(recipeIngredients);
+
+        assertEquals(2, totalRequests.get());
+        assertEquals("food_0", firstPage.get(2).getFoodId());
+        assertEquals("food_1", secondPage.get(1).getFoodId());
+    }
+
+    @Test
+    void lookupServesStoredResponseWithoutRequest() {
+        String storedResponse = """
+                {"food":{"foodId":"food_0","label":"Ingredient food_0","nutrients":{"ENERC_KCAL":100.0,"PROCNT":10.0,"FAT":5.0,"CHOCDF":10.0}},
+                "measures":[{"uri":"http://www.edamam.com/ontologies/edamam.owl#Measure_gram","label":"Gram","weight":1.0}]}
+                """;
+        when(ingredientLookupCacheRepository.findById("food_0")).thenReturn(Optional.of(IngredientLookupCacheEntry.builder().foodId("food_0").response(storedResponse).fetchedAt(Instant.now()).build()));
+
+        IngredientMappingDTO ingredient = createClient().lookup("food_0", "Gram");
+
+        assertEquals("food_0", ingredient.getFoodId());
+        assertEquals(0, totalRequests.get());
+    }
+
+    private IngredientLookupClient createClient() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new ParameterNamesModule());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES, true);
+        IngredientLookupCache ingredientLookupCache = new IngredientLookupCache(ingredientLookupCacheRepository, requestProperties);
+        return new IngredientLookupClient(new RestTemplate(), requestProperties, objectMapper, ingredientLookupCache, new MetricsRegistry());
+    }
+
+    private static RecipeIngredientMappingDTO recipeIngredient(String foodId, String measure) throws InvalidMeasureException {
+        return new RecipeIngredientMappingDTO(foodId, "1 " + measure + " " + foodId, 1.0, measure);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int active = activeRequests.incrementAndGet();
+        maxActiveRequests.accumulateAndGet(active, Math::max);
+        totalRequests.incrementAndGet();
+        try {
+            Thread.sleep(20);
+            String foodId = exchange.getRequestURI().getQuery().replaceAll(".*ingr=([^&]*).*", "$1");
+            String body = foodId.equals("unknown") ? "{\"hints\":[]}" : """
+                    {"hints":[{"food":{"foodId":"%s","label":"Ingredient %s","nutrients":{"ENERC_KCAL":100.0,"PROCNT":10.0,"FAT":5.0,"CHOCDF":10.0}},
+                    "measures":[{"uri":"http://www.edamam.com/ontologies/edamam.owl#Measure_gram","label":"Gram","weight":1.0}]}]}
+                    """.formatted(foodId, foodId);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeRequests.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class RecipeFingerprintTest {
+
+    @Test
+    void fingerprintIgnoresTitleFormattingAndIngredientOrder() {
+        String fingerprint = RecipeFingerprint.of("Chicken Curry", List.of("food_b", "food_a"));
+
+        assertEquals(fingerprint, RecipeFingerprint.of("  chicken   CURRY ", List.of("food_a", "food_b", "food_a")));
+        assertEquals(64, fingerprint.length());
+    }
+
+    @Test
+    void fingerprintDiffersForOtherIngredients() {
+        assertNotEquals(RecipeFingerprint.of("Chicken Curry", List.of("food_a", "food_b")), RecipeFingerprint.of("Chicken Curry", List.of("food_a", "food_c")));
+    }
+}
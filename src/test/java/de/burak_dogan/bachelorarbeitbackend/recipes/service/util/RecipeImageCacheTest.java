@@ -0,0 +1,57 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.config.properties.ImageProperties;
+import de.burak_dogan.bachelorarbeitbackend.recipes.controller.dto.GetRecipeImageDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RecipeImageCacheTest {
+
+    private RecipeImageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ImageProperties imageProperties = new ImageProperties();
+        imageProperties.setCacheMaxBytes(100);
+        cache = new RecipeImageCache(imageProperties);
+    }
+
+    @Test
+    void putEvictsLeastRecentlyUsedImagesWhenFull() {
+        cache.put(1L, ImageSize.THUMBNAIL, image(40));
+        cache.put(2L, ImageSize.THUMBNAIL, image(40));
+        cache.get(1L, ImageSize.THUMBNAIL);
+        cache.put(3L, ImageSize.THUMBNAIL, image(40));
+
+        assertNotNull(cache.get(1L, ImageSize.THUMBNAIL));
+        assertNull(cache.get(2L, ImageSize.THUMBNAIL));
+        assertNotNull(cache.get(3L, ImageSize.THUMBNAIL));
+        assertEquals(80, cache.getCurrentBytes());
+    }
+
+    @Test
+    void putSeparatesSizesOfTheSameRecipe() {
+        cache.put(1L, ImageSize.THUMBNAIL, image(10));
+        cache.put(1L, ImageSize.MEDIUM, image(20));
+
+        assertEquals(10, cache.get(1L, ImageSize.THUMBNAIL).getImage().length);
+        assertEquals(20, cache.get(1L, ImageSize.MEDIUM).getImage().length);
+        assertNull(cache.get(1L, ImageSize.ORIGINAL));
+    }
+
+    @Test
+    void putSkipsImagesLargerThanTheCache() {
+        cache.put(1L, ImageSize.ORIGINAL, image(101));
+
+        assertNull(cache.get(1L, ImageSize.ORIGINAL));
+        assertEquals(0, cache.getCurrentBytes());
+    }
+
+    private static GetRecipeImageDto image(int bytes) {
+        return GetRecipeImageDto.builder().image(new byte[bytes]).contentType("image/jpeg").build();
+    }
+}
@@ -0,0 +1,100 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import de.burak_dogan.bachelorarbeitbackend.recipes.repository.projection.RecipeNutrientTotals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecipeNutrientIndexTest {
+
+    private RecipeNutrientIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RecipeNutrientIndex();
+        index.rebuild(List.of(
+                new RecipeNutrientTotals(1L, 500.0, 30.0, 60.0, 15.0),
+                new RecipeNutrientTotals(2L, 520.4, 35.0, 55.0, 18.0),
+                new RecipeNutrientTotals(3L, 800.0, 50.0, 90.0, 30.0),
+                new RecipeNutrientTotals(4L, 450.0, 29.6, 40.0, 10.0)
+        ));
+    }
+
+    @Test
+    void findMatchesFiltersByEpsilonAndSortsByDistance() {
+        List<Long> matches = index.findMatches(500L, 30L, null, null, 0.1, null, Integer.MAX_VALUE);
+
+        assertEquals(List.of(1L, 4L), matches);
+    }
+
+    @Test
+    void findMatchesIncludesValuesOnTheEpsilonBoundary() {
+        List<Long> matches = index.findMatches(null, null, null, 20L, 0.5, null, Integer.MAX_VALUE);
+
+        assertEquals(List.of(2L, 1L, 3L, 4L), matches);
+    }
+
+    @Test
+    void findMatchesReturnsEmptyListWithoutHits() {
+        assertTrue(index.findMatches(2000L, null, null, null, 0.1, null, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void findMatchesKeepsOnlyTheClosestHitsUpToTheLimit() {
+        assertEquals(List.of(2L, 1L), index.findMatches(null, null, null, 20L, 0.5, null, 2));
+    }
+
+    @Test
+    void findMatchesContinuesAfterTheCursor() {
+        RecipeNutrientTotals cursor = new RecipeNutrientTotals(1L, 500.0, 30.0, 60.0, 15.0);
+
+        assertEquals(List.of(3L, 4L), index.findMatches(null, null, null, 20L, 0.5, cursor, 20));
+    }
+
+    @Test
+    void addAllMakesNewRecipesSearchable() {
+        index.addAll(List.of(new RecipeNutrientTotals(5L, 805.0, 49.0, 88.0, 31.0)));
+
+        assertEquals(5, index.size());
+        assertEquals(List.of(3L, 5L), index.findMatches(800L, 50L, null, null, 0.05, null, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void incrementalAddsMatchAFullRebuildAcrossDeltaMerges() {
+        // Einzelne Rezepte und kleine Seiten wechseln sich ab, bis das Deltasegment mehrfach zusammengefuehrt wurde
+        List<RecipeNutrientTotals> all = new ArrayList<>();
+        List<RecipeNutrientTotals> page = new ArrayList<>();
+        for (long id = 5; id <= 3000; id++) {
+            RecipeNutrientTotals totals = new RecipeNutrientTotals(id, (double) (id * 7919 % 1000), (double) (id % 60), (double) (id * 31 % 120), id % 40 + 0.5);
+            all.add(totals);
+            if (id % 2 == 0) {
+                index.add(totals);
+            } else {
+                page.add(totals);
+            }
+            if (page.size() == 20) {
+                index.addAll(page);
+                page.clear();
+            }
+        }
+        index.addAll(page);
+        RecipeNutrientIndex rebuilt = new RecipeNutrientIndex();
+        List<RecipeNutrientTotals> expected = new ArrayList<>(List.of(
+                new RecipeNutrientTotals(1L, 500.0, 30.0, 60.0, 15.0),
+                new RecipeNutrientTotals(2L, 520.4, 35.0, 55.0, 18.0),
+                new RecipeNutrientTotals(3L, 800.0, 50.0, 90.0, 30.0),
+                new RecipeNutrientTotals(4L, 450.0, 29.6, 40.0, 10.0)));
+        expected.addAll(all);
+        rebuilt.rebuild(expected);
+
+        assertEquals(rebuilt.size(), index.size());
+        assertEquals(rebuilt.findMatches(500L, null, 60L, null, 0.1, null, 50), index.findMatches(500L, null, 60L, null, 0.1, null, 50));
+        assertEquals(rebuilt.findMatches(null, 30L, null, 20L, 0.2, null, Integer.MAX_VALUE), index.findMatches(null, 30L, null, 20L, 0.2, null, Integer.MAX_VALUE));
+        assertEquals(rebuilt.findMatches(null, null, null, null, 0.1, null, 10), index.findMatches(null, null, null, null, 0.1, null, 10));
+    }
+}
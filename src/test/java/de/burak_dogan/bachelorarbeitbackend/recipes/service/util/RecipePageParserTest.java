@@ -0,0 +1,55 @@
+package de.burak_dogan.bachelorarbeitbackend.recipes.service.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeContainerDTO;
+import de.burak_dogan.bachelorarbeitbackend.recipes.service.util.mapper.model.RecipeMappingDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RecipePageParserTest {
+
+    private final RecipePageParser recipePageParser = new RecipePageParser(new ObjectMapper()
+            .registerModule(new ParameterNamesModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(DeserializationFeature.FAIL_ON_NULL_CREATOR_PROPERTIES, true));
+
+    @Test
+    void parseReadsRecipesAndNextLink() throws IOException {
+        RecipeContainerDTO page = parse("{\"from\":1,\"hits\":[" + hit("A", "Gram") + "," + hit("B", "Cup") + "],"
+                + "\"_links\":{\"next\":{\"href\":\"https://example.org/next\",\"title\":\"Next page\"}}}");
+
+        assertEquals(List.of("A", "B"), page.getRecipeMappingDTOList().stream().map(RecipeMappingDTO::getLabel).toList());
+        assertEquals("https://example.org/next", page.getLink());
+        assertEquals(2.0, page.getRecipeMappingDTOList().get(0).getRecipeIngredientMappingDTOList().get(0).getQuantity());
+    }
+
+    @Test
+    void parseSkipsInvalidRecipesAndContinuesWithNextHit() throws IOException {
+        String missingImage = "{\"recipe\":{\"label\":\"Invalid\",\"url\":\"u\",\"yield\":2.0,\"ingredients\":[],\"extra\":{\"nested\":[1,2,3]}},\"_links\":{}}";
+        String invalidMeasure = hit("Invalid measure", "Teaspoon");
+
+        RecipeContainerDTO page = parse("{\"hits\":[" + missingImage + "," + invalidMeasure + "," + hit("C", "Gram") + "]}");
+
+        assertEquals(List.of("C"), page.getRecipeMappingDTOList().stream().map(RecipeMappingDTO::getLabel).toList());
+        assertNull(page.getLink());
+    }
+
+    private RecipeContainerDTO parse(String body) throws IOException {
+        return recipePageParser.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String hit(String label, String measure) {
+        return "{\"recipe\":{\"uri\":\"x\",\"label\":\"" + label + "\",\"image\":\"https://example.org/" + label + ".jpg\",\"url\":\"https://example.org/" + label + "\","
+                + "\"yield\":2.0,\"ingredientLines\":[\"2 g food\"],\"ingredients\":[{\"text\":\"2 g food\",\"quantity\":2.0,\"measure\":\"" + measure + "\",\"food\":\"food\",\"foodId\":\"food_a\"}]},"
+                + "\"_links\":{\"self\":{\"href\":\"x\"}}}";
+    }
+}